@@ -0,0 +1,47 @@
+package com.backend.debt.config;
+
+import com.backend.debt.service.cache.EntityIdentityMap;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * 请求级实体标识映射拦截器
+ *
+ * <p>请求开始时打开 {@link EntityIdentityMap}，结束时关闭，并以 claim.identity-map.duplicate-reads
+ * 记录每个请求中重复读取的次数。
+ */
+@Slf4j
+@Component
+public class IdentityMapInterceptor implements HandlerInterceptor {
+
+  private final DistributionSummary duplicateReads;
+
+  public IdentityMapInterceptor(MeterRegistry meterRegistry) {
+    this.duplicateReads =
+        DistributionSummary.builder("claim.identity-map.duplicate-reads")
+            .description("每个请求中按主键重复读取实体的次数")
+            .register(meterRegistry);
+  }
+
+  @Override
+  public boolean preHandle(
+      HttpServletRequest request, HttpServletResponse response, Object handler) {
+    EntityIdentityMap.open();
+    return true;
+  }
+
+  @Override
+  public void afterCompletion(
+      HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+    int count = EntityIdentityMap.close();
+    duplicateReads.record(count);
+    if (count > 0) {
+      log.debug("请求 {} 重复读取实体 {} 次", request.getRequestURI(), count);
+    }
+  }
+}
@@ -1,5 +1,7 @@
 package com.backend.debt.config;
 
+import com.backend.debt.model.Money;
+import java.math.BigDecimal;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
@@ -31,7 +33,9 @@ public class SwaggerConfig {
         .apis(RequestHandlerSelectors.basePackage("com.backend.debt.controller"))
         // 指定路径处理PathSelectors.any()代表所有的路径
         .paths(PathSelectors.any())
-        .build();
+        .build()
+        // 金额在 JSON 中为两位小数的数字
+        .directModelSubstitute(Money.class, BigDecimal.class);
   }
 
   private ApiInfo apiInfo() {
@@ -0,0 +1,23 @@
+package com.backend.debt.config;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/** 债权人会议表决配置 */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "claim.vote")
+public class VoteProperties {
+
+  /** 债权归类到表决权重系数的映射，未配置的归类系数为1 */
+  private Map<String, BigDecimal> classFactors = new LinkedHashMap<>();
+
+  /** 有财产担保的债权归类 */
+  private List<String> securedClasses = new ArrayList<>();
+}
@@ -1,7 +1,9 @@
 package com.backend.debt.config;
 
+import javax.annotation.Resource;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 /**
@@ -12,6 +14,20 @@ import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 @Configuration
 public class WebConfig implements WebMvcConfigurer {
 
+  @Resource private IdentityMapInterceptor identityMapInterceptor;
+
+  /**
+   * 配置拦截器
+   *
+   * <p>为每个请求打开实体标识映射，同一请求内按主键重复读取实体时不再查询数据库。
+   *
+   * @param registry 拦截器注册表
+   */
+  @Override
+  public void addInterceptors(InterceptorRegistry registry) {
+    registry.addInterceptor(identityMapInterceptor).addPathPatterns("/**");
+  }
+
   /**
    * 配置跨域资源共享(CORS)
    *
@@ -0,0 +1,142 @@
+package com.backend.debt.config.executor;
+
+import com.backend.debt.config.mybatis.StatementDeadlineInterceptor;
+import com.backend.debt.exceptions.CustomException;
+import com.backend.debt.exceptions.HttpResponseStatus;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
+import javax.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 聚合查询执行器
+ *
+ * <p>将组装一个聚合时互不依赖的子查询并行执行：一个子查询在调用线程执行，另一个提交到有界线程池，在各自的连接上执行后合并结果。
+ *
+ * <ul>
+ *   <li>线程池和队列均有上限，队列满时由调用线程执行，不会无限堆积
+ *   <li>两个子查询共用一个截止时间，执行的语句以剩余时间为查询超时，超时后由数据库取消语句并释放连接，调用线程不会被卡住的子查询长期占用
+ *   <li>当前线程处于事务中时直接顺序执行，保证子查询能看到事务内未提交的数据
+ * </ul>
+ *
+ * <p>线程池的队列长度、活跃线程数等指标以 claim.query.executor 为名注册，另外提供利用率指标
+ * claim.query.executor.utilization。
+ */
+@Slf4j
+@Component
+public class AggregateQueryExecutor {
+
+  private static final String METRIC_NAME = "claim.query.executor";
+
+  private final ThreadPoolExecutor threadPool;
+
+  private final ExecutorService executor;
+
+  private final long timeoutMillis;
+
+  public AggregateQueryExecutor(
+      MeterRegistry meterRegistry,
+      @Value("${claim.query-executor.pool-size:4}") int poolSize,
+      @Value("${claim.query-executor.queue-capacity:64}") int queueCapacity,
+      @Value("${claim.query-executor.timeout-ms:5000}") long timeoutMillis) {
+    AtomicInteger threadIndex = new AtomicInteger();
+    this.threadPool =
+        new ThreadPoolExecutor(
+            poolSize,
+            poolSize,
+            0L,
+            TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity),
+            runnable -> {
+              Thread thread =
+                  new Thread(runnable, "aggregate-query-" + threadIndex.incrementAndGet());
+              thread.setDaemon(true);
+              return thread;
+            },
+            new ThreadPoolExecutor.CallerRunsPolicy());
+    this.executor = ExecutorServiceMetrics.monitor(meterRegistry, threadPool, METRIC_NAME);
+    this.timeoutMillis = timeoutMillis;
+    Gauge.builder(
+            METRIC_NAME + ".utilization",
+            threadPool,
+            pool -> (double) pool.getActiveCount() / pool.getMaximumPoolSize())
+        .description("聚合查询线程池利用率")
+        .register(meterRegistry);
+  }
+
+  /**
+   * 并行执行两个互不依赖的子查询并合并结果
+   *
+   * @param left 在调用线程执行的子查询
+   * @param right 提交到线程池执行的子查询
+   * @param combiner 结果合并函数
+   * @return 合并后的结果
+   */
+  public <A, B, R> R fork(Supplier<A> left, Supplier<B> right, BiFunction<A, B, R> combiner) {
+    if (TransactionSynchronizationManager.isActualTransactionActive()) {
+      return combiner.apply(left.get(), right.get());
+    }
+
+    long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+    Future<B> rightFuture =
+        executor.submit(() -> StatementDeadlineInterceptor.withDeadline(deadline, right));
+    try {
+      A leftResult = StatementDeadlineInterceptor.withDeadline(deadline, left);
+      long remaining = deadline - System.nanoTime();
+      B rightResult = rightFuture.get(Math.max(remaining, 0L), TimeUnit.NANOSECONDS);
+      return combiner.apply(leftResult, rightResult);
+    } catch (TimeoutException e) {
+      // 语句的查询超时向上取整到秒，线程池中的子查询最迟在此之后由数据库取消
+      rightFuture.cancel(true);
+      throw timeout();
+    } catch (InterruptedException e) {
+      rightFuture.cancel(true);
+      Thread.currentThread().interrupt();
+      throw new CustomException(
+          HttpResponseStatus.INTERNAL_SERVER_ERROR.code(), "查询被中断", "聚合子查询等待被中断");
+    } catch (ExecutionException e) {
+      Throwable cause = e.getCause();
+      if (StatementDeadlineInterceptor.isQueryCanceled(cause)) {
+        throw timeout();
+      }
+      if (cause instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      throw new IllegalStateException(cause);
+    } catch (RuntimeException e) {
+      // 调用线程的子查询失败时，另一个子查询的结果已无用
+      rightFuture.cancel(true);
+      if (StatementDeadlineInterceptor.isQueryCanceled(e)) {
+        throw timeout();
+      }
+      throw e;
+    }
+  }
+
+  private CustomException timeout() {
+    log.error("聚合子查询超时，超时时间：{} ms", timeoutMillis);
+    return new CustomException(
+        HttpResponseStatus.GATEWAY_TIMEOUT.code(),
+        "查询超时，请稍后重试",
+        "聚合子查询超时：" + timeoutMillis + " ms");
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    threadPool.shutdownNow();
+  }
+}
@@ -0,0 +1,89 @@
+package com.backend.debt.config.executor;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import javax.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 债权导入执行器
+ *
+ * <p>导入流水线的解析线程和校验线程在固定大小的线程池中执行，线程数为校验线程数加一。各阶段之间通过有界队列互相等待，
+ * 同时运行两个导入会争抢线程导致互相等待，因此同一时刻只允许一个导入，通过 {@link #tryLock()} 获取。
+ *
+ * <p>线程池指标以 claim.import.executor 为名注册。
+ */
+@Component
+public class ClaimImportExecutor {
+
+  private static final String METRIC_NAME = "claim.import.executor";
+
+  private final ThreadPoolExecutor threadPool;
+
+  private final ExecutorService executor;
+
+  private final ReentrantLock importLock = new ReentrantLock();
+
+  private final int validateParallelism;
+
+  public ClaimImportExecutor(
+      MeterRegistry meterRegistry,
+      @Value("${claim.import.validate-parallelism:4}") int validateParallelism) {
+    AtomicInteger threadIndex = new AtomicInteger();
+    this.validateParallelism = validateParallelism;
+    this.threadPool =
+        new ThreadPoolExecutor(
+            validateParallelism + 1,
+            validateParallelism + 1,
+            0L,
+            TimeUnit.MILLISECONDS,
+            new LinkedBlockingQueue<>(),
+            runnable -> {
+              Thread thread = new Thread(runnable, "claim-import-" + threadIndex.incrementAndGet());
+              thread.setDaemon(true);
+              return thread;
+            });
+    this.executor = ExecutorServiceMetrics.monitor(meterRegistry, threadPool, METRIC_NAME);
+  }
+
+  /** 校验线程数 */
+  public int getValidateParallelism() {
+    return validateParallelism;
+  }
+
+  /**
+   * 尝试获取导入锁，已有导入在执行时立即返回
+   *
+   * @return 是否获取成功，成功时需要调用 {@link #unlock()} 释放
+   */
+  public boolean tryLock() {
+    return importLock.tryLock();
+  }
+
+  public void unlock() {
+    importLock.unlock();
+  }
+
+  /**
+   * 在导入线程池中执行一个流水线阶段
+   *
+   * @param stage 流水线阶段
+   * @return 执行结果，阶段中的异常通过该结果传出
+   */
+  public CompletableFuture<Void> run(Runnable stage) {
+    return CompletableFuture.runAsync(stage, executor);
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    threadPool.shutdownNow();
+  }
+}
@@ -0,0 +1,125 @@
+package com.backend.debt.config.executor;
+
+import com.backend.debt.exceptions.CustomException;
+import com.backend.debt.exceptions.HttpResponseStatus;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * PDF 渲染执行器
+ *
+ * <p>渲染只在固定大小的线程池中执行，每个渲染线程持有一份解析好的字体。提交前先获取许可，已提交未完成的任务数不超过线程数的两倍，
+ * 许可不足时提交线程等待，批量渲染不会在内存中堆积大量待渲染的文档。线程池指标以 claim.pdf.executor 为名注册。
+ */
+@Component
+public class PdfRenderExecutor {
+
+  private static final String METRIC_NAME = "claim.pdf.executor";
+
+  private final ThreadPoolExecutor threadPool;
+
+  private final ExecutorService executor;
+
+  private final Semaphore permits;
+
+  private final int parallelism;
+
+  public PdfRenderExecutor(
+      MeterRegistry meterRegistry, @Value("${claim.pdf.render-parallelism:4}") int parallelism) {
+    AtomicInteger threadIndex = new AtomicInteger();
+    this.parallelism = parallelism;
+    this.permits = new Semaphore(parallelism * 2);
+    this.threadPool =
+        new ThreadPoolExecutor(
+            parallelism,
+            parallelism,
+            0L,
+            TimeUnit.MILLISECONDS,
+            new LinkedBlockingQueue<>(),
+            runnable -> {
+              Thread thread = new Thread(runnable, "pdf-render-" + threadIndex.incrementAndGet());
+              thread.setDaemon(true);
+              return thread;
+            });
+    this.executor = ExecutorServiceMetrics.monitor(meterRegistry, threadPool, METRIC_NAME);
+  }
+
+  /** 同时渲染的线程数 */
+  public int getParallelism() {
+    return parallelism;
+  }
+
+  /**
+   * 提交渲染任务，未完成的任务过多时等待
+   *
+   * <p>许可在线程池执行的任务中释放，线程池总会执行提交的任务：结果在排队期间被取消时跳过渲染，只释放许可。
+   * 不使用 {@link CompletableFuture#supplyAsync}，它在结果已完成（如被取消）时不执行传入的任务，许可将无法释放。
+   *
+   * @param task 渲染任务
+   * @return 渲染结果
+   */
+  public <T> CompletableFuture<T> submit(Callable<T> task) {
+    try {
+      permits.acquire();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new CustomException(
+          HttpResponseStatus.INTERNAL_SERVER_ERROR.code(), "PDF渲染被中断", "等待PDF渲染许可被中断");
+    }
+    CompletableFuture<T> future = new CompletableFuture<>();
+    try {
+      executor.execute(
+          () -> {
+            try {
+              if (!future.isDone()) {
+                future.complete(task.call());
+              }
+            } catch (Throwable e) {
+              future.completeExceptionally(e);
+            } finally {
+              permits.release();
+            }
+          });
+    } catch (RuntimeException e) {
+      permits.release();
+      throw e;
+    }
+    return future;
+  }
+
+  /**
+   * 等待渲染结果，任务中的运行时异常原样抛出
+   *
+   * @param future 渲染结果
+   * @return 渲染结果
+   */
+  public static <T> T join(CompletableFuture<T> future) {
+    try {
+      return future.join();
+    } catch (CompletionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      throw new CustomException(
+          HttpResponseStatus.INTERNAL_SERVER_ERROR.code(), "PDF渲染失败", "PDF渲染异常：" + cause);
+    }
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    threadPool.shutdownNow();
+  }
+}
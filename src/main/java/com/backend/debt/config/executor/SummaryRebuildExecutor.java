@@ -0,0 +1,65 @@
+package com.backend.debt.config.executor;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import javax.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 汇总重建执行器
+ *
+ * <p>重建汇总的各批在固定大小的线程池中执行，线程池随应用创建和关闭，不在每次重建时新建。同时执行的多次重建共用线程池，
+ * 占用的数据库连接数不超过线程数。线程池指标以 claim.summary.rebuild.executor 为名注册。
+ */
+@Component
+public class SummaryRebuildExecutor {
+
+  private static final String METRIC_NAME = "claim.summary.rebuild.executor";
+
+  private final ThreadPoolExecutor threadPool;
+
+  private final ExecutorService executor;
+
+  public SummaryRebuildExecutor(
+      MeterRegistry meterRegistry,
+      @Value("${claim.summary.rebuild-parallelism:4}") int parallelism) {
+    AtomicInteger threadIndex = new AtomicInteger();
+    this.threadPool =
+        new ThreadPoolExecutor(
+            parallelism,
+            parallelism,
+            0L,
+            TimeUnit.MILLISECONDS,
+            new LinkedBlockingQueue<>(),
+            runnable -> {
+              Thread thread =
+                  new Thread(runnable, "summary-rebuild-" + threadIndex.incrementAndGet());
+              thread.setDaemon(true);
+              return thread;
+            });
+    this.executor = ExecutorServiceMetrics.monitor(meterRegistry, threadPool, METRIC_NAME);
+  }
+
+  /**
+   * 在重建线程池中执行一批重建
+   *
+   * @param task 重建任务
+   * @return 执行结果
+   */
+  public <T> CompletableFuture<T> supply(Supplier<T> task) {
+    return CompletableFuture.supplyAsync(task, executor);
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    threadPool.shutdownNow();
+  }
+}
@@ -0,0 +1,77 @@
+package com.backend.debt.config.mybatis;
+
+import com.backend.debt.enums.CountMode;
+import com.baomidou.mybatisplus.extension.plugins.pagination.Page;
+import java.util.List;
+import lombok.Getter;
+
+/**
+ * 携带总数统计方式的分页对象
+ *
+ * <p>不统计或估算总数时，无法根据总数判断是否还有下一页，因此会多查询一条记录：{@code size} 为每页条数加一， 偏移量仍按每页条数计算，返回结果时再截掉多出的一条。
+ *
+ * @param <T> 数据类型
+ */
+@Getter
+public class CountModePage<T> extends Page<T> {
+
+  /** 总数统计方式 */
+  private final CountMode countMode;
+
+  /** 每页条数 */
+  private final long pageSize;
+
+  public CountModePage(long current, long pageSize, CountMode countMode) {
+    super(
+        current, countMode.needsLookahead() ? pageSize + 1 : pageSize, countMode != CountMode.NONE);
+    this.countMode = countMode;
+    this.pageSize = pageSize;
+  }
+
+  @Override
+  public long offset() {
+    long current = getCurrent();
+    if (current <= 1L) {
+      return 0L;
+    }
+    return Math.max((current - 1) * pageSize, 0L);
+  }
+
+  /**
+   * 总页数，按每页条数计算
+   *
+   * <p>估算失败退化为精确统计时，分页插件据此判断当前页是否超出范围，不能按多取一条后的 {@code size} 计算。
+   */
+  @Override
+  public long getPages() {
+    if (pageSize <= 0) {
+      return 0L;
+    }
+    return (getTotal() + pageSize - 1) / pageSize;
+  }
+
+  /**
+   * 当前页记录，已截掉用于判断下一页的多余记录
+   *
+   * @return 当前页记录
+   */
+  public List<T> getPageRecords() {
+    List<T> records = getRecords();
+    if (records.size() > pageSize) {
+      return records.subList(0, (int) pageSize);
+    }
+    return records;
+  }
+
+  /**
+   * 是否还有下一页
+   *
+   * @return 是否还有下一页
+   */
+  public boolean hasMore() {
+    if (countMode.needsLookahead()) {
+      return getRecords().size() > pageSize;
+    }
+    return getCurrent() * pageSize < getTotal();
+  }
+}
@@ -0,0 +1,226 @@
+package com.backend.debt.config.mybatis;
+
+import cn.hutool.cache.CacheUtil;
+import cn.hutool.cache.impl.LRUCache;
+import cn.hutool.json.JSONArray;
+import cn.hutool.json.JSONObject;
+import cn.hutool.json.JSONUtil;
+import com.backend.debt.enums.CountMode;
+import com.baomidou.mybatisplus.core.metadata.IPage;
+import com.baomidou.mybatisplus.core.toolkit.ParameterUtils;
+import com.baomidou.mybatisplus.extension.plugins.MybatisPlusInterceptor;
+import com.baomidou.mybatisplus.extension.plugins.inner.InnerInterceptor;
+import com.baomidou.mybatisplus.extension.plugins.inner.PaginationInnerInterceptor;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.StringJoiner;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.ParameterMapping;
+import org.apache.ibatis.mapping.ParameterMode;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.reflection.MetaObject;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 支持多种总数统计方式的分页拦截器
+ *
+ * <p>在 MyBatis Plus 分页插件的基础上，根据 {@link CountModePage} 携带的 {@link CountMode} 决定如何得到总数：
+ *
+ * <ul>
+ *   <li>EXACT：执行 COUNT 查询，与原分页插件一致
+ *   <li>ESTIMATED：对数据查询执行 EXPLAIN，取执行计划估算的行数，不扫描数据
+ *   <li>NONE：不统计总数，由分页对象多取一条记录判断是否还有下一页
+ *   <li>CACHED：按 SQL 和参数缓存精确总数，任意写操作后清空缓存
+ * </ul>
+ *
+ * <p>写操作执行时立即清空缓存，在事务中执行时事务结束后再清空一次，避免其他请求在提交前把旧的总数重新放入缓存。
+ * 统计总数期间发生过写操作的结果不放入缓存。不经过 MyBatis 的写入（如 COPY）需要调用 {@link
+ * #invalidateCountCache(Configuration)}。
+ */
+@Slf4j
+public class CountModePaginationInnerInterceptor extends PaginationInnerInterceptor {
+
+  /** 总数缓存，键为查询语句 + SQL + 参数 */
+  private final LRUCache<String, Long> countCache;
+
+  /** 缓存失效次数，统计总数前后不一致说明期间发生过写操作 */
+  private final AtomicLong generation = new AtomicLong();
+
+  /**
+   * @param cacheCapacity 总数缓存容量
+   * @param cacheTimeoutMillis 总数缓存过期时间（毫秒）
+   */
+  public CountModePaginationInnerInterceptor(int cacheCapacity, long cacheTimeoutMillis) {
+    this.countCache = CacheUtil.newLRUCache(cacheCapacity, cacheTimeoutMillis);
+  }
+
+  @Override
+  public boolean willDoQuery(
+      Executor executor,
+      MappedStatement ms,
+      Object parameter,
+      RowBounds rowBounds,
+      ResultHandler resultHandler,
+      BoundSql boundSql)
+      throws SQLException {
+    IPage<?> page = ParameterUtils.findPage(parameter).orElse(null);
+    if (!(page instanceof CountModePage<?> countModePage)
+        || page.getSize() < 0
+        || !page.searchCount()
+        || resultHandler != Executor.NO_RESULT_HANDLER) {
+      return super.willDoQuery(executor, ms, parameter, rowBounds, resultHandler, boundSql);
+    }
+
+    switch (countModePage.getCountMode()) {
+      case ESTIMATED:
+        Long estimated = estimateCount(executor, ms, parameter, boundSql);
+        if (estimated != null) {
+          page.setTotal(estimated);
+          // 估算值可能偏小，不能据此跳过数据查询
+          return true;
+        }
+        // 估算失败时退化为精确统计，总页数按每页条数计算，见 CountModePage#getPages
+        return super.willDoQuery(executor, ms, parameter, rowBounds, resultHandler, boundSql);
+      case CACHED:
+        String cacheKey = buildCacheKey(ms, parameter, boundSql);
+        Long cached = countCache.get(cacheKey);
+        if (cached != null) {
+          page.setTotal(cached);
+          return continuePage(page);
+        }
+        long countGeneration = generation.get();
+        boolean continued =
+            super.willDoQuery(executor, ms, parameter, rowBounds, resultHandler, boundSql);
+        if (countGeneration == generation.get()) {
+          countCache.put(cacheKey, page.getTotal());
+        }
+        return continued;
+      default:
+        return super.willDoQuery(executor, ms, parameter, rowBounds, resultHandler, boundSql);
+    }
+  }
+
+  @Override
+  public void beforeUpdate(Executor executor, MappedStatement ms, Object parameter)
+      throws SQLException {
+    // 列表查询可能关联多张表，任意写操作都清空缓存，保证缓存的总数不会在写入后继续返回
+    invalidateCountCache();
+    super.beforeUpdate(executor, ms, parameter);
+  }
+
+  /**
+   * 清空总数缓存，在事务中调用时事务结束后再清空一次
+   *
+   * <p>同一事务只注册一次事务回调。
+   */
+  public void invalidateCountCache() {
+    clearCountCache();
+    if (TransactionSynchronizationManager.isSynchronizationActive()
+        && !TransactionSynchronizationManager.hasResource(this)) {
+      TransactionSynchronizationManager.bindResource(this, Boolean.TRUE);
+      TransactionSynchronizationManager.registerSynchronization(
+          new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+              TransactionSynchronizationManager.unbindResourceIfPossible(
+                  CountModePaginationInnerInterceptor.this);
+              clearCountCache();
+            }
+          });
+    }
+  }
+
+  /**
+   * 清空 MyBatis 配置中注册的分页拦截器的总数缓存，供不经过 MyBatis 执行的写入调用
+   *
+   * @param configuration MyBatis 配置
+   */
+  public static void invalidateCountCache(Configuration configuration) {
+    for (Interceptor interceptor : configuration.getInterceptors()) {
+      if (interceptor instanceof MybatisPlusInterceptor mybatisPlusInterceptor) {
+        for (InnerInterceptor innerInterceptor : mybatisPlusInterceptor.getInterceptors()) {
+          if (innerInterceptor instanceof CountModePaginationInnerInterceptor pagination) {
+            pagination.invalidateCountCache();
+          }
+        }
+      }
+    }
+  }
+
+  private void clearCountCache() {
+    generation.incrementAndGet();
+    countCache.clear();
+  }
+
+  /**
+   * 通过 EXPLAIN 获取执行计划估算的行数
+   *
+   * @return 估算行数，失败时返回 null
+   */
+  private Long estimateCount(
+      Executor executor, MappedStatement ms, Object parameter, BoundSql boundSql) {
+    String explainSql = "EXPLAIN (FORMAT JSON) " + boundSql.getSql();
+    try {
+      // 连接由事务管理，不在此处关闭
+      Connection connection = executor.getTransaction().getConnection();
+      try (PreparedStatement statement = connection.prepareStatement(explainSql)) {
+        ms.getConfiguration().newParameterHandler(ms, parameter, boundSql).setParameters(statement);
+        try (ResultSet resultSet = statement.executeQuery()) {
+          if (!resultSet.next()) {
+            return null;
+          }
+          JSONArray plans = JSONUtil.parseArray(resultSet.getString(1));
+          JSONObject plan = plans.getJSONObject(0).getJSONObject("Plan");
+          return plan.getLong("Plan Rows");
+        }
+      }
+    } catch (Exception e) {
+      log.warn("估算分页总数失败，改为精确统计：{}", ms.getId(), e);
+      return null;
+    }
+  }
+
+  /**
+   * 构建总数缓存键：查询语句 + 归一化后的 SQL + 参数值
+   *
+   * <p>参数值的解析方式与 MyBatis 的 DefaultParameterHandler 一致
+   */
+  private String buildCacheKey(MappedStatement ms, Object parameter, BoundSql boundSql) {
+    Configuration configuration = ms.getConfiguration();
+    StringJoiner joiner = new StringJoiner("|");
+    joiner.add(ms.getId());
+    joiner.add(boundSql.getSql().replaceAll("\\s+", " ").trim());
+    MetaObject metaObject = null;
+    for (ParameterMapping parameterMapping : boundSql.getParameterMappings()) {
+      if (parameterMapping.getMode() == ParameterMode.OUT) {
+        continue;
+      }
+      String property = parameterMapping.getProperty();
+      Object value;
+      if (boundSql.hasAdditionalParameter(property)) {
+        value = boundSql.getAdditionalParameter(property);
+      } else if (parameter == null) {
+        value = null;
+      } else if (configuration.getTypeHandlerRegistry().hasTypeHandler(parameter.getClass())) {
+        value = parameter;
+      } else {
+        if (metaObject == null) {
+          metaObject = configuration.newMetaObject(parameter);
+        }
+        value = metaObject.getValue(property);
+      }
+      joiner.add(String.valueOf(value));
+    }
+    return joiner.toString();
+  }
+}
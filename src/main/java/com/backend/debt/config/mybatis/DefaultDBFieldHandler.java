@@ -26,6 +26,10 @@ public class DefaultDBFieldHandler implements MetaObjectHandler {
       if (Objects.isNull(entity.getUpdateTime())) {
         entity.setUpdateTime(now);
       }
+      // 版本号为空，则从0开始
+      if (Objects.isNull(entity.getVersion())) {
+        entity.setVersion(0);
+      }
     }
   }
 
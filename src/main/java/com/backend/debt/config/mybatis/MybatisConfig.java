@@ -1,8 +1,14 @@
 package com.backend.debt.config.mybatis;
 
+import com.backend.debt.mapper.handler.ClaimDetailAggregateTypeHandler;
+import com.backend.debt.mapper.handler.MoneyTypeHandler;
+import com.backend.debt.model.Money;
+import com.backend.debt.model.entity.ClaimDetailAggregate;
+import com.baomidou.mybatisplus.autoconfigure.ConfigurationCustomizer;
 import com.baomidou.mybatisplus.core.handlers.MetaObjectHandler;
 import com.baomidou.mybatisplus.extension.plugins.MybatisPlusInterceptor;
-import com.baomidou.mybatisplus.extension.plugins.inner.PaginationInnerInterceptor;
+import com.baomidou.mybatisplus.extension.plugins.inner.OptimisticLockerInnerInterceptor;
+import org.apache.ibatis.type.TypeHandlerRegistry;
 import org.mybatis.spring.annotation.MapperScan;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -10,13 +16,40 @@ import org.springframework.context.annotation.Configuration;
 @Configuration
 @MapperScan("com.backend.debt.mapper")
 public class MybatisConfig {
+
+  /** 分页总数缓存容量 */
+  private static final int COUNT_CACHE_CAPACITY = 1024;
+
+  /** 分页总数缓存过期时间：30 秒 */
+  private static final long COUNT_CACHE_TIMEOUT_MILLIS = 30 * 1000L;
+
   @Bean
   public MybatisPlusInterceptor mybatisPlusInterceptor() {
     MybatisPlusInterceptor mybatisPlusInterceptor = new MybatisPlusInterceptor();
-    mybatisPlusInterceptor.addInnerInterceptor(new PaginationInnerInterceptor()); // 分页插件
+    // 分页插件，支持按分页参数选择总数统计方式
+    mybatisPlusInterceptor.addInnerInterceptor(
+        new CountModePaginationInnerInterceptor(COUNT_CACHE_CAPACITY, COUNT_CACHE_TIMEOUT_MILLIS));
+    // 乐观锁插件，updateById 时以实体的版本号为条件，版本号不一致时影响行数为0
+    mybatisPlusInterceptor.addInnerInterceptor(new OptimisticLockerInnerInterceptor());
     return mybatisPlusInterceptor;
   }
 
+  @Bean
+  public StatementDeadlineInterceptor statementDeadlineInterceptor() {
+    // 聚合子查询等指定了截止时间的语句，按剩余时间设置查询超时
+    return new StatementDeadlineInterceptor();
+  }
+
+  @Bean
+  public ConfigurationCustomizer typeHandlerCustomizer() {
+    // 按返回类型查找的类型处理器（单列结果映射为对象、金额与 numeric 互转）
+    return configuration -> {
+      TypeHandlerRegistry registry = configuration.getTypeHandlerRegistry();
+      registry.register(ClaimDetailAggregate.class, new ClaimDetailAggregateTypeHandler());
+      registry.register(Money.class, new MoneyTypeHandler());
+    };
+  }
+
   @Bean
   public MetaObjectHandler defaultMetaObjectHandler() {
     // 自动填充参数类
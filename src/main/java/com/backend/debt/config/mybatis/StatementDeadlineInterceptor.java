@@ -0,0 +1,86 @@
+package com.backend.debt.config.mybatis;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.apache.ibatis.executor.statement.StatementHandler;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+
+/**
+ * 语句截止时间拦截器
+ *
+ * <p>在 {@link #withDeadline(long, Supplier)} 范围内执行的语句，按剩余时间设置 JDBC 查询超时（向上取整到秒，至少1秒）。
+ * 超时后由驱动向数据库发送取消请求，语句在服务端停止执行并释放连接，不只是中断等待的线程。
+ *
+ * <p>超时被取消的语句以 SQLState {@value #QUERY_CANCELED} 失败，可以通过 {@link #isQueryCanceled(Throwable)} 判断。
+ */
+@Intercepts(
+    @Signature(
+        type = StatementHandler.class,
+        method = "prepare",
+        args = {Connection.class, Integer.class}))
+public class StatementDeadlineInterceptor implements Interceptor {
+
+  /** PostgreSQL 语句被取消的 SQLState */
+  public static final String QUERY_CANCELED = "57014";
+
+  /** 当前线程的截止时间，取 {@link System#nanoTime()} 的值 */
+  private static final ThreadLocal<Long> DEADLINE = new ThreadLocal<>();
+
+  /**
+   * 在截止时间内执行，期间当前线程执行的语句都以剩余时间为查询超时
+   *
+   * @param deadlineNanos 截止时间，取 {@link System#nanoTime()} 的值
+   * @param action 执行的操作
+   * @return 操作的结果
+   */
+  public static <T> T withDeadline(long deadlineNanos, Supplier<T> action) {
+    Long previous = DEADLINE.get();
+    DEADLINE.set(deadlineNanos);
+    try {
+      return action.get();
+    } finally {
+      if (previous == null) {
+        DEADLINE.remove();
+      } else {
+        DEADLINE.set(previous);
+      }
+    }
+  }
+
+  /**
+   * 判断异常是否由语句超时被取消引起
+   *
+   * @param throwable 异常
+   * @return 异常链中有 SQLState 为 {@value #QUERY_CANCELED} 的 SQLException 时返回 true
+   */
+  public static boolean isQueryCanceled(Throwable throwable) {
+    for (Throwable cause = throwable; cause != null; cause = cause.getCause()) {
+      if (cause instanceof SQLException sqlException
+          && QUERY_CANCELED.equals(sqlException.getSQLState())) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  @Override
+  public Object intercept(Invocation invocation) throws Throwable {
+    Object result = invocation.proceed();
+    Long deadline = DEADLINE.get();
+    if (deadline != null && result instanceof Statement statement) {
+      long remainingMillis = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+      int seconds = (int) Math.max(1L, (remainingMillis + 999L) / 1000L);
+      // 语句本身配置了更短的超时时保留
+      if (statement.getQueryTimeout() == 0 || statement.getQueryTimeout() > seconds) {
+        statement.setQueryTimeout(seconds);
+      }
+    }
+    return result;
+  }
+}
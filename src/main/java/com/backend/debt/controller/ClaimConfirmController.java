@@ -1,13 +1,18 @@
 package com.backend.debt.controller;
 
+import com.backend.debt.enums.ResponseMode;
 import com.backend.debt.model.Resp;
 import com.backend.debt.model.dto.ClaimConfirmDto;
+import com.backend.debt.model.dto.confirm.ClaimConfirmBatchResultDto;
+import com.backend.debt.model.query.ClaimConfirmBatchQuery;
 import com.backend.debt.model.query.ClaimConfirmQuery;
 import com.backend.debt.service.IClaimConfirmService;
+import com.backend.debt.util.OptimisticLockUtils;
 import io.swagger.annotations.Api;
 import io.swagger.annotations.ApiOperation;
 import javax.annotation.Resource;
 import javax.validation.Valid;
+import org.springframework.http.HttpHeaders;
 import org.springframework.web.bind.annotation.*;
 
 @Api(value = "债权确认管理", tags = "债权确认相关接口")
@@ -17,21 +22,50 @@ public class ClaimConfirmController {
 
   @Resource private IClaimConfirmService claimConfirmService;
 
-  @ApiOperation(value = "添加债权确认信息", notes = "为特定债权申报金额添加确认信息，包括确认金额、债权性质和审查意见等")
+  @ApiOperation(
+      value = "添加债权确认信息",
+      notes = "为特定债权申报金额添加确认信息，包括确认金额、债权性质和审查意见等。response_mode 为 DELTA 时返回包含该确认信息的申报金额")
   @PostMapping("/add/{claim_filling_id}")
-  public Resp<ClaimConfirmDto> addClaimConfirm(
+  public Resp<?> addClaimConfirm(
       @PathVariable(value = "claim_filling_id") String claimFillingId,
+      @RequestParam(value = "response_mode", defaultValue = "FULL") ResponseMode responseMode,
       @Valid @RequestBody ClaimConfirmQuery query) {
+    if (responseMode == ResponseMode.DELTA) {
+      return Resp.data(claimConfirmService.addClaimConfirmDelta(claimFillingId, query));
+    }
     ClaimConfirmDto confirmDto = claimConfirmService.addClaimConfirm(claimFillingId, query);
     return Resp.data(confirmDto);
   }
 
-  @ApiOperation(value = "更新债权确认信息", notes = "更新特定债权确认信息，包括确认金额、债权性质和审查意见等")
+  @ApiOperation(
+      value = "更新债权确认信息",
+      notes =
+          "更新特定债权确认信息，包括确认金额、债权性质和审查意见等。response_mode 为 DELTA 时返回包含该确认信息的申报金额。"
+              + "If-Match 请求头传入确认信息的 version，版本号不一致时返回 412，并发修改冲突时返回 409")
   @PutMapping("/update/{claim_confirm_id}")
-  public Resp<ClaimConfirmDto> updateClaimConfirm(
+  public Resp<?> updateClaimConfirm(
       @PathVariable(value = "claim_confirm_id") String claimConfirmId,
+      @RequestParam(value = "response_mode", defaultValue = "FULL") ResponseMode responseMode,
+      @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
       @Valid @RequestBody ClaimConfirmQuery query) {
-    return Resp.data(claimConfirmService.updateClaimConfirm(claimConfirmId, query));
+    Integer expectedVersion = OptimisticLockUtils.parseIfMatch(ifMatch);
+    if (responseMode == ResponseMode.DELTA) {
+      return Resp.data(
+          claimConfirmService.updateClaimConfirmDelta(claimConfirmId, query, expectedVersion));
+    }
+    return Resp.data(
+        claimConfirmService.updateClaimConfirm(claimConfirmId, query, expectedVersion));
+  }
+
+  @ApiOperation(
+      value = "批量审查确认",
+      notes =
+          "一次提交多个申报详情的确认信息，已有确认信息的更新最新的一条，没有的新增，单次最多1000条。每条单独校验，未通过的在结果中列出原因，不影响其他确认信息。"
+              + "传入 version 时须与已有确认信息的版本号一致，读取之后被其他用户修改的确认信息不写入")
+  @PostMapping("/batch")
+  public Resp<ClaimConfirmBatchResultDto> saveClaimConfirms(
+      @Valid @RequestBody ClaimConfirmBatchQuery query) {
+    return Resp.data(claimConfirmService.saveClaimConfirms(query.getItems()));
   }
 
   @ApiOperation(value = "删除债权确认信息", notes = "删除特定债权确认信息")
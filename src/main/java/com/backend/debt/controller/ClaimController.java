@@ -4,14 +4,17 @@ import com.backend.debt.model.Resp;
 import com.backend.debt.model.dto.ClaimDetailDto;
 import com.backend.debt.model.dto.ClaimSimpleDto;
 import com.backend.debt.model.page.PageResult;
+import com.backend.debt.model.query.ClaimBatchDeleteQuery;
 import com.backend.debt.model.query.ClaimQuery;
 import com.backend.debt.model.query.ClaimSimplePageQuery;
 import com.backend.debt.service.IClaimService;
+import com.backend.debt.util.OptimisticLockUtils;
 import io.swagger.annotations.Api;
 import io.swagger.annotations.ApiOperation;
 import javax.annotation.Resource;
 import javax.validation.Valid;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.web.bind.annotation.*;
 
 /** 债权申报控制器 */
@@ -44,11 +47,27 @@ public class ClaimController {
     return success ? Resp.ok() : Resp.error(500, "删除债权申报失败");
   }
 
-  @ApiOperation(value = "更新债权申报", notes = "更新债权申报信息，包括债权基本信息、债权人信息、代理人和联系信息等")
+  @ApiOperation(
+      value = "批量删除债权申报",
+      notes = "删除多个债权申报及其关联的所有记录，语句数量与债权数量无关，单次最多10000个，不存在的债权跳过，返回实际删除的数量")
+  @PostMapping("/delete/batch")
+  public Resp<Integer> deleteClaims(@Valid @RequestBody ClaimBatchDeleteQuery query) {
+    int deleted = claimService.deleteClaims(query.getClaimIds());
+    return Resp.data(deleted);
+  }
+
+  @ApiOperation(
+      value = "更新债权申报",
+      notes =
+          "更新债权申报信息，包括债权基本信息、债权人信息、代理人和联系信息等。"
+              + "If-Match 请求头传入详情中的 version，版本号不一致时返回 412，并发修改冲突时返回 409")
   @PutMapping("/update/{claim_id}")
   public Resp<Void> updateClaimItem(
-      @PathVariable(value = "claim_id") String claimId, @Valid @RequestBody ClaimQuery updateDto) {
-    boolean success = claimService.updateClaimItem(claimId, updateDto);
+      @PathVariable(value = "claim_id") String claimId,
+      @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+      @Valid @RequestBody ClaimQuery updateDto) {
+    Integer expectedVersion = OptimisticLockUtils.parseIfMatch(ifMatch);
+    boolean success = claimService.updateClaimItem(claimId, updateDto, expectedVersion);
     return success ? Resp.ok() : Resp.error(500, "更新债权申报失败");
   }
 
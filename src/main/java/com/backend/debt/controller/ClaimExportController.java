@@ -0,0 +1,57 @@
+package com.backend.debt.controller;
+
+import com.backend.debt.enums.SpreadsheetFormat;
+import com.backend.debt.model.query.ClaimLedgerExportQuery;
+import com.backend.debt.service.IClaimExportService;
+import io.swagger.annotations.Api;
+import io.swagger.annotations.ApiOperation;
+import java.io.IOException;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import javax.annotation.Resource;
+import javax.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.bind.annotation.*;
+
+@Api(value = "债权导出管理", tags = "债权数据导出相关接口")
+@RestController
+@RequestMapping("/export")
+public class ClaimExportController {
+
+  private static final DateTimeFormatter FILE_TIME_FORMATTER =
+      DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
+
+  @Resource private IClaimExportService claimExportService;
+
+  @ApiOperation(
+      value = "导出债权台账",
+      notes = "导出债权、债权人、申报详情、确认信息及申报、确认合计，每笔申报详情一行，支持 CSV 和 XLSX，边查询边写出")
+  @PostMapping("/ledger")
+  public void exportLedger(@RequestBody ClaimLedgerExportQuery query, HttpServletResponse response)
+      throws IOException {
+    if (query.getFormat() == null) {
+      query.setFormat(SpreadsheetFormat.CSV);
+    }
+    String fileName =
+        "债权台账_"
+            + LocalDateTime.now().format(FILE_TIME_FORMATTER)
+            + "."
+            + query.getFormat().getExtension();
+    response.setContentType(query.getFormat().getContentType());
+    response.setHeader(
+        HttpHeaders.CONTENT_DISPOSITION,
+        "attachment; filename*=UTF-8''"
+            + URLEncoder.encode(fileName, StandardCharsets.UTF_8).replace("+", "%20"));
+    try {
+      claimExportService.exportLedger(query, response.getOutputStream());
+    } catch (RuntimeException e) {
+      // 尚未开始写出时清空文件响应头，由全局异常处理返回错误信息
+      if (!response.isCommitted()) {
+        response.reset();
+      }
+      throw e;
+    }
+  }
+}
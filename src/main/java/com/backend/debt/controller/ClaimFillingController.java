@@ -1,14 +1,17 @@
 package com.backend.debt.controller;
 
+import com.backend.debt.enums.ResponseMode;
 import com.backend.debt.model.Resp;
 import com.backend.debt.model.dto.ClaimDetailDto;
 import com.backend.debt.model.query.ClaimFillingQuery;
 import com.backend.debt.service.IClaimFillingService;
+import com.backend.debt.util.OptimisticLockUtils;
 import io.swagger.annotations.Api;
 import io.swagger.annotations.ApiOperation;
 import javax.annotation.Resource;
 import javax.validation.Valid;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.web.bind.annotation.*;
 
 @Api(value = "债权申报金额管理", tags = "债权申报金额相关接口")
@@ -19,12 +22,24 @@ public class ClaimFillingController {
 
   @Resource private IClaimFillingService claimFillingService;
 
-  @ApiOperation(value = "更新债权申报金额信息", notes = "更新特定债权申报的详情信息，包括债权性质、担保物明细和申报金额等")
+  @ApiOperation(
+      value = "更新债权申报金额信息",
+      notes =
+          "更新特定债权申报的详情信息，包括债权性质、担保物明细和申报金额等。response_mode 为 DELTA 时只返回被修改的申报金额和重新计算的汇总。"
+              + "If-Match 请求头传入申报金额的 version，版本号不一致时返回 412，并发修改冲突时返回 409")
   @PutMapping("/update/{claim_filling_id}")
-  public Resp<ClaimDetailDto> updateClaimFilling(
+  public Resp<?> updateClaimFilling(
       @PathVariable(value = "claim_filling_id") String claimFillingId,
+      @RequestParam(value = "response_mode", defaultValue = "FULL") ResponseMode responseMode,
+      @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
       @Valid @RequestBody ClaimFillingQuery query) {
-    ClaimDetailDto detailDto = claimFillingService.updateClaimFilling(claimFillingId, query);
+    Integer expectedVersion = OptimisticLockUtils.parseIfMatch(ifMatch);
+    if (responseMode == ResponseMode.DELTA) {
+      return Resp.data(
+          claimFillingService.updateClaimFillingDelta(claimFillingId, query, expectedVersion));
+    }
+    ClaimDetailDto detailDto =
+        claimFillingService.updateClaimFilling(claimFillingId, query, expectedVersion);
     return Resp.data(detailDto);
   }
 
@@ -0,0 +1,31 @@
+package com.backend.debt.controller;
+
+import com.backend.debt.model.Resp;
+import com.backend.debt.model.dto.importer.ClaimImportResultDto;
+import com.backend.debt.service.IClaimImportService;
+import io.swagger.annotations.Api;
+import io.swagger.annotations.ApiOperation;
+import javax.annotation.Resource;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
+
+@Api(value = "债权导入管理", tags = "债权数据导入相关接口")
+@RestController
+@RequestMapping("/import")
+public class ClaimImportController {
+
+  @Resource private IClaimImportService claimImportService;
+
+  @ApiOperation(
+      value = "批量导入债权",
+      notes =
+          "上传 CSV 或 XLSX 文件，按表头匹配列，同一债权编号的相邻行为同一个债权，每行可包含一个债权人和一笔申报详情。有错误的债权整体跳过，返回逐行的错误报告")
+  @PostMapping(value = "/claims", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+  public Resp<ClaimImportResultDto> importClaims(@RequestParam("file") MultipartFile file) {
+    return Resp.data(claimImportService.importClaims(file));
+  }
+}
@@ -0,0 +1,68 @@
+package com.backend.debt.controller;
+
+import com.backend.debt.model.query.ClaimNoticeBatchQuery;
+import com.backend.debt.service.IClaimNoticeService;
+import io.swagger.annotations.Api;
+import io.swagger.annotations.ApiOperation;
+import java.io.IOException;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import javax.annotation.Resource;
+import javax.servlet.http.HttpServletResponse;
+import javax.validation.Valid;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+
+@Api(value = "债权通知书管理", tags = "债权通知书生成相关接口")
+@RestController
+@RequestMapping("/notice")
+public class ClaimNoticeController {
+
+  private static final DateTimeFormatter FILE_TIME_FORMATTER =
+      DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
+
+  @Resource private IClaimNoticeService claimNoticeService;
+
+  @ApiOperation(value = "生成债权审查确认通知书", notes = "根据债权详情和确认统计生成 PDF 通知书")
+  @GetMapping("/confirm/{claim_id}")
+  public void getConfirmNotice(
+      @PathVariable(value = "claim_id") String claimId, HttpServletResponse response)
+      throws IOException {
+    byte[] content = claimNoticeService.renderConfirmNotice(claimId);
+    response.setContentType(MediaType.APPLICATION_PDF_VALUE);
+    response.setContentLength(content.length);
+    setAttachment(response, "债权审查确认通知书_" + claimId + ".pdf");
+    response.getOutputStream().write(content);
+  }
+
+  @ApiOperation(
+      value = "批量生成债权审查确认通知书",
+      notes = "并行生成多个债权的 PDF 通知书，打包为一个 ZIP 边生成边写出，单次最多5000份，不存在的债权跳过")
+  @PostMapping("/confirm/batch")
+  public void getConfirmNotices(
+      @Valid @RequestBody ClaimNoticeBatchQuery query, HttpServletResponse response)
+      throws IOException {
+    response.setContentType("application/zip");
+    setAttachment(
+        response, "债权审查确认通知书_" + LocalDateTime.now().format(FILE_TIME_FORMATTER) + ".zip");
+    try {
+      claimNoticeService.renderConfirmNotices(query.getClaimIds(), response.getOutputStream());
+    } catch (RuntimeException e) {
+      // 尚未开始写出时清空文件响应头，由全局异常处理返回错误信息
+      if (!response.isCommitted()) {
+        response.reset();
+      }
+      throw e;
+    }
+  }
+
+  private static void setAttachment(HttpServletResponse response, String fileName) {
+    response.setHeader(
+        HttpHeaders.CONTENT_DISPOSITION,
+        "attachment; filename*=UTF-8''"
+            + URLEncoder.encode(fileName, StandardCharsets.UTF_8).replace("+", "%20"));
+  }
+}
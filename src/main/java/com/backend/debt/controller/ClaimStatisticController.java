@@ -2,10 +2,16 @@ package com.backend.debt.controller;
 
 import com.backend.debt.model.Resp;
 import com.backend.debt.model.dto.confirm.statistic.ClaimConfirmStatisticDto;
+import com.backend.debt.model.dto.confirm.statistic.PortfolioStatisticDto;
+import com.backend.debt.model.query.ClaimStatisticBatchQuery;
+import com.backend.debt.model.query.PortfolioStatisticQuery;
 import com.backend.debt.service.IClaimStatisticService;
 import io.swagger.annotations.Api;
 import io.swagger.annotations.ApiOperation;
+import java.util.List;
+import java.util.Map;
 import javax.annotation.Resource;
+import javax.validation.Valid;
 import org.springframework.web.bind.annotation.*;
 
 @Api(value = "债权统计管理", tags = "债权统计管理相关接口")
@@ -21,4 +27,20 @@ public class ClaimStatisticController {
       @PathVariable(value = "claim_id") String claimId) {
     return Resp.data(claimStatisticService.calculateConfirmedStatistic(claimId));
   }
+
+  @ApiOperation(
+      value = "按维度分组统计全部债权",
+      notes = "按审核人员、债权归类、申报债权性质、审查状态或申报日期区间分组，统计申报、确认、暂缓和不予确认的金额与笔数")
+  @PostMapping("/portfolio")
+  public Resp<List<PortfolioStatisticDto>> getPortfolioStatistic(
+      @Valid @RequestBody PortfolioStatisticQuery query) {
+    return Resp.data(claimStatisticService.calculatePortfolioStatistic(query));
+  }
+
+  @ApiOperation(value = "批量获取债权的统计信息", notes = "一次获取多个债权的统计信息，返回债权ID到统计信息的映射，单次最多5000个债权")
+  @PostMapping("/batch")
+  public Resp<Map<String, ClaimConfirmStatisticDto>> getClaimStatistics(
+      @Valid @RequestBody ClaimStatisticBatchQuery query) {
+    return Resp.data(claimStatisticService.calculateConfirmedStatistics(query.getClaimIds()));
+  }
 }
@@ -0,0 +1,30 @@
+package com.backend.debt.controller;
+
+import com.backend.debt.model.Resp;
+import com.backend.debt.model.dto.ClaimSummaryDto;
+import com.backend.debt.service.IClaimSummaryService;
+import io.swagger.annotations.Api;
+import io.swagger.annotations.ApiOperation;
+import java.util.List;
+import javax.annotation.Resource;
+import org.springframework.web.bind.annotation.*;
+
+@Api(value = "债权申报金额汇总管理", tags = "债权申报金额汇总相关接口")
+@RestController
+@RequestMapping("/summary")
+public class ClaimSummaryController {
+
+  @Resource private IClaimSummaryService claimSummaryService;
+
+  @ApiOperation(value = "获取债权的申报金额汇总", notes = "没有填报时返回空")
+  @GetMapping("/{claim_id}")
+  public Resp<ClaimSummaryDto> getClaimSummary(@PathVariable(value = "claim_id") String claimId) {
+    return Resp.data(claimSummaryService.getSummary(claimId));
+  }
+
+  @ApiOperation(value = "重建申报金额汇总", notes = "根据申报详情重新计算汇总，不传债权ID时重建全部债权，返回重建的债权数量")
+  @PostMapping("/rebuild")
+  public Resp<Integer> rebuildClaimSummary(@RequestBody(required = false) List<String> claimIds) {
+    return Resp.data(claimSummaryService.rebuild(claimIds));
+  }
+}
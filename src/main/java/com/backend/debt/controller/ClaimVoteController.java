@@ -0,0 +1,39 @@
+package com.backend.debt.controller;
+
+import com.backend.debt.model.Resp;
+import com.backend.debt.model.dto.vote.MotionResultDto;
+import com.backend.debt.model.dto.vote.VoteClassTotalDto;
+import com.backend.debt.model.query.MotionVoteQuery;
+import com.backend.debt.service.IClaimVoteService;
+import io.swagger.annotations.Api;
+import io.swagger.annotations.ApiOperation;
+import java.util.List;
+import javax.annotation.Resource;
+import javax.validation.Valid;
+import org.springframework.web.bind.annotation.*;
+
+@Api(value = "债权人会议表决管理", tags = "债权人会议表决相关接口")
+@RestController
+@RequestMapping("/vote")
+public class ClaimVoteController {
+
+  @Resource private IClaimVoteService claimVoteService;
+
+  @ApiOperation(value = "按债权归类汇总表决权重", notes = "只统计有表决权且确认金额大于0的债权")
+  @GetMapping("/tally")
+  public Resp<List<VoteClassTotalDto>> getVoteTally() {
+    return Resp.data(claimVoteService.getClassTotals());
+  }
+
+  @ApiOperation(value = "计算议案是否通过", notes = "根据出席与同意的债权，按议案类型计算人数与债权额比例，重整计划按债权归类分组表决")
+  @PostMapping("/motion")
+  public Resp<MotionResultDto> checkMotion(@Valid @RequestBody MotionVoteQuery query) {
+    return Resp.data(claimVoteService.checkMotion(query));
+  }
+
+  @ApiOperation(value = "重建表决权重", notes = "按当前的权重系数重新计算全部债权的表决权重，返回变化的数量")
+  @PostMapping("/rebuild")
+  public Resp<Integer> rebuildVoteWeight() {
+    return Resp.data(claimVoteService.rebuild());
+  }
+}
@@ -4,12 +4,14 @@ import com.backend.debt.model.Resp;
 import com.backend.debt.model.dto.CreditorDto;
 import com.backend.debt.model.query.CreditorAddQuery;
 import com.backend.debt.service.IClaimCreditorService;
+import com.backend.debt.util.OptimisticLockUtils;
 import io.swagger.annotations.Api;
 import io.swagger.annotations.ApiOperation;
 import java.util.List;
 import javax.annotation.Resource;
 import javax.validation.Valid;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.web.bind.annotation.*;
 
 /** 债权人信息控制器 */
@@ -43,11 +45,16 @@ public class CreditorController {
     return Resp.data(count);
   }
 
-  @ApiOperation(value = "更新债权人", notes = "更新指定债权人的信息")
+  @ApiOperation(
+      value = "更新债权人",
+      notes = "更新指定债权人的信息。If-Match 请求头传入债权人的 version，版本号不一致时返回 412，并发修改冲突时返回 409")
   @PutMapping("/update/{creditor_id}")
   public Resp<Void> updateCreditor(
-      @PathVariable("creditor_id") String creditorId, @Valid @RequestBody CreditorDto creditorDto) {
-    boolean success = claimCreditorService.updateCreditor(creditorId, creditorDto);
+      @PathVariable("creditor_id") String creditorId,
+      @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+      @Valid @RequestBody CreditorDto creditorDto) {
+    Integer expectedVersion = OptimisticLockUtils.parseIfMatch(ifMatch);
+    boolean success = claimCreditorService.updateCreditor(creditorId, creditorDto, expectedVersion);
     return success ? Resp.ok() : Resp.error(500, "更新债权人失败");
   }
 
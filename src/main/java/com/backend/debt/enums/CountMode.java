@@ -0,0 +1,31 @@
+package com.backend.debt.enums;
+
+import com.baomidou.mybatisplus.annotation.EnumValue;
+import lombok.Getter;
+
+/** 分页总数统计方式枚举 */
+@Getter
+public enum CountMode {
+  EXACT("EXACT", "精确统计"),
+  ESTIMATED("ESTIMATED", "执行计划估算"),
+  NONE("NONE", "不统计总数"),
+  CACHED("CACHED", "缓存精确统计"),
+  ;
+
+  @EnumValue private final String code;
+  private final String displayName;
+
+  CountMode(String code, String displayName) {
+    this.code = code;
+    this.displayName = displayName;
+  }
+
+  /**
+   * 是否需要多查询一条记录来判断是否还有下一页
+   *
+   * @return 不统计或估算总数时返回true
+   */
+  public boolean needsLookahead() {
+    return this == NONE || this == ESTIMATED;
+  }
+}
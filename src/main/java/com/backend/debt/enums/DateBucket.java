@@ -0,0 +1,27 @@
+package com.backend.debt.enums;
+
+import com.baomidou.mybatisplus.annotation.EnumValue;
+import lombok.Getter;
+
+/** 日期分组粒度枚举 */
+@Getter
+public enum DateBucket {
+  DAY("DAY", "按日", "day"),
+  WEEK("WEEK", "按周", "week"),
+  MONTH("MONTH", "按月", "month"),
+  QUARTER("QUARTER", "按季度", "quarter"),
+  YEAR("YEAR", "按年", "year"),
+  ;
+
+  @EnumValue private final String code;
+  private final String displayName;
+
+  /** PostgreSQL date_trunc 的精度参数 */
+  private final String truncUnit;
+
+  DateBucket(String code, String displayName, String truncUnit) {
+    this.code = code;
+    this.displayName = displayName;
+    this.truncUnit = truncUnit;
+  }
+}
@@ -1,29 +1,41 @@
 package com.backend.debt.enums;
 
+import cn.hutool.core.util.CreditCodeUtil;
+import cn.hutool.core.util.IdcardUtil;
 import com.baomidou.mybatisplus.annotation.EnumValue;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+import lombok.AccessLevel;
 import lombok.Getter;
 
 /** 证件类型枚举（支持个人/机构类型智能判断） */
 @Getter
 public enum IdTypeEnum {
   // 个人类型
-  ID_CARD("ID_CARD", "居民身份证", false),
-  PASSPORT("PASSPORT", "护照", false),
-  HKMACAU_PASS("HKMACAU", "港澳居民来往内地通行证", false),
+  ID_CARD("ID_CARD", "居民身份证", false, IdcardUtil::isValidCard),
+  PASSPORT("PASSPORT", "护照", false, pattern("[A-Za-z0-9]{5,17}")),
+  HKMACAU_PASS("HKMACAU", "港澳居民来往内地通行证", false, pattern("[HMhm]\\d{8,10}")),
 
   // 机构类型
-  USCC("USCC", "统一社会信用代码", true),
-  BUSINESS_LICENSE("BL", "营业执照注册号", true),
-  ORG_CODE("OC", "组织机构代码证", true);
+  USCC("USCC", "统一社会信用代码", true, CreditCodeUtil::isCreditCode),
+  // 三证合一后营业执照上登记的是统一社会信用代码
+  BUSINESS_LICENSE("BL", "营业执照注册号", true, pattern("\\d{15}").or(CreditCodeUtil::isCreditCode)),
+  ORG_CODE("OC", "组织机构代码证", true, pattern("[0-9A-Z]{8}-?[0-9X]"));
 
   @EnumValue private final String code;
   private final String displayName;
   private final boolean isOrganization;
 
-  IdTypeEnum(String code, String displayName, boolean isOrganization) {
+  /** 证件号码格式校验规则 */
+  @Getter(AccessLevel.NONE)
+  private final Predicate<String> numberRule;
+
+  IdTypeEnum(
+      String code, String displayName, boolean isOrganization, Predicate<String> numberRule) {
     this.code = code;
     this.displayName = displayName;
     this.isOrganization = isOrganization;
+    this.numberRule = numberRule;
   }
 
   // 智能解析方法（带容错处理）
@@ -48,6 +60,20 @@ public enum IdTypeEnum {
     throw new IllegalArgumentException("无效的证件类型: " + cleanValue);
   }
 
+  /**
+   * 校验证件号码格式，身份证和统一社会信用代码同时校验校验位
+   *
+   * @param idNumber 证件号码
+   * @return 格式是否正确，为空时返回 false
+   */
+  public boolean isValidNumber(String idNumber) {
+    return idNumber != null && numberRule.test(idNumber.trim());
+  }
+
+  private static Predicate<String> pattern(String regex) {
+    return Pattern.compile(regex).asMatchPredicate();
+  }
+
   // 判断是否需要组织机构信息
   public boolean requireOrganizationInfo() {
     return isOrganization;
@@ -0,0 +1,49 @@
+package com.backend.debt.enums;
+
+import lombok.Getter;
+
+/**
+ * 债权人会议议案类型枚举
+ *
+ * <p>出席人数均要求过半数同意；债权额比例以“以上”计，包含本数。
+ */
+@Getter
+public enum MotionType {
+  /** 一般决议：同意的债权额占无财产担保债权总额的二分之一以上 */
+  ORDINARY("ORDINARY", "一般决议", 1, 2, false, false),
+  /** 和解协议：有财产担保的债权人不参与表决，同意的债权额占无财产担保债权总额的三分之二以上 */
+  SETTLEMENT("SETTLEMENT", "和解协议", 2, 3, true, false),
+  /** 重整计划：按债权归类分组表决，每组同意的债权额占该组债权总额的三分之二以上，各组均通过时通过 */
+  REORGANIZATION("REORGANIZATION", "重整计划", 2, 3, false, true),
+  ;
+
+  private final String code;
+  private final String displayName;
+
+  /** 债权额比例的分子 */
+  private final int numerator;
+
+  /** 债权额比例的分母 */
+  private final int denominator;
+
+  /** 有财产担保的债权人是否不参与表决 */
+  private final boolean excludeSecured;
+
+  /** 是否按债权归类分组表决 */
+  private final boolean groupByClass;
+
+  MotionType(
+      String code,
+      String displayName,
+      int numerator,
+      int denominator,
+      boolean excludeSecured,
+      boolean groupByClass) {
+    this.code = code;
+    this.displayName = displayName;
+    this.numerator = numerator;
+    this.denominator = denominator;
+    this.excludeSecured = excludeSecured;
+    this.groupByClass = groupByClass;
+  }
+}
@@ -0,0 +1,19 @@
+package com.backend.debt.enums;
+
+import lombok.Getter;
+
+/** 修改接口的响应模式枚举 */
+@Getter
+public enum ResponseMode {
+  FULL("FULL", "返回完整数据"),
+  DELTA("DELTA", "只返回变更部分"),
+  ;
+
+  private final String code;
+  private final String displayName;
+
+  ResponseMode(String code, String displayName) {
+    this.code = code;
+    this.displayName = displayName;
+  }
+}
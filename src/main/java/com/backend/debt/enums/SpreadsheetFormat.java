@@ -0,0 +1,51 @@
+package com.backend.debt.enums;
+
+import java.util.Locale;
+import lombok.Getter;
+
+/** 表格文件格式枚举，用于台账导出与债权导入 */
+@Getter
+public enum SpreadsheetFormat {
+  CSV("CSV", "CSV 文件", "text/csv;charset=UTF-8", "csv"),
+  XLSX(
+      "XLSX",
+      "Excel 文件",
+      "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet",
+      "xlsx"),
+  ;
+
+  private final String code;
+  private final String displayName;
+
+  /** 响应的 Content-Type */
+  private final String contentType;
+
+  /** 文件扩展名 */
+  private final String extension;
+
+  SpreadsheetFormat(String code, String displayName, String contentType, String extension) {
+    this.code = code;
+    this.displayName = displayName;
+    this.contentType = contentType;
+    this.extension = extension;
+  }
+
+  /**
+   * 按文件扩展名匹配格式，不区分大小写
+   *
+   * @param fileName 文件名
+   * @return 文件格式，无法识别时返回 null
+   */
+  public static SpreadsheetFormat ofFileName(String fileName) {
+    if (fileName == null) {
+      return null;
+    }
+    String lowerName = fileName.toLowerCase(Locale.ROOT);
+    for (SpreadsheetFormat format : values()) {
+      if (lowerName.endsWith("." + format.extension)) {
+        return format;
+      }
+    }
+    return null;
+  }
+}
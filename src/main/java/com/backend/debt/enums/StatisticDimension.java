@@ -0,0 +1,43 @@
+package com.backend.debt.enums;
+
+import com.baomidou.mybatisplus.annotation.EnumValue;
+import lombok.Getter;
+
+/**
+ * 债权统计分组维度枚举
+ *
+ * <p>分组表达式直接拼接到统计 SQL 中，只能在此处以常量定义，不接受客户端传入的字段名。表别名：c 为债权申报，f 为申报详情，cf 为最新的确认信息。
+ */
+@Getter
+public enum StatisticDimension {
+  AUDITOR("AUDITOR", "审核人员", "c.auditor"),
+  CLAIM_CATEGORY("CLAIM_CATEGORY", "债权归类", "c.claim_category"),
+  CLAIM_NATURE("CLAIM_NATURE", "申报债权性质", "f.claim_nature"),
+  REVIEW_STATUS("REVIEW_STATUS", "审查状态", "COALESCE(cf.review_status, 'NOT_CONFIRMED')"),
+  CLAIM_DATE("CLAIM_DATE", "申报日期", "c.claim_date"),
+  ;
+
+  @EnumValue private final String code;
+  private final String displayName;
+  private final String column;
+
+  StatisticDimension(String code, String displayName, String column) {
+    this.code = code;
+    this.displayName = displayName;
+    this.column = column;
+  }
+
+  /**
+   * 生成分组表达式，结果统一转为文本
+   *
+   * @param dateBucket 按申报日期分组时的粒度，为空时按月
+   * @return 分组 SQL 表达式
+   */
+  public String groupExpression(DateBucket dateBucket) {
+    if (this == CLAIM_DATE) {
+      DateBucket bucket = dateBucket == null ? DateBucket.MONTH : dateBucket;
+      return "to_char(date_trunc('" + bucket.getTruncUnit() + "', " + column + "), 'YYYY-MM-DD')";
+    }
+    return column + "::text";
+  }
+}
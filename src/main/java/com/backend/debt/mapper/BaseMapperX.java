@@ -1,13 +1,14 @@
 package com.backend.debt.mapper;
 
+import com.backend.debt.config.mybatis.CountModePage;
+import com.backend.debt.enums.CountMode;
+import com.backend.debt.mapper.copy.PgCopyInserter;
 import com.backend.debt.model.page.PageParam;
 import com.backend.debt.model.page.PageResult;
-import com.backend.debt.util.MyBatisUtils;
 import com.baomidou.mybatisplus.core.conditions.Wrapper;
 import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
 import com.baomidou.mybatisplus.core.conditions.query.QueryWrapper;
 import com.baomidou.mybatisplus.core.mapper.BaseMapper;
-import com.baomidou.mybatisplus.core.metadata.IPage;
 import com.baomidou.mybatisplus.core.toolkit.support.SFunction;
 import com.baomidou.mybatisplus.extension.toolkit.Db;
 import java.util.Collection;
@@ -18,11 +19,33 @@ import org.apache.ibatis.annotations.Param;
 public interface BaseMapperX<T> extends BaseMapper<T> {
 
   default PageResult<T> selectPage(PageParam pageParam, @Param("ew") Wrapper<T> queryWrapper) {
+    return selectPage(pageParam, pageParam.getCountMode(), queryWrapper);
+  }
+
+  /**
+   * 分页查询，并指定总数统计方式
+   *
+   * @param pageParam 分页参数
+   * @param countMode 总数统计方式，为空时精确统计
+   * @param queryWrapper 查询条件
+   * @return 分页结果，不统计总数时 total 为空，通过 hasMore 判断是否还有下一页
+   */
+  default PageResult<T> selectPage(
+      PageParam pageParam, CountMode countMode, @Param("ew") Wrapper<T> queryWrapper) {
     // MyBatis Plus 查询
-    IPage<T> mpPage = MyBatisUtils.buildPage(pageParam);
+    CountModePage<T> mpPage =
+        new CountModePage<>(
+            pageParam.getPageNo(),
+            pageParam.getPageSize(),
+            countMode != null ? countMode : CountMode.EXACT);
     selectPage(mpPage, queryWrapper);
     // 转换返回
-    return new PageResult<>(mpPage.getRecords(), mpPage.getTotal());
+    PageResult<T> result =
+        new PageResult<>(
+            mpPage.getPageRecords(),
+            mpPage.getCountMode() == CountMode.NONE ? null : mpPage.getTotal());
+    result.setHasMore(mpPage.hasMore());
+    return result;
   }
 
   default T selectOne(String field, Object value) {
@@ -97,6 +120,20 @@ public interface BaseMapperX<T> extends BaseMapper<T> {
     Db.saveBatch(entities, size);
   }
 
+  /**
+   * 使用 PostgreSQL COPY 批量插入，适合一次写入成千上万行
+   *
+   * <p>整批一次往返写入，不经过逐行的 SQL 解析和参数绑定，行数越多比 {@link #insertBatch(Collection, int)} 的 JDBC 批量
+   * INSERT 越快，实际差距取决于行宽、网络延迟和表上的索引。
+   * 没有 ON CONFLICT 等写入控制，任一行违反约束时整批失败。
+   *
+   * @param entities 实体们
+   * @return 插入行数
+   */
+  default long copyInsert(Collection<T> entities) {
+    return PgCopyInserter.copyInsert(entities);
+  }
+
   default void updateBatch(T update) {
     update(update, new QueryWrapper<>());
   }
@@ -2,7 +2,14 @@ package com.backend.debt.mapper;
 
 import com.backend.debt.mapper.query.LambdaQueryWrapperX;
 import com.backend.debt.model.entity.ClaimConfirmEntity;
+import com.baomidou.mybatisplus.core.toolkit.IdWorker;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.apache.ibatis.annotations.Insert;
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.annotations.Select;
+import org.apache.ibatis.annotations.Update;
 
 /** 申报确认信息Mapper接口 */
 @Mapper
@@ -13,4 +20,125 @@ public interface ClaimConfirmMapper extends BaseMapperX<ClaimConfirmEntity> {
         new LambdaQueryWrapperX<ClaimConfirmEntity>()
             .eq(ClaimConfirmEntity::getClaimFillingId, claimFillingId));
   }
+
+  /**
+   * 查询申报详情最新的一条确认信息，与详情、统计中的取值规则一致
+   *
+   * @param claimFillingId 申报详情ID
+   * @return 确认信息，没有时返回 null
+   */
+  default ClaimConfirmEntity selectLatestByClaimFillingId(String claimFillingId) {
+    return this.selectOne(
+        new LambdaQueryWrapperX<ClaimConfirmEntity>()
+            .limitN(1)
+            .eq(ClaimConfirmEntity::getClaimFillingId, claimFillingId)
+            .orderByDesc(ClaimConfirmEntity::getUpdateTime));
+  }
+
+  /**
+   * 查询债权申报下所有申报详情的确认信息
+   *
+   * <p>通过子查询关联申报详情，不依赖先查出的申报详情ID，可以与申报详情查询并行执行。
+   *
+   * @param claimId 债权申报ID
+   * @return 确认信息列表
+   */
+  default List<ClaimConfirmEntity> selectListByClaimId(String claimId) {
+    return this.selectList(
+        new LambdaQueryWrapperX<ClaimConfirmEntity>()
+            .apply(
+                "claim_filling_id IN (SELECT id FROM claim_filling"
+                    + " WHERE claim_id = {0} AND deleted = false)",
+                claimId));
+  }
+
+  /**
+   * 批量查询申报详情最新的一条确认信息，取值规则与 {@link #selectLatestByClaimFillingId} 一致
+   *
+   * @param claimFillingIds 申报详情ID
+   * @return 确认信息，没有确认信息的申报详情不在结果中
+   */
+  @Select(
+      "SELECT DISTINCT ON (claim_filling_id) * FROM claim_confirm"
+          + " WHERE claim_filling_id = ANY(#{claimFillingIds,"
+          + " typeHandler=org.apache.ibatis.type.ArrayTypeHandler})"
+          + " AND deleted = false"
+          + " ORDER BY claim_filling_id, update_time DESC")
+  List<ClaimConfirmEntity> selectLatestByClaimFillingIds(
+      @Param("claimFillingIds") String[] claimFillingIds);
+
+  /**
+   * 新增或更新确认信息，申报详情已有未删除的确认信息时更新该条，一条语句完成
+   *
+   * <p>依赖 claim_filling_id 上的部分唯一索引（deleted = false），并发写入同一申报详情不会产生重复的确认信息。
+   * 主键、创建与更新时间未设置时在这里补齐，版本号未设置时按0处理。写入后的ID与版本号通过 {@link #selectLatestByClaimFillingId} 重新读取。
+   *
+   * @param entity 确认信息
+   * @return 影响行数，已有确认信息的版本号与实体不一致时为0
+   */
+  default int upsert(ClaimConfirmEntity entity) {
+    if (entity.getId() == null) {
+      entity.setId(IdWorker.get32UUID());
+    }
+    LocalDateTime now = LocalDateTime.now();
+    if (entity.getCreateTime() == null) {
+      entity.setCreateTime(now);
+    }
+    if (entity.getUpdateTime() == null) {
+      entity.setUpdateTime(now);
+    }
+    if (entity.getVersion() == null) {
+      entity.setVersion(0);
+    }
+    return upsertBatch(List.of(entity));
+  }
+
+  /**
+   * 批量新增或更新确认信息，申报详情已有未删除的确认信息时更新该条
+   *
+   * <p>一条多行 INSERT 完成，不经过 MyBatis Plus 的自动填充，主键、创建与更新时间和版本号需要提前设置。同一批中申报详情ID不能重复。
+   * 已有确认信息只在版本号与实体的版本号一致时更新，并将版本号加一，不一致的说明读取之后已被修改，不更新。
+   * 更新已有确认信息时保留已有的ID，写入后的ID与版本号通过 {@link #selectLatestByClaimFillingIds} 重新读取。
+   *
+   * @param entities 确认信息
+   * @return 影响行数，即新增与更新的条数之和，版本号不一致未更新的不计入
+   */
+  @Insert(
+      "<script>"
+          + "INSERT INTO claim_confirm (id, claim_filling_id, review_status, confirmed_principal,"
+          + " confirmed_interest, confirmed_other, claim_nature, review_reason, create_time,"
+          + " update_time, version) VALUES"
+          + "<foreach collection=\"entities\" item=\"e\" separator=\",\">"
+          + " (#{e.id}, #{e.claimFillingId}, #{e.reviewStatus}, #{e.confirmedPrincipal},"
+          + " #{e.confirmedInterest}, #{e.confirmedOther}, #{e.claimNature}, #{e.reviewReason},"
+          + " #{e.createTime}, #{e.updateTime}, #{e.version})"
+          + "</foreach>"
+          + " ON CONFLICT (claim_filling_id) WHERE deleted = false DO UPDATE SET"
+          + " review_status = EXCLUDED.review_status,"
+          + " confirmed_principal = EXCLUDED.confirmed_principal,"
+          + " confirmed_interest = EXCLUDED.confirmed_interest,"
+          + " confirmed_other = EXCLUDED.confirmed_other,"
+          + " claim_nature = EXCLUDED.claim_nature,"
+          + " review_reason = EXCLUDED.review_reason,"
+          + " update_time = EXCLUDED.update_time,"
+          + " version = claim_confirm.version + 1"
+          + " WHERE claim_confirm.version = EXCLUDED.version"
+          + "</script>")
+  int upsertBatch(@Param("entities") List<ClaimConfirmEntity> entities);
+
+  /**
+   * 按债权申报ID批量逻辑删除确认信息
+   *
+   * <p>通过子查询关联申报详情，不限定申报详情是否已删除，可以在删除申报详情之后执行。
+   *
+   * @param claimIds 债权申报ID
+   * @return 影响行数
+   */
+  @Update(
+      "UPDATE claim_confirm SET deleted = true, update_time = now()"
+          + " WHERE claim_filling_id IN (SELECT id FROM claim_filling"
+          + " WHERE claim_id = ANY(#{claimIds,"
+          + " typeHandler=org.apache.ibatis.type.ArrayTypeHandler}))"
+          + " AND deleted = false")
+  int softDeleteByClaimIds(@Param("claimIds") String[] claimIds);
 }
@@ -1,8 +1,56 @@
 package com.backend.debt.mapper;
 
+import com.backend.debt.mapper.query.LambdaQueryWrapperX;
 import com.backend.debt.model.entity.ClaimFillingEntity;
+import java.util.List;
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.annotations.Select;
+import org.apache.ibatis.annotations.Update;
 
 /** 债权申报登记Mapper接口 */
 @Mapper
-public interface ClaimFillingMapper extends BaseMapperX<ClaimFillingEntity> {}
+public interface ClaimFillingMapper extends BaseMapperX<ClaimFillingEntity> {
+
+  /**
+   * 查询并锁定申报详情，申报详情及其确认信息的并发写入在此排队，锁定后读到的详情和确认信息在事务结束前不会被其他写入修改
+   *
+   * @param id 申报详情ID
+   * @return 申报详情，不存在或已删除时返回 null
+   */
+  default ClaimFillingEntity selectByIdForUpdate(String id) {
+    return this.selectOne(
+        new LambdaQueryWrapperX<ClaimFillingEntity>()
+            .eq(ClaimFillingEntity::getId, id)
+            .last("FOR UPDATE"));
+  }
+
+  /**
+   * 批量查询并锁定申报详情，只返回所属债权未删除的记录
+   *
+   * <p>按主键顺序加锁，与其他批量写入同时执行时不会互相死锁。
+   *
+   * @param ids 申报详情ID
+   * @return 申报详情，不存在或已删除的不在结果中
+   */
+  @Select(
+      "SELECT f.* FROM claim_filling f"
+          + " JOIN claim c ON c.id = f.claim_id AND c.deleted = false"
+          + " WHERE f.id = ANY(#{ids, typeHandler=org.apache.ibatis.type.ArrayTypeHandler})"
+          + " AND f.deleted = false"
+          + " ORDER BY f.id FOR UPDATE OF f")
+  List<ClaimFillingEntity> selectByIdsWithLiveClaimForUpdate(@Param("ids") String[] ids);
+
+  /**
+   * 按债权申报ID批量逻辑删除申报详情
+   *
+   * @param claimIds 债权申报ID
+   * @return 影响行数
+   */
+  @Update(
+      "UPDATE claim_filling SET deleted = true, update_time = now()"
+          + " WHERE claim_id = ANY(#{claimIds,"
+          + " typeHandler=org.apache.ibatis.type.ArrayTypeHandler})"
+          + " AND deleted = false")
+  int softDeleteByClaimIds(@Param("claimIds") String[] claimIds);
+}
@@ -1,8 +1,252 @@
 package com.backend.debt.mapper;
 
+import com.backend.debt.model.dto.confirm.statistic.PortfolioStatisticDto;
+import com.backend.debt.model.entity.ClaimDetailAggregate;
 import com.backend.debt.model.entity.ClaimEntity;
+import com.backend.debt.model.entity.ClaimLedgerRow;
+import com.backend.debt.model.query.ClaimLedgerExportQuery;
+import com.backend.debt.model.query.PortfolioStatisticQuery;
+import java.util.List;
+import org.apache.ibatis.annotations.Insert;
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Options;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.annotations.Select;
+import org.apache.ibatis.annotations.Update;
+import org.apache.ibatis.cursor.Cursor;
+import org.apache.ibatis.mapping.ResultSetType;
 
 /** 申报详情Mapper接口 */
 @Mapper
-public interface ClaimMapper extends BaseMapperX<ClaimEntity> {}
+public interface ClaimMapper extends BaseMapperX<ClaimEntity> {
+
+  /**
+   * 新增债权申报，债权编号与未删除的记录冲突时不插入
+   *
+   * <p>依赖 claim_number 上的部分唯一索引（deleted = false），判重与插入在一条语句内完成。主键与创建、更新时间由 MyBatis Plus 自动填充。
+   *
+   * @param entity 债权申报实体
+   * @return 插入行数，债权编号已存在时返回0
+   */
+  @Insert(
+      "INSERT INTO claim (id, claim_number, registrar, claim_date, claim_types, auditor,"
+          + " claim_category, material_status, agent_name, agent_position, agent_phone,"
+          + " has_voting_right, recipient, contact_phone, mailing_address, email, create_time,"
+          + " update_time)"
+          + " VALUES (#{id}, #{claimNumber}, #{registrar}, #{claimDate},"
+          + " #{claimTypes, typeHandler=com.backend.debt.mapper.handler.StringListTypeHandler},"
+          + " #{auditor}, #{claimCategory}, #{materialStatus}, #{agentName}, #{agentPosition},"
+          + " #{agentPhone}, #{hasVotingRight}, #{recipient}, #{contactPhone}, #{mailingAddress},"
+          + " #{email}, #{createTime}, #{updateTime})"
+          + " ON CONFLICT (claim_number) WHERE deleted = false DO NOTHING")
+  int insertIfAbsent(ClaimEntity entity);
+
+  /**
+   * 批量新增债权申报，债权编号与未删除的记录冲突的行不插入
+   *
+   * <p>一条多行 INSERT 完成，不经过 MyBatis Plus 的自动填充，主键与创建、更新时间需要提前设置。插入行数少于实体数时，通过
+   * {@link #selectExistingIds(String[])} 查询哪些主键已写入。
+   *
+   * @param entities 债权申报实体
+   * @return 插入行数
+   */
+  @Insert(
+      "<script>"
+          + "INSERT INTO claim (id, claim_number, registrar, claim_date, claim_types, auditor,"
+          + " claim_category, material_status, agent_name, agent_position, agent_phone,"
+          + " has_voting_right, recipient, contact_phone, mailing_address, email, create_time,"
+          + " update_time) VALUES"
+          + "<foreach collection=\"entities\" item=\"e\" separator=\",\">"
+          + " (#{e.id}, #{e.claimNumber}, #{e.registrar}, #{e.claimDate},"
+          + " #{e.claimTypes, typeHandler=com.backend.debt.mapper.handler.StringListTypeHandler},"
+          + " #{e.auditor}, #{e.claimCategory}, #{e.materialStatus}, #{e.agentName},"
+          + " #{e.agentPosition}, #{e.agentPhone}, #{e.hasVotingRight}, #{e.recipient},"
+          + " #{e.contactPhone}, #{e.mailingAddress}, #{e.email}, #{e.createTime},"
+          + " #{e.updateTime})"
+          + "</foreach>"
+          + " ON CONFLICT (claim_number) WHERE deleted = false DO NOTHING"
+          + "</script>")
+  int insertBatchIfAbsent(@Param("entities") List<ClaimEntity> entities);
+
+  /**
+   * 查询已存在的主键
+   *
+   * @param ids 主键
+   * @return 其中已存在的主键，包括已删除的记录
+   */
+  @Select(
+      "SELECT id FROM claim"
+          + " WHERE id = ANY(#{ids, typeHandler=org.apache.ibatis.type.ArrayTypeHandler})")
+  List<String> selectExistingIds(@Param("ids") String[] ids);
+
+  /**
+   * 批量查询并锁定未删除的债权申报
+   *
+   * <p>按主键顺序加锁，与其他批量删除同时执行时不会互相死锁。锁定后到事务结束前，其他请求不能删除或修改这些债权。
+   *
+   * @param claimIds 债权申报ID
+   * @return 其中未删除的债权申报ID
+   */
+  @Select(
+      "SELECT id FROM claim"
+          + " WHERE id = ANY(#{claimIds, typeHandler=org.apache.ibatis.type.ArrayTypeHandler})"
+          + " AND deleted = false"
+          + " ORDER BY id FOR UPDATE")
+  List<String> selectLiveIdsForUpdate(@Param("claimIds") String[] claimIds);
+
+  /**
+   * 批量逻辑删除债权申报
+   *
+   * <p>一条语句完成，不存在或已删除的债权跳过。需要知道删除了哪些债权时，先在同一事务内调用 {@link
+   * #selectLiveIdsForUpdate(String[])} 锁定。
+   *
+   * @param claimIds 债权申报ID
+   * @return 删除行数
+   */
+  @Update(
+      "UPDATE claim SET deleted = true, update_time = now()"
+          + " WHERE id = ANY(#{claimIds,"
+          + " typeHandler=org.apache.ibatis.type.ArrayTypeHandler})"
+          + " AND deleted = false")
+  int softDeleteByIds(@Param("claimIds") String[] claimIds);
+
+  /**
+   * 查询已存在的债权编号
+   *
+   * @param claimNumbers 债权编号
+   * @return 其中未删除的记录已使用的债权编号
+   */
+  @Select(
+      "SELECT claim_number FROM claim"
+          + " WHERE claim_number = ANY(#{claimNumbers,"
+          + " typeHandler=org.apache.ibatis.type.ArrayTypeHandler})"
+          + " AND deleted = false")
+  List<String> selectExistingClaimNumbers(@Param("claimNumbers") String[] claimNumbers);
+
+  /**
+   * 一次查询债权申报及其债权人、申报详情和确认信息
+   *
+   * <p>债权人与申报详情分别通过 json_agg 聚合，申报详情左连接最新的一条确认信息，申报金额汇总取自汇总表，整个聚合以一个 json 列返回，
+   * 由 {@link com.backend.debt.mapper.handler.ClaimDetailAggregateTypeHandler} 解析。
+   *
+   * @param claimId 债权申报ID
+   * @return 债权申报聚合，记录不存在时返回 null
+   */
+  @Select(
+      "SELECT json_build_object("
+          + " 'claim', to_jsonb(c) - 'create_time' - 'update_time'"
+          + "   || jsonb_build_object('claim_types',"
+          + "     array_remove(regexp_split_to_array(btrim(c.claim_types), '\\s*,\\s*'), '')),"
+          + " 'creditors', COALESCE("
+          + "   (SELECT json_agg(to_jsonb(cr) - 'create_time' - 'update_time'"
+          + "       ORDER BY cr.create_time, cr.id)"
+          + "    FROM creditor cr WHERE cr.claim_id = c.id AND cr.deleted = false), '[]'::json),"
+          + " 'fillings', COALESCE("
+          + "   (SELECT json_agg(json_build_object("
+          + "       'filling', to_jsonb(f) - 'create_time' - 'update_time',"
+          + "       'confirm', to_jsonb(cf) - 'create_time' - 'update_time')"
+          + "       ORDER BY f.create_time, f.id)"
+          + "    FROM claim_filling f"
+          + "    LEFT JOIN LATERAL (SELECT * FROM claim_confirm x"
+          + "      WHERE x.claim_filling_id = f.id AND x.deleted = false"
+          + "      ORDER BY x.update_time DESC LIMIT 1) cf ON true"
+          + "    WHERE f.claim_id = c.id AND f.deleted = false), '[]'::json),"
+          + " 'summary', (SELECT to_jsonb(s) - 'update_time'"
+          + "    FROM claim_summary s WHERE s.claim_id = c.id)"
+          + ") AS detail"
+          + " FROM claim c WHERE c.id = #{claimId} AND c.deleted = false")
+  ClaimDetailAggregate selectDetailAggregate(@Param("claimId") String claimId);
+
+  /**
+   * 按维度分组统计全部债权的申报与确认金额
+   *
+   * <p>只统计有申报详情的债权，每笔申报详情只取最新的一条确认信息，在数据库内一次扫描完成分组求和。
+   *
+   * @param groupExpression 分组表达式，只能来自 {@link com.backend.debt.enums.StatisticDimension}
+   * @param query 统计查询参数
+   * @return 各分组的统计，按分组值排序
+   */
+  @Select(
+      "<script>"
+          + "SELECT ${groupExpression} AS group_key,"
+          + " count(DISTINCT c.id) AS claim_count,"
+          + " count(*) AS filling_count,"
+          + " sum(COALESCE(f.claim_principal, 0) + COALESCE(f.claim_interest, 0)"
+          + "   + COALESCE(f.claim_other, 0)) AS declared_amount,"
+          + " count(*) FILTER (WHERE cf.review_status IN ('CONFIRM_ALL', 'CONFIRM_PART'))"
+          + "   AS confirmed_count,"
+          + " COALESCE(sum(COALESCE(cf.confirmed_principal, 0) + COALESCE(cf.confirmed_interest, 0)"
+          + "   + COALESCE(cf.confirmed_other, 0))"
+          + "   FILTER (WHERE cf.review_status IN ('CONFIRM_ALL', 'CONFIRM_PART')), 0)"
+          + "   AS confirmed_amount,"
+          + " count(*) FILTER (WHERE cf.review_status = 'CONFIRM_SUSPEND') AS suspend_count,"
+          + " COALESCE(sum(COALESCE(f.claim_principal, 0) + COALESCE(f.claim_interest, 0)"
+          + "   + COALESCE(f.claim_other, 0))"
+          + "   FILTER (WHERE cf.review_status = 'CONFIRM_SUSPEND'), 0) AS suspend_amount,"
+          + " count(*) FILTER (WHERE cf.review_status = 'CONFIRM_REJECT') AS reject_count,"
+          + " COALESCE(sum(COALESCE(f.claim_principal, 0) + COALESCE(f.claim_interest, 0)"
+          + "   + COALESCE(f.claim_other, 0))"
+          + "   FILTER (WHERE cf.review_status = 'CONFIRM_REJECT'), 0) AS reject_amount,"
+          + " count(*) FILTER (WHERE cf.review_status IS NULL"
+          + "   OR cf.review_status = 'NOT_CONFIRMED') AS unconfirmed_count"
+          + " FROM claim c"
+          + " JOIN claim_filling f ON f.claim_id = c.id AND f.deleted = false"
+          + " LEFT JOIN LATERAL (SELECT * FROM claim_confirm x"
+          + "   WHERE x.claim_filling_id = f.id AND x.deleted = false"
+          + "   ORDER BY x.update_time DESC LIMIT 1) cf ON true"
+          + " WHERE c.deleted = false"
+          + "<if test=\"query.startClaimDate != null\">"
+          + " AND c.claim_date &gt;= #{query.startClaimDate}</if>"
+          + "<if test=\"query.endClaimDate != null\">"
+          + " AND c.claim_date &lt;= #{query.endClaimDate}</if>"
+          + " GROUP BY 1 ORDER BY 1 NULLS LAST"
+          + "</script>")
+  List<PortfolioStatisticDto> selectPortfolioStatistic(
+      @Param("groupExpression") String groupExpression,
+      @Param("query") PortfolioStatisticQuery query);
+
+  /** 台账导出时每次从数据库读取的行数 */
+  int LEDGER_FETCH_SIZE = 1000;
+
+  /**
+   * 以游标方式查询债权台账，每笔申报详情一行
+   *
+   * <p>债权人按创建顺序拼接，申报详情左连接最新的一条确认信息，没有申报详情的债权也输出一行。PostgreSQL 只有在事务内（关闭自动提交）才会按
+   * fetchSize 分批读取，调用方需要在只读事务内遍历游标。
+   *
+   * <p>未删除债权的债权编号唯一，排序不需要再加债权ID。不带筛选条件导出全部债权时，执行计划按唯一索引 uk_claim_claim_number
+   * 顺序扫描债权，只对同一债权的申报详情做增量排序（Incremental Sort），不需要先对整个结果排序，首批数据立即返回。带审核人或申报日期
+   * 条件时，执行计划可能改为先按条件筛选再整体排序，排序的只是筛选后的结果，数据量由筛选条件限定。
+   *
+   * @param query 导出查询参数
+   * @return 台账行游标，按债权编号、申报详情创建时间排序
+   */
+  @Select(
+      "<script>"
+          + "SELECT c.id AS claim_id, c.claim_number, c.claim_date, c.registrar, c.auditor,"
+          + " c.claim_category, c.has_voting_right,"
+          + " cr.creditor_names, cr.creditor_identification_numbers,"
+          + " f.id AS filling_id, f.claim_nature, f.collateral_details,"
+          + " f.claim_principal, f.claim_interest, f.claim_other,"
+          + " cf.review_status, cf.confirmed_principal, cf.confirmed_interest, cf.confirmed_other,"
+          + " cf.claim_nature AS confirm_nature, cf.review_reason"
+          + " FROM claim c"
+          + " LEFT JOIN LATERAL (SELECT"
+          + "   string_agg(x.name, '、' ORDER BY x.create_time, x.id) AS creditor_names,"
+          + "   string_agg(COALESCE(x.identification_number, ''), '、' ORDER BY x.create_time, x.id)"
+          + "     AS creditor_identification_numbers"
+          + "   FROM creditor x WHERE x.claim_id = c.id AND x.deleted = false) cr ON true"
+          + " LEFT JOIN claim_filling f ON f.claim_id = c.id AND f.deleted = false"
+          + ClaimStatisticMapper.LATEST_CONFIRM_JOIN
+          + " WHERE c.deleted = false"
+          + "<if test=\"query.auditor != null and query.auditor != ''\">"
+          + " AND c.auditor = #{query.auditor}</if>"
+          + "<if test=\"query.startClaimDate != null\">"
+          + " AND c.claim_date &gt;= #{query.startClaimDate}</if>"
+          + "<if test=\"query.endClaimDate != null\">"
+          + " AND c.claim_date &lt;= #{query.endClaimDate}</if>"
+          + " ORDER BY c.claim_number, f.create_time, f.id"
+          + "</script>")
+  @Options(resultSetType = ResultSetType.FORWARD_ONLY, fetchSize = LEDGER_FETCH_SIZE)
+  Cursor<ClaimLedgerRow> selectLedgerCursor(@Param("query") ClaimLedgerExportQuery query);
+}
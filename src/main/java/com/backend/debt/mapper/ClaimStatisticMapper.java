@@ -0,0 +1,258 @@
+package com.backend.debt.mapper;
+
+import com.backend.debt.model.entity.ClaimStatisticEntity;
+import java.util.List;
+import org.apache.ibatis.annotations.Delete;
+import org.apache.ibatis.annotations.Insert;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.annotations.Select;
+import org.apache.ibatis.annotations.Update;
+
+/** 债权确认统计快照Mapper接口 */
+@Mapper
+public interface ClaimStatisticMapper extends BaseMapperX<ClaimStatisticEntity> {
+
+  /** 申报详情 f 左连接其最新的一条确认信息 cf */
+  String LATEST_CONFIRM_JOIN =
+      " LEFT JOIN LATERAL (SELECT * FROM claim_confirm x"
+          + "   WHERE x.claim_filling_id = f.id AND x.deleted = false"
+          + "   ORDER BY x.update_time DESC LIMIT 1) cf ON true";
+
+  /**
+   * 按首次出现的顺序去重拼接：array_agg 按申报详情的创建时间、ID 排序收集文本，展开后每个文本取第一次出现的位置排序
+   *
+   * <p>中间接 array_agg 的参数与 FILTER，以 {@link #JOIN_DISTINCT_END} 结尾。
+   */
+  String JOIN_DISTINCT_START =
+      " (SELECT string_agg(v, '、' ORDER BY o)"
+          + "   FROM (SELECT v, min(o) AS o FROM unnest(array_agg(";
+
+  /** 见 {@link #JOIN_DISTINCT_START} */
+  String JOIN_DISTINCT_END = ") WITH ORDINALITY AS u(v, o) GROUP BY v) d)";
+
+  /**
+   * 去重拼接的文本列：确认担保物明细、确认性质、暂缓确认性质、不予确认原因
+   *
+   * <p>拼接顺序为各文本在申报详情中首次出现的顺序，与 {@link
+   * com.backend.debt.service.statistic.ConfirmStatisticAccumulator} 按创建时间、ID 顺序累加的结果一致。
+   */
+  String TEXT_COLUMNS =
+      JOIN_DISTINCT_START
+          + "f.collateral_details ORDER BY f.create_time, f.id)"
+          + "   FILTER (WHERE cf.review_status IN ('CONFIRM_ALL', 'CONFIRM_PART')"
+          + "     AND f.collateral_details <> '')"
+          + JOIN_DISTINCT_END
+          + " AS confirmed_collateral_details,"
+          + JOIN_DISTINCT_START
+          + "cf.claim_nature ORDER BY f.create_time, f.id)"
+          + "   FILTER (WHERE cf.review_status IN ('CONFIRM_ALL', 'CONFIRM_PART')"
+          + "     AND cf.claim_nature <> '')"
+          + JOIN_DISTINCT_END
+          + " AS confirmed_nature,"
+          + JOIN_DISTINCT_START
+          + "cf.claim_nature ORDER BY f.create_time, f.id)"
+          + "   FILTER (WHERE cf.review_status = 'CONFIRM_SUSPEND'"
+          + "     AND cf.claim_nature <> '')"
+          + JOIN_DISTINCT_END
+          + " AS suspend_nature,"
+          + JOIN_DISTINCT_START
+          + "cf.review_reason ORDER BY f.create_time, f.id)"
+          + "   FILTER (WHERE cf.review_status = 'CONFIRM_REJECT'"
+          + "     AND cf.review_reason <> '')"
+          + JOIN_DISTINCT_END
+          + " AS reject_reason";
+
+  /** 快照表除主键和更新时间外的全部列，与 {@link #AGGREGATE_COLUMNS} 的顺序一致 */
+  String SNAPSHOT_COLUMNS =
+      "filling_count, unconfirmed_count, all_confirm_count, part_confirm_count, suspend_count,"
+          + " reject_count, confirmed_principal, confirmed_interest, confirmed_other,"
+          + " deduction_amount, suspend_principal, suspend_interest, suspend_other,"
+          + " reject_principal, reject_interest, reject_other, confirmed_collateral_details,"
+          + " confirmed_nature, suspend_nature, reject_reason";
+
+  /** 按审查状态分组求和的聚合列，申报详情为空时笔数与金额均为0 */
+  String AGGREGATE_COLUMNS =
+      " count(f.id),"
+          + " count(f.id) FILTER (WHERE cf.review_status IS NULL"
+          + "   OR cf.review_status = 'NOT_CONFIRMED'),"
+          + " count(f.id) FILTER (WHERE cf.review_status = 'CONFIRM_ALL'),"
+          + " count(f.id) FILTER (WHERE cf.review_status = 'CONFIRM_PART'),"
+          + " count(f.id) FILTER (WHERE cf.review_status = 'CONFIRM_SUSPEND'),"
+          + " count(f.id) FILTER (WHERE cf.review_status = 'CONFIRM_REJECT'),"
+          + " COALESCE(sum(COALESCE(cf.confirmed_principal, 0))"
+          + "   FILTER (WHERE cf.review_status IN ('CONFIRM_ALL', 'CONFIRM_PART')), 0),"
+          + " COALESCE(sum(COALESCE(cf.confirmed_interest, 0))"
+          + "   FILTER (WHERE cf.review_status IN ('CONFIRM_ALL', 'CONFIRM_PART')), 0),"
+          + " COALESCE(sum(COALESCE(cf.confirmed_other, 0))"
+          + "   FILTER (WHERE cf.review_status IN ('CONFIRM_ALL', 'CONFIRM_PART')), 0),"
+          + " COALESCE(sum(COALESCE(f.claim_principal, 0) + COALESCE(f.claim_interest, 0)"
+          + "     + COALESCE(f.claim_other, 0)"
+          + "   - CASE WHEN cf.review_status = 'CONFIRM_PART'"
+          + "     THEN COALESCE(cf.confirmed_principal, 0) + COALESCE(cf.confirmed_interest, 0)"
+          + "       + COALESCE(cf.confirmed_other, 0)"
+          + "     ELSE 0 END)"
+          + "   FILTER (WHERE cf.review_status IN ('CONFIRM_PART', 'CONFIRM_REJECT')), 0),"
+          + " COALESCE(sum(COALESCE(f.claim_principal, 0))"
+          + "   FILTER (WHERE cf.review_status = 'CONFIRM_SUSPEND'), 0),"
+          + " COALESCE(sum(COALESCE(f.claim_interest, 0))"
+          + "   FILTER (WHERE cf.review_status = 'CONFIRM_SUSPEND'), 0),"
+          + " COALESCE(sum(COALESCE(f.claim_other, 0))"
+          + "   FILTER (WHERE cf.review_status = 'CONFIRM_SUSPEND'), 0),"
+          + " COALESCE(sum(COALESCE(f.claim_principal, 0))"
+          + "   FILTER (WHERE cf.review_status = 'CONFIRM_REJECT'), 0),"
+          + " COALESCE(sum(COALESCE(f.claim_interest, 0))"
+          + "   FILTER (WHERE cf.review_status = 'CONFIRM_REJECT'), 0),"
+          + " COALESCE(sum(COALESCE(f.claim_other, 0))"
+          + "   FILTER (WHERE cf.review_status = 'CONFIRM_REJECT'), 0),"
+          + TEXT_COLUMNS;
+
+  /**
+   * 批量查询统计快照，ID 以数组参数传入，语句与参数个数无关
+   *
+   * @param claimIds 债权申报ID
+   * @return 统计快照，没有快照的债权不在结果中
+   */
+  @Select(
+      "SELECT * FROM claim_statistic"
+          + " WHERE claim_id = ANY(#{claimIds, typeHandler=org.apache.ibatis.type.ArrayTypeHandler})")
+  List<ClaimStatisticEntity> selectByClaimIds(@Param("claimIds") String[] claimIds);
+
+  /**
+   * 累加笔数与金额增量，快照不存在时以增量作为初始值插入
+   *
+   * @param claimId 债权申报ID
+   * @param delta 笔数与金额增量，文本列忽略
+   * @return 影响行数
+   */
+  @Insert(
+      "INSERT INTO claim_statistic (claim_id, filling_count, unconfirmed_count,"
+          + " all_confirm_count, part_confirm_count, suspend_count, reject_count,"
+          + " confirmed_principal, confirmed_interest, confirmed_other, deduction_amount,"
+          + " suspend_principal, suspend_interest, suspend_other,"
+          + " reject_principal, reject_interest, reject_other, update_time)"
+          + " VALUES (#{claimId}, #{delta.fillingCount}, #{delta.unconfirmedCount},"
+          + " #{delta.allConfirmCount}, #{delta.partConfirmCount}, #{delta.suspendCount},"
+          + " #{delta.rejectCount}, #{delta.confirmedPrincipal}, #{delta.confirmedInterest},"
+          + " #{delta.confirmedOther}, #{delta.deductionAmount}, #{delta.suspendPrincipal},"
+          + " #{delta.suspendInterest}, #{delta.suspendOther}, #{delta.rejectPrincipal},"
+          + " #{delta.rejectInterest}, #{delta.rejectOther}, now())"
+          + " ON CONFLICT (claim_id) DO UPDATE SET"
+          + " filling_count = claim_statistic.filling_count + EXCLUDED.filling_count,"
+          + " unconfirmed_count = claim_statistic.unconfirmed_count + EXCLUDED.unconfirmed_count,"
+          + " all_confirm_count = claim_statistic.all_confirm_count + EXCLUDED.all_confirm_count,"
+          + " part_confirm_count ="
+          + "   claim_statistic.part_confirm_count + EXCLUDED.part_confirm_count,"
+          + " suspend_count = claim_statistic.suspend_count + EXCLUDED.suspend_count,"
+          + " reject_count = claim_statistic.reject_count + EXCLUDED.reject_count,"
+          + " confirmed_principal ="
+          + "   claim_statistic.confirmed_principal + EXCLUDED.confirmed_principal,"
+          + " confirmed_interest ="
+          + "   claim_statistic.confirmed_interest + EXCLUDED.confirmed_interest,"
+          + " confirmed_other = claim_statistic.confirmed_other + EXCLUDED.confirmed_other,"
+          + " deduction_amount = claim_statistic.deduction_amount + EXCLUDED.deduction_amount,"
+          + " suspend_principal = claim_statistic.suspend_principal + EXCLUDED.suspend_principal,"
+          + " suspend_interest = claim_statistic.suspend_interest + EXCLUDED.suspend_interest,"
+          + " suspend_other = claim_statistic.suspend_other + EXCLUDED.suspend_other,"
+          + " reject_principal = claim_statistic.reject_principal + EXCLUDED.reject_principal,"
+          + " reject_interest = claim_statistic.reject_interest + EXCLUDED.reject_interest,"
+          + " reject_other = claim_statistic.reject_other + EXCLUDED.reject_other,"
+          + " update_time = now()")
+  int applyDelta(@Param("claimId") String claimId, @Param("delta") ClaimStatisticEntity delta);
+
+  /**
+   * 根据未删除的申报详情及其最新确认信息刷新去重拼接的文本列
+   *
+   * @param claimId 债权申报ID
+   * @return 影响行数
+   */
+  @Update(
+      "UPDATE claim_statistic s SET"
+          + " confirmed_collateral_details = a.confirmed_collateral_details,"
+          + " confirmed_nature = a.confirmed_nature,"
+          + " suspend_nature = a.suspend_nature,"
+          + " reject_reason = a.reject_reason"
+          + " FROM (SELECT"
+          + TEXT_COLUMNS
+          + "   FROM claim_filling f"
+          + LATEST_CONFIRM_JOIN
+          + "   WHERE f.claim_id = #{claimId} AND f.deleted = false) a"
+          + " WHERE s.claim_id = #{claimId}")
+  int refreshTexts(@Param("claimId") String claimId);
+
+  /**
+   * 根据申报详情与确认信息重新计算一批债权的快照，只覆盖与计算结果不一致的记录
+   *
+   * <p>最近 graceSeconds 秒内被增量更新过的快照不覆盖，避免用语句开始时读到的旧数据覆盖并发事务刚提交的增量。
+   *
+   * @param claimIds 债权申报ID
+   * @param graceSeconds 跳过最近更新过的快照的时间窗口（秒），为0时全部覆盖
+   * @return 新增或修复的快照数量
+   */
+  @Insert(
+      "INSERT INTO claim_statistic (claim_id, "
+          + SNAPSHOT_COLUMNS
+          + ", update_time)"
+          + " SELECT c.id,"
+          + AGGREGATE_COLUMNS
+          + ", now()"
+          + " FROM claim c"
+          + " LEFT JOIN claim_filling f ON f.claim_id = c.id AND f.deleted = false"
+          + LATEST_CONFIRM_JOIN
+          + " WHERE c.id = ANY(#{claimIds, typeHandler=org.apache.ibatis.type.ArrayTypeHandler})"
+          + " AND c.deleted = false"
+          + " GROUP BY c.id"
+          + " ON CONFLICT (claim_id) DO UPDATE SET ("
+          + SNAPSHOT_COLUMNS
+          + ", update_time) = (EXCLUDED.filling_count, EXCLUDED.unconfirmed_count,"
+          + " EXCLUDED.all_confirm_count, EXCLUDED.part_confirm_count, EXCLUDED.suspend_count,"
+          + " EXCLUDED.reject_count, EXCLUDED.confirmed_principal, EXCLUDED.confirmed_interest,"
+          + " EXCLUDED.confirmed_other, EXCLUDED.deduction_amount, EXCLUDED.suspend_principal,"
+          + " EXCLUDED.suspend_interest, EXCLUDED.suspend_other, EXCLUDED.reject_principal,"
+          + " EXCLUDED.reject_interest, EXCLUDED.reject_other,"
+          + " EXCLUDED.confirmed_collateral_details, EXCLUDED.confirmed_nature,"
+          + " EXCLUDED.suspend_nature, EXCLUDED.reject_reason, EXCLUDED.update_time)"
+          + " WHERE claim_statistic.update_time"
+          + "   < now() - make_interval(secs => #{graceSeconds})"
+          + " AND (claim_statistic.filling_count, claim_statistic.unconfirmed_count,"
+          + " claim_statistic.all_confirm_count, claim_statistic.part_confirm_count,"
+          + " claim_statistic.suspend_count, claim_statistic.reject_count,"
+          + " claim_statistic.confirmed_principal, claim_statistic.confirmed_interest,"
+          + " claim_statistic.confirmed_other, claim_statistic.deduction_amount,"
+          + " claim_statistic.suspend_principal, claim_statistic.suspend_interest,"
+          + " claim_statistic.suspend_other, claim_statistic.reject_principal,"
+          + " claim_statistic.reject_interest, claim_statistic.reject_other,"
+          + " claim_statistic.confirmed_collateral_details, claim_statistic.confirmed_nature,"
+          + " claim_statistic.suspend_nature, claim_statistic.reject_reason)"
+          + " IS DISTINCT FROM (EXCLUDED.filling_count, EXCLUDED.unconfirmed_count,"
+          + " EXCLUDED.all_confirm_count, EXCLUDED.part_confirm_count, EXCLUDED.suspend_count,"
+          + " EXCLUDED.reject_count, EXCLUDED.confirmed_principal, EXCLUDED.confirmed_interest,"
+          + " EXCLUDED.confirmed_other, EXCLUDED.deduction_amount, EXCLUDED.suspend_principal,"
+          + " EXCLUDED.suspend_interest, EXCLUDED.suspend_other, EXCLUDED.reject_principal,"
+          + " EXCLUDED.reject_interest, EXCLUDED.reject_other,"
+          + " EXCLUDED.confirmed_collateral_details, EXCLUDED.confirmed_nature,"
+          + " EXCLUDED.suspend_nature, EXCLUDED.reject_reason)")
+  int repair(@Param("claimIds") String[] claimIds, @Param("graceSeconds") int graceSeconds);
+
+  /**
+   * 删除已删除债权的快照
+   *
+   * @return 影响行数
+   */
+  @Delete(
+      "DELETE FROM claim_statistic s WHERE NOT EXISTS"
+          + " (SELECT 1 FROM claim c WHERE c.id = s.claim_id AND c.deleted = false)")
+  int deleteOrphans();
+
+  /**
+   * 删除指定债权的快照
+   *
+   * @param claimIds 债权ID
+   * @return 影响行数
+   */
+  @Delete(
+      "DELETE FROM claim_statistic"
+          + " WHERE claim_id = ANY(#{claimIds,"
+          + " typeHandler=org.apache.ibatis.type.ArrayTypeHandler})")
+  int deleteByClaimIds(@Param("claimIds") String[] claimIds);
+}
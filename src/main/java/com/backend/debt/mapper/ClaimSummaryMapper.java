@@ -0,0 +1,113 @@
+package com.backend.debt.mapper;
+
+import com.backend.debt.model.Money;
+import com.backend.debt.model.entity.ClaimSummaryEntity;
+import org.apache.ibatis.annotations.Delete;
+import org.apache.ibatis.annotations.Insert;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.annotations.Update;
+
+/** 债权申报金额汇总Mapper接口 */
+@Mapper
+public interface ClaimSummaryMapper extends BaseMapperX<ClaimSummaryEntity> {
+
+  /**
+   * 累加金额与笔数增量，汇总记录不存在时以增量作为初始值插入
+   *
+   * @param claimId 债权申报ID
+   * @param principal 本金增量
+   * @param interest 利息增量
+   * @param other 其他金额增量
+   * @param count 笔数增量
+   * @return 影响行数
+   */
+  @Insert(
+      "INSERT INTO claim_summary (claim_id, total_principal, total_interest, total_other,"
+          + " total_amount, filling_count, update_time)"
+          + " VALUES (#{claimId}, #{principal}, #{interest}, #{other},"
+          + " #{principal} + #{interest} + #{other}, #{count}, now())"
+          + " ON CONFLICT (claim_id) DO UPDATE SET"
+          + " total_principal = claim_summary.total_principal + EXCLUDED.total_principal,"
+          + " total_interest = claim_summary.total_interest + EXCLUDED.total_interest,"
+          + " total_other = claim_summary.total_other + EXCLUDED.total_other,"
+          + " total_amount = claim_summary.total_amount + EXCLUDED.total_amount,"
+          + " filling_count = claim_summary.filling_count + EXCLUDED.filling_count,"
+          + " update_time = now()")
+  int applyDelta(
+      @Param("claimId") String claimId,
+      @Param("principal") Money principal,
+      @Param("interest") Money interest,
+      @Param("other") Money other,
+      @Param("count") int count);
+
+  /**
+   * 根据未删除的申报详情刷新去重后的债权性质
+   *
+   * @param claimId 债权申报ID
+   * @return 影响行数
+   */
+  @Update(
+      "UPDATE claim_summary SET claim_natures ="
+          + " (SELECT string_agg(DISTINCT f.claim_nature, '、' ORDER BY f.claim_nature)"
+          + "   FILTER (WHERE f.claim_nature <> '')"
+          + "  FROM claim_filling f WHERE f.claim_id = #{claimId} AND f.deleted = false)"
+          + " WHERE claim_id = #{claimId}")
+  int refreshNatures(@Param("claimId") String claimId);
+
+  /**
+   * 根据申报详情重新计算一批债权的汇总，覆盖已有记录
+   *
+   * @param claimIds 债权申报ID
+   * @return 影响行数
+   */
+  @Insert(
+      "INSERT INTO claim_summary (claim_id, total_principal, total_interest, total_other,"
+          + " total_amount, filling_count, claim_natures, update_time)"
+          + " SELECT c.id,"
+          + " COALESCE(sum(f.claim_principal), 0),"
+          + " COALESCE(sum(f.claim_interest), 0),"
+          + " COALESCE(sum(f.claim_other), 0),"
+          + " COALESCE(sum(f.claim_principal), 0) + COALESCE(sum(f.claim_interest), 0)"
+          + "   + COALESCE(sum(f.claim_other), 0),"
+          + " count(f.id),"
+          + " string_agg(DISTINCT f.claim_nature, '、' ORDER BY f.claim_nature)"
+          + "   FILTER (WHERE f.claim_nature <> ''),"
+          + " now()"
+          + " FROM claim c"
+          + " LEFT JOIN claim_filling f ON f.claim_id = c.id AND f.deleted = false"
+          + " WHERE c.id = ANY(#{claimIds, typeHandler=org.apache.ibatis.type.ArrayTypeHandler})"
+          + " AND c.deleted = false"
+          + " GROUP BY c.id"
+          + " ON CONFLICT (claim_id) DO UPDATE SET"
+          + " total_principal = EXCLUDED.total_principal,"
+          + " total_interest = EXCLUDED.total_interest,"
+          + " total_other = EXCLUDED.total_other,"
+          + " total_amount = EXCLUDED.total_amount,"
+          + " filling_count = EXCLUDED.filling_count,"
+          + " claim_natures = EXCLUDED.claim_natures,"
+          + " update_time = EXCLUDED.update_time")
+  int rebuild(@Param("claimIds") String[] claimIds);
+
+  /**
+   * 删除已删除债权的汇总记录
+   *
+   * @return 影响行数
+   */
+  @Delete(
+      "DELETE FROM claim_summary s WHERE NOT EXISTS"
+          + " (SELECT 1 FROM claim c WHERE c.id = s.claim_id AND c.deleted = false)")
+  int deleteOrphans();
+
+  /**
+   * 删除指定债权的汇总记录
+   *
+   * @param claimIds 债权ID
+   * @return 影响行数
+   */
+  @Delete(
+      "DELETE FROM claim_summary"
+          + " WHERE claim_id = ANY(#{claimIds,"
+          + " typeHandler=org.apache.ibatis.type.ArrayTypeHandler})")
+  int deleteByClaimIds(@Param("claimIds") String[] claimIds);
+}
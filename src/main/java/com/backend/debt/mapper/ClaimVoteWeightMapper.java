@@ -0,0 +1,119 @@
+package com.backend.debt.mapper;
+
+import com.backend.debt.model.dto.vote.VoteClassTotalDto;
+import com.backend.debt.model.entity.ClaimVoteWeightEntity;
+import java.math.BigDecimal;
+import java.util.List;
+import org.apache.ibatis.annotations.Delete;
+import org.apache.ibatis.annotations.Insert;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.annotations.Select;
+
+/** 债权人会议表决权重Mapper接口 */
+@Mapper
+public interface ClaimVoteWeightMapper extends BaseMapperX<ClaimVoteWeightEntity> {
+
+  /** 确认金额：全部确认与部分确认的本金、利息、其他之和，没有统计快照时为0 */
+  String CONFIRMED_AMOUNT =
+      "COALESCE(s.confirmed_principal + s.confirmed_interest + s.confirmed_other, 0)";
+
+  /**
+   * 由债权申报和确认统计快照刷新表决权重，只更新有变化的行
+   *
+   * <p>债权归类的权重系数以两个等长数组传入，未配置的归类系数为1，权重四舍五入到分。
+   *
+   * @param claimIds 债权申报ID，为空时刷新全部未删除的债权
+   * @param classes 配置了权重系数的债权归类
+   * @param factors 与债权归类一一对应的权重系数
+   * @return 插入或更新的行数
+   */
+  @Insert(
+      "<script>"
+          + "INSERT INTO claim_vote_weight (claim_id, claim_class, has_voting_right,"
+          + " confirmed_amount, weight, voting, update_time)"
+          + " SELECT v.claim_id, v.claim_class, v.has_voting_right, v.confirmed_amount, v.weight,"
+          + " v.has_voting_right AND v.weight &gt; 0, now()"
+          + " FROM (SELECT c.id AS claim_id, COALESCE(c.claim_category, '') AS claim_class,"
+          + "   COALESCE(c.has_voting_right, false) AS has_voting_right,"
+          + "   "
+          + CONFIRMED_AMOUNT
+          + " AS confirmed_amount,"
+          + "   round("
+          + CONFIRMED_AMOUNT
+          + " * COALESCE(f.factor, 1), 2) AS weight"
+          + "   FROM claim c"
+          + "   LEFT JOIN claim_statistic s ON s.claim_id = c.id"
+          + "   LEFT JOIN unnest("
+          + "     #{classes, typeHandler=org.apache.ibatis.type.ArrayTypeHandler}::varchar[],"
+          + "     #{factors, typeHandler=org.apache.ibatis.type.ArrayTypeHandler}::numeric[])"
+          + "     AS f(claim_class, factor) ON f.claim_class = COALESCE(c.claim_category, '')"
+          + "   WHERE c.deleted = false"
+          + "<if test=\"claimIds != null\">"
+          + " AND c.id = ANY(#{claimIds, typeHandler=org.apache.ibatis.type.ArrayTypeHandler})"
+          + "</if>"
+          + " ) v"
+          + " ON CONFLICT (claim_id) DO UPDATE SET"
+          + " claim_class = EXCLUDED.claim_class,"
+          + " has_voting_right = EXCLUDED.has_voting_right,"
+          + " confirmed_amount = EXCLUDED.confirmed_amount,"
+          + " weight = EXCLUDED.weight,"
+          + " voting = EXCLUDED.voting,"
+          + " update_time = now()"
+          + " WHERE (claim_vote_weight.claim_class, claim_vote_weight.has_voting_right,"
+          + "   claim_vote_weight.confirmed_amount, claim_vote_weight.weight)"
+          + " IS DISTINCT FROM (EXCLUDED.claim_class, EXCLUDED.has_voting_right,"
+          + "   EXCLUDED.confirmed_amount, EXCLUDED.weight)"
+          + "</script>")
+  int refresh(
+      @Param("claimIds") String[] claimIds,
+      @Param("classes") String[] classes,
+      @Param("factors") BigDecimal[] factors);
+
+  /**
+   * 删除已删除或不存在的债权的表决权重
+   *
+   * @return 删除行数
+   */
+  @Delete(
+      "DELETE FROM claim_vote_weight w WHERE NOT EXISTS"
+          + " (SELECT 1 FROM claim c WHERE c.id = w.claim_id AND c.deleted = false)")
+  int deleteOrphans();
+
+  /**
+   * 删除指定债权的表决权重
+   *
+   * @param claimIds 债权ID
+   * @return 影响行数
+   */
+  @Delete(
+      "DELETE FROM claim_vote_weight"
+          + " WHERE claim_id = ANY(#{claimIds,"
+          + " typeHandler=org.apache.ibatis.type.ArrayTypeHandler})")
+  int deleteByClaimIds(@Param("claimIds") String[] claimIds);
+
+  /**
+   * 按债权归类汇总参与表决的债权笔数与权重
+   *
+   * @return 各归类的汇总，按归类排序
+   */
+  @Select(
+      "SELECT claim_class, count(*) AS claim_count, sum(weight) AS total_weight"
+          + " FROM claim_vote_weight WHERE voting"
+          + " GROUP BY claim_class ORDER BY claim_class")
+  List<VoteClassTotalDto> selectClassTotals();
+
+  /**
+   * 按债权归类汇总指定债权中参与表决的笔数与权重
+   *
+   * @param claimIds 债权申报ID
+   * @return 各归类的汇总，按归类排序，没有参与表决的债权的归类不返回
+   */
+  @Select(
+      "SELECT claim_class, count(*) AS claim_count, sum(weight) AS total_weight"
+          + " FROM claim_vote_weight"
+          + " WHERE claim_id = ANY(#{claimIds, typeHandler=org.apache.ibatis.type.ArrayTypeHandler})"
+          + " AND voting"
+          + " GROUP BY claim_class ORDER BY claim_class")
+  List<VoteClassTotalDto> selectClassTotalsByClaimIds(@Param("claimIds") String[] claimIds);
+}
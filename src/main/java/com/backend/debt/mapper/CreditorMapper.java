@@ -2,7 +2,23 @@ package com.backend.debt.mapper;
 
 import com.backend.debt.model.entity.CreditorEntity;
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.annotations.Update;
 
 /** 债权人信息Mapper接口 */
 @Mapper
-public interface CreditorMapper extends BaseMapperX<CreditorEntity> {}
+public interface CreditorMapper extends BaseMapperX<CreditorEntity> {
+
+  /**
+   * 按债权申报ID批量逻辑删除债权人信息
+   *
+   * @param claimIds 债权申报ID
+   * @return 影响行数
+   */
+  @Update(
+      "UPDATE creditor SET deleted = true, update_time = now()"
+          + " WHERE claim_id = ANY(#{claimIds,"
+          + " typeHandler=org.apache.ibatis.type.ArrayTypeHandler})"
+          + " AND deleted = false")
+  int softDeleteByClaimIds(@Param("claimIds") String[] claimIds);
+}
@@ -0,0 +1,374 @@
+package com.backend.debt.mapper.copy;
+
+import cn.hutool.core.util.HexUtil;
+import com.backend.debt.config.mybatis.CountModePaginationInnerInterceptor;
+import com.backend.debt.model.entity.BaseEntity;
+import com.baomidou.mybatisplus.annotation.FieldStrategy;
+import com.baomidou.mybatisplus.annotation.IdType;
+import com.baomidou.mybatisplus.core.incrementer.IdentifierGenerator;
+import com.baomidou.mybatisplus.core.metadata.TableFieldInfo;
+import com.baomidou.mybatisplus.core.metadata.TableInfo;
+import com.baomidou.mybatisplus.core.metadata.TableInfoHelper;
+import com.baomidou.mybatisplus.core.toolkit.ExceptionUtils;
+import com.baomidou.mybatisplus.core.toolkit.GlobalConfigUtils;
+import com.baomidou.mybatisplus.core.toolkit.ReflectionKit;
+import com.baomidou.mybatisplus.extension.toolkit.SqlHelper;
+import java.lang.reflect.Field;
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.temporal.TemporalAccessor;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.apache.ibatis.type.JdbcType;
+import org.apache.ibatis.type.TypeHandler;
+import org.apache.ibatis.type.TypeHandlerRegistry;
+import org.mybatis.spring.SqlSessionUtils;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.postgresql.util.PGobject;
+import org.springframework.jdbc.support.SQLExceptionTranslator;
+import org.springframework.jdbc.support.SQLStateSQLExceptionTranslator;
+import org.springframework.util.CollectionUtils;
+
+/**
+ * 基于 PostgreSQL COPY 的批量插入
+ *
+ * <p>按 MyBatis Plus 的表信息确定列的顺序，把实体编码为 CSV 文本后通过 pgjdbc 的 {@link
+ * org.postgresql.copy.CopyManager} 流式写入，整批只有一次往返，不经过 SQL 解析和逐行的参数绑定。
+ *
+ * <ul>
+ *   <li>列值通过该列在 MyBatis 中注册的 TypeHandler 转换，与 INSERT 写入的值一致
+ *   <li>主键为空时按主键类型生成，{@link BaseEntity} 的创建、更新时间为空时整批取同一个当前时间，不经过
+ *       MetaObjectHandler 的反射填充
+ *   <li>逻辑删除字段为空时写入未删除的值
+ *   <li>通过 mybatis-spring 获取连接，在事务中调用时与其他语句使用同一个连接
+ *   <li>写入后清空分页总数缓存，与经过 MyBatis 的写操作一致
+ * </ul>
+ */
+public final class PgCopyInserter {
+
+  /** 缓冲的文本达到该长度时写出 */
+  private static final int FLUSH_SIZE = 64 * 1024;
+
+  private static final Map<Class<?>, CopyTable> TABLES = new ConcurrentHashMap<>();
+
+  private static final SQLExceptionTranslator EXCEPTION_TRANSLATOR =
+      new SQLStateSQLExceptionTranslator();
+
+  private PgCopyInserter() {}
+
+  /**
+   * 以 COPY 批量插入实体
+   *
+   * @param entities 同一类型的实体
+   * @return 插入行数
+   */
+  public static <T> long copyInsert(Collection<T> entities) {
+    if (CollectionUtils.isEmpty(entities)) {
+      return 0;
+    }
+    Class<?> entityClass = entities.iterator().next().getClass();
+    CopyTable table = TABLES.computeIfAbsent(entityClass, CopyTable::new);
+    SqlSessionFactory sqlSessionFactory = SqlHelper.sqlSessionFactory(entityClass);
+    SqlSession sqlSession = SqlSessionUtils.getSqlSession(sqlSessionFactory);
+    try {
+      Connection connection = sqlSession.getConnection();
+      CopyIn copyIn = connection.unwrap(PGConnection.class).getCopyAPI().copyIn(table.sql);
+      try {
+        long rows = table.write(copyIn, entities);
+        // COPY 不经过 MyBatis，清空一级缓存避免同一会话读到插入前的结果，并清空分页总数缓存
+        sqlSession.clearCache();
+        CountModePaginationInnerInterceptor.invalidateCountCache(sqlSession.getConfiguration());
+        return rows;
+      } finally {
+        if (copyIn.isActive()) {
+          copyIn.cancelCopy();
+        }
+      }
+    } catch (SQLException e) {
+      throw EXCEPTION_TRANSLATOR.translate("COPY " + table.tableName, table.sql, e);
+    } finally {
+      SqlSessionUtils.closeSqlSession(sqlSession, sqlSessionFactory);
+    }
+  }
+
+  /** 一个实体类对应的 COPY 语句和列 */
+  private static final class CopyTable {
+
+    private final String tableName;
+
+    private final String sql;
+
+    private final List<CopyColumn> columns = new ArrayList<>();
+
+    /** 主键列，自增主键或没有主键时为空 */
+    private final CopyColumn keyColumn;
+
+    private final IdType idType;
+
+    private final Class<?> keyType;
+
+    private final IdentifierGenerator identifierGenerator;
+
+    CopyTable(Class<?> entityClass) {
+      TableInfo tableInfo = TableInfoHelper.getTableInfo(entityClass);
+      if (tableInfo == null) {
+        throw ExceptionUtils.mpe("未找到实体 %s 的表信息，无法使用 COPY 插入", entityClass.getName());
+      }
+      TypeHandlerRegistry registry = tableInfo.getConfiguration().getTypeHandlerRegistry();
+      this.tableName = tableInfo.getTableName();
+      this.idType = tableInfo.getIdType();
+      this.keyType = tableInfo.getKeyType();
+      this.identifierGenerator =
+          GlobalConfigUtils.getGlobalConfig(tableInfo.getConfiguration()).getIdentifierGenerator();
+
+      if (tableInfo.getKeyColumn() != null && idType != IdType.AUTO) {
+        Field keyField = ReflectionKit.getFieldMap(entityClass).get(tableInfo.getKeyProperty());
+        keyColumn =
+            new CopyColumn(
+                tableInfo.getKeyColumn(),
+                keyField,
+                resolveTypeHandler(registry, keyField.getType(), null, null),
+                null,
+                null);
+        columns.add(keyColumn);
+      } else {
+        keyColumn = null;
+      }
+      for (TableFieldInfo fieldInfo : tableInfo.getFieldList()) {
+        if (fieldInfo.getInsertStrategy() == FieldStrategy.NEVER) {
+          continue;
+        }
+        columns.add(
+            new CopyColumn(
+                fieldInfo.getColumn(),
+                fieldInfo.getField(),
+                resolveTypeHandler(
+                    registry,
+                    fieldInfo.getPropertyType(),
+                    fieldInfo.getTypeHandler(),
+                    fieldInfo.getJdbcType()),
+                fieldInfo.getJdbcType(),
+                fieldInfo.isLogicDelete() ? fieldInfo.getLogicNotDeleteValue() : null));
+      }
+      this.sql =
+          "COPY "
+              + tableName
+              + " ("
+              + columns.stream().map(CopyColumn::name).collect(Collectors.joining(", "))
+              + ") FROM STDIN WITH (FORMAT csv)";
+    }
+
+    @SuppressWarnings("unchecked")
+    private static TypeHandler<Object> resolveTypeHandler(
+        TypeHandlerRegistry registry,
+        Class<?> javaType,
+        Class<? extends TypeHandler<?>> typeHandlerClass,
+        JdbcType jdbcType) {
+      TypeHandler<?> typeHandler = null;
+      if (typeHandlerClass != null) {
+        typeHandler = registry.getMappingTypeHandler(typeHandlerClass);
+        if (typeHandler == null) {
+          typeHandler = registry.getInstance(javaType, typeHandlerClass);
+        }
+      }
+      if (typeHandler == null) {
+        typeHandler = registry.getTypeHandler(javaType, jdbcType);
+      }
+      if (typeHandler == null) {
+        // 按参数的实际类型查找
+        typeHandler = registry.getUnknownTypeHandler();
+      }
+      return (TypeHandler<Object>) typeHandler;
+    }
+
+    long write(CopyIn copyIn, Collection<?> entities) throws SQLException {
+      LocalDateTime now = LocalDateTime.now();
+      ParameterCapture capture = new ParameterCapture();
+      StringBuilder buffer = new StringBuilder(FLUSH_SIZE + 1024);
+      for (Object entity : entities) {
+        prepare(entity, now);
+        for (int i = 0; i < columns.size(); i++) {
+          if (i > 0) {
+            buffer.append(',');
+          }
+          columns.get(i).append(buffer, entity, capture);
+        }
+        buffer.append('\n');
+        if (buffer.length() >= FLUSH_SIZE) {
+          flush(copyIn, buffer);
+        }
+      }
+      flush(copyIn, buffer);
+      return copyIn.endCopy();
+    }
+
+    /** 补齐主键、创建与更新时间和版本号 */
+    private void prepare(Object entity, LocalDateTime now) {
+      if (keyColumn != null && keyColumn.get(entity) == null) {
+        Object key =
+            switch (idType) {
+              case ASSIGN_UUID -> identifierGenerator.nextUUID(entity);
+              case ASSIGN_ID -> {
+                Number id = identifierGenerator.nextId(entity);
+                yield keyType == String.class
+                    ? id.toString()
+                    : keyType == Integer.class ? (Object) id.intValue() : id.longValue();
+              }
+              default -> null;
+            };
+        if (key != null) {
+          keyColumn.set(entity, key);
+        }
+      }
+      if (entity instanceof BaseEntity baseEntity) {
+        if (baseEntity.getCreateTime() == null) {
+          baseEntity.setCreateTime(now);
+        }
+        if (baseEntity.getUpdateTime() == null) {
+          baseEntity.setUpdateTime(now);
+        }
+        if (baseEntity.getVersion() == null) {
+          baseEntity.setVersion(0);
+        }
+      }
+    }
+
+    private static void flush(CopyIn copyIn, StringBuilder buffer) throws SQLException {
+      if (buffer.length() == 0) {
+        return;
+      }
+      byte[] bytes = buffer.toString().getBytes(StandardCharsets.UTF_8);
+      copyIn.writeToCopy(bytes, 0, bytes.length);
+      buffer.setLength(0);
+    }
+  }
+
+  /**
+   * 一列
+   *
+   * @param nullValue 字段为空时写入的字面值，为空时写入 NULL
+   */
+  private record CopyColumn(
+      String name,
+      Field field,
+      TypeHandler<Object> typeHandler,
+      JdbcType jdbcType,
+      String nullValue) {
+
+    CopyColumn {
+      field.setAccessible(true);
+    }
+
+    Object get(Object entity) {
+      try {
+        return field.get(entity);
+      } catch (IllegalAccessException e) {
+        throw ExceptionUtils.mpe("读取字段 %s 失败", e, field.getName());
+      }
+    }
+
+    void set(Object entity, Object value) {
+      try {
+        field.set(entity, value);
+      } catch (IllegalAccessException e) {
+        throw ExceptionUtils.mpe("设置字段 %s 失败", e, field.getName());
+      }
+    }
+
+    /** 按 CSV 格式写出列值，NULL 为不加引号的空值，文本一律加引号 */
+    void append(StringBuilder buffer, Object entity, ParameterCapture capture) throws SQLException {
+      Object value = get(entity);
+      if (value == null) {
+        if (nullValue != null) {
+          buffer.append(nullValue);
+        }
+        return;
+      }
+      Object jdbcValue = capture.capture(typeHandler, value, jdbcType);
+      if (jdbcValue == null) {
+        return;
+      }
+      if (jdbcValue instanceof Boolean bool) {
+        buffer.append(bool ? 't' : 'f');
+      } else if (jdbcValue instanceof BigDecimal decimal) {
+        buffer.append(decimal.toPlainString());
+      } else if (jdbcValue instanceof Number) {
+        buffer.append(jdbcValue);
+      } else if (jdbcValue instanceof Timestamp timestamp) {
+        buffer.append(timestamp.toLocalDateTime());
+      } else if (jdbcValue instanceof java.sql.Date date) {
+        buffer.append(date.toLocalDate());
+      } else if (jdbcValue instanceof TemporalAccessor) {
+        buffer.append(jdbcValue);
+      } else if (jdbcValue instanceof byte[] bytes) {
+        buffer.append("\\x").append(HexUtil.encodeHexStr(bytes));
+      } else if (jdbcValue instanceof PGobject pgObject) {
+        if (pgObject.getValue() != null) {
+          quote(buffer, pgObject.getValue());
+        }
+      } else {
+        quote(buffer, jdbcValue.toString());
+      }
+    }
+
+    private static void quote(StringBuilder buffer, String text) {
+      buffer.append('"');
+      for (int i = 0; i < text.length(); i++) {
+        char c = text.charAt(i);
+        if (c == '"') {
+          buffer.append('"');
+        }
+        buffer.append(c);
+      }
+      buffer.append('"');
+    }
+  }
+
+  /**
+   * 截获 TypeHandler 设置到 PreparedStatement 上的参数
+   *
+   * <p>TypeHandler 只能把值写到 PreparedStatement，这里用一个只记录参数的代理代替，取得转换后的 JDBC 值。非线程安全，每次插入创建一个。
+   */
+  private static final class ParameterCapture {
+
+    private final PreparedStatement statement;
+
+    private Object value;
+
+    ParameterCapture() {
+      this.statement =
+          (PreparedStatement)
+              Proxy.newProxyInstance(
+                  PreparedStatement.class.getClassLoader(),
+                  new Class<?>[] {PreparedStatement.class},
+                  (proxy, method, args) -> {
+                    String name = method.getName();
+                    if (name.startsWith("set") && args != null && args.length >= 2) {
+                      value = "setNull".equals(name) ? null : args[1];
+                      return null;
+                    }
+                    throw new UnsupportedOperationException("COPY 参数转换不支持调用：" + name);
+                  });
+    }
+
+    Object capture(TypeHandler<Object> typeHandler, Object parameter, JdbcType jdbcType)
+        throws SQLException {
+      value = null;
+      typeHandler.setParameter(statement, 1, parameter, jdbcType);
+      return value;
+    }
+  }
+}
@@ -1,8 +1,7 @@
 package com.backend.debt.mapper.handler;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.io.IOException;
 import java.sql.CallableStatement;
@@ -13,8 +12,28 @@ import org.apache.ibatis.type.BaseTypeHandler;
 import org.apache.ibatis.type.JdbcType;
 import org.postgresql.util.PGobject;
 
-public class BaseJsonTypeHandler<T extends JsonNode> extends BaseTypeHandler<T> {
-  private static final ObjectMapper mapper = new ObjectMapper();
+/**
+ * jsonb 字段类型处理器
+ *
+ * <p>子类通过构造函数指定反序列化的目标类型，需要特殊的序列化配置时可以传入自定义的 ObjectMapper。
+ *
+ * @param <T> 字段类型
+ */
+public class BaseJsonTypeHandler<T> extends BaseTypeHandler<T> {
+  private static final ObjectMapper DEFAULT_MAPPER = new ObjectMapper();
+
+  private final ObjectMapper mapper;
+
+  private final JavaType type;
+
+  protected BaseJsonTypeHandler(Class<T> clazz) {
+    this(clazz, DEFAULT_MAPPER);
+  }
+
+  protected BaseJsonTypeHandler(Class<T> clazz, ObjectMapper mapper) {
+    this.mapper = mapper;
+    this.type = mapper.constructType(clazz);
+  }
 
   @Override
   public void setNonNullParameter(
@@ -33,43 +52,40 @@ public class BaseJsonTypeHandler<T extends JsonNode> extends BaseTypeHandler<T>
 
   @Override
   public T getNullableResult(ResultSet resultSet, String s) throws SQLException {
-    TypeReference<T> clazz = new TypeReference<T>() {};
     try {
       byte[] resultSBytes = resultSet.getBytes(s);
-      return resultSBytes != null ? mapper.readValue(resultSBytes, clazz) : null;
+      return resultSBytes != null ? mapper.<T>readValue(resultSBytes, type) : null;
     } catch (IOException e) {
       throw new SQLException(
           String.format(
               "map PgObject to object %s failed. Internal error %s",
-              clazz.getClass(), e.getMessage()));
+              type.getRawClass(), e.getMessage()));
     }
   }
 
   @Override
   public T getNullableResult(ResultSet resultSet, int i) throws SQLException {
-    TypeReference<T> clazz = new TypeReference<T>() {};
     try {
       byte[] resultSBytes = resultSet.getBytes(i);
-      return resultSBytes != null ? mapper.readValue(resultSBytes, clazz) : null;
+      return resultSBytes != null ? mapper.<T>readValue(resultSBytes, type) : null;
     } catch (IOException e) {
       throw new SQLException(
           String.format(
               "map PgObject to object %s failed. Internal error %s",
-              clazz.getClass(), e.getMessage()));
+              type.getRawClass(), e.getMessage()));
     }
   }
 
   @Override
   public T getNullableResult(CallableStatement callableStatement, int i) throws SQLException {
-    TypeReference<T> clazz = new TypeReference<T>() {};
     try {
       byte[] resultSBytes = callableStatement.getBytes(i);
-      return resultSBytes != null ? mapper.readValue(resultSBytes, clazz) : null;
+      return resultSBytes != null ? mapper.<T>readValue(resultSBytes, type) : null;
     } catch (IOException e) {
       throw new SQLException(
           String.format(
               "map PgObject to object %s failed. Internal error %s",
-              clazz.getClass(), e.getMessage()));
+              type.getRawClass(), e.getMessage()));
     }
   }
 }
@@ -0,0 +1,30 @@
+package com.backend.debt.mapper.handler;
+
+import com.backend.debt.model.entity.ClaimDetailAggregate;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.apache.ibatis.type.MappedTypes;
+
+/**
+ * 债权申报聚合类型处理器
+ *
+ * <p>聚合查询中各表的行通过 to_jsonb 转为 json，字段名为数据库列名，枚举为 EnumValue 的值，这里按相同的规则反序列化为实体。
+ */
+@MappedTypes(ClaimDetailAggregate.class)
+public class ClaimDetailAggregateTypeHandler extends BaseJsonTypeHandler<ClaimDetailAggregate> {
+
+  private static final ObjectMapper MAPPER =
+      new ObjectMapper()
+          .setPropertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE)
+          .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+          .registerModule(new JavaTimeModule())
+          .registerModule(
+              new SimpleModule().setDeserializerModifier(new EnumValueDeserializerModifier()));
+
+  public ClaimDetailAggregateTypeHandler() {
+    super(ClaimDetailAggregate.class, MAPPER);
+  }
+}
@@ -0,0 +1,71 @@
+package com.backend.debt.mapper.handler;
+
+import cn.hutool.core.util.ReflectUtil;
+import com.baomidou.mybatisplus.annotation.EnumValue;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.DeserializationConfig;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.deser.BeanDeserializerModifier;
+import com.fasterxml.jackson.databind.deser.std.StdScalarDeserializer;
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 按 {@link EnumValue} 标注的字段值反序列化枚举
+ *
+ * <p>数据库中的枚举以 EnumValue 的值存储（如证件类型 BL、OC），与枚举名称不一定相同。从数据库返回的 json 反序列化实体时需要按该值查找枚举。
+ */
+public class EnumValueDeserializerModifier extends BeanDeserializerModifier {
+
+  @Override
+  public JsonDeserializer<?> modifyEnumDeserializer(
+      DeserializationConfig config,
+      JavaType type,
+      BeanDescription beanDesc,
+      JsonDeserializer<?> deserializer) {
+    Class<?> enumClass = type.getRawClass();
+    Field valueField =
+        Arrays.stream(ReflectUtil.getFields(enumClass))
+            .filter(field -> field.isAnnotationPresent(EnumValue.class))
+            .findFirst()
+            .orElse(null);
+    if (valueField == null) {
+      return deserializer;
+    }
+    Map<String, Object> constants = new HashMap<>();
+    for (Object constant : enumClass.getEnumConstants()) {
+      constants.put(String.valueOf(ReflectUtil.getFieldValue(constant, valueField)), constant);
+    }
+    return new EnumValueDeserializer(enumClass, constants);
+  }
+
+  private static class EnumValueDeserializer extends StdScalarDeserializer<Object> {
+
+    private final Map<String, Object> constants;
+
+    EnumValueDeserializer(Class<?> enumClass, Map<String, Object> constants) {
+      super(enumClass);
+      this.constants = constants;
+    }
+
+    @Override
+    public Object deserialize(JsonParser parser, DeserializationContext context)
+        throws IOException {
+      String value = parser.getValueAsString();
+      if (value == null || value.isEmpty()) {
+        return null;
+      }
+      Object constant = constants.get(value);
+      if (constant == null) {
+        return context.handleWeirdStringValue(handledType(), value, "不是有效的枚举值");
+      }
+      return constant;
+    }
+  }
+}
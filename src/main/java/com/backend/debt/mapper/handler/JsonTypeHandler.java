@@ -4,4 +4,9 @@ import com.fasterxml.jackson.databind.JsonNode;
 import org.apache.ibatis.type.MappedTypes;
 
 @MappedTypes(JsonNode.class)
-public class JsonTypeHandler extends BaseJsonTypeHandler<JsonNode> {}
+public class JsonTypeHandler extends BaseJsonTypeHandler<JsonNode> {
+
+  public JsonTypeHandler() {
+    super(JsonNode.class);
+  }
+}
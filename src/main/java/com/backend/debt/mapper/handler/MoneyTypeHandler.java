@@ -0,0 +1,38 @@
+package com.backend.debt.mapper.handler;
+
+import com.backend.debt.model.Money;
+import java.sql.CallableStatement;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import org.apache.ibatis.type.BaseTypeHandler;
+import org.apache.ibatis.type.JdbcType;
+import org.apache.ibatis.type.MappedJdbcTypes;
+import org.apache.ibatis.type.MappedTypes;
+
+/** {@link Money} 的类型转换器实现类，对应数据库的 numeric 类型 */
+@MappedJdbcTypes(JdbcType.NUMERIC)
+@MappedTypes(Money.class)
+public class MoneyTypeHandler extends BaseTypeHandler<Money> {
+
+  @Override
+  public void setNonNullParameter(PreparedStatement ps, int i, Money parameter, JdbcType jdbcType)
+      throws SQLException {
+    ps.setBigDecimal(i, parameter.toBigDecimal());
+  }
+
+  @Override
+  public Money getNullableResult(ResultSet rs, String columnName) throws SQLException {
+    return Money.of(rs.getBigDecimal(columnName));
+  }
+
+  @Override
+  public Money getNullableResult(ResultSet rs, int columnIndex) throws SQLException {
+    return Money.of(rs.getBigDecimal(columnIndex));
+  }
+
+  @Override
+  public Money getNullableResult(CallableStatement cs, int columnIndex) throws SQLException {
+    return Money.of(cs.getBigDecimal(columnIndex));
+  }
+}
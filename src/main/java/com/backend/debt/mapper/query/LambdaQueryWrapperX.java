@@ -23,6 +23,45 @@ public class LambdaQueryWrapperX<T> extends LambdaQueryWrapper<T> {
     return this;
   }
 
+  /**
+   * 子串搜索：column ILIKE '%val%'，val 中的通配符会被转义
+   *
+   * <p>与 likeIfPresent 不同，该条件不区分大小写，且可以命中 pg_trgm 的 gin_trgm_ops 索引，避免全表扫描。
+   */
+  public LambdaQueryWrapperX<T> searchIfPresent(SFunction<T, ?> column, String val) {
+    if (StringUtils.hasText(val)) {
+      super.apply(columnToString(column) + " ILIKE {0}", toContainsPattern(val));
+    }
+    return this;
+  }
+
+  /**
+   * 通过关联表子串搜索：column IN (SELECT subKeyColumn FROM subTable WHERE deleted = false AND
+   * subSearchColumn ILIKE '%val%')
+   *
+   * <p>以半连接的方式按关联表字段过滤主表，关联表的搜索字段同样可以命中 pg_trgm 索引。表名与字段名直接拼接到 SQL 中，只能传入常量。
+   */
+  public LambdaQueryWrapperX<T> searchInIfPresent(
+      SFunction<T, ?> column,
+      String subTable,
+      String subKeyColumn,
+      String subSearchColumn,
+      String val) {
+    if (StringUtils.hasText(val)) {
+      super.apply(
+          columnToString(column)
+              + " IN (SELECT "
+              + subKeyColumn
+              + " FROM "
+              + subTable
+              + " WHERE deleted = false AND "
+              + subSearchColumn
+              + " ILIKE {0})",
+          toContainsPattern(val));
+    }
+    return this;
+  }
+
   public LambdaQueryWrapperX<T> inIfPresent(SFunction<T, ?> column, Collection<?> values) {
     if (!CollectionUtils.isEmpty(values)) {
       return (LambdaQueryWrapperX<T>) super.in(column, values);
@@ -92,6 +131,44 @@ public class LambdaQueryWrapperX<T> extends LambdaQueryWrapper<T> {
     return this;
   }
 
+  /**
+   * 游标分页的 seek 条件：(sortColumn, idColumn) &lt; (sortValue, idValue)，配合两列降序排序使用
+   *
+   * <p>采用行值比较，可以直接命中 (sortColumn, idColumn) 的组合索引，翻到任意深度的代价都与第一页相同。
+   */
+  public LambdaQueryWrapperX<T> seekBeforeIfPresent(
+      SFunction<T, ?> sortColumn, Object sortValue, SFunction<T, ?> idColumn, Object idValue) {
+    if (sortValue != null && idValue != null) {
+      super.apply(
+          "(" + columnToString(sortColumn) + ", " + columnToString(idColumn) + ") < ({0}, {1})",
+          sortValue,
+          idValue);
+    }
+    return this;
+  }
+
+  /**
+   * 设置只返回前 n 条
+   *
+   * @param n 条数
+   * @return this
+   */
+  public LambdaQueryWrapperX<T> limitN(int n) {
+    super.last("LIMIT " + n);
+    return this;
+  }
+
+  /**
+   * 转义 LIKE 通配符并拼接为包含匹配模式
+   *
+   * @param val 搜索值
+   * @return %val%
+   */
+  private static String toContainsPattern(String val) {
+    String escaped = val.trim().replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    return "%" + escaped + "%";
+  }
+
   // ========== 重写父类方法，方便链式调用 ==========
 
   @Override
@@ -0,0 +1,185 @@
+package com.backend.debt.model;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * 金额，以分为单位的 long 保存
+ *
+ * <p>与数据库 numeric(19,2) 列一一对应，加减运算为整数运算，没有浮点误差。JSON 中仍然输出为保留两位小数的数字，与原来 Double 字段的结构一致。
+ * 实例不可变。
+ */
+@JsonSerialize(using = Money.Serializer.class)
+@JsonDeserialize(using = Money.Deserializer.class)
+public final class Money extends Number implements Comparable<Money> {
+
+  private static final long serialVersionUID = 1L;
+
+  /** 金额的小数位数 */
+  public static final int SCALE = 2;
+
+  public static final Money ZERO = new Money(0);
+
+  /** 金额，单位：分 */
+  private final long cents;
+
+  private Money(long cents) {
+    this.cents = cents;
+  }
+
+  public static Money ofCents(long cents) {
+    return cents == 0 ? ZERO : new Money(cents);
+  }
+
+  /**
+   * 由 BigDecimal 转换，超过两位小数时四舍五入
+   *
+   * @param value 金额，为空时返回 null
+   */
+  public static Money of(BigDecimal value) {
+    if (value == null) {
+      return null;
+    }
+    return ofCents(value.setScale(SCALE, RoundingMode.HALF_UP).unscaledValue().longValueExact());
+  }
+
+  /**
+   * 由 double 转换，按十进制字面值四舍五入到分
+   *
+   * @param value 金额
+   */
+  public static Money of(double value) {
+    return of(BigDecimal.valueOf(value));
+  }
+
+  /** 空值视为0，取以分为单位的金额 */
+  public static long cents(Money money) {
+    return money == null ? 0 : money.cents;
+  }
+
+  /** 空值视为0 */
+  public static Money nullToZero(Money money) {
+    return money == null ? ZERO : money;
+  }
+
+  /** 空值安全的加法运算，任一参数为空时视为0 */
+  public static Money sum(Money... values) {
+    long total = 0;
+    for (Money value : values) {
+      total = Math.addExact(total, cents(value));
+    }
+    return ofCents(total);
+  }
+
+  public long getCents() {
+    return cents;
+  }
+
+  public Money plus(Money other) {
+    return ofCents(Math.addExact(cents, cents(other)));
+  }
+
+  public Money minus(Money other) {
+    return ofCents(Math.subtractExact(cents, cents(other)));
+  }
+
+  public Money negate() {
+    return ofCents(Math.negateExact(cents));
+  }
+
+  public boolean isZero() {
+    return cents == 0;
+  }
+
+  public boolean isNegative() {
+    return cents < 0;
+  }
+
+  public BigDecimal toBigDecimal() {
+    return BigDecimal.valueOf(cents, SCALE);
+  }
+
+  @Override
+  public int intValue() {
+    return (int) longValue();
+  }
+
+  @Override
+  public long longValue() {
+    return cents / 100;
+  }
+
+  @Override
+  public float floatValue() {
+    return (float) doubleValue();
+  }
+
+  @Override
+  public double doubleValue() {
+    return cents / 100.0;
+  }
+
+  @Override
+  public int compareTo(Money other) {
+    return Long.compare(cents, other.cents);
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    return this == o || (o instanceof Money money && cents == money.cents);
+  }
+
+  @Override
+  public int hashCode() {
+    return Long.hashCode(cents);
+  }
+
+  @Override
+  public String toString() {
+    return toBigDecimal().toPlainString();
+  }
+
+  /** 输出为两位小数的 JSON 数字 */
+  public static class Serializer extends JsonSerializer<Money> {
+
+    @Override
+    public void serialize(Money value, JsonGenerator gen, SerializerProvider serializers)
+        throws IOException {
+      gen.writeNumber(value.toBigDecimal());
+    }
+  }
+
+  /** 接受 JSON 数字和数字字符串 */
+  public static class Deserializer extends JsonDeserializer<Money> {
+
+    @Override
+    public Money deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+      JsonToken token = p.currentToken();
+      if (token == JsonToken.VALUE_NUMBER_INT || token == JsonToken.VALUE_NUMBER_FLOAT) {
+        return Money.of(p.getDecimalValue());
+      }
+      if (token == JsonToken.VALUE_STRING) {
+        String text = p.getText().trim();
+        if (text.isEmpty()) {
+          return null;
+        }
+        try {
+          return Money.of(new BigDecimal(text));
+        } catch (NumberFormatException e) {
+          return (Money) ctxt.handleWeirdStringValue(Money.class, text, "金额格式不正确");
+        }
+      }
+      return (Money) ctxt.handleUnexpectedToken(Money.class, p);
+    }
+  }
+}
@@ -1,6 +1,7 @@
 package com.backend.debt.model.dto;
 
 import com.backend.debt.enums.ReviewStatus;
+import com.backend.debt.model.Money;
 import com.backend.debt.model.entity.ClaimConfirmEntity;
 import com.backend.debt.model.entity.ClaimFillingEntity;
 import io.swagger.annotations.ApiModel;
@@ -30,15 +31,15 @@ public class ClaimConfirmDto {
 
   /** 确认本金 */
   @ApiModelProperty(example = "10000.00")
-  private Double confirmedPrincipal;
+  private Money confirmedPrincipal;
 
   /** 确认利息 */
   @ApiModelProperty(example = "500.00")
-  private Double confirmedInterest;
+  private Money confirmedInterest;
 
   /** 确认其他金额 */
   @ApiModelProperty(example = "200.00")
-  private Double confirmedOther;
+  private Money confirmedOther;
 
   /** 确认债权性质 */
   @ApiModelProperty(example = "普通债权")
@@ -46,22 +47,32 @@ public class ClaimConfirmDto {
 
   /** 确认时削减金额 */
   @ApiModelProperty(example = "100.00")
-  private Double deductionAmount;
+  private Money deductionAmount;
 
   /** 审查理由 */
   @ApiModelProperty(value = "审查理由", example = "债权材料齐全，符合申报要求")
   private String reviewReason;
 
-  public Double getConfirmedTotal() {
-    double principal = confirmedPrincipal != null ? confirmedPrincipal : 0;
-    double interest = confirmedInterest != null ? confirmedInterest : 0;
-    double other = confirmedOther != null ? confirmedOther : 0;
-    return principal + interest + other;
+  /** 版本号，修改时通过 If-Match 请求头传回 */
+  @ApiModelProperty(value = "版本号，修改时通过 If-Match 请求头传回", example = "0")
+  private Integer version;
+
+  public Money getConfirmedTotal() {
+    return Money.sum(confirmedPrincipal, confirmedInterest, confirmedOther);
   }
 
   public static ClaimConfirmDto defaultEmpty() {
     return new ClaimConfirmDto(
-        null, null, ReviewStatus.NOT_CONFIRMED, 0.0, 0.0, 0.0, null, 0.0, null);
+        null,
+        null,
+        ReviewStatus.NOT_CONFIRMED,
+        Money.ZERO,
+        Money.ZERO,
+        Money.ZERO,
+        null,
+        Money.ZERO,
+        null,
+        null);
   }
 
   public static ClaimConfirmDto of(ClaimConfirmEntity entity, ClaimFillingEntity fillingEntity) {
@@ -80,20 +91,23 @@ public class ClaimConfirmDto {
     dto.setConfirmedOther(entity.getConfirmedOther());
     dto.setClaimNature(entity.getClaimNature());
     dto.setReviewReason(entity.getReviewReason());
+    dto.setVersion(entity.getVersion());
 
     // 确认削减金额.只有部分确认和拒绝确认的时候，才会有削减金额。否则削减金额为0
-    dto.setDeductionAmount(0.0);
+    dto.setDeductionAmount(Money.ZERO);
     if (entity.getReviewStatus() == ReviewStatus.CONFIRM_PART
         || entity.getReviewStatus() == ReviewStatus.CONFIRM_REJECT) {
-      Double claimTotal =
-          fillingEntity.getClaimPrincipal()
-              + fillingEntity.getClaimInterest()
-              + fillingEntity.getClaimOther();
-      Double confirmTotal =
-          entity.getConfirmedPrincipal()
-              + entity.getConfirmedInterest()
-              + entity.getConfirmedOther();
-      dto.setDeductionAmount(claimTotal + confirmTotal);
+      Money claimTotal =
+          Money.sum(
+              fillingEntity.getClaimPrincipal(),
+              fillingEntity.getClaimInterest(),
+              fillingEntity.getClaimOther());
+      Money confirmTotal =
+          Money.sum(
+              entity.getConfirmedPrincipal(),
+              entity.getConfirmedInterest(),
+              entity.getConfirmedOther());
+      dto.setDeductionAmount(claimTotal.minus(confirmTotal));
     }
     return dto;
   }
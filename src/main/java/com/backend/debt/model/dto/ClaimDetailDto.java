@@ -71,6 +71,9 @@ public class ClaimDetailDto {
   @ApiModelProperty(value = "申报金额汇总")
   private ClaimSummaryDto claimSummary;
 
+  @ApiModelProperty(value = "版本号，修改时通过 If-Match 请求头传回", example = "0")
+  private Integer version;
+
   public static ClaimDetailDto of(
       ClaimEntity claimEntity,
       List<CreditorDto> creditors,
@@ -102,6 +105,7 @@ public class ClaimDetailDto {
                 .build())
         .claimFillings(claimFillings)
         .claimSummary(claimSummary)
+        .version(claimEntity.getVersion())
         .build();
   }
 }
@@ -0,0 +1,22 @@
+package com.backend.debt.model.dto;
+
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@ApiModel(value = "债权填报变更DTO，只包含被修改的填报及重新计算的汇总")
+public class ClaimFillingDeltaDto {
+
+  @ApiModelProperty(value = "被修改的填报详情，包含确认信息")
+  private ClaimFillingDto filling;
+
+  @ApiModelProperty(value = "申报金额汇总，修改确认信息时不影响汇总，为空")
+  private ClaimSummaryDto claimSummary;
+}
@@ -1,5 +1,6 @@
 package com.backend.debt.model.dto;
 
+import com.backend.debt.model.Money;
 import com.backend.debt.model.entity.ClaimConfirmEntity;
 import com.backend.debt.model.entity.ClaimFillingEntity;
 import com.fasterxml.jackson.annotation.JsonProperty;
@@ -31,28 +32,27 @@ public class ClaimFillingDto {
 
   /** 申报本金金额 */
   @ApiModelProperty(value = "申报本金", example = "10000.00")
-  private Double claimPrincipal;
+  private Money claimPrincipal;
 
   /** 申报利息金额 */
   @ApiModelProperty(value = "申报利息", example = "500.00")
-  private Double claimInterest;
+  private Money claimInterest;
 
   /** 申报其他项目金额 */
   @ApiModelProperty(value = "申报其他金额", example = "200.00")
-  private Double claimOther;
+  private Money claimOther;
 
   /** 确认部分详情 */
   private ClaimConfirmDto confirmedDetail;
 
+  /** 版本号，修改时通过 If-Match 请求头传回 */
+  @ApiModelProperty(value = "版本号，修改时通过 If-Match 请求头传回", example = "0")
+  private Integer version;
+
   /** 申报金额合计（自动计算字段） */
   @JsonProperty("total")
-  public Double getTotal() {
-    return addNullSafe(this.claimPrincipal, addNullSafe(this.claimInterest, this.claimOther));
-  }
-
-  /** 空值安全的加法运算，如果任一参数为null，视为0 */
-  private Double addNullSafe(Double a, Double b) {
-    return (a == null ? 0.0 : a) + (b == null ? 0.0 : b);
+  public Money getTotal() {
+    return Money.sum(this.claimPrincipal, this.claimInterest, this.claimOther);
   }
 
   public static ClaimFillingDto of(ClaimFillingEntity entity, ClaimConfirmEntity confirmEntity) {
@@ -66,6 +66,7 @@ public class ClaimFillingDto {
     dto.setClaimInterest(entity.getClaimInterest());
     dto.setClaimOther(entity.getClaimOther());
     dto.setConfirmedDetail(claimConfirmDto);
+    dto.setVersion(entity.getVersion());
     return dto;
   }
 }
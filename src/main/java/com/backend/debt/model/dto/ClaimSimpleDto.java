@@ -61,6 +61,10 @@ public class ClaimSimpleDto {
   @ApiModelProperty(value = "债权人列表")
   private List<CreditorDto> creditors;
 
+  /** 申报金额汇总 */
+  @ApiModelProperty(value = "申报金额汇总，没有填报时为空")
+  private ClaimSummaryDto claimSummary;
+
   /** 不包含creditors信息 */
   public static ClaimSimpleDto of(ClaimEntity claimEntity) {
     return ClaimSimpleDto.builder()
@@ -1,5 +1,8 @@
 package com.backend.debt.model.dto;
 
+import cn.hutool.core.util.StrUtil;
+import com.backend.debt.model.Money;
+import com.backend.debt.model.entity.ClaimSummaryEntity;
 import io.swagger.annotations.ApiModel;
 import io.swagger.annotations.ApiModelProperty;
 import lombok.*;
@@ -14,15 +17,15 @@ public class ClaimSummaryDto {
 
   /** 申报本金合计 */
   @ApiModelProperty(value = "本金总额", example = "50000.00")
-  private Double totalPrincipal;
+  private Money totalPrincipal;
 
   /** 申报利息合计 */
   @ApiModelProperty(value = "利息总额", example = "2500.00")
-  private Double totalInterest;
+  private Money totalInterest;
 
   /** 其他项目金额合计 */
   @ApiModelProperty(value = "其他金额总额", example = "1000.00")
-  private Double totalOther;
+  private Money totalOther;
 
   /** 笔数 */
   private Integer count;
@@ -32,7 +35,26 @@ public class ClaimSummaryDto {
 
   /** 申报总金额（自动计算字段） */
   @ApiModelProperty(value = "总计金额", example = "53500.00")
-  public Double getTotal() {
-    return this.totalPrincipal + this.totalInterest + this.totalOther;
+  public Money getTotal() {
+    return Money.sum(this.totalPrincipal, this.totalInterest, this.totalOther);
+  }
+
+  /**
+   * 由汇总表记录转换
+   *
+   * @param entity 汇总表记录
+   * @return 申报金额汇总，没有记录或没有填报时返回 null
+   */
+  public static ClaimSummaryDto of(ClaimSummaryEntity entity) {
+    if (entity == null || entity.getFillingCount() == null || entity.getFillingCount() == 0) {
+      return null;
+    }
+    return ClaimSummaryDto.builder()
+        .totalPrincipal(entity.getTotalPrincipal())
+        .totalInterest(entity.getTotalInterest())
+        .totalOther(entity.getTotalOther())
+        .claimNature(StrUtil.nullToEmpty(entity.getClaimNatures()))
+        .count(entity.getFillingCount())
+        .build();
   }
 }
@@ -24,6 +24,9 @@ public class CreditorDto {
   /** 有效身份证件号码 */
   private String idNumber;
 
+  /** 版本号，修改时通过 If-Match 请求头传回 */
+  private Integer version;
+
   public static List<CreditorDto> ofList(List<CreditorEntity> creditorEntities) {
     return creditorEntities.stream()
         .map(
@@ -33,6 +36,7 @@ public class CreditorDto {
                   .name(entity.getName())
                   .idType(entity.getIdType())
                   .idNumber(entity.getIdentificationNumber())
+                  .version(entity.getVersion())
                   .build();
             })
         .collect(Collectors.toList());
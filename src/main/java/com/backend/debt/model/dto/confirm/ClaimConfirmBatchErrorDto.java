@@ -0,0 +1,21 @@
+package com.backend.debt.model.dto.confirm;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/** 批量审查确认的错误 */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ClaimConfirmBatchErrorDto {
+
+  /** 在请求列表中的位置，从0开始 */
+  private Integer index;
+
+  /** 债权详情ID */
+  private String claimFillingId;
+
+  /** 错误信息 */
+  private String message;
+}
@@ -0,0 +1,30 @@
+package com.backend.debt.model.dto.confirm;
+
+import com.backend.debt.model.dto.ClaimConfirmDto;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Data;
+
+/**
+ * 批量审查确认结果
+ *
+ * <p>每条确认信息单独校验，校验通过的写入，未通过的列在错误中，不影响其他确认信息。
+ */
+@Data
+public class ClaimConfirmBatchResultDto {
+
+  /** 提交的确认信息数 */
+  private Integer total;
+
+  /** 新增的确认信息数 */
+  private Integer added;
+
+  /** 更新的确认信息数 */
+  private Integer updated;
+
+  /** 写入的确认信息，新增与更新合在一起，顺序与请求一致 */
+  private List<ClaimConfirmDto> confirms = new ArrayList<>();
+
+  /** 未写入的确认信息及原因 */
+  private List<ClaimConfirmBatchErrorDto> errors = new ArrayList<>();
+}
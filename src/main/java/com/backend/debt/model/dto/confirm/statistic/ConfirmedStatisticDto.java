@@ -1,5 +1,6 @@
 package com.backend.debt.model.dto.confirm.statistic;
 
+import com.backend.debt.model.Money;
 import com.fasterxml.jackson.annotation.JsonValue;
 import com.fasterxml.jackson.annotation.JsonView;
 import com.fasterxml.jackson.annotation.JsonProperty;
@@ -15,13 +16,13 @@ import lombok.Setter;
 public class ConfirmedStatisticDto {
 
   /** 本金 */
-  private Double principal;
+  private Money principal;
 
   /** 利息 */
-  private Double interest;
+  private Money interest;
 
   /** 其他 */
-  private Double other;
+  private Money other;
 
   /** 笔数 */
   private Integer count;
@@ -33,17 +34,10 @@ public class ConfirmedStatisticDto {
   private String confirmNature;
 
   /** 削减金额 */
-  private Double deductionAmount;
+  private Money deductionAmount;
 
   @JsonProperty("total")
-  public Double getTotal() {
-    return addNullSafe(this.principal, addNullSafe(this.interest, this.other));
-  }
-
-  /**
-   * 空值安全的加法运算，如果任一参数为null，视为0
-   */
-  private Double addNullSafe(Double a, Double b) {
-    return (a == null ? 0.0 : a) + (b == null ? 0.0 : b);
+  public Money getTotal() {
+    return Money.sum(this.principal, this.interest, this.other);
   }
 }
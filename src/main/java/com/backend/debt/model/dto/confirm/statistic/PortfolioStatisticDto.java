@@ -0,0 +1,42 @@
+package com.backend.debt.model.dto.confirm.statistic;
+
+import com.backend.debt.model.Money;
+import lombok.Data;
+
+/** 按维度分组的债权统计 */
+@Data
+public class PortfolioStatisticDto {
+
+  /** 分组值，按申报日期分组时为区间起始日期 */
+  private String groupKey;
+
+  /** 债权笔数 */
+  private Integer claimCount;
+
+  /** 申报详情笔数 */
+  private Integer fillingCount;
+
+  /** 申报总额 */
+  private Money declaredAmount;
+
+  /** 全部确认与部分确认的笔数 */
+  private Integer confirmedCount;
+
+  /** 确认总额 */
+  private Money confirmedAmount;
+
+  /** 暂缓确认笔数 */
+  private Integer suspendCount;
+
+  /** 暂缓确认的申报总额 */
+  private Money suspendAmount;
+
+  /** 不予确认笔数 */
+  private Integer rejectCount;
+
+  /** 不予确认的申报总额 */
+  private Money rejectAmount;
+
+  /** 未审核确认笔数 */
+  private Integer unconfirmedCount;
+}
@@ -1,6 +1,7 @@
 package com.backend.debt.model.dto.confirm.statistic;
 
 import com.backend.debt.enums.ReviewStatus;
+import com.backend.debt.model.Money;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import java.util.List;
 import lombok.AllArgsConstructor;
@@ -18,13 +19,13 @@ public class SuspendConfirmStatisticDto {
   private List<ReviewStatus> reviewStatus;
 
   /** 本金 */
-  private Double principal;
+  private Money principal;
 
   /** 利息 */
-  private Double interest;
+  private Money interest;
 
   /** 其他 */
-  private Double other;
+  private Money other;
 
   /** 笔数 */
   private Integer count;
@@ -33,16 +34,11 @@ public class SuspendConfirmStatisticDto {
   private String suspendNature;
 
   @JsonProperty("total")
-  public Double getTotal() {
-    return addNullSafe(this.principal, addNullSafe(this.interest, this.other));
-  }
-
-  /** 空值安全的加法运算，如果任一参数为null，视为0 */
-  private Double addNullSafe(Double a, Double b) {
-    return (a == null ? 0.0 : a) + (b == null ? 0.0 : b);
+  public Money getTotal() {
+    return Money.sum(this.principal, this.interest, this.other);
   }
 
   public static SuspendConfirmStatisticDto defaultEmpty() {
-    return new SuspendConfirmStatisticDto(List.of(), 0.0, 0.0, 0.0, 0, "");
+    return new SuspendConfirmStatisticDto(List.of(), Money.ZERO, Money.ZERO, Money.ZERO, 0, "");
   }
 }
@@ -0,0 +1,21 @@
+package com.backend.debt.model.dto.importer;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/** 导入错误 */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ClaimImportErrorDto {
+
+  /** 行号，与文件中的行号一致，文件级别的错误为空 */
+  private Integer rowNumber;
+
+  /** 债权编号 */
+  private String claimNumber;
+
+  /** 错误信息，同一行的多个错误以分号分隔 */
+  private String message;
+}
@@ -0,0 +1,47 @@
+package com.backend.debt.model.dto.importer;
+
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Data;
+
+/**
+ * 债权导入结果
+ *
+ * <p>债权作为整体导入，任一行有错误时该债权的全部行都不写入，错误报告只列出有错误的行。
+ */
+@Data
+public class ClaimImportResultDto {
+
+  /** 是否读取完整个文件，文件解析失败时为 false，失败之前已写入的债权保留 */
+  private Boolean completed;
+
+  /** 读取的数据行数，不含表头和空行 */
+  private Integer totalRows;
+
+  /** 文件中的债权数 */
+  private Integer totalClaims;
+
+  /** 写入的债权数 */
+  private Integer importedClaims;
+
+  /** 写入的债权人数 */
+  private Integer importedCreditors;
+
+  /** 写入的申报详情数 */
+  private Integer importedFillings;
+
+  /** 未写入的债权数 */
+  private Integer failedClaims;
+
+  /** 有错误的行数 */
+  private Integer errorRows;
+
+  /** 错误报告，超过上限的部分不返回 */
+  private List<ClaimImportErrorDto> errors = new ArrayList<>();
+
+  /** 错误报告是否因超过上限被截断 */
+  private Boolean errorsTruncated;
+
+  /** 耗时，单位：毫秒 */
+  private Long elapsedMillis;
+}
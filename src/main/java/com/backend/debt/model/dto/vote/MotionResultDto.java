@@ -0,0 +1,19 @@
+package com.backend.debt.model.dto.vote;
+
+import com.backend.debt.enums.MotionType;
+import java.util.List;
+import lombok.Data;
+
+/** 议案表决结果 */
+@Data
+public class MotionResultDto {
+
+  /** 议案类型 */
+  private MotionType motionType;
+
+  /** 是否通过，所有表决组都通过时为 true */
+  private Boolean passed;
+
+  /** 各表决组的结果 */
+  private List<VoteGroupResultDto> groups;
+}
@@ -0,0 +1,18 @@
+package com.backend.debt.model.dto.vote;
+
+import com.backend.debt.model.Money;
+import lombok.Data;
+
+/** 按债权归类汇总的表决权重 */
+@Data
+public class VoteClassTotalDto {
+
+  /** 债权归类，未归类时为空字符串 */
+  private String claimClass;
+
+  /** 参与表决的债权笔数 */
+  private Integer claimCount;
+
+  /** 表决权重合计 */
+  private Money totalWeight;
+}
@@ -0,0 +1,36 @@
+package com.backend.debt.model.dto.vote;
+
+import com.backend.debt.model.Money;
+import lombok.Data;
+
+/** 一个表决组的表决结果 */
+@Data
+public class VoteGroupResultDto {
+
+  /** 表决组名称，重整计划按债权归类分组，其他议案为全体债权人 */
+  private String groupName;
+
+  /** 组内参与表决的债权笔数 */
+  private Integer totalCount;
+
+  /** 计算金额比例时的债权额总数 */
+  private Money totalWeight;
+
+  /** 出席的债权笔数 */
+  private Integer attendeeCount;
+
+  /** 同意的债权笔数 */
+  private Integer approveCount;
+
+  /** 同意的债权额 */
+  private Money approveWeight;
+
+  /** 出席人数是否过半数同意 */
+  private Boolean headcountPassed;
+
+  /** 同意的债权额是否达到比例 */
+  private Boolean amountPassed;
+
+  /** 本组是否通过 */
+  private Boolean passed;
+}
@@ -3,6 +3,7 @@ package com.backend.debt.model.entity;
 import com.baomidou.mybatisplus.annotation.FieldFill;
 import com.baomidou.mybatisplus.annotation.TableField;
 import com.baomidou.mybatisplus.annotation.TableLogic;
+import com.baomidou.mybatisplus.annotation.Version;
 import com.fasterxml.jackson.annotation.JsonFormat;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.fasterxml.jackson.databind.annotation.JsonSerialize;
@@ -29,6 +30,11 @@ public class BaseEntity {
   @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
   private LocalDateTime updateTime;
 
+  /** 乐观锁版本号，新增时为0，updateById 以版本号相等为条件更新并加一，由MyBatis Plus维护 */
+  @Version
+  @TableField(value = "version", fill = FieldFill.INSERT)
+  private Integer version;
+
   /** 逻辑删除标志，0:未删除, 1:已删除 */
   @TableLogic
   @TableField("deleted")
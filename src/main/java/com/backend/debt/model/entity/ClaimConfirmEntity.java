@@ -1,6 +1,7 @@
 package com.backend.debt.model.entity;
 
 import com.backend.debt.enums.ReviewStatus;
+import com.backend.debt.model.Money;
 import com.baomidou.mybatisplus.annotation.IdType;
 import com.baomidou.mybatisplus.annotation.TableId;
 import com.baomidou.mybatisplus.annotation.TableName;
@@ -28,13 +29,13 @@ public class ClaimConfirmEntity extends BaseEntity {
   private ReviewStatus reviewStatus;
 
   /** 确认本金 */
-  private Double confirmedPrincipal;
+  private Money confirmedPrincipal;
 
   /** 确认利息 */
-  private Double confirmedInterest;
+  private Money confirmedInterest;
 
   /** 确认其他金额 */
-  private Double confirmedOther;
+  private Money confirmedOther;
 
   /** 确认债权性质 */
   private String claimNature;
@@ -0,0 +1,36 @@
+package com.backend.debt.model.entity;
+
+import java.util.List;
+import lombok.Data;
+
+/**
+ * 债权申报聚合，由一条 SQL 通过 json 聚合查询得到
+ *
+ * <p>不对应数据库表，包含债权申报、债权人、申报详情及其确认信息、申报金额汇总，各实体不含创建、更新时间。
+ */
+@Data
+public class ClaimDetailAggregate {
+
+  /** 债权申报 */
+  private ClaimEntity claim;
+
+  /** 债权人列表 */
+  private List<CreditorEntity> creditors;
+
+  /** 申报详情列表 */
+  private List<Filling> fillings;
+
+  /** 申报金额汇总，没有填报时可能为空 */
+  private ClaimSummaryEntity summary;
+
+  /** 申报详情及其确认信息 */
+  @Data
+  public static class Filling {
+
+    /** 申报详情 */
+    private ClaimFillingEntity filling;
+
+    /** 确认信息，未审核时为空 */
+    private ClaimConfirmEntity confirm;
+  }
+}
@@ -1,5 +1,6 @@
 package com.backend.debt.model.entity;
 
+import com.backend.debt.model.Money;
 import com.baomidou.mybatisplus.annotation.IdType;
 import com.baomidou.mybatisplus.annotation.TableId;
 import com.baomidou.mybatisplus.annotation.TableName;
@@ -25,13 +26,13 @@ public class ClaimFillingEntity extends BaseEntity {
   private String claimNature;
 
   /** 申报本金 */
-  private Double claimPrincipal;
+  private Money claimPrincipal;
 
   /** 申报利息 */
-  private Double claimInterest;
+  private Money claimInterest;
 
   /** 申报其他 */
-  private Double claimOther;
+  private Money claimOther;
 
   /** 担保物明细 */
   private String collateralDetails;
@@ -0,0 +1,78 @@
+package com.backend.debt.model.entity;
+
+import com.backend.debt.enums.ReviewStatus;
+import com.backend.debt.model.Money;
+import java.time.LocalDate;
+import lombok.Data;
+
+/**
+ * 债权台账行，每笔申报详情一行
+ *
+ * <p>不对应数据库表，由台账导出查询得到。没有申报详情的债权也输出一行，申报与确认列为空；确认信息取申报详情最新的一条。
+ */
+@Data
+public class ClaimLedgerRow {
+
+  /** 债权ID */
+  private String claimId;
+
+  /** 债权编号 */
+  private String claimNumber;
+
+  /** 申报日期 */
+  private LocalDate claimDate;
+
+  /** 登记人 */
+  private String registrar;
+
+  /** 分配审核人员 */
+  private String auditor;
+
+  /** 债权归类 */
+  private String claimCategory;
+
+  /** 是否有债权人会议表决权 */
+  private Boolean hasVotingRight;
+
+  /** 债权人姓名，多个以“、”拼接 */
+  private String creditorNames;
+
+  /** 债权人证件号码，多个以“、”拼接，顺序与姓名一致 */
+  private String creditorIdentificationNumbers;
+
+  /** 申报详情ID */
+  private String fillingId;
+
+  /** 申报债权性质 */
+  private String claimNature;
+
+  /** 担保物明细 */
+  private String collateralDetails;
+
+  /** 申报本金 */
+  private Money claimPrincipal;
+
+  /** 申报利息 */
+  private Money claimInterest;
+
+  /** 申报其他 */
+  private Money claimOther;
+
+  /** 审查状态，未审核时为空 */
+  private ReviewStatus reviewStatus;
+
+  /** 确认本金 */
+  private Money confirmedPrincipal;
+
+  /** 确认利息 */
+  private Money confirmedInterest;
+
+  /** 确认其他 */
+  private Money confirmedOther;
+
+  /** 确认债权性质 */
+  private String confirmNature;
+
+  /** 审查理由 */
+  private String reviewReason;
+}
@@ -0,0 +1,85 @@
+package com.backend.debt.model.entity;
+
+import com.backend.debt.model.Money;
+import com.baomidou.mybatisplus.annotation.IdType;
+import com.baomidou.mybatisplus.annotation.TableId;
+import com.baomidou.mybatisplus.annotation.TableName;
+import java.time.LocalDateTime;
+import lombok.Data;
+
+/**
+ * 债权确认统计快照表实体类，随申报详情与确认信息增量维护，不做逻辑删除
+ *
+ * <p>每笔申报详情只取最新的一条确认信息。没有对应状态的记录时金额为0、拼接字段为空。增量维护时也用作单笔申报详情对统计的贡献值。
+ */
+@Data
+@TableName("claim_statistic")
+public class ClaimStatisticEntity {
+
+  /** 债权申报ID */
+  @TableId(value = "claim_id", type = IdType.INPUT)
+  private String claimId;
+
+  /** 申报详情笔数 */
+  private Integer fillingCount;
+
+  /** 未确认笔数，包括没有确认信息和状态为未审核确认的申报详情 */
+  private Integer unconfirmedCount;
+
+  /** 全部确认笔数 */
+  private Integer allConfirmCount;
+
+  /** 部分确认笔数 */
+  private Integer partConfirmCount;
+
+  /** 暂缓确认笔数 */
+  private Integer suspendCount;
+
+  /** 不予确认笔数 */
+  private Integer rejectCount;
+
+  /** 全部确认与部分确认的确认本金 */
+  private Money confirmedPrincipal;
+
+  /** 全部确认与部分确认的确认利息 */
+  private Money confirmedInterest;
+
+  /** 全部确认与部分确认的确认其他 */
+  private Money confirmedOther;
+
+  /** 全部确认与部分确认的担保物明细，去重后以"、"连接 */
+  private String confirmedCollateralDetails;
+
+  /** 全部确认与部分确认的确认性质，去重后以"、"连接 */
+  private String confirmedNature;
+
+  /** 部分确认与不予确认的削减金额 */
+  private Money deductionAmount;
+
+  /** 暂缓确认的申报本金 */
+  private Money suspendPrincipal;
+
+  /** 暂缓确认的申报利息 */
+  private Money suspendInterest;
+
+  /** 暂缓确认的申报其他 */
+  private Money suspendOther;
+
+  /** 暂缓确认性质，去重后以"、"连接 */
+  private String suspendNature;
+
+  /** 不予确认的申报本金 */
+  private Money rejectPrincipal;
+
+  /** 不予确认的申报利息 */
+  private Money rejectInterest;
+
+  /** 不予确认的申报其他 */
+  private Money rejectOther;
+
+  /** 不予确认原因，去重后以"、"连接 */
+  private String rejectReason;
+
+  /** 更新时间 */
+  private LocalDateTime updateTime;
+}
@@ -0,0 +1,47 @@
+package com.backend.debt.model.entity;
+
+import com.backend.debt.model.Money;
+import com.baomidou.mybatisplus.annotation.IdType;
+import com.baomidou.mybatisplus.annotation.TableId;
+import com.baomidou.mybatisplus.annotation.TableName;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.experimental.Accessors;
+
+/** 债权申报金额汇总表实体类，随申报详情增量维护，不做逻辑删除 */
+@Data
+@Accessors(chain = true)
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@TableName("claim_summary")
+public class ClaimSummaryEntity {
+
+  /** 债权申报ID */
+  @TableId(value = "claim_id", type = IdType.INPUT)
+  private String claimId;
+
+  /** 申报本金合计 */
+  private Money totalPrincipal;
+
+  /** 申报利息合计 */
+  private Money totalInterest;
+
+  /** 其他项目金额合计 */
+  private Money totalOther;
+
+  /** 申报总金额 */
+  private Money totalAmount;
+
+  /** 申报笔数 */
+  private Integer fillingCount;
+
+  /** 去重后的债权性质，以"、"分隔 */
+  private String claimNatures;
+
+  /** 更新时间 */
+  private LocalDateTime updateTime;
+}
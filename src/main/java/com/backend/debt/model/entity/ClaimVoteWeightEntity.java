@@ -0,0 +1,40 @@
+package com.backend.debt.model.entity;
+
+import com.backend.debt.model.Money;
+import com.baomidou.mybatisplus.annotation.IdType;
+import com.baomidou.mybatisplus.annotation.TableId;
+import com.baomidou.mybatisplus.annotation.TableName;
+import java.time.LocalDateTime;
+import lombok.Data;
+
+/**
+ * 债权人会议表决权重表实体类，由债权申报与确认统计快照计算，不做逻辑删除
+ *
+ * <p>权重为确认金额乘以债权归类的权重系数。有表决权且权重大于0的债权才参与表决。
+ */
+@Data
+@TableName("claim_vote_weight")
+public class ClaimVoteWeightEntity {
+
+  /** 债权申报ID */
+  @TableId(value = "claim_id", type = IdType.INPUT)
+  private String claimId;
+
+  /** 债权归类，未归类时为空字符串 */
+  private String claimClass;
+
+  /** 是否有债权人会议表决权 */
+  private Boolean hasVotingRight;
+
+  /** 确认金额，全部确认与部分确认的本金、利息、其他之和 */
+  private Money confirmedAmount;
+
+  /** 表决权重 */
+  private Money weight;
+
+  /** 是否参与表决 */
+  private Boolean voting;
+
+  /** 更新时间 */
+  private LocalDateTime updateTime;
+}
@@ -0,0 +1,61 @@
+package com.backend.debt.model.page;
+
+import cn.hutool.core.codec.Base64;
+import cn.hutool.core.util.StrUtil;
+import com.backend.debt.exceptions.CustomException;
+import com.backend.debt.exceptions.HttpResponseStatus;
+import java.nio.charset.StandardCharsets;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 游标分页标记
+ *
+ * <p>由排序键和主键组成，编码为 URL 安全的 Base64 字符串返回给客户端。客户端只需原样回传，不应解析其内容。 排序键为空表示游标已进入排序键为 NULL 的记录段。
+ */
+@Getter
+@AllArgsConstructor
+public class KeysetCursor {
+
+  private static final String SEPARATOR = "|";
+
+  /** 排序键，为空表示排序键为 NULL 的记录段 */
+  private final String sortValue;
+
+  /** 主键，作为排序键相同时的次级排序 */
+  private final String id;
+
+  /**
+   * 编码为对客户端不透明的游标字符串
+   *
+   * @return 游标字符串
+   */
+  public String encode() {
+    String raw = StrUtil.nullToEmpty(sortValue) + SEPARATOR + id;
+    return Base64.encodeUrlSafe(raw, StandardCharsets.UTF_8);
+  }
+
+  /**
+   * 解析游标字符串
+   *
+   * @param cursor 客户端回传的游标，空字符串表示第一页
+   * @return 游标，第一页时返回 null
+   */
+  public static KeysetCursor decode(String cursor) {
+    if (StrUtil.isBlank(cursor)) {
+      return null;
+    }
+    try {
+      String raw = Base64.decodeStr(cursor, StandardCharsets.UTF_8);
+      int index = raw.lastIndexOf(SEPARATOR);
+      if (index < 0 || index == raw.length() - 1) {
+        throw new IllegalArgumentException("missing separator");
+      }
+      String sortValue = raw.substring(0, index);
+      return new KeysetCursor(sortValue.isEmpty() ? null : sortValue, raw.substring(index + 1));
+    } catch (Exception e) {
+      throw new CustomException(
+          HttpResponseStatus.BAD_REQUEST.code(), "分页游标无效", "分页游标解析失败：" + cursor);
+    }
+  }
+}
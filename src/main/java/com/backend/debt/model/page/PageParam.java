@@ -1,5 +1,6 @@
 package com.backend.debt.model.page;
 
+import com.backend.debt.enums.CountMode;
 import java.io.Serializable;
 import lombok.Getter;
 import lombok.Setter;
@@ -17,6 +18,9 @@ public class PageParam implements Serializable {
 
   @NotNull private Integer pageSize = PAGE_SIZE;
 
+  /** 总数统计方式，默认精确统计 */
+  private CountMode countMode = CountMode.EXACT;
+
   /** 默认构造函数 */
   public PageParam() {}
 
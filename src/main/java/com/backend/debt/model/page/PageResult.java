@@ -12,6 +12,12 @@ public final class PageResult<T> implements Serializable {
 
   private Long total;
 
+  /** 游标分页时下一页的游标，没有下一页时为 null */
+  private String nextCursor;
+
+  /** 是否还有下一页，不统计总数时据此判断是否继续翻页 */
+  private Boolean hasMore;
+
   public PageResult() {}
 
   public PageResult(List<T> list, Long total) {
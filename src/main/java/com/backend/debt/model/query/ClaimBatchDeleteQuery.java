@@ -0,0 +1,22 @@
+package com.backend.debt.model.query;
+
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+import java.util.List;
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.Size;
+import lombok.Data;
+
+/** 批量删除债权申报请求参数 */
+@Data
+@ApiModel(value = "批量删除债权申报请求参数")
+public class ClaimBatchDeleteQuery {
+
+  /** 单次最多删除的债权数量 */
+  public static final int MAX_CLAIM_IDS = 10000;
+
+  @ApiModelProperty(value = "债权ID列表，单次最多10000个", required = true)
+  @NotEmpty(message = "债权ID列表不能为空")
+  @Size(max = MAX_CLAIM_IDS, message = "单次最多删除10000个债权")
+  private List<String> claimIds;
+}
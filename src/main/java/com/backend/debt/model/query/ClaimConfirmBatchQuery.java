@@ -0,0 +1,40 @@
+package com.backend.debt.model.query;
+
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+import java.util.List;
+import javax.validation.Valid;
+import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.Size;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+
+/** 批量审查确认请求参数 */
+@Data
+@ApiModel(value = "批量审查确认请求参数")
+public class ClaimConfirmBatchQuery {
+
+  /** 单次最多提交的确认信息数量 */
+  public static final int MAX_ITEMS = 1000;
+
+  @ApiModelProperty(value = "确认信息列表，单次最多1000条", required = true)
+  @NotEmpty(message = "确认信息列表不能为空")
+  @Size(max = MAX_ITEMS, message = "单次最多提交1000条确认信息")
+  @Valid
+  private List<Item> items;
+
+  /** 单个申报详情的确认信息 */
+  @Data
+  @EqualsAndHashCode(callSuper = true)
+  @ApiModel(value = "批量审查确认的单条确认信息")
+  public static class Item extends ClaimConfirmQuery {
+
+    @ApiModelProperty(value = "债权详情ID", required = true)
+    @NotBlank(message = "债权详情ID不能为空")
+    private String claimFillingId;
+
+    @ApiModelProperty(value = "客户端持有的确认信息版本号，与已有确认信息的版本号不一致时该条不写入，为空时不校验")
+    private Integer version;
+  }
+}
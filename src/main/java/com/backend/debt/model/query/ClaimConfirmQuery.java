@@ -1,6 +1,7 @@
 package com.backend.debt.model.query;
 
 import com.backend.debt.enums.ReviewStatus;
+import com.backend.debt.model.Money;
 import com.backend.debt.model.entity.ClaimConfirmEntity;
 import io.swagger.annotations.ApiModel;
 import io.swagger.annotations.ApiModelProperty;
@@ -24,17 +25,17 @@ public class ClaimConfirmQuery {
   /** 确认本金 */
   @DecimalMin(value = "0", message = "确认本金不能小于0")
   @ApiModelProperty(value = "确认本金", example = "10000.00")
-  private Double confirmedPrincipal;
+  private Money confirmedPrincipal;
 
   /** 确认利息 */
   @DecimalMin(value = "0", message = "确认利息不能小于0")
   @ApiModelProperty(value = "确认利息", example = "500.00")
-  private Double confirmedInterest;
+  private Money confirmedInterest;
 
   /** 确认其他金额 */
   @DecimalMin(value = "0", message = "确认其他金额不能小于0")
   @ApiModelProperty(value = "确认其他金额", example = "200.00")
-  private Double confirmedOther;
+  private Money confirmedOther;
 
   /** 确认债权性质 */
   @ApiModelProperty(value = "确认债权性质", example = "普通债权")
@@ -1,5 +1,6 @@
 package com.backend.debt.model.query;
 
+import com.backend.debt.model.Money;
 import com.backend.debt.model.entity.ClaimFillingEntity;
 import io.swagger.annotations.ApiModel;
 import io.swagger.annotations.ApiModelProperty;
@@ -22,15 +23,15 @@ public class ClaimFillingQuery {
 
   @ApiModelProperty(example = "10000.00")
   @DecimalMin(value = "0", message = "申报本金不能小于0")
-  private Double claimPrincipal;
+  private Money claimPrincipal;
 
   @ApiModelProperty(example = "500.00")
   @DecimalMin(value = "0", message = "申报利息不能小于0")
-  private Double claimInterest;
+  private Money claimInterest;
 
   @ApiModelProperty(example = "200.00")
   @DecimalMin(value = "0", message = "申报其他金额不能小于0")
-  private Double claimOther;
+  private Money claimOther;
 
   public ClaimFillingEntity to(String id, String claimId) {
     return ClaimFillingEntity.builder()
@@ -0,0 +1,28 @@
+package com.backend.debt.model.query;
+
+import com.backend.debt.enums.SpreadsheetFormat;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+import java.time.LocalDate;
+import lombok.Data;
+
+/** 债权台账导出查询参数 */
+@Data
+@ApiModel(value = "债权台账导出查询参数")
+public class ClaimLedgerExportQuery {
+
+  @ApiModelProperty(value = "导出格式，默认 CSV")
+  private SpreadsheetFormat format = SpreadsheetFormat.CSV;
+
+  @ApiModelProperty(value = "分配审核人员")
+  private String auditor;
+
+  @ApiModelProperty(value = "申报日期开始", example = "2023-01-01")
+  @JsonFormat(pattern = "yyyy-MM-dd")
+  private LocalDate startClaimDate;
+
+  @ApiModelProperty(value = "申报日期结束", example = "2023-12-31")
+  @JsonFormat(pattern = "yyyy-MM-dd")
+  private LocalDate endClaimDate;
+}
@@ -1,5 +1,6 @@
 package com.backend.debt.model.query;
 
+import com.backend.debt.model.Money;
 import com.backend.debt.model.page.PageParam;
 import com.fasterxml.jackson.annotation.JsonFormat;
 import io.swagger.annotations.ApiModel;
@@ -20,6 +21,9 @@ public class ClaimSimplePageQuery extends PageParam {
   @ApiModelProperty(value = "登记人")
   private String registrar;
 
+  @ApiModelProperty(value = "债权人名称，模糊匹配")
+  private String creditorName;
+
   @ApiModelProperty(value = "申报日期开始", example = "2023-01-01")
   @JsonFormat(pattern = "yyyy-MM-dd")
   private LocalDate startClaimDate;
@@ -27,4 +31,13 @@ public class ClaimSimplePageQuery extends PageParam {
   @ApiModelProperty(value = "申报日期结束", example = "2023-12-31")
   @JsonFormat(pattern = "yyyy-MM-dd")
   private LocalDate endClaimDate;
+
+  @ApiModelProperty(value = "申报总额下限（含）")
+  private Money minDeclaredTotal;
+
+  @ApiModelProperty(value = "申报总额上限（含）")
+  private Money maxDeclaredTotal;
+
+  @ApiModelProperty(value = "游标分页标记：为 null 时按页码分页；首页传空字符串，之后传上一页返回的 next_cursor")
+  private String cursor;
 }
@@ -0,0 +1,24 @@
+package com.backend.debt.model.query;
+
+import com.backend.debt.enums.MotionType;
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+import java.util.List;
+import javax.validation.constraints.NotNull;
+import lombok.Data;
+
+/** 议案表决查询参数 */
+@Data
+@ApiModel(value = "议案表决查询参数")
+public class MotionVoteQuery {
+
+  @ApiModelProperty(value = "议案类型", required = true)
+  @NotNull(message = "议案类型不能为空")
+  private MotionType motionType;
+
+  @ApiModelProperty(value = "出席会议的债权ID列表，同意的债权视为出席")
+  private List<String> attendeeClaimIds;
+
+  @ApiModelProperty(value = "同意议案的债权ID列表")
+  private List<String> approveClaimIds;
+}
@@ -0,0 +1,31 @@
+package com.backend.debt.model.query;
+
+import com.backend.debt.enums.DateBucket;
+import com.backend.debt.enums.StatisticDimension;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+import java.time.LocalDate;
+import javax.validation.constraints.NotNull;
+import lombok.Data;
+
+/** 全部债权分组统计查询参数 */
+@Data
+@ApiModel(value = "全部债权分组统计查询参数")
+public class PortfolioStatisticQuery {
+
+  @ApiModelProperty(value = "分组维度", required = true)
+  @NotNull(message = "分组维度不能为空")
+  private StatisticDimension groupBy;
+
+  @ApiModelProperty(value = "按申报日期分组时的粒度，默认按月")
+  private DateBucket dateBucket = DateBucket.MONTH;
+
+  @ApiModelProperty(value = "申报日期开始", example = "2023-01-01")
+  @JsonFormat(pattern = "yyyy-MM-dd")
+  private LocalDate startClaimDate;
+
+  @ApiModelProperty(value = "申报日期结束", example = "2023-12-31")
+  @JsonFormat(pattern = "yyyy-MM-dd")
+  private LocalDate endClaimDate;
+}
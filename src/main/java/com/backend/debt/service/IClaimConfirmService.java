@@ -1,13 +1,17 @@
 package com.backend.debt.service;
 
 import com.backend.debt.model.dto.ClaimConfirmDto;
+import com.backend.debt.model.dto.ClaimFillingDeltaDto;
+import com.backend.debt.model.dto.confirm.ClaimConfirmBatchResultDto;
+import com.backend.debt.model.query.ClaimConfirmBatchQuery;
 import com.backend.debt.model.query.ClaimConfirmQuery;
+import java.util.List;
 
 /** 债权确认服务接口 */
 public interface IClaimConfirmService {
 
   /**
-   * 添加债权确认信息
+   * 添加债权确认信息，申报详情已有确认信息时覆盖该条，每个申报详情只有一条确认信息
    *
    * @param claimFillingId 债权详情ID
    * @param query 债权确认信息
@@ -20,9 +24,39 @@ public interface IClaimConfirmService {
    *
    * @param claimConfirmId 债权确认ID
    * @param query 债权确认更新信息
+   * @param expectedVersion 客户端持有的版本号（If-Match），为空时只以读取到的版本号为条件
    * @return ClaimConfirmDto
    */
-  ClaimConfirmDto updateClaimConfirm(String claimConfirmId, ClaimConfirmQuery query);
+  ClaimConfirmDto updateClaimConfirm(
+      String claimConfirmId, ClaimConfirmQuery query, Integer expectedVersion);
+
+  /**
+   * 批量添加或更新债权确认信息，申报详情已有确认信息时更新最新的一条，没有时新增
+   *
+   * @param items 各申报详情的确认信息
+   * @return 写入的确认信息与未通过校验的错误，校验未通过的不影响其他确认信息写入
+   */
+  ClaimConfirmBatchResultDto saveClaimConfirms(List<ClaimConfirmBatchQuery.Item> items);
+
+  /**
+   * 添加债权确认信息，返回包含该确认信息的债权详情
+   *
+   * @param claimFillingId 债权详情ID
+   * @param query 债权确认信息
+   * @return 被修改的债权详情，确认信息不影响申报金额汇总，汇总为空
+   */
+  ClaimFillingDeltaDto addClaimConfirmDelta(String claimFillingId, ClaimConfirmQuery query);
+
+  /**
+   * 更新债权确认信息，返回包含该确认信息的债权详情
+   *
+   * @param claimConfirmId 债权确认ID
+   * @param query 债权确认更新信息
+   * @param expectedVersion 客户端持有的版本号（If-Match），为空时只以读取到的版本号为条件
+   * @return 被修改的债权详情，确认信息不影响申报金额汇总，汇总为空
+   */
+  ClaimFillingDeltaDto updateClaimConfirmDelta(
+      String claimConfirmId, ClaimConfirmQuery query, Integer expectedVersion);
 
   /**
    * 删除债权确认信息
@@ -37,9 +37,10 @@ public interface IClaimCreditorService {
    *
    * @param creditorId 债权人ID
    * @param creditorDto 债权人更新信息
+   * @param expectedVersion 客户端持有的版本号（If-Match），为空时只以读取到的版本号为条件
    * @return 是否更新成功
    */
-  boolean updateCreditor(String creditorId, CreditorDto creditorDto);
+  boolean updateCreditor(String creditorId, CreditorDto creditorDto, Integer expectedVersion);
 
   /**
    * 删除债权人信息
@@ -0,0 +1,19 @@
+package com.backend.debt.service;
+
+import com.backend.debt.model.query.ClaimLedgerExportQuery;
+import java.io.OutputStream;
+
+/** 债权数据导出服务接口 */
+public interface IClaimExportService {
+
+  /**
+   * 导出债权台账，每笔申报详情一行，包含债权、债权人、申报、确认信息及申报、确认合计
+   *
+   * <p>边从数据库游标读取边写到输出流，内存占用与导出行数无关。
+   *
+   * @param query 导出查询参数
+   * @param out 输出流，不会被关闭
+   * @return 导出的行数
+   */
+  long exportLedger(ClaimLedgerExportQuery query, OutputStream out);
+}
@@ -1,6 +1,7 @@
 package com.backend.debt.service;
 
 import com.backend.debt.model.dto.ClaimDetailDto;
+import com.backend.debt.model.dto.ClaimFillingDeltaDto;
 import com.backend.debt.model.dto.ClaimFillingDto;
 import com.backend.debt.model.entity.ClaimFillingEntity;
 import com.backend.debt.model.query.ClaimFillingQuery;
@@ -14,9 +15,22 @@ public interface IClaimFillingService {
    *
    * @param claimFillingId 债权申报金额ID
    * @param query 债权申报金额更新信息
+   * @param expectedVersion 客户端持有的版本号（If-Match），为空时只以读取到的版本号为条件
    * @return 更新后的债权申报金额详情
    */
-  ClaimDetailDto updateClaimFilling(String claimFillingId, ClaimFillingQuery query);
+  ClaimDetailDto updateClaimFilling(
+      String claimFillingId, ClaimFillingQuery query, Integer expectedVersion);
+
+  /**
+   * 更新债权申报金额信息，只返回变更部分
+   *
+   * @param claimFillingId 债权申报金额ID
+   * @param query 债权申报金额更新信息
+   * @param expectedVersion 客户端持有的版本号（If-Match），为空时只以读取到的版本号为条件
+   * @return 被修改的债权申报金额及重新计算的汇总
+   */
+  ClaimFillingDeltaDto updateClaimFillingDelta(
+      String claimFillingId, ClaimFillingQuery query, Integer expectedVersion);
 
   /**
    * 添加债权申报金额信息
@@ -43,6 +57,14 @@ public interface IClaimFillingService {
    */
   ClaimFillingEntity validateAndGet(String claimFillingId);
 
+  /**
+   * 校验并锁定债权申报金额信息，申报详情及其确认信息的写入都先调用该方法，修改前的数据在锁定后读取
+   *
+   * @param claimFillingId 债权详情ID
+   * @return 加锁读取到的 ClaimFillingEntity
+   */
+  ClaimFillingEntity lockAndGet(String claimFillingId);
+
   /**
    * 根据债权ID获取债权申报金额信息以及确认情况
    * @param claimId claimId
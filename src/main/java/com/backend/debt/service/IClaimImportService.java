@@ -0,0 +1,19 @@
+package com.backend.debt.service;
+
+import com.backend.debt.model.dto.importer.ClaimImportResultDto;
+import org.springframework.web.multipart.MultipartFile;
+
+/** 债权数据导入服务接口 */
+public interface IClaimImportService {
+
+  /**
+   * 从 CSV 或 XLSX 文件批量导入债权、债权人和申报详情
+   *
+   * <p>解析、校验、写入三个阶段并行执行，阶段之间通过有界队列传递，内存占用与文件行数无关。每批债权在一个事务内写入，
+   * 有错误的债权跳过，不影响其他债权。
+   *
+   * @param file 导入文件，按扩展名识别格式
+   * @return 导入结果及逐行的错误报告
+   */
+  ClaimImportResultDto importClaims(MultipartFile file);
+}
@@ -0,0 +1,27 @@
+package com.backend.debt.service;
+
+import java.io.OutputStream;
+import java.util.List;
+
+/** 债权通知书服务接口 */
+public interface IClaimNoticeService {
+
+  /**
+   * 生成债权审查确认通知书
+   *
+   * @param claimId 债权ID
+   * @return PDF 内容
+   */
+  byte[] renderConfirmNotice(String claimId);
+
+  /**
+   * 批量生成债权审查确认通知书，打包为一个 ZIP 写到输出流
+   *
+   * <p>在有界线程池中并行渲染，按债权ID的顺序写入 ZIP，渲染完成一份写出一份。不存在的债权跳过。
+   *
+   * @param claimIds 债权ID列表
+   * @param out 输出流，不会被关闭
+   * @return 写入的通知书数量
+   */
+  int renderConfirmNotices(List<String> claimIds, OutputStream out);
+}
@@ -6,6 +6,7 @@ import com.backend.debt.model.entity.ClaimEntity;
 import com.backend.debt.model.page.PageResult;
 import com.backend.debt.model.query.ClaimQuery;
 import com.backend.debt.model.query.ClaimSimplePageQuery;
+import java.util.List;
 
 /** 债权申报服务接口 */
 public interface IClaimService {
@@ -34,14 +35,23 @@ public interface IClaimService {
    */
   boolean deleteClaimItem(String claimId);
 
+  /**
+   * 批量删除债权申报信息 同时删除相关联的记录，不存在或已删除的债权跳过
+   *
+   * @param claimIds 债权申报ID列表
+   * @return 实际删除的债权数量
+   */
+  int deleteClaims(List<String> claimIds);
+
   /**
    * 更新债权申报信息
    *
    * @param claimId 债权申报ID
    * @param updateDto 债权申报更新信息
+   * @param expectedVersion 客户端持有的版本号（If-Match），为空时只以读取到的版本号为条件
    * @return 是否更新成功
    */
-  boolean updateClaimItem(String claimId, ClaimQuery updateDto);
+  boolean updateClaimItem(String claimId, ClaimQuery updateDto, Integer expectedVersion);
 
   /**
    * 获取债权申报详情
@@ -1,6 +1,13 @@
 package com.backend.debt.service;
 
+import com.backend.debt.model.dto.ClaimFillingDto;
 import com.backend.debt.model.dto.confirm.statistic.ClaimConfirmStatisticDto;
+import com.backend.debt.model.dto.confirm.statistic.PortfolioStatisticDto;
+import com.backend.debt.model.entity.ClaimConfirmEntity;
+import com.backend.debt.model.entity.ClaimFillingEntity;
+import com.backend.debt.model.query.PortfolioStatisticQuery;
+import java.util.List;
+import java.util.Map;
 
 public interface IClaimStatisticService {
 
@@ -11,4 +18,75 @@ public interface IClaimStatisticService {
    * @return ClaimConfirmStatisticDto
    */
   ClaimConfirmStatisticDto calculateConfirmedStatistic(String claimId);
+
+  /**
+   * 批量获取多个债权的确认统计。
+   *
+   * @param claimIds 债权ID列表
+   * @return 债权ID到确认统计的映射，顺序与请求一致
+   */
+  Map<String, ClaimConfirmStatisticDto> calculateConfirmedStatistics(List<String> claimIds);
+
+  /**
+   * 根据已加载的申报详情及其确认信息计算确认统计，用于已经批量读取了申报详情的场景。
+   *
+   * @param claimFillings 债权下的全部申报详情，确认信息需已关联
+   * @return ClaimConfirmStatisticDto
+   */
+  ClaimConfirmStatisticDto calculateConfirmedStatistic(List<ClaimFillingDto> claimFillings);
+
+  /**
+   * 按维度分组统计全部债权的申报与确认金额。
+   *
+   * @param query 分组维度与申报日期范围
+   * @return 各分组的统计
+   */
+  List<PortfolioStatisticDto> calculatePortfolioStatistic(PortfolioStatisticQuery query);
+
+  /**
+   * 申报详情或其确认信息变化后按增量更新统计快照，需要在同一事务内、写入之后调用。
+   *
+   * <p>调用方需要先以 {@link IClaimFillingService#lockAndGet(String)} 锁定申报详情，再读取 before 与
+   * beforeConfirm，否则并发修改同一申报详情及其确认信息时增量会重复或遗漏。
+   *
+   * @param claimId 债权ID
+   * @param before 变化前的申报详情，新增时为空
+   * @param beforeConfirm 变化前申报详情最新的确认信息
+   * @param after 变化后的申报详情，删除时为空
+   * @param afterConfirm 变化后申报详情最新的确认信息
+   */
+  void onFillingChanged(
+      String claimId,
+      ClaimFillingEntity before,
+      ClaimConfirmEntity beforeConfirm,
+      ClaimFillingEntity after,
+      ClaimConfirmEntity afterConfirm);
+
+  /**
+   * 修改确认信息后以一条语句重新计算相关债权的统计快照，并刷新表决权重，需要在同一事务内、写入确认信息之后调用。
+   *
+   * @param claimIds 确认信息有变化的债权ID
+   */
+  void onConfirmsChanged(List<String> claimIds);
+
+  /**
+   * 删除债权后以一条语句删除其统计快照，需要在同一事务内调用。
+   *
+   * @param claimIds 删除的债权ID
+   */
+  void onClaimsRemoved(List<String> claimIds);
+
+  /**
+   * 批量导入债权后以一条语句生成统计快照，需要在同一事务内、写入申报详情之后调用。
+   *
+   * @param claimIds 导入的债权ID
+   */
+  void onClaimsImported(List<String> claimIds);
+
+  /**
+   * 根据申报详情与确认信息校验全部统计快照，修复不一致的快照。
+   *
+   * @return 修复的快照数量
+   */
+  int verifySnapshots();
 }
@@ -0,0 +1,70 @@
+package com.backend.debt.service;
+
+import com.backend.debt.model.dto.ClaimSummaryDto;
+import com.backend.debt.model.entity.ClaimFillingEntity;
+import java.util.List;
+import java.util.Map;
+
+/** 债权申报金额汇总服务接口 */
+public interface IClaimSummaryService {
+
+  /**
+   * 获取债权的申报金额汇总
+   *
+   * @param claimId 债权ID
+   * @return 申报金额汇总，没有填报时返回 null
+   */
+  ClaimSummaryDto getSummary(String claimId);
+
+  /**
+   * 批量获取债权的申报金额汇总
+   *
+   * @param claimIds 债权ID列表
+   * @return 债权ID到汇总的映射，没有填报的债权不在映射中
+   */
+  Map<String, ClaimSummaryDto> getSummaries(List<String> claimIds);
+
+  /**
+   * 新增申报详情后累加汇总，需要在同一事务内调用
+   *
+   * @param filling 新增的申报详情
+   */
+  void onFillingAdded(ClaimFillingEntity filling);
+
+  /**
+   * 修改申报详情后按增量更新汇总，需要在同一事务内调用
+   *
+   * @param before 修改前的申报详情
+   * @param after 修改后的申报详情
+   */
+  void onFillingUpdated(ClaimFillingEntity before, ClaimFillingEntity after);
+
+  /**
+   * 删除申报详情后扣减汇总，需要在同一事务内调用
+   *
+   * @param filling 删除的申报详情
+   */
+  void onFillingRemoved(ClaimFillingEntity filling);
+
+  /**
+   * 删除债权后以一条语句删除其汇总，需要在同一事务内调用
+   *
+   * @param claimIds 删除的债权ID
+   */
+  void onClaimsRemoved(List<String> claimIds);
+
+  /**
+   * 批量导入债权后以一条语句生成汇总，需要在同一事务内、写入申报详情之后调用
+   *
+   * @param claimIds 导入的债权ID
+   */
+  void onClaimsImported(List<String> claimIds);
+
+  /**
+   * 根据申报详情重新计算汇总
+   *
+   * @param claimIds 需要修复的债权ID，为空时重建全部债权的汇总
+   * @return 重新计算的债权数量
+   */
+  int rebuild(List<String> claimIds);
+}
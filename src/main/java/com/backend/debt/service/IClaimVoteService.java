@@ -0,0 +1,53 @@
+package com.backend.debt.service;
+
+import com.backend.debt.model.dto.vote.MotionResultDto;
+import com.backend.debt.model.dto.vote.VoteClassTotalDto;
+import com.backend.debt.model.query.MotionVoteQuery;
+import java.util.List;
+
+/** 债权人会议表决服务接口 */
+public interface IClaimVoteService {
+
+  /**
+   * 按债权归类汇总参与表决的债权笔数与表决权重
+   *
+   * @return 各归类的汇总
+   */
+  List<VoteClassTotalDto> getClassTotals();
+
+  /**
+   * 计算议案是否通过
+   *
+   * @param query 议案类型、出席与同意的债权
+   * @return 表决结果
+   */
+  MotionResultDto checkMotion(MotionVoteQuery query);
+
+  /**
+   * 债权申报或确认金额变化后刷新表决权重，需要在同一事务内调用
+   *
+   * @param claimId 债权申报ID
+   */
+  void onClaimChanged(String claimId);
+
+  /**
+   * 一批债权的确认金额变化后以一条语句刷新表决权重，需要在同一事务内调用
+   *
+   * @param claimIds 债权申报ID
+   */
+  void onClaimsChanged(List<String> claimIds);
+
+  /**
+   * 删除债权后以一条语句删除表决权重，需要在同一事务内调用
+   *
+   * @param claimIds 删除的债权申报ID
+   */
+  void onClaimsRemoved(List<String> claimIds);
+
+  /**
+   * 按当前的权重系数重新计算全部表决权重
+   *
+   * @return 变化的行数
+   */
+  int rebuild();
+}
@@ -0,0 +1,92 @@
+package com.backend.debt.service.cache;
+
+import com.backend.debt.model.dto.AgentDto;
+import com.backend.debt.model.dto.ClaimConfirmDto;
+import com.backend.debt.model.dto.ClaimDetailDto;
+import com.backend.debt.model.dto.ClaimFillingDto;
+import com.backend.debt.model.dto.ClaimSummaryDto;
+import com.backend.debt.model.dto.ContactInfoDto;
+import com.backend.debt.model.dto.CreditorDto;
+import com.backend.debt.model.dto.confirm.statistic.ClaimConfirmStatisticDto;
+import com.backend.debt.model.dto.confirm.statistic.ConfirmedStatisticDto;
+import com.backend.debt.model.dto.confirm.statistic.RejectConfirmStatisticDto;
+import com.backend.debt.model.dto.confirm.statistic.SuspendConfirmStatisticDto;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import org.springframework.beans.BeanUtils;
+
+/**
+ * 缓存对象的深拷贝
+ *
+ * <p>缓存中的实例只在这里读取，返回给调用方的都是副本，调用方修改返回的对象不会影响缓存。金额 {@link
+ * com.backend.debt.model.Money}、日期和枚举不可变，直接共用。
+ */
+final class CachedDtoCopier {
+
+  private CachedDtoCopier() {}
+
+  static ClaimDetailDto copy(ClaimDetailDto source) {
+    ClaimDetailDto copy = shallowCopy(source, ClaimDetailDto::new);
+    if (copy == null) {
+      return null;
+    }
+    copy.setClaimTypes(copyList(source.getClaimTypes(), Function.identity()));
+    copy.setCreditors(
+        copyList(source.getCreditors(), creditor -> shallowCopy(creditor, CreditorDto::new)));
+    copy.setAgent(shallowCopy(source.getAgent(), AgentDto::new));
+    copy.setCreditorContactInfo(shallowCopy(source.getCreditorContactInfo(), ContactInfoDto::new));
+    copy.setClaimFillings(copyList(source.getClaimFillings(), CachedDtoCopier::copy));
+    copy.setClaimSummary(shallowCopy(source.getClaimSummary(), ClaimSummaryDto::new));
+    return copy;
+  }
+
+  static ClaimConfirmStatisticDto copy(ClaimConfirmStatisticDto source) {
+    ClaimConfirmStatisticDto copy = shallowCopy(source, ClaimConfirmStatisticDto::new);
+    if (copy == null) {
+      return null;
+    }
+    copy.setStatisticStatus(copyList(source.getStatisticStatus(), Function.identity()));
+    copy.setConfirmedStatistic(
+        shallowCopy(source.getConfirmedStatistic(), ConfirmedStatisticDto::new));
+    copy.setRejectConfirmStatistic(
+        shallowCopy(source.getRejectConfirmStatistic(), RejectConfirmStatisticDto::new));
+    SuspendConfirmStatisticDto suspend =
+        shallowCopy(source.getSuspendConfirmStatistic(), SuspendConfirmStatisticDto::new);
+    if (suspend != null) {
+      suspend.setReviewStatus(copyList(suspend.getReviewStatus(), Function.identity()));
+    }
+    copy.setSuspendConfirmStatistic(suspend);
+    return copy;
+  }
+
+  private static ClaimFillingDto copy(ClaimFillingDto source) {
+    ClaimFillingDto copy = shallowCopy(source, ClaimFillingDto::new);
+    if (copy != null) {
+      copy.setConfirmedDetail(shallowCopy(source.getConfirmedDetail(), ClaimConfirmDto::new));
+    }
+    return copy;
+  }
+
+  /** 复制只包含不可变字段的对象 */
+  private static <T> T shallowCopy(T source, Supplier<T> factory) {
+    if (source == null) {
+      return null;
+    }
+    T copy = factory.get();
+    BeanUtils.copyProperties(source, copy);
+    return copy;
+  }
+
+  private static <T> List<T> copyList(List<T> source, Function<T, T> copier) {
+    if (source == null) {
+      return null;
+    }
+    List<T> copy = new ArrayList<>(source.size());
+    for (T element : source) {
+      copy.add(copier.apply(element));
+    }
+    return copy;
+  }
+}
@@ -0,0 +1,137 @@
+package com.backend.debt.service.cache;
+
+import com.backend.debt.model.dto.ClaimDetailDto;
+import com.backend.debt.model.dto.confirm.statistic.ClaimConfirmStatisticDto;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 债权申报读缓存
+ *
+ * <p>按债权ID缓存债权详情和确认统计，按条数和写入时间淘汰。所有修改债权申报及其债权人、申报详情、确认信息的操作都需要调用 {@link
+ * #evict(String)}。
+ *
+ * <p>缓存中的实例不返回给调用方，每次读取返回一份深拷贝，调用方可以随意修改返回的对象。
+ *
+ * <p>事务内不读写缓存，避免缓存未提交的数据；事务中的失效操作会在事务结束后再执行一次，防止事务提交前被其他请求以旧数据重新加载。
+ *
+ * <p>命中率、加载耗时、淘汰次数等指标以 cache.* 为名、cache 标签区分注册。
+ */
+@Slf4j
+@Component
+public class ClaimReadCache {
+
+  private final Cache<String, ClaimDetailDto> detailCache;
+
+  private final Cache<String, ClaimConfirmStatisticDto> statisticCache;
+
+  public ClaimReadCache(
+      MeterRegistry meterRegistry,
+      @Value("${claim.read-cache.maximum-size:2000}") long maximumSize,
+      @Value("${claim.read-cache.expire-after-write-seconds:300}") long expireAfterWriteSeconds) {
+    this.detailCache = buildCache(maximumSize, expireAfterWriteSeconds);
+    this.statisticCache = buildCache(maximumSize, expireAfterWriteSeconds);
+    CaffeineCacheMetrics.monitor(meterRegistry, detailCache, "claimDetail");
+    CaffeineCacheMetrics.monitor(meterRegistry, statisticCache, "claimStatistic");
+  }
+
+  private static <V> Cache<String, V> buildCache(long maximumSize, long expireAfterWriteSeconds) {
+    return Caffeine.newBuilder()
+        .maximumSize(maximumSize)
+        .expireAfterWrite(Duration.ofSeconds(expireAfterWriteSeconds))
+        .recordStats()
+        .build();
+  }
+
+  /**
+   * 读取债权详情，未命中时加载并缓存
+   *
+   * @param claimId 债权ID
+   * @param loader 加载函数
+   * @return 债权详情，缓存中实例的副本
+   */
+  public ClaimDetailDto getDetail(String claimId, Function<String, ClaimDetailDto> loader) {
+    return get(detailCache, claimId, loader, CachedDtoCopier::copy);
+  }
+
+  /**
+   * 读取确认统计，未命中时加载并缓存
+   *
+   * @param claimId 债权ID
+   * @param loader 加载函数
+   * @return 确认统计，缓存中实例的副本
+   */
+  public ClaimConfirmStatisticDto getStatistic(
+      String claimId, Function<String, ClaimConfirmStatisticDto> loader) {
+    return get(statisticCache, claimId, loader, CachedDtoCopier::copy);
+  }
+
+  private static <V> V get(
+      Cache<String, V> cache, String claimId, Function<String, V> loader, UnaryOperator<V> copier) {
+    if (claimId == null || TransactionSynchronizationManager.isActualTransactionActive()) {
+      return loader.apply(claimId);
+    }
+    // 首次加载的实例也放入了缓存，同样返回副本
+    V cached = cache.get(claimId, loader);
+    return cached == null ? null : copier.apply(cached);
+  }
+
+  /**
+   * 使债权相关的缓存失效
+   *
+   * @param claimId 债权ID
+   */
+  public void evict(String claimId) {
+    if (claimId == null) {
+      return;
+    }
+    evictAll(List.of(claimId));
+  }
+
+  /**
+   * 批量使债权相关的缓存失效
+   *
+   * @param claimIds 债权ID集合
+   */
+  public void evictAll(Collection<String> claimIds) {
+    if (claimIds.isEmpty()) {
+      return;
+    }
+    claimIds.forEach(this::doEvict);
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      List<String> pending = new ArrayList<>(claimIds);
+      TransactionSynchronizationManager.registerSynchronization(
+          new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+              pending.forEach(ClaimReadCache.this::doEvict);
+            }
+          });
+    }
+  }
+
+  /** 清空全部缓存，用于批量修复数据之后 */
+  public void clear() {
+    detailCache.invalidateAll();
+    statisticCache.invalidateAll();
+  }
+
+  private void doEvict(String claimId) {
+    detailCache.invalidate(claimId);
+    statisticCache.invalidate(claimId);
+    log.debug("债权缓存失效，ID：{}", claimId);
+  }
+}
@@ -0,0 +1,99 @@
+package com.backend.debt.service.cache;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 请求级实体标识映射
+ *
+ * <p>在一次请求内按 (实体类型, 主键) 保存已加载的实体，同一请求中再次按主键读取时直接返回已加载的实例，不再查询数据库。 作用域由 {@link
+ * com.backend.debt.config.IdentityMapInterceptor} 在请求开始时打开、结束时关闭；作用域外（如后台线程）每次都直接加载。
+ *
+ * <p>返回的是同一个实例，调用方对实体的修改在本请求后续的读取中可见；删除实体后需要调用 {@link #remove(Class, String)}。
+ */
+public final class EntityIdentityMap {
+
+  private static final ThreadLocal<Scope> CURRENT = new ThreadLocal<>();
+
+  private EntityIdentityMap() {}
+
+  /** 打开当前线程的作用域 */
+  public static void open() {
+    CURRENT.set(new Scope());
+  }
+
+  /**
+   * 关闭当前线程的作用域
+   *
+   * @return 本作用域内重复读取（命中）的次数
+   */
+  public static int close() {
+    Scope scope = CURRENT.get();
+    CURRENT.remove();
+    return scope == null ? 0 : scope.duplicateReads;
+  }
+
+  /**
+   * 按主键读取实体，本请求内已加载过时直接返回
+   *
+   * @param type 实体类型
+   * @param id 主键
+   * @param loader 加载函数，返回 null 时不记录
+   * @return 实体
+   */
+  public static <T> T getOrLoad(Class<T> type, String id, Function<String, T> loader) {
+    Scope scope = CURRENT.get();
+    if (scope == null || id == null) {
+      return loader.apply(id);
+    }
+    Map<String, Object> entities = scope.entities.computeIfAbsent(type, key -> new HashMap<>());
+    Object entity = entities.get(id);
+    if (entity != null) {
+      scope.duplicateReads++;
+      return type.cast(entity);
+    }
+    T loaded = loader.apply(id);
+    if (loaded != null) {
+      entities.put(id, loaded);
+    }
+    return loaded;
+  }
+
+  /**
+   * 以重新读取（如加锁读取）到的实体替换本请求内已加载的实例
+   *
+   * @param type 实体类型
+   * @param id 主键
+   * @param entity 实体
+   */
+  public static <T> void put(Class<T> type, String id, T entity) {
+    Scope scope = CURRENT.get();
+    if (scope != null && id != null && entity != null) {
+      scope.entities.computeIfAbsent(type, key -> new HashMap<>()).put(id, entity);
+    }
+  }
+
+  /**
+   * 移除已删除的实体
+   *
+   * @param type 实体类型
+   * @param id 主键
+   */
+  public static void remove(Class<?> type, String id) {
+    Scope scope = CURRENT.get();
+    if (scope != null) {
+      Map<String, Object> entities = scope.entities.get(type);
+      if (entities != null) {
+        entities.remove(id);
+      }
+    }
+  }
+
+  private static class Scope {
+
+    private final Map<Class<?>, Map<String, Object>> entities = new HashMap<>();
+
+    private int duplicateReads;
+  }
+}
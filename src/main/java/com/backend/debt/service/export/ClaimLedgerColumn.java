@@ -0,0 +1,82 @@
+package com.backend.debt.service.export;
+
+import com.backend.debt.enums.ReviewStatus;
+import com.backend.debt.model.Money;
+import com.backend.debt.model.entity.ClaimLedgerRow;
+import java.util.function.Function;
+import lombok.Getter;
+
+/**
+ * 债权台账列定义
+ *
+ * <p>列的顺序即导出文件中的顺序。取值为 {@link Money} 的列在 XLSX 中写为数字单元格，其余列写为文本。
+ */
+@Getter
+public enum ClaimLedgerColumn {
+  CLAIM_NUMBER("债权编号", ClaimLedgerRow::getClaimNumber),
+  CLAIM_DATE("申报日期", ClaimLedgerRow::getClaimDate),
+  REGISTRAR("登记人", ClaimLedgerRow::getRegistrar),
+  AUDITOR("审核人员", ClaimLedgerRow::getAuditor),
+  CLAIM_CATEGORY("债权归类", ClaimLedgerRow::getClaimCategory),
+  HAS_VOTING_RIGHT(
+      "表决权", row -> row.getHasVotingRight() == null ? null : row.getHasVotingRight() ? "是" : "否"),
+  CREDITOR_NAMES("债权人", ClaimLedgerRow::getCreditorNames),
+  CREDITOR_IDENTIFICATION_NUMBERS("证件号码", ClaimLedgerRow::getCreditorIdentificationNumbers),
+  CLAIM_NATURE("申报债权性质", ClaimLedgerRow::getClaimNature),
+  COLLATERAL_DETAILS("担保物明细", ClaimLedgerRow::getCollateralDetails),
+  CLAIM_PRINCIPAL("申报本金", ClaimLedgerRow::getClaimPrincipal),
+  CLAIM_INTEREST("申报利息", ClaimLedgerRow::getClaimInterest),
+  CLAIM_OTHER("申报其他", ClaimLedgerRow::getClaimOther),
+  CLAIM_TOTAL(
+      "申报合计",
+      row ->
+          row.getFillingId() == null
+              ? null
+              : Money.sum(row.getClaimPrincipal(), row.getClaimInterest(), row.getClaimOther())),
+  REVIEW_STATUS("审查状态", ClaimLedgerColumn::reviewStatusOf),
+  CONFIRMED_PRINCIPAL("确认本金", ClaimLedgerRow::getConfirmedPrincipal),
+  CONFIRMED_INTEREST("确认利息", ClaimLedgerRow::getConfirmedInterest),
+  CONFIRMED_OTHER("确认其他", ClaimLedgerRow::getConfirmedOther),
+  CONFIRMED_TOTAL(
+      "确认合计",
+      row ->
+          row.getReviewStatus() == null
+              ? null
+              : Money.sum(
+                  row.getConfirmedPrincipal(),
+                  row.getConfirmedInterest(),
+                  row.getConfirmedOther())),
+  CONFIRM_NATURE("确认债权性质", ClaimLedgerRow::getConfirmNature),
+  REVIEW_REASON("审查理由", ClaimLedgerRow::getReviewReason),
+  ;
+
+  /** 表头 */
+  private final String header;
+
+  private final Function<ClaimLedgerRow, Object> extractor;
+
+  ClaimLedgerColumn(String header, Function<ClaimLedgerRow, Object> extractor) {
+    this.header = header;
+    this.extractor = extractor;
+  }
+
+  /**
+   * 取出该列的值
+   *
+   * @param row 台账行
+   * @return 列值，可能为空
+   */
+  public Object valueOf(ClaimLedgerRow row) {
+    return extractor.apply(row);
+  }
+
+  /** 有申报详情但没有确认信息时视为未审核确认 */
+  private static Object reviewStatusOf(ClaimLedgerRow row) {
+    if (row.getFillingId() == null) {
+      return null;
+    }
+    ReviewStatus status =
+        row.getReviewStatus() == null ? ReviewStatus.NOT_CONFIRMED : row.getReviewStatus();
+    return status.getDisplayName();
+  }
+}
@@ -0,0 +1,27 @@
+package com.backend.debt.service.export;
+
+import com.backend.debt.model.entity.ClaimLedgerRow;
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * 债权台账写出器
+ *
+ * <p>创建时写出表头，之后逐行写出，{@link #finish()} 把剩余内容写到输出流。写出器不关闭底层输出流。
+ */
+public interface ClaimLedgerWriter extends Closeable {
+
+  /**
+   * 写出一行
+   *
+   * @param row 台账行
+   */
+  void write(ClaimLedgerRow row) throws IOException;
+
+  /** 写出剩余内容并刷新输出流 */
+  void finish() throws IOException;
+
+  /** 释放写出过程中占用的资源，未调用 {@link #finish()} 时丢弃未写出的内容 */
+  @Override
+  default void close() throws IOException {}
+}
@@ -0,0 +1,98 @@
+package com.backend.debt.service.export;
+
+import com.backend.debt.model.entity.ClaimLedgerRow;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * CSV 格式的债权台账写出器
+ *
+ * <p>UTF-8 编码并写出 BOM，以便 Excel 直接打开；按 RFC 4180 转义字段。经过缓冲后直接写到输出流，缓冲区写满即发送。
+ *
+ * <p>文本列以 {@code = + - @}、制表符或回车开头时在前面加单引号，避免 Excel 将申报人填写的内容当作公式执行（CSV 注入）。
+ * 金额等非文本列原样写出，负数金额不受影响。
+ */
+public class CsvClaimLedgerWriter implements ClaimLedgerWriter {
+
+  private static final char BOM = '\uFEFF';
+  private static final int BUFFER_SIZE = 64 * 1024;
+
+  /** Excel 视为公式开头的字符 */
+  private static final String FORMULA_PREFIXES = "=+-@\t\r";
+
+  private static final ClaimLedgerColumn[] COLUMNS = ClaimLedgerColumn.values();
+
+  private final Writer writer;
+
+  public CsvClaimLedgerWriter(OutputStream out) throws IOException {
+    this.writer =
+        new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE);
+    writer.write(BOM);
+    for (int i = 0; i < COLUMNS.length; i++) {
+      writeField(i, COLUMNS[i].getHeader());
+    }
+    writer.write("\r\n");
+  }
+
+  @Override
+  public void write(ClaimLedgerRow row) throws IOException {
+    for (int i = 0; i < COLUMNS.length; i++) {
+      Object value = COLUMNS[i].valueOf(row);
+      if (value instanceof String text) {
+        writeField(i, escapeFormula(text));
+      } else {
+        writeField(i, value == null ? null : value.toString());
+      }
+    }
+    writer.write("\r\n");
+  }
+
+  @Override
+  public void finish() throws IOException {
+    writer.flush();
+  }
+
+  private void writeField(int index, String value) throws IOException {
+    if (index > 0) {
+      writer.write(',');
+    }
+    if (value == null || value.isEmpty()) {
+      return;
+    }
+    if (!needsQuote(value)) {
+      writer.write(value);
+      return;
+    }
+    writer.write('"');
+    for (int i = 0; i < value.length(); i++) {
+      char c = value.charAt(i);
+      if (c == '"') {
+        writer.write('"');
+      }
+      writer.write(c);
+    }
+    writer.write('"');
+  }
+
+  /** 文本以公式起始字符开头时加单引号前缀 */
+  private static String escapeFormula(String text) {
+    if (!text.isEmpty() && FORMULA_PREFIXES.indexOf(text.charAt(0)) >= 0) {
+      return "'" + text;
+    }
+    return text;
+  }
+
+  private static boolean needsQuote(String value) {
+    for (int i = 0; i < value.length(); i++) {
+      char c = value.charAt(i);
+      if (c == ',' || c == '"' || c == '\r' || c == '\n') {
+        return true;
+      }
+    }
+    return false;
+  }
+}
@@ -0,0 +1,92 @@
+package com.backend.debt.service.export;
+
+import com.backend.debt.model.Money;
+import com.backend.debt.model.entity.ClaimLedgerRow;
+import java.io.IOException;
+import java.io.OutputStream;
+import org.apache.poi.ss.SpreadsheetVersion;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.xssf.streaming.SXSSFSheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+
+/**
+ * XLSX 格式的债权台账写出器
+ *
+ * <p>基于 SXSSF，内存中只保留最近的 {@link #WINDOW_SIZE} 行，更早的行写入临时文件，堆占用与行数无关。xlsx 是 zip 格式，只能在
+ * {@link #finish()} 时整体写出。单个工作表写满后自动新建工作表继续写。
+ */
+public class XlsxClaimLedgerWriter implements ClaimLedgerWriter {
+
+  /** 内存中保留的行数 */
+  private static final int WINDOW_SIZE = 200;
+
+  /** 每个工作表的最大数据行数，扣除表头 */
+  private static final int MAX_DATA_ROWS = SpreadsheetVersion.EXCEL2007.getMaxRows() - 1;
+
+  private static final String SHEET_NAME = "债权台账";
+
+  private static final ClaimLedgerColumn[] COLUMNS = ClaimLedgerColumn.values();
+
+  private final OutputStream out;
+  private final SXSSFWorkbook workbook;
+  private final CellStyle moneyStyle;
+
+  private SXSSFSheet sheet;
+  private int sheetCount;
+  private int rowIndex;
+
+  public XlsxClaimLedgerWriter(OutputStream out) {
+    this.out = out;
+    this.workbook = new SXSSFWorkbook(WINDOW_SIZE);
+    // 临时文件压缩后占用磁盘更少
+    workbook.setCompressTempFiles(true);
+    this.moneyStyle = workbook.createCellStyle();
+    moneyStyle.setDataFormat(workbook.createDataFormat().getFormat("#,##0.00"));
+    newSheet();
+  }
+
+  @Override
+  public void write(ClaimLedgerRow row) {
+    if (rowIndex > MAX_DATA_ROWS) {
+      newSheet();
+    }
+    Row sheetRow = sheet.createRow(rowIndex++);
+    for (int i = 0; i < COLUMNS.length; i++) {
+      Object value = COLUMNS[i].valueOf(row);
+      if (value == null) {
+        continue;
+      }
+      Cell cell = sheetRow.createCell(i);
+      if (value instanceof Money money) {
+        cell.setCellValue(money.doubleValue());
+        cell.setCellStyle(moneyStyle);
+      } else {
+        cell.setCellValue(value.toString());
+      }
+    }
+  }
+
+  @Override
+  public void finish() throws IOException {
+    workbook.write(out);
+    out.flush();
+  }
+
+  @Override
+  public void close() throws IOException {
+    // 关闭各工作表的临时文件写出器并删除临时文件
+    workbook.close();
+  }
+
+  private void newSheet() {
+    sheetCount++;
+    sheet = workbook.createSheet(sheetCount == 1 ? SHEET_NAME : SHEET_NAME + sheetCount);
+    Row header = sheet.createRow(0);
+    for (int i = 0; i < COLUMNS.length; i++) {
+      header.createCell(i).setCellValue(COLUMNS[i].getHeader());
+    }
+    rowIndex = 1;
+  }
+}
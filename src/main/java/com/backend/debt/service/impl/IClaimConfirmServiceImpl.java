@@ -4,17 +4,40 @@ import com.backend.debt.enums.ReviewStatus;
 import com.backend.debt.exceptions.CustomException;
 import com.backend.debt.exceptions.HttpResponseStatus;
 import com.backend.debt.mapper.ClaimConfirmMapper;
+import com.backend.debt.mapper.ClaimFillingMapper;
+import com.backend.debt.model.Money;
 import com.backend.debt.model.dto.ClaimConfirmDto;
+import com.backend.debt.model.dto.ClaimFillingDeltaDto;
+import com.backend.debt.model.dto.ClaimFillingDto;
+import com.backend.debt.model.dto.confirm.ClaimConfirmBatchErrorDto;
+import com.backend.debt.model.dto.confirm.ClaimConfirmBatchResultDto;
 import com.backend.debt.model.entity.ClaimConfirmEntity;
 import com.backend.debt.model.entity.ClaimFillingEntity;
+import com.backend.debt.model.query.ClaimConfirmBatchQuery;
 import com.backend.debt.model.query.ClaimConfirmQuery;
 import com.backend.debt.service.IClaimConfirmService;
 import com.backend.debt.service.IClaimFillingService;
 import com.backend.debt.service.IClaimService;
+import com.backend.debt.service.IClaimStatisticService;
+import com.backend.debt.service.cache.ClaimReadCache;
+import com.backend.debt.service.cache.EntityIdentityMap;
+import com.backend.debt.util.OptimisticLockUtils;
+import com.baomidou.mybatisplus.core.toolkit.IdWorker;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import javax.annotation.Resource;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.BeanUtils;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
@@ -23,9 +46,15 @@ import org.springframework.util.StringUtils;
 @Service
 public class IClaimConfirmServiceImpl implements IClaimConfirmService {
 
+  /** 批量审查确认中确认信息已被修改时的错误信息 */
+  private static final String STALE_ERROR = "债权确认记录已被其他用户修改，请刷新后重试";
+
   @Resource private ClaimConfirmMapper claimConfirmMapper;
   @Resource private IClaimService claimService;
   @Resource private IClaimFillingService claimFillingService;
+  @Resource private ClaimFillingMapper claimFillingMapper;
+  @Resource private ClaimReadCache claimReadCache;
+  @Resource private IClaimStatisticService claimStatisticService;
 
   /**
    * 添加债权确认信息
@@ -40,12 +69,47 @@ public class IClaimConfirmServiceImpl implements IClaimConfirmService {
     log.info("添加债权确认信息，债权详情ID：{}，数据：{}", claimFillingId, query);
 
     try {
-      ClaimFillingEntity fillingEntity = claimFillingService.validateAndGet(claimFillingId);
+      // 先锁定申报详情，确认信息的写入在此排队，之后读到的确认信息在事务结束前不会变化
+      ClaimFillingEntity fillingEntity = claimFillingService.lockAndGet(claimFillingId);
       String claimId = fillingEntity.getClaimId();
       claimService.validateAndGet(claimId);
-      this.validate(fillingEntity, query);
-      ClaimConfirmEntity confirmEntity = query.to(claimFillingId);
-      claimConfirmMapper.insert(confirmEntity);
+      // 已有确认信息时合并更新该条，申报详情锁定后读到的就是被更新的确认信息，不再单独锁定确认信息
+      ClaimConfirmEntity beforeConfirm =
+          claimConfirmMapper.selectLatestByClaimFillingId(claimFillingId);
+      ClaimConfirmEntity confirmEntity;
+      if (beforeConfirm == null) {
+        confirmEntity = query.to(claimFillingId);
+      } else {
+        // 与批量审查确认一致，只合并非空字段
+        confirmEntity = new ClaimConfirmEntity();
+        BeanUtils.copyProperties(beforeConfirm, confirmEntity);
+        merge(confirmEntity, query);
+        confirmEntity.setUpdateTime(LocalDateTime.now());
+      }
+      // 校验合并后实际写入的确认信息，如改为拒绝确认而未提交金额时，原有的确认金额也需为0
+      this.validate(fillingEntity, confirmEntity);
+      int rows = claimConfirmMapper.upsert(confirmEntity);
+      ClaimConfirmEntity written =
+          rows == 0 ? null : claimConfirmMapper.selectLatestByClaimFillingId(claimFillingId);
+      if (written == null) {
+        // 读取之后其他请求新增并修改了确认信息，版本号不一致未被覆盖
+        throw new CustomException(
+            HttpResponseStatus.CONFLICT.code(),
+            "债权确认记录已被其他用户修改，请刷新后重试",
+            "添加债权确认信息并发冲突，债权详情ID：" + claimFillingId);
+      }
+      boolean addedConcurrently =
+          beforeConfirm == null && !written.getId().equals(confirmEntity.getId());
+      confirmEntity.setId(written.getId());
+      confirmEntity.setVersion(written.getVersion());
+      if (addedConcurrently) {
+        // 读取之后其他请求新增了确认信息，被覆盖的内容未知，重新计算该债权的统计快照
+        claimStatisticService.onConfirmsChanged(List.of(claimId));
+      } else {
+        claimStatisticService.onFillingChanged(
+            claimId, fillingEntity, beforeConfirm, fillingEntity, confirmEntity);
+      }
+      claimReadCache.evict(claimId);
       log.info("添加债权确认信息成功，ID：{}", confirmEntity.getId());
 
       return ClaimConfirmDto.of(confirmEntity, fillingEntity);
@@ -64,40 +128,237 @@ public class IClaimConfirmServiceImpl implements IClaimConfirmService {
    *
    * @param claimConfirmId 债权确认ID
    * @param query 债权确认更新信息
+   * @param expectedVersion 客户端持有的版本号（If-Match），为空时只以读取到的版本号为条件
    * @return 是否更新成功
    */
   @Override
-  public ClaimConfirmDto updateClaimConfirm(String claimConfirmId, ClaimConfirmQuery query) {
-    ClaimConfirmEntity updateEntity = this.validateAndGet(claimConfirmId);
+  @Transactional(rollbackFor = Exception.class)
+  public ClaimConfirmDto updateClaimConfirm(
+      String claimConfirmId, ClaimConfirmQuery query, Integer expectedVersion) {
+    ClaimConfirmEntity updateEntity = this.lockAndGet(claimConfirmId);
+    OptimisticLockUtils.checkVersion(updateEntity, expectedVersion, "债权确认记录");
     ClaimFillingEntity fillingEntity =
         claimFillingService.validateAndGet(updateEntity.getClaimFillingId());
-    this.validate(fillingEntity, query);
+    this.validate(fillingEntity, query.to(updateEntity.getClaimFillingId()));
+    // 每个申报详情只有一条确认信息，条件更新成功说明被覆盖的就是读取到的这一条
+    ClaimConfirmEntity beforeConfirm = new ClaimConfirmEntity();
+    BeanUtils.copyProperties(updateEntity, beforeConfirm);
     // 更新确认实体
     updateEntity.setId(claimConfirmId);
-    // 只更新非空字段，避免覆盖现有数据
+    merge(updateEntity, query);
+    updateEntity.setUpdateTime(LocalDateTime.now());
+
+    // 以读取时的版本号为条件更新数据库
+    int rows = claimConfirmMapper.updateById(updateEntity);
+    OptimisticLockUtils.checkUpdated(rows, "债权确认记录", claimConfirmId);
+    claimStatisticService.onFillingChanged(
+        fillingEntity.getClaimId(), fillingEntity, beforeConfirm, fillingEntity, updateEntity);
+    claimReadCache.evict(fillingEntity.getClaimId());
+    return ClaimConfirmDto.of(updateEntity, fillingEntity);
+  }
+
+  /**
+   * 批量添加或更新债权确认信息
+   *
+   * <p>一次查询加载并锁定全部申报详情，一次查询加载各申报详情已有的确认信息，在内存中按单条接口的规则逐条校验。申报详情已有确认信息时合并更新该条，没有时新增。
+   * 新增与更新以一条 INSERT ... ON CONFLICT 语句写入，最后按债权ID一次重新计算统计快照和表决权重，语句数量与提交的条数无关。
+   *
+   * <p>已有确认信息以读取到的版本号为条件更新，提交了版本号时还需与读取到的一致，读取之后被其他请求修改的确认信息不写入，记为该条的错误。
+   *
+   * @param items 各申报详情的确认信息
+   * @return 写入的确认信息与未通过校验的错误
+   */
+  @Override
+  @Transactional(rollbackFor = Exception.class)
+  public ClaimConfirmBatchResultDto saveClaimConfirms(List<ClaimConfirmBatchQuery.Item> items) {
+    long start = System.currentTimeMillis();
+    log.info("批量审查确认，数量：{}", items.size());
+
+    try {
+      String[] fillingIds =
+          items.stream()
+              .map(ClaimConfirmBatchQuery.Item::getClaimFillingId)
+              .distinct()
+              .toArray(String[]::new);
+      Map<String, ClaimFillingEntity> fillings =
+          claimFillingMapper.selectByIdsWithLiveClaimForUpdate(fillingIds).stream()
+              .collect(Collectors.toMap(ClaimFillingEntity::getId, Function.identity()));
+      Map<String, ClaimConfirmEntity> latestConfirms =
+          claimConfirmMapper.selectLatestByClaimFillingIds(fillingIds).stream()
+              .collect(
+                  Collectors.toMap(ClaimConfirmEntity::getClaimFillingId, Function.identity()));
+
+      ClaimConfirmBatchResultDto result = new ClaimConfirmBatchResultDto();
+      LocalDateTime now = LocalDateTime.now();
+      Set<String> seenFillingIds = new HashSet<>();
+      Set<String> claimIds = new LinkedHashSet<>();
+      Set<String> newConfirmIds = new HashSet<>();
+      Map<String, Integer> itemIndexes = new HashMap<>();
+      List<ClaimConfirmEntity> written = new ArrayList<>();
+      for (int i = 0; i < items.size(); i++) {
+        ClaimConfirmBatchQuery.Item item = items.get(i);
+        String claimFillingId = item.getClaimFillingId();
+        ClaimFillingEntity fillingEntity = fillings.get(claimFillingId);
+        ClaimConfirmEntity confirmEntity = latestConfirms.get(claimFillingId);
+        boolean isNew = confirmEntity == null;
+        String error;
+        if (!seenFillingIds.add(claimFillingId)) {
+          error = "同一债权详情重复提交";
+        } else if (fillingEntity == null) {
+          error = "债权详情记录不存在";
+        } else if (confirmEntity != null
+            && item.getVersion() != null
+            && !item.getVersion().equals(confirmEntity.getVersion())) {
+          error = STALE_ERROR;
+        } else {
+          if (isNew) {
+            confirmEntity = item.to(claimFillingId);
+            confirmEntity.setId(IdWorker.get32UUID());
+            confirmEntity.setCreateTime(now);
+            confirmEntity.setVersion(0);
+          } else {
+            merge(confirmEntity, item);
+          }
+          // 校验合并后实际写入的确认信息，未通过时该条不写入
+          error = check(fillingEntity, confirmEntity);
+        }
+        if (error != null) {
+          result.getErrors().add(new ClaimConfirmBatchErrorDto(i, claimFillingId, error));
+          continue;
+        }
+
+        if (isNew) {
+          newConfirmIds.add(confirmEntity.getId());
+        }
+        confirmEntity.setUpdateTime(now);
+        written.add(confirmEntity);
+        itemIndexes.put(claimFillingId, i);
+      }
+
+      int added = 0;
+      List<ClaimConfirmEntity> saved = new ArrayList<>(written.size());
+      if (!written.isEmpty()) {
+        boolean allWritten = claimConfirmMapper.upsertBatch(written) == written.size();
+        // 重新读取写入后的确认信息：读取之后其他请求新增的确认信息在这里被覆盖，以读取到的ID为准
+        Map<String, ClaimConfirmEntity> upserted =
+            claimConfirmMapper
+                .selectLatestByClaimFillingIds(
+                    written.stream()
+                        .map(ClaimConfirmEntity::getClaimFillingId)
+                        .toArray(String[]::new))
+                .stream()
+                .collect(
+                    Collectors.toMap(ClaimConfirmEntity::getClaimFillingId, Function.identity()));
+        for (ClaimConfirmEntity confirmEntity : written) {
+          String claimFillingId = confirmEntity.getClaimFillingId();
+          ClaimConfirmEntity row = upserted.get(claimFillingId);
+          boolean isNew = newConfirmIds.contains(confirmEntity.getId());
+          if (row == null || !(allWritten || isWritten(confirmEntity, isNew, row))) {
+            int index = itemIndexes.get(claimFillingId);
+            result
+                .getErrors()
+                .add(new ClaimConfirmBatchErrorDto(index, claimFillingId, STALE_ERROR));
+            continue;
+          }
+          if (isNew && row.getId().equals(confirmEntity.getId())) {
+            added++;
+          }
+          confirmEntity.setId(row.getId());
+          confirmEntity.setVersion(row.getVersion());
+          saved.add(confirmEntity);
+          claimIds.add(fillings.get(claimFillingId).getClaimId());
+        }
+      }
+      claimStatisticService.onConfirmsChanged(new ArrayList<>(claimIds));
+      claimReadCache.evictAll(claimIds);
+
+      for (ClaimConfirmEntity confirmEntity : saved) {
+        ClaimFillingEntity fillingEntity = fillings.get(confirmEntity.getClaimFillingId());
+        result.getConfirms().add(ClaimConfirmDto.of(confirmEntity, fillingEntity));
+      }
+      result.getErrors().sort(Comparator.comparingInt(ClaimConfirmBatchErrorDto::getIndex));
+      result.setTotal(items.size());
+      result.setAdded(added);
+      result.setUpdated(saved.size() - added);
+      log.info(
+          "批量审查确认完成，提交：{}，新增：{}，更新：{}，错误：{}，耗时：{} ms",
+          items.size(),
+          added,
+          saved.size() - added,
+          result.getErrors().size(),
+          System.currentTimeMillis() - start);
+      return result;
+    } catch (CustomException e) {
+      throw e;
+    } catch (Exception e) {
+      String errorMsg = "批量审查确认异常，数量：" + items.size();
+      log.error(errorMsg + "，异常信息：{}", e.getMessage(), e);
+      throw new CustomException(
+          HttpResponseStatus.INTERNAL_SERVER_ERROR.code(), "批量审查确认失败", errorMsg);
+    }
+  }
+
+  /**
+   * 部分确认信息未写入时，按重新读取到的确认信息判断该条是否已写入
+   *
+   * <p>新增的确认信息ID与实体一致且版本号为0；更新已有确认信息（包括读取之后其他请求新增的）时版本号比实体的版本号大一，
+   * 版本号不一致未更新的保持原来的版本号。
+   *
+   * @param confirmEntity 提交写入的确认信息
+   * @param isNew 是否为新增的确认信息
+   * @param row 写入后重新读取到的确认信息
+   * @return 是否已写入
+   */
+  private static boolean isWritten(
+      ClaimConfirmEntity confirmEntity, boolean isNew, ClaimConfirmEntity row) {
+    if (row.getId().equals(confirmEntity.getId())) {
+      return row.getVersion() == (isNew ? 0 : confirmEntity.getVersion() + 1);
+    }
+    return isNew && row.getVersion() == confirmEntity.getVersion() + 1;
+  }
+
+  /** 只更新非空字段，避免覆盖现有数据 */
+  private static void merge(ClaimConfirmEntity confirmEntity, ClaimConfirmQuery query) {
     if (query.getReviewStatus() != null) {
-      updateEntity.setReviewStatus(query.getReviewStatus());
+      confirmEntity.setReviewStatus(query.getReviewStatus());
     }
     if (query.getConfirmedPrincipal() != null) {
-      updateEntity.setConfirmedPrincipal(query.getConfirmedPrincipal());
+      confirmEntity.setConfirmedPrincipal(query.getConfirmedPrincipal());
     }
     if (query.getConfirmedInterest() != null) {
-      updateEntity.setConfirmedInterest(query.getConfirmedInterest());
+      confirmEntity.setConfirmedInterest(query.getConfirmedInterest());
     }
     if (query.getConfirmedOther() != null) {
-      updateEntity.setConfirmedOther(query.getConfirmedOther());
+      confirmEntity.setConfirmedOther(query.getConfirmedOther());
     }
     if (query.getClaimNature() != null) {
-      updateEntity.setClaimNature(query.getClaimNature());
+      confirmEntity.setClaimNature(query.getClaimNature());
     }
     if (query.getReviewReason() != null) {
-      updateEntity.setReviewReason(query.getReviewReason());
+      confirmEntity.setReviewReason(query.getReviewReason());
     }
-    updateEntity.setUpdateTime(LocalDateTime.now());
+  }
 
-    // 更新数据库
-    claimConfirmMapper.updateById(updateEntity);
-    return ClaimConfirmDto.of(updateEntity, fillingEntity);
+  @Override
+  @Transactional(rollbackFor = Exception.class)
+  public ClaimFillingDeltaDto addClaimConfirmDelta(String claimFillingId, ClaimConfirmQuery query) {
+    return toFillingDelta(claimFillingId, addClaimConfirm(claimFillingId, query));
+  }
+
+  @Override
+  @Transactional(rollbackFor = Exception.class)
+  public ClaimFillingDeltaDto updateClaimConfirmDelta(
+      String claimConfirmId, ClaimConfirmQuery query, Integer expectedVersion) {
+    ClaimConfirmDto confirmDto = updateClaimConfirm(claimConfirmId, query, expectedVersion);
+    return toFillingDelta(confirmDto.getClaimFillingId(), confirmDto);
+  }
+
+  /** 组装包含确认信息的债权详情，债权详情在本请求中已加载，不再查询数据库 */
+  private ClaimFillingDeltaDto toFillingDelta(String claimFillingId, ClaimConfirmDto confirmDto) {
+    ClaimFillingDto fillingDto =
+        ClaimFillingDto.of(claimFillingService.validateAndGet(claimFillingId), null);
+    fillingDto.setConfirmedDetail(confirmDto);
+    return new ClaimFillingDeltaDto(fillingDto, null);
   }
 
   /**
@@ -107,19 +368,58 @@ public class IClaimConfirmServiceImpl implements IClaimConfirmService {
    * @return 是否删除成功
    */
   @Override
+  @Transactional(rollbackFor = Exception.class)
   public boolean deleteClaimConfirm(String claimConfirmId) {
-    this.validateAndGet(claimConfirmId);
+    ClaimConfirmEntity confirmEntity = this.validateAndGet(claimConfirmId);
+    String claimFillingId = confirmEntity.getClaimFillingId();
+    // 先锁定申报详情，再读取删除前的确认信息；申报详情已删除时其债权缓存与统计快照已在删除时更新
+    ClaimFillingEntity fillingEntity = claimFillingMapper.selectByIdForUpdate(claimFillingId);
+    ClaimConfirmEntity beforeConfirm =
+        fillingEntity == null
+            ? null
+            : claimConfirmMapper.selectLatestByClaimFillingId(claimFillingId);
     // 执行删除操作
     int rows = claimConfirmMapper.deleteById(claimConfirmId);
+    EntityIdentityMap.remove(ClaimConfirmEntity.class, claimConfirmId);
+    if (fillingEntity != null) {
+      EntityIdentityMap.put(ClaimFillingEntity.class, claimFillingId, fillingEntity);
+      claimStatisticService.onFillingChanged(
+          fillingEntity.getClaimId(),
+          fillingEntity,
+          beforeConfirm,
+          fillingEntity,
+          claimConfirmMapper.selectLatestByClaimFillingId(claimFillingId));
+      claimReadCache.evict(fillingEntity.getClaimId());
+    }
     return rows > 0;
   }
 
+  /**
+   * 锁定确认信息所属的申报详情，再重新读取确认信息，修改前的确认信息在锁定后读取
+   *
+   * @param claimConfirmId 债权确认ID
+   * @return 加锁后读取到的确认信息
+   */
+  private ClaimConfirmEntity lockAndGet(String claimConfirmId) {
+    ClaimConfirmEntity confirmEntity = this.validateAndGet(claimConfirmId);
+    claimFillingService.lockAndGet(confirmEntity.getClaimFillingId());
+    ClaimConfirmEntity locked = claimConfirmMapper.selectById(claimConfirmId);
+    if (locked == null) {
+      throw new CustomException(
+          HttpResponseStatus.NOT_FOUND.code(), "债权确认记录不存在", "债权确认ID不存在：" + claimConfirmId);
+    }
+    EntityIdentityMap.put(ClaimConfirmEntity.class, claimConfirmId, locked);
+    return locked;
+  }
+
   public ClaimConfirmEntity validateAndGet(String claimConfirmId) {
     if (!StringUtils.hasText(claimConfirmId)) {
       throw new CustomException(
           HttpResponseStatus.BAD_REQUEST.code(), "债权确认ID不能为空", "删除债权确认信息失败，ID为空");
     }
-    ClaimConfirmEntity confirmEntity = claimConfirmMapper.selectById(claimConfirmId);
+    ClaimConfirmEntity confirmEntity =
+        EntityIdentityMap.getOrLoad(
+            ClaimConfirmEntity.class, claimConfirmId, claimConfirmMapper::selectById);
     if (confirmEntity == null) {
       throw new CustomException(
           HttpResponseStatus.NOT_FOUND.code(), "债权确认记录不存在", "删除债权确认信息失败，ID不存在：" + claimConfirmId);
@@ -127,55 +427,62 @@ public class IClaimConfirmServiceImpl implements IClaimConfirmService {
     return confirmEntity;
   }
 
-  private void validate(ClaimFillingEntity fillingEntity, ClaimConfirmQuery query) {
+  private void validate(ClaimFillingEntity fillingEntity, ClaimConfirmEntity confirmEntity) {
+    String error = check(fillingEntity, confirmEntity);
+    if (error != null) {
+      throw new CustomException(HttpResponseStatus.BAD_REQUEST.code(), error, error);
+    }
+  }
+
+  /**
+   * 按审计状态校验确认金额与申报金额
+   *
+   * @param fillingEntity 债权详情
+   * @param confirmEntity 将要写入的债权确认信息
+   * @return 错误信息，校验通过时返回 null
+   */
+  private static String check(ClaimFillingEntity fillingEntity, ClaimConfirmEntity confirmEntity) {
     // 如果确认状态是全部确认
-    if (query.getReviewStatus() == ReviewStatus.CONFIRM_ALL) {
+    if (confirmEntity.getReviewStatus() == ReviewStatus.CONFIRM_ALL) {
       // 确认的本金、利息和其他金额必须等于申报的金额
-      if (!Objects.equals(fillingEntity.getClaimPrincipal(), query.getConfirmedPrincipal())) {
-        throw new CustomException(
-            HttpResponseStatus.BAD_REQUEST.code(),
-            "确认状态为全部确认，债权确认本金金额不匹配",
-            "确认状态为全部确认，债权确认本金金额不匹配");
+      if (!Objects.equals(
+          fillingEntity.getClaimPrincipal(), confirmEntity.getConfirmedPrincipal())) {
+        return "确认状态为全部确认，债权确认本金金额不匹配";
       }
-      if (!Objects.equals(fillingEntity.getClaimInterest(), query.getConfirmedInterest())) {
-        throw new CustomException(
-            HttpResponseStatus.BAD_REQUEST.code(),
-            "确认状态为全部确认，债权确认利息金额不匹配",
-            "确认状态为全部确认，债权确认本金金额不匹配");
+      if (!Objects.equals(fillingEntity.getClaimInterest(), confirmEntity.getConfirmedInterest())) {
+        return "确认状态为全部确认，债权确认利息金额不匹配";
       }
-      if (!Objects.equals(fillingEntity.getClaimOther(), query.getConfirmedOther())) {
-        throw new CustomException(
-            HttpResponseStatus.BAD_REQUEST.code(),
-            "确认状态为全部确认，债权确认其他金额不匹配",
-            "确认状态为全部确认，债权确认本金金额不匹配");
+      if (!Objects.equals(fillingEntity.getClaimOther(), confirmEntity.getConfirmedOther())) {
+        return "确认状态为全部确认，债权确认其他金额不匹配";
       }
     }
-    if (query.getReviewStatus() == ReviewStatus.CONFIRM_PART) {
+    if (confirmEntity.getReviewStatus() == ReviewStatus.CONFIRM_PART) {
       // 如果是部分确认，确认的金额必须小于等于申报的金额
-      if (query.getConfirmedPrincipal() > fillingEntity.getClaimPrincipal()
-          || query.getConfirmedInterest() > fillingEntity.getClaimInterest()
-          || query.getConfirmedOther() > fillingEntity.getClaimOther()) {
-        throw new CustomException(
-            HttpResponseStatus.BAD_REQUEST.code(), "债权确认金额超过申报金额", "债权确认金额超过申报金额");
+      if (Money.cents(confirmEntity.getConfirmedPrincipal())
+              > Money.cents(fillingEntity.getClaimPrincipal())
+          || Money.cents(confirmEntity.getConfirmedInterest())
+              > Money.cents(fillingEntity.getClaimInterest())
+          || Money.cents(confirmEntity.getConfirmedOther())
+              > Money.cents(fillingEntity.getClaimOther())) {
+        return "债权确认金额超过申报金额";
       }
     }
-    if (query.getReviewStatus() == ReviewStatus.CONFIRM_REJECT) {
+    if (confirmEntity.getReviewStatus() == ReviewStatus.CONFIRM_REJECT) {
       // 如果是拒绝确认，确认的金额必须为0或者Null
-      if ((query.getConfirmedPrincipal() != null && query.getConfirmedPrincipal() != 0)
-          || (query.getConfirmedInterest() != null && query.getConfirmedInterest() != 0)
-          || (query.getConfirmedOther() != null && query.getConfirmedOther() != 0)) {
-        throw new CustomException(
-            HttpResponseStatus.BAD_REQUEST.code(), "拒绝确认时，债权确认金额必须为0或为NULL", "拒绝确认时，债权确认金额必须为0");
+      if (Money.cents(confirmEntity.getConfirmedPrincipal()) != 0
+          || Money.cents(confirmEntity.getConfirmedInterest()) != 0
+          || Money.cents(confirmEntity.getConfirmedOther()) != 0) {
+        return "拒绝确认时，债权确认金额必须为0或为NULL";
       }
     }
-    if (query.getReviewStatus() == ReviewStatus.CONFIRM_SUSPEND) {
+    if (confirmEntity.getReviewStatus() == ReviewStatus.CONFIRM_SUSPEND) {
       // 如果是暂缓确认，确认的金额必须为0或者Null
-      if ((query.getConfirmedPrincipal() != null && query.getConfirmedPrincipal() != 0)
-          || (query.getConfirmedInterest() != null && query.getConfirmedInterest() != 0)
-          || (query.getConfirmedOther() != null && query.getConfirmedOther() != 0)) {
-        throw new CustomException(
-            HttpResponseStatus.BAD_REQUEST.code(), "暂缓确认时，债权确认金额必须为0或为NULL", "拒绝确认时，债权确认金额必须为0");
+      if (Money.cents(confirmEntity.getConfirmedPrincipal()) != 0
+          || Money.cents(confirmEntity.getConfirmedInterest()) != 0
+          || Money.cents(confirmEntity.getConfirmedOther()) != 0) {
+        return "暂缓确认时，债权确认金额必须为0或为NULL";
       }
     }
+    return null;
   }
 }
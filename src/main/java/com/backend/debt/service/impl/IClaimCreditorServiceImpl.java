@@ -8,6 +8,9 @@ import com.backend.debt.model.dto.CreditorDto;
 import com.backend.debt.model.entity.CreditorEntity;
 import com.backend.debt.service.IClaimCreditorService;
 import com.backend.debt.service.IClaimService;
+import com.backend.debt.service.cache.ClaimReadCache;
+import com.backend.debt.service.cache.EntityIdentityMap;
+import com.backend.debt.util.OptimisticLockUtils;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -27,6 +30,7 @@ public class IClaimCreditorServiceImpl implements IClaimCreditorService {
 
   @Resource private CreditorMapper creditorMapper;
   @Resource private IClaimService claimService;
+  @Resource private ClaimReadCache claimReadCache;
 
   @Override
   public List<CreditorDto> getCreditorsByClaimId(String claimId) {
@@ -93,6 +97,7 @@ public class IClaimCreditorServiceImpl implements IClaimCreditorService {
       }
 
       creditorMapper.insertBatch(creditorEntities);
+      claimReadCache.evict(claimId);
       log.info("添加债权人信息成功，数量：{}，关联债权ID：{}", creditorEntities.size(), claimId);
 
       return creditorEntities.size();
@@ -106,19 +111,27 @@ public class IClaimCreditorServiceImpl implements IClaimCreditorService {
 
   @Override
   @Transactional(rollbackFor = Exception.class)
-  public boolean updateCreditor(String creditorId, CreditorDto creditorDto) {
+  public boolean updateCreditor(
+      String creditorId, CreditorDto creditorDto, Integer expectedVersion) {
     // 验证债权人是否存在
     CreditorEntity creditorEntity = validateAndGetCreditor(creditorId);
+    OptimisticLockUtils.checkVersion(creditorEntity, expectedVersion, "债权人");
 
     try {
       // 更新债权人信息
-      BeanUtils.copyProperties(creditorDto, creditorEntity, "id", "claimId", "createTime");
+      BeanUtils.copyProperties(
+          creditorDto, creditorEntity, "id", "claimId", "createTime", "version");
       creditorEntity.setIdentificationNumber(creditorDto.getIdNumber());
 
-      creditorMapper.updateById(creditorEntity);
+      // 以读取时的版本号为条件更新
+      int rows = creditorMapper.updateById(creditorEntity);
+      OptimisticLockUtils.checkUpdated(rows, "债权人", creditorId);
+      claimReadCache.evict(creditorEntity.getClaimId());
       log.info("更新债权人信息成功，ID：{}", creditorId);
 
       return true;
+    } catch (CustomException e) {
+      throw e;
     } catch (Exception e) {
       String errorMsg = "更新债权人信息异常，ID：" + creditorId;
       log.error(errorMsg + "，异常信息：{}", e.getMessage(), e);
@@ -131,11 +144,13 @@ public class IClaimCreditorServiceImpl implements IClaimCreditorService {
   @Transactional(rollbackFor = Exception.class)
   public boolean deleteCreditor(String creditorId) {
     // 验证债权人是否存在
-    validateAndGetCreditor(creditorId);
+    CreditorEntity creditorEntity = validateAndGetCreditor(creditorId);
 
     try {
       // 删除债权人记录
       creditorMapper.deleteById(creditorId);
+      EntityIdentityMap.remove(CreditorEntity.class, creditorId);
+      claimReadCache.evict(creditorEntity.getClaimId());
       log.info("删除债权人信息成功，ID：{}", creditorId);
 
       return true;
@@ -155,8 +170,21 @@ public class IClaimCreditorServiceImpl implements IClaimCreditorService {
     }
 
     try {
+      // 查询关联的债权ID，用于缓存失效
+      List<String> claimIds =
+          creditorMapper
+              .selectList(
+                  new LambdaQueryWrapperX<CreditorEntity>()
+                      .select(CreditorEntity::getClaimId)
+                      .in(CreditorEntity::getId, creditorIds))
+              .stream()
+              .map(CreditorEntity::getClaimId)
+              .distinct()
+              .toList();
+
       // 批量删除债权人记录
       int count = creditorMapper.deleteBatchIds(creditorIds);
+      claimReadCache.evictAll(claimIds);
       log.info("批量删除债权人信息成功，数量：{}", count);
 
       return count;
@@ -189,6 +217,7 @@ public class IClaimCreditorServiceImpl implements IClaimCreditorService {
 
       // 批量删除债权人记录
       int count = creditorMapper.deleteBatchIds(creditorIds);
+      claimReadCache.evict(claimId);
       log.info("删除债权关联的债权人信息成功，数量：{}，关联债权ID：{}", count, claimId);
 
       return count;
@@ -224,7 +253,8 @@ public class IClaimCreditorServiceImpl implements IClaimCreditorService {
       throw new CustomException(HttpResponseStatus.BAD_REQUEST.code(), "债权人ID不能为空", "债权人ID为空");
     }
 
-    CreditorEntity creditorEntity = creditorMapper.selectById(creditorId);
+    CreditorEntity creditorEntity =
+        EntityIdentityMap.getOrLoad(CreditorEntity.class, creditorId, creditorMapper::selectById);
     if (creditorEntity == null) {
       throw new CustomException(
           HttpResponseStatus.NOT_FOUND.code(), "债权人不存在", "债权人不存在，ID：" + creditorId);
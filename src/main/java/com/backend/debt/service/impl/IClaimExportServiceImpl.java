@@ -0,0 +1,63 @@
+package com.backend.debt.service.impl;
+
+import com.backend.debt.exceptions.CustomException;
+import com.backend.debt.exceptions.HttpResponseStatus;
+import com.backend.debt.mapper.ClaimMapper;
+import com.backend.debt.model.entity.ClaimLedgerRow;
+import com.backend.debt.model.query.ClaimLedgerExportQuery;
+import com.backend.debt.service.IClaimExportService;
+import com.backend.debt.service.export.ClaimLedgerWriter;
+import com.backend.debt.service.export.CsvClaimLedgerWriter;
+import com.backend.debt.service.export.XlsxClaimLedgerWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import javax.annotation.Resource;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.ibatis.cursor.Cursor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Slf4j
+@Service
+public class IClaimExportServiceImpl implements IClaimExportService {
+
+  @Resource private ClaimMapper claimMapper;
+
+  /**
+   * 导出债权台账
+   *
+   * <p>游标需要在事务内遍历：事务保持 SqlSession 与连接不被释放，同时关闭自动提交，PostgreSQL 驱动才会按 fetchSize 分批读取。
+   */
+  @Override
+  @Transactional(readOnly = true)
+  public long exportLedger(ClaimLedgerExportQuery query, OutputStream out) {
+    long start = System.currentTimeMillis();
+    long count = 0;
+    try (ClaimLedgerWriter writer = newWriter(query, out);
+        Cursor<ClaimLedgerRow> cursor = claimMapper.selectLedgerCursor(query)) {
+      for (ClaimLedgerRow row : cursor) {
+        writer.write(row);
+        count++;
+      }
+      writer.finish();
+    } catch (IOException e) {
+      log.error("导出债权台账异常，已写出行数：{}，异常信息：{}", count, e.getMessage(), e);
+      throw new CustomException(
+          HttpResponseStatus.INTERNAL_SERVER_ERROR.code(), "导出债权台账失败", "写出债权台账异常");
+    }
+    log.info(
+        "导出债权台账完成，格式：{}，行数：{}，耗时：{} ms",
+        query.getFormat(),
+        count,
+        System.currentTimeMillis() - start);
+    return count;
+  }
+
+  private static ClaimLedgerWriter newWriter(ClaimLedgerExportQuery query, OutputStream out)
+      throws IOException {
+    return switch (query.getFormat()) {
+      case XLSX -> new XlsxClaimLedgerWriter(out);
+      case CSV -> new CsvClaimLedgerWriter(out);
+    };
+  }
+}
@@ -1,5 +1,6 @@
 package com.backend.debt.service.impl;
 
+import com.backend.debt.config.executor.AggregateQueryExecutor;
 import com.backend.debt.exceptions.CustomException;
 import com.backend.debt.exceptions.HttpResponseStatus;
 import com.backend.debt.mapper.ClaimConfirmMapper;
@@ -7,14 +8,21 @@ import com.backend.debt.mapper.ClaimFillingMapper;
 import com.backend.debt.mapper.query.LambdaQueryWrapperX;
 import com.backend.debt.model.dto.ClaimConfirmDto;
 import com.backend.debt.model.dto.ClaimDetailDto;
+import com.backend.debt.model.dto.ClaimFillingDeltaDto;
 import com.backend.debt.model.dto.ClaimFillingDto;
+import com.backend.debt.model.dto.ClaimSummaryDto;
 import com.backend.debt.model.entity.ClaimConfirmEntity;
-import com.backend.debt.model.entity.ClaimEntity;
 import com.backend.debt.model.entity.ClaimFillingEntity;
 import com.backend.debt.model.query.ClaimFillingQuery;
 import com.backend.debt.service.IClaimFillingService;
 import com.backend.debt.service.IClaimService;
+import com.backend.debt.service.IClaimStatisticService;
+import com.backend.debt.service.IClaimSummaryService;
+import com.backend.debt.service.cache.ClaimReadCache;
+import com.backend.debt.service.cache.EntityIdentityMap;
+import com.backend.debt.util.OptimisticLockUtils;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -33,19 +41,26 @@ public class IClaimFillingServiceImpl implements IClaimFillingService {
   @Resource private ClaimConfirmMapper claimConfirmMapper;
   @Resource private ClaimFillingMapper claimFillingMapper;
   @Resource private IClaimService claimService;
+  @Resource private AggregateQueryExecutor aggregateQueryExecutor;
+  @Resource private ClaimReadCache claimReadCache;
+  @Resource private IClaimSummaryService claimSummaryService;
+  @Resource private IClaimStatisticService claimStatisticService;
 
   /**
    * 更新债权详情信息
    *
    * @param claimFillingId 债权详情ID
    * @param query 债权详情更新信息
+   * @param expectedVersion 客户端持有的版本号（If-Match），为空时只以读取到的版本号为条件
    * @return 更新后的债权申报详情
    */
   @Override
   @Transactional(rollbackFor = Exception.class)
-  public ClaimDetailDto updateClaimFilling(String claimFillingId, ClaimFillingQuery query) {
+  public ClaimDetailDto updateClaimFilling(
+      String claimFillingId, ClaimFillingQuery query, Integer expectedVersion) {
     log.info("更新债权详情信息，ID：{}，数据：{}", claimFillingId, query);
-    ClaimFillingEntity fillingEntity = this.validateAndGet(claimFillingId);
+    ClaimFillingEntity fillingEntity = this.lockAndGet(claimFillingId);
+    OptimisticLockUtils.checkVersion(fillingEntity, expectedVersion, "债权详情记录");
 
     try {
       // 2. 获取关联的债权ID
@@ -54,24 +69,20 @@ public class IClaimFillingServiceImpl implements IClaimFillingService {
       claimService.validateAndGet(claimId);
 
       // 3. 更新债权详情记录
-      if (query.getClaimNature() != null) {
-        fillingEntity.setClaimNature(query.getClaimNature());
-      }
-      if (query.getCollateralDetails() != null) {
-        fillingEntity.setCollateralDetails(query.getCollateralDetails());
-      }
-      if (query.getClaimPrincipal() != null) {
-        fillingEntity.setClaimPrincipal(query.getClaimPrincipal());
-      }
-      if (query.getClaimInterest() != null) {
-        fillingEntity.setClaimInterest(query.getClaimInterest());
-      }
-      if (query.getClaimOther() != null) {
-        fillingEntity.setClaimOther(query.getClaimOther());
-      }
+      ClaimFillingEntity before = new ClaimFillingEntity();
+      BeanUtils.copyProperties(fillingEntity, before);
+      applyUpdate(fillingEntity, query);
 
-      // 4. 更新数据库记录
-      claimFillingMapper.updateById(fillingEntity);
+      // 4. 以读取时的版本号为条件更新数据库记录，并按增量更新汇总与统计快照
+      int rows = claimFillingMapper.updateById(fillingEntity);
+      OptimisticLockUtils.checkUpdated(rows, "债权详情记录", claimFillingId);
+      claimSummaryService.onFillingUpdated(before, fillingEntity);
+      // 确认信息的写入同样先锁定申报详情，此处读到的确认信息在事务结束前不会变化
+      ClaimConfirmEntity confirmEntity =
+          claimConfirmMapper.selectLatestByClaimFillingId(claimFillingId);
+      claimStatisticService.onFillingChanged(
+          claimId, before, confirmEntity, fillingEntity, confirmEntity);
+      claimReadCache.evict(claimId);
       log.info("更新债权详情信息成功，ID：{}", claimFillingId);
 
       // 5. 返回更新后的完整债权详情
@@ -86,6 +97,64 @@ public class IClaimFillingServiceImpl implements IClaimFillingService {
     }
   }
 
+  /**
+   * 更新债权详情信息，只返回被修改的填报和重新计算的汇总
+   *
+   * <p>汇总由修改前后的金额增量更新到汇总表，不再重新计算全部填报。
+   *
+   * @param claimFillingId 债权详情ID
+   * @param query 债权详情更新信息
+   * @param expectedVersion 客户端持有的版本号（If-Match），为空时只以读取到的版本号为条件
+   * @return 被修改的填报及汇总
+   */
+  @Override
+  @Transactional(rollbackFor = Exception.class)
+  public ClaimFillingDeltaDto updateClaimFillingDelta(
+      String claimFillingId, ClaimFillingQuery query, Integer expectedVersion) {
+    log.info("更新债权详情信息（增量响应），ID：{}，数据：{}", claimFillingId, query);
+    ClaimFillingEntity fillingEntity = this.lockAndGet(claimFillingId);
+    OptimisticLockUtils.checkVersion(fillingEntity, expectedVersion, "债权详情记录");
+    String claimId = fillingEntity.getClaimId();
+    claimService.validateAndGet(claimId);
+
+    ClaimFillingEntity before = new ClaimFillingEntity();
+    BeanUtils.copyProperties(fillingEntity, before);
+    applyUpdate(fillingEntity, query);
+    int rows = claimFillingMapper.updateById(fillingEntity);
+    OptimisticLockUtils.checkUpdated(rows, "债权详情记录", claimFillingId);
+    claimSummaryService.onFillingUpdated(before, fillingEntity);
+    // 确认信息的写入同样先锁定申报详情，此处读到的确认信息在事务结束前不会变化
+    ClaimConfirmEntity confirmEntity =
+        claimConfirmMapper.selectLatestByClaimFillingId(claimFillingId);
+    claimStatisticService.onFillingChanged(
+        claimId, before, confirmEntity, fillingEntity, confirmEntity);
+    claimReadCache.evict(claimId);
+    log.info("更新债权详情信息成功，ID：{}", claimFillingId);
+
+    // 汇总已在本事务内按增量更新，直接读取
+    ClaimSummaryDto claimSummary = claimSummaryService.getSummary(claimId);
+    return new ClaimFillingDeltaDto(ClaimFillingDto.of(fillingEntity, confirmEntity), claimSummary);
+  }
+
+  /** 将更新信息中的非空字段写入债权详情实体 */
+  private void applyUpdate(ClaimFillingEntity fillingEntity, ClaimFillingQuery query) {
+    if (query.getClaimNature() != null) {
+      fillingEntity.setClaimNature(query.getClaimNature());
+    }
+    if (query.getCollateralDetails() != null) {
+      fillingEntity.setCollateralDetails(query.getCollateralDetails());
+    }
+    if (query.getClaimPrincipal() != null) {
+      fillingEntity.setClaimPrincipal(query.getClaimPrincipal());
+    }
+    if (query.getClaimInterest() != null) {
+      fillingEntity.setClaimInterest(query.getClaimInterest());
+    }
+    if (query.getClaimOther() != null) {
+      fillingEntity.setClaimOther(query.getClaimOther());
+    }
+  }
+
   /**
    * 添加债权详情信息
    *
@@ -104,6 +173,9 @@ public class IClaimFillingServiceImpl implements IClaimFillingService {
     try {
       ClaimFillingEntity fillingEntity = query.to(null, claimId);
       claimFillingMapper.insert(fillingEntity);
+      claimSummaryService.onFillingAdded(fillingEntity);
+      claimStatisticService.onFillingChanged(claimId, null, null, fillingEntity, null);
+      claimReadCache.evict(claimId);
       log.info("添加债权详情信息成功，ID：{}", fillingEntity.getId());
 
       return true;
@@ -125,7 +197,7 @@ public class IClaimFillingServiceImpl implements IClaimFillingService {
   @Transactional(rollbackFor = Exception.class)
   public boolean deleteClaimFilling(String claimFillingId) {
     log.info("删除债权详情信息，ID：{}", claimFillingId);
-    this.validateAndGet(claimFillingId);
+    ClaimFillingEntity fillingEntity = this.lockAndGet(claimFillingId);
     try {
       // 2. 查询关联的债权确认记录
       List<ClaimConfirmEntity> confirmEntities =
@@ -143,6 +215,18 @@ public class IClaimFillingServiceImpl implements IClaimFillingService {
 
       // 4. 删除债权详情记录
       claimFillingMapper.deleteById(claimFillingId);
+      claimSummaryService.onFillingRemoved(fillingEntity);
+      ClaimConfirmEntity latestConfirm =
+          confirmEntities.stream()
+              .max(
+                  Comparator.comparing(
+                      ClaimConfirmEntity::getUpdateTime,
+                      Comparator.nullsFirst(Comparator.naturalOrder())))
+              .orElse(null);
+      claimStatisticService.onFillingChanged(
+          fillingEntity.getClaimId(), fillingEntity, latestConfirm, null, null);
+      EntityIdentityMap.remove(ClaimFillingEntity.class, claimFillingId);
+      claimReadCache.evict(fillingEntity.getClaimId());
       log.info("删除债权详情信息成功，ID：{}", claimFillingId);
 
       return true;
@@ -162,7 +246,9 @@ public class IClaimFillingServiceImpl implements IClaimFillingService {
       throw new CustomException(
           HttpResponseStatus.BAD_REQUEST.code(), "债权详情ID不能为空", "删除债权详情信息失败，ID为空");
     }
-    ClaimFillingEntity fillingEntity = claimFillingMapper.selectById(claimFillingId);
+    ClaimFillingEntity fillingEntity =
+        EntityIdentityMap.getOrLoad(
+            ClaimFillingEntity.class, claimFillingId, claimFillingMapper::selectById);
     if (fillingEntity == null) {
       throw new CustomException(
           HttpResponseStatus.NOT_FOUND.code(), "债权详情记录不存在", "债权详情ID不存在：" + claimFillingId);
@@ -171,24 +257,49 @@ public class IClaimFillingServiceImpl implements IClaimFillingService {
   }
 
   @Override
-  public List<ClaimFillingDto> getClaimFillingByClaimId(String claimId) {
-    if (claimId == null || claimId.isEmpty()) {
-      return new ArrayList<>();
+  public ClaimFillingEntity lockAndGet(String claimFillingId) {
+    if (!StringUtils.hasText(claimFillingId)) {
+      throw new CustomException(
+          HttpResponseStatus.BAD_REQUEST.code(), "债权详情ID不能为空", "锁定债权详情失败，ID为空");
     }
+    ClaimFillingEntity fillingEntity = claimFillingMapper.selectByIdForUpdate(claimFillingId);
+    if (fillingEntity == null) {
+      throw new CustomException(
+          HttpResponseStatus.NOT_FOUND.code(), "债权详情记录不存在", "债权详情ID不存在：" + claimFillingId);
+    }
+    // 请求内后续按主键读取时使用加锁读取到的实例
+    EntityIdentityMap.put(ClaimFillingEntity.class, claimFillingId, fillingEntity);
+    return fillingEntity;
+  }
 
-    // 查询该债权申报下的所有债权申报金额记录
-    List<ClaimFillingEntity> fillingEntities =
-        claimFillingMapper.selectList(
-            new LambdaQueryWrapperX<ClaimFillingEntity>()
-                .eq(ClaimFillingEntity::getClaimId, claimId));
-
-    if (fillingEntities.isEmpty()) {
+  @Override
+  public List<ClaimFillingDto> getClaimFillingByClaimId(String claimId) {
+    if (claimId == null || claimId.isEmpty()) {
       return new ArrayList<>();
     }
 
-    // 收集所有填报ID，用于批量查询确认信息
-    List<String> fillingIds = fillingEntities.stream().map(ClaimFillingEntity::getId).toList();
+    // 申报详情与确认信息互不依赖，并行查询
+    return aggregateQueryExecutor.fork(
+        () ->
+            claimFillingMapper.selectList(
+                new LambdaQueryWrapperX<ClaimFillingEntity>()
+                    .eq(ClaimFillingEntity::getClaimId, claimId)
+                    // 统计文本按首次出现的顺序拼接，与统计快照的聚合 SQL 顺序一致
+                    .orderByAsc(ClaimFillingEntity::getCreateTime)
+                    .orderByAsc(ClaimFillingEntity::getId)),
+        () -> claimConfirmMapper.selectListByClaimId(claimId),
+        IClaimFillingServiceImpl::toFillingDtos);
+  }
 
+  /**
+   * 将申报详情与确认信息组装为DTO
+   *
+   * @param fillingEntities 申报详情列表
+   * @param confirmEntities 确认信息列表
+   * @return 申报详情DTO列表
+   */
+  private static List<ClaimFillingDto> toFillingDtos(
+      List<ClaimFillingEntity> fillingEntities, List<ClaimConfirmEntity> confirmEntities) {
     // 转换为DTO并关联确认信息
     List<ClaimFillingDto> resultList = new ArrayList<>();
 
@@ -199,31 +310,17 @@ public class IClaimFillingServiceImpl implements IClaimFillingService {
       resultList.add(fillingDto);
     }
 
-    // 如果没有填报ID，直接返回填报DTO列表（确认信息为null）
-    if (fillingIds.isEmpty()) {
-      return resultList;
-    }
-
-    // 批量查询所有关联的确认信息
-    List<ClaimConfirmEntity> confirmEntities =
-        claimConfirmMapper.selectList(
-            new LambdaQueryWrapperX<ClaimConfirmEntity>()
-                .in(ClaimConfirmEntity::getClaimFillingId, fillingIds));
-
     // 如果没有确认信息，直接返回填报DTO列表（确认信息为null）
-    if (confirmEntities.isEmpty()) {
+    if (resultList.isEmpty() || confirmEntities.isEmpty()) {
       return resultList;
     }
 
-    // 将确认信息按填报ID进行分组，便于后续快速查找
+    // 将确认信息按填报ID进行分组，便于后续快速查找，唯一索引保证每个填报最多一条未删除的确认信息
     Map<String, ClaimConfirmEntity> confirmMap =
         confirmEntities.stream()
             .collect(
                 Collectors.toMap(
-                    ClaimConfirmEntity::getClaimFillingId,
-                    confirmEntity -> confirmEntity,
-                    // 如果有多个确认信息（理论上不应该），取最后一个
-                    (existing, replacement) -> replacement));
+                    ClaimConfirmEntity::getClaimFillingId, confirmEntity -> confirmEntity));
 
     // 设置关联的确认信息
     for (ClaimFillingDto fillingDto : resultList) {
@@ -0,0 +1,446 @@
+package com.backend.debt.service.impl;
+
+import com.backend.debt.config.executor.ClaimImportExecutor;
+import com.backend.debt.enums.SpreadsheetFormat;
+import com.backend.debt.exceptions.CustomException;
+import com.backend.debt.exceptions.HttpResponseStatus;
+import com.backend.debt.mapper.ClaimMapper;
+import com.backend.debt.model.dto.importer.ClaimImportErrorDto;
+import com.backend.debt.model.dto.importer.ClaimImportResultDto;
+import com.backend.debt.service.IClaimImportService;
+import com.backend.debt.service.importer.ClaimImportColumn;
+import com.backend.debt.service.importer.ClaimImportGroup;
+import com.backend.debt.service.importer.ClaimImportParser;
+import com.backend.debt.service.importer.ClaimImportRow;
+import com.backend.debt.service.importer.ClaimImportValidator;
+import com.backend.debt.service.importer.ClaimImportWriter;
+import com.backend.debt.service.importer.CsvClaimImportParser;
+import com.backend.debt.service.importer.XlsxClaimImportParser;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import javax.annotation.Resource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+/**
+ * 债权数据导入服务实现类
+ *
+ * <p>导入分为三个阶段，阶段之间通过有界队列连接，队列满时上游等待，同时在内存中的债权数不超过队列容量：
+ *
+ * <ul>
+ *   <li>解析：一个线程流式读取文件，把同一债权编号的相邻行合并为一个债权，检查文件内的债权编号是否重复
+ *   <li>校验：多个线程并行校验格式并转换为实体，每次取一批债权，用一条查询检查债权编号是否已存在
+ *   <li>写入：调用线程按批写入，每批一个事务，汇总错误报告
+ * </ul>
+ */
+@Slf4j
+@Service
+public class IClaimImportServiceImpl implements IClaimImportService {
+
+  /** 阶段之间传递的结束标记，每个下游线程一个 */
+  private static final ClaimImportGroup END = new ClaimImportGroup(null);
+
+  /** 等待队列时检查是否已中止的间隔 */
+  private static final long POLL_MILLIS = 100;
+
+  /** 校验线程每次从队列取出的债权数，也是判重查询的债权编号个数 */
+  private static final int VALIDATE_CHUNK_SIZE = 200;
+
+  private static final Set<ClaimImportColumn> REQUIRED_COLUMNS =
+      EnumSet.of(ClaimImportColumn.CLAIM_NUMBER, ClaimImportColumn.CLAIM_DATE);
+
+  private final ClaimImportValidator validator = new ClaimImportValidator();
+
+  @Resource private ClaimImportExecutor claimImportExecutor;
+  @Resource private ClaimImportWriter claimImportWriter;
+  @Resource private ClaimMapper claimMapper;
+
+  @Value("${claim.import.queue-capacity:2000}")
+  private int queueCapacity;
+
+  @Value("${claim.import.batch-size:500}")
+  private int batchSize;
+
+  @Value("${claim.import.max-errors:10000}")
+  private int maxErrors;
+
+  @Override
+  public ClaimImportResultDto importClaims(MultipartFile file) {
+    SpreadsheetFormat format = SpreadsheetFormat.ofFileName(file.getOriginalFilename());
+    if (format == null) {
+      throw new CustomException(
+          HttpResponseStatus.BAD_REQUEST.code(),
+          "仅支持导入 CSV 和 XLSX 文件",
+          "导入文件格式无法识别：" + file.getOriginalFilename());
+    }
+    if (!claimImportExecutor.tryLock()) {
+      throw new CustomException(
+          HttpResponseStatus.TOO_MANY_REQUESTS.code(), "已有导入正在执行，请稍后重试", "债权导入正在执行");
+    }
+    Path tempFile = null;
+    try {
+      // 上传的文件先落盘，XLSX 需要按随机访问的方式打开才不会整体解压到内存
+      tempFile = Files.createTempFile("claim-import-", "." + format.getExtension());
+      file.transferTo(tempFile);
+      log.info("开始导入债权，文件：{}，大小：{} 字节", file.getOriginalFilename(), file.getSize());
+      return new ImportRun(format, tempFile.toFile()).run();
+    } catch (IOException e) {
+      throw new CustomException(
+          HttpResponseStatus.INTERNAL_SERVER_ERROR.code(), "导入文件保存失败", "导入文件保存失败：" + e);
+    } finally {
+      claimImportExecutor.unlock();
+      deleteQuietly(tempFile);
+    }
+  }
+
+  private static void deleteQuietly(Path path) {
+    if (path == null) {
+      return;
+    }
+    try {
+      Files.deleteIfExists(path);
+    } catch (IOException e) {
+      log.warn("删除导入临时文件失败：{}", path, e);
+    }
+  }
+
+  /** 写入阶段中止后，上游阶段在等待队列时抛出，结束所在的线程 */
+  private static class ImportAbortedException extends RuntimeException {
+
+    ImportAbortedException() {
+      super("导入已中止", null, false, false);
+    }
+  }
+
+  /** 一次导入的流水线状态 */
+  private class ImportRun {
+
+    private final SpreadsheetFormat format;
+
+    private final File file;
+
+    private final BlockingQueue<ClaimImportGroup> parsedQueue =
+        new ArrayBlockingQueue<>(queueCapacity);
+
+    private final BlockingQueue<ClaimImportGroup> validatedQueue =
+        new ArrayBlockingQueue<>(queueCapacity);
+
+    private final ClaimImportResultDto result = new ClaimImportResultDto();
+
+    private volatile boolean aborted;
+
+    /** 文件解析失败的原因，解析线程写入 */
+    private volatile String parseError;
+
+    // 以下字段只在解析线程中访问
+
+    /** 文件中第几列对应的导入列，未定义的列为 null */
+    private ClaimImportColumn[] columns;
+
+    private final Set<String> claimNumbers = new HashSet<>();
+
+    private ClaimImportGroup current;
+
+    private int totalRows;
+
+    // 以下字段只在写入线程中访问
+
+    private int totalClaims;
+    private int importedClaims;
+    private int importedCreditors;
+    private int importedFillings;
+    private int failedClaims;
+    private int errorRows;
+
+    ImportRun(SpreadsheetFormat format, File file) {
+      this.format = format;
+      this.file = file;
+    }
+
+    ClaimImportResultDto run() {
+      long start = System.currentTimeMillis();
+      int parallelism = claimImportExecutor.getValidateParallelism();
+      List<CompletableFuture<Void>> stages = new ArrayList<>();
+      try {
+        stages.add(claimImportExecutor.run(() -> parse(parallelism)));
+        for (int i = 0; i < parallelism; i++) {
+          stages.add(claimImportExecutor.run(this::validate));
+        }
+        write(parallelism);
+        // 写入阶段收到全部结束标记时上游阶段均已结束，这里只用于建立可见性
+        CompletableFuture.allOf(stages.toArray(new CompletableFuture<?>[0])).join();
+      } finally {
+        // 写入阶段异常退出时通知上游阶段停止，释放队列中的数据
+        aborted = true;
+        parsedQueue.clear();
+        validatedQueue.clear();
+      }
+
+      result.setErrorsTruncated(errorRows > result.getErrors().size());
+      result.setCompleted(parseError == null);
+      if (parseError != null) {
+        result.getErrors().add(0, new ClaimImportErrorDto(null, null, parseError));
+      }
+      result.setTotalRows(totalRows);
+      result.setTotalClaims(totalClaims);
+      result.setImportedClaims(importedClaims);
+      result.setImportedCreditors(importedCreditors);
+      result.setImportedFillings(importedFillings);
+      result.setFailedClaims(failedClaims);
+      result.setErrorRows(errorRows);
+      result.setElapsedMillis(System.currentTimeMillis() - start);
+      log.info(
+          "债权导入完成，行数：{}，债权数：{}，写入债权：{}，失败债权：{}，错误行数：{}，耗时：{} ms",
+          totalRows,
+          totalClaims,
+          importedClaims,
+          failedClaims,
+          errorRows,
+          result.getElapsedMillis());
+      return result;
+    }
+
+    // ==================== 解析 ====================
+
+    private void parse(int parallelism) {
+      ClaimImportParser parser =
+          switch (format) {
+            case CSV -> new CsvClaimImportParser();
+            case XLSX -> new XlsxClaimImportParser();
+          };
+      try {
+        parser.parse(file, this::onRow);
+        if (current != null) {
+          put(parsedQueue, current);
+        }
+      } catch (ImportAbortedException e) {
+        return;
+      } catch (IOException | RuntimeException e) {
+        log.error("导入文件解析失败", e);
+        parseError = "文件解析失败：" + e.getMessage();
+      }
+      for (int i = 0; i < parallelism; i++) {
+        put(parsedQueue, END);
+      }
+    }
+
+    private void onRow(int rowNumber, List<String> cells) {
+      if (columns == null) {
+        readHeader(cells);
+        return;
+      }
+      ClaimImportRow row = new ClaimImportRow(rowNumber);
+      for (int i = 0; i < cells.size() && i < columns.length; i++) {
+        if (columns[i] != null) {
+          row.set(columns[i], cells.get(i));
+        }
+      }
+      if (row.isBlank()) {
+        return;
+      }
+      totalRows++;
+
+      String claimNumber = row.get(ClaimImportColumn.CLAIM_NUMBER);
+      if (current != null && claimNumber != null && claimNumber.equals(current.getClaimNumber())) {
+        current.getRows().add(row);
+        return;
+      }
+      if (current != null) {
+        put(parsedQueue, current);
+      }
+      current = new ClaimImportGroup(claimNumber);
+      current.getRows().add(row);
+      if (claimNumber == null) {
+        row.addError("债权编号不能为空");
+      } else if (!claimNumbers.add(claimNumber)) {
+        row.addError("债权编号在文件中重复，同一债权的行需要相邻：" + claimNumber);
+      }
+    }
+
+    private void readHeader(List<String> cells) {
+      columns = new ClaimImportColumn[cells.size()];
+      Set<ClaimImportColumn> missing = EnumSet.copyOf(REQUIRED_COLUMNS);
+      for (int i = 0; i < cells.size(); i++) {
+        columns[i] = ClaimImportColumn.ofHeader(cells.get(i));
+        missing.remove(columns[i]);
+      }
+      if (!missing.isEmpty()) {
+        throw new IllegalArgumentException(
+            "缺少必需的列："
+                + missing.stream()
+                    .map(ClaimImportColumn::getHeader)
+                    .collect(Collectors.joining("、")));
+      }
+    }
+
+    // ==================== 校验 ====================
+
+    private void validate() {
+      List<ClaimImportGroup> chunk = new ArrayList<>(VALIDATE_CHUNK_SIZE);
+      boolean end = false;
+      try {
+        while (!end) {
+          ClaimImportGroup first = take(parsedQueue);
+          chunk.add(first);
+          parsedQueue.drainTo(chunk, VALIDATE_CHUNK_SIZE - 1);
+          int ends = 0;
+          while (chunk.remove(END)) {
+            ends++;
+          }
+          // 多取到的结束标记属于其他校验线程，放回队列
+          for (int i = 1; i < ends; i++) {
+            put(parsedQueue, END);
+          }
+          end = ends > 0;
+          validateChunk(chunk);
+          for (ClaimImportGroup group : chunk) {
+            put(validatedQueue, group);
+          }
+          chunk.clear();
+        }
+        put(validatedQueue, END);
+      } catch (ImportAbortedException e) {
+        // 写入阶段已中止，直接结束
+      }
+    }
+
+    private void validateChunk(List<ClaimImportGroup> chunk) {
+      try {
+        List<String> claimNumbers = new ArrayList<>(chunk.size());
+        for (ClaimImportGroup group : chunk) {
+          if (group.getClaimNumber() != null) {
+            validator.validate(group);
+          }
+          if (!group.hasError()) {
+            claimNumbers.add(group.getClaimNumber());
+          }
+        }
+        if (claimNumbers.isEmpty()) {
+          return;
+        }
+        Set<String> existing =
+            new HashSet<>(
+                claimMapper.selectExistingClaimNumbers(claimNumbers.toArray(new String[0])));
+        for (ClaimImportGroup group : chunk) {
+          if (existing.contains(group.getClaimNumber())) {
+            group.addError("债权编号已存在：" + group.getClaimNumber());
+          }
+        }
+      } catch (RuntimeException e) {
+        log.error("导入债权校验失败，债权数：{}", chunk.size(), e);
+        for (ClaimImportGroup group : chunk) {
+          group.addError("校验失败：" + e.getMessage());
+        }
+      }
+    }
+
+    // ==================== 写入 ====================
+
+    private void write(int parallelism) {
+      List<ClaimImportGroup> batch = new ArrayList<>(batchSize);
+      int ends = 0;
+      while (ends < parallelism) {
+        ClaimImportGroup group = take(validatedQueue);
+        if (group == END) {
+          ends++;
+          continue;
+        }
+        totalClaims++;
+        if (group.hasError()) {
+          reportFailure(group);
+          continue;
+        }
+        batch.add(group);
+        if (batch.size() >= batchSize) {
+          flush(batch);
+        }
+      }
+      flush(batch);
+    }
+
+    private void flush(List<ClaimImportGroup> batch) {
+      if (batch.isEmpty()) {
+        return;
+      }
+      try {
+        claimImportWriter.write(batch);
+      } catch (RuntimeException e) {
+        log.error("导入债权写入失败，债权数：{}", batch.size(), e);
+        for (ClaimImportGroup group : batch) {
+          group.addError("写入失败：" + e.getMessage());
+        }
+      }
+      for (ClaimImportGroup group : batch) {
+        if (group.hasError()) {
+          reportFailure(group);
+        } else {
+          importedClaims++;
+          importedCreditors += group.getCreditors().size();
+          importedFillings += group.getFillings().size();
+        }
+      }
+      batch.clear();
+    }
+
+    private void reportFailure(ClaimImportGroup group) {
+      failedClaims++;
+      for (ClaimImportRow row : group.getRows()) {
+        if (!row.hasError()) {
+          continue;
+        }
+        errorRows++;
+        if (result.getErrors().size() < maxErrors) {
+          String message = String.join("；", row.getErrors());
+          result
+              .getErrors()
+              .add(new ClaimImportErrorDto(row.getRowNumber(), group.getClaimNumber(), message));
+        }
+      }
+    }
+
+    // ==================== 队列 ====================
+
+    /** 中止后队列已清空，入队和出队前都先检查是否已中止，上游阶段不再继续处理 */
+    private void put(BlockingQueue<ClaimImportGroup> queue, ClaimImportGroup group) {
+      try {
+        do {
+          if (aborted) {
+            throw new ImportAbortedException();
+          }
+        } while (!queue.offer(group, POLL_MILLIS, TimeUnit.MILLISECONDS));
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new ImportAbortedException();
+      }
+    }
+
+    private ClaimImportGroup take(BlockingQueue<ClaimImportGroup> queue) {
+      try {
+        ClaimImportGroup group;
+        do {
+          if (aborted) {
+            throw new ImportAbortedException();
+          }
+        } while ((group = queue.poll(POLL_MILLIS, TimeUnit.MILLISECONDS)) == null);
+        return group;
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new ImportAbortedException();
+      }
+    }
+  }
+}
@@ -0,0 +1,127 @@
+package com.backend.debt.service.impl;
+
+import cn.hutool.core.collection.CollUtil;
+import com.backend.debt.config.executor.PdfRenderExecutor;
+import com.backend.debt.exceptions.CustomException;
+import com.backend.debt.exceptions.HttpResponseStatus;
+import com.backend.debt.model.dto.ClaimDetailDto;
+import com.backend.debt.model.dto.confirm.statistic.ClaimConfirmStatisticDto;
+import com.backend.debt.service.IClaimNoticeService;
+import com.backend.debt.service.IClaimService;
+import com.backend.debt.service.IClaimStatisticService;
+import com.backend.debt.service.pdf.ConfirmNoticeRenderer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+import javax.annotation.Resource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+@Slf4j
+@Service
+public class IClaimNoticeServiceImpl implements IClaimNoticeService {
+
+  /** 批量生成时每批读取确认统计的债权数量 */
+  private static final int STATISTIC_CHUNK_SIZE = 500;
+
+  private static final String CONFIRM_NOTICE_NAME = "债权审查确认通知书";
+
+  @Resource private IClaimService claimService;
+  @Resource private IClaimStatisticService claimStatisticService;
+  @Resource private ConfirmNoticeRenderer confirmNoticeRenderer;
+  @Resource private PdfRenderExecutor pdfRenderExecutor;
+
+  @Override
+  public byte[] renderConfirmNotice(String claimId) {
+    ClaimDetailDto detail = claimService.getClaimDetail(claimId);
+    ClaimConfirmStatisticDto statistic = claimStatisticService.calculateConfirmedStatistic(claimId);
+    return PdfRenderExecutor.join(
+        pdfRenderExecutor.submit(() -> confirmNoticeRenderer.render(detail, statistic)));
+  }
+
+  @Override
+  public int renderConfirmNotices(List<String> claimIds, OutputStream out) {
+    long start = System.currentTimeMillis();
+    List<String> distinctIds = List.copyOf(new LinkedHashSet<>(claimIds));
+    // 已提交渲染、尚未写入 ZIP 的通知书，数量受渲染执行器的许可限制
+    Deque<CompletableFuture<RenderedNotice>> pending = new ArrayDeque<>();
+    int written = 0;
+    try {
+      ZipOutputStream zip = new ZipOutputStream(out);
+      for (List<String> chunk : CollUtil.split(distinctIds, STATISTIC_CHUNK_SIZE)) {
+        Map<String, ClaimConfirmStatisticDto> statistics =
+            claimStatisticService.calculateConfirmedStatistics(chunk);
+        for (String claimId : chunk) {
+          // 先写出已完成的通知书，避免提交时等待许可
+          while (!pending.isEmpty() && pending.peek().isDone()) {
+            written += writeEntry(zip, pending.poll());
+          }
+          ClaimConfirmStatisticDto statistic = statistics.get(claimId);
+          pending.add(pdfRenderExecutor.submit(() -> renderNotice(claimId, statistic)));
+        }
+      }
+      while (!pending.isEmpty()) {
+        written += writeEntry(zip, pending.poll());
+      }
+      zip.finish();
+      out.flush();
+    } catch (IOException e) {
+      pending.forEach(future -> future.cancel(true));
+      log.error("写出通知书压缩包异常，已写出数量：{}，异常信息：{}", written, e.getMessage(), e);
+      throw new CustomException(
+          HttpResponseStatus.INTERNAL_SERVER_ERROR.code(), "批量生成通知书失败", "写出通知书压缩包异常");
+    } catch (RuntimeException e) {
+      pending.forEach(future -> future.cancel(true));
+      throw e;
+    }
+    log.info(
+        "批量生成债权审查确认通知书完成，请求数量：{}，生成数量：{}，耗时：{} ms",
+        distinctIds.size(),
+        written,
+        System.currentTimeMillis() - start);
+    return written;
+  }
+
+  /** 在渲染线程中执行，债权不存在时返回 null */
+  private RenderedNotice renderNotice(String claimId, ClaimConfirmStatisticDto statistic)
+      throws IOException {
+    ClaimDetailDto detail;
+    try {
+      detail = claimService.getClaimDetail(claimId);
+    } catch (CustomException e) {
+      log.warn("批量生成通知书时跳过债权，ID：{}，原因：{}", claimId, e.getMessage());
+      return null;
+    }
+    String fileName =
+        sanitizeFileName(detail.getClaimNumber()) + "_" + CONFIRM_NOTICE_NAME + ".pdf";
+    return new RenderedNotice(fileName, confirmNoticeRenderer.render(detail, statistic));
+  }
+
+  private static int writeEntry(ZipOutputStream zip, CompletableFuture<RenderedNotice> future)
+      throws IOException {
+    RenderedNotice notice = PdfRenderExecutor.join(future);
+    if (notice == null) {
+      return 0;
+    }
+    zip.putNextEntry(new ZipEntry(notice.fileName()));
+    zip.write(notice.content());
+    zip.closeEntry();
+    return 1;
+  }
+
+  private static String sanitizeFileName(String name) {
+    if (name == null || name.isBlank()) {
+      return "未编号";
+    }
+    return name.replaceAll("[\\\\/:*?\"<>|\\s]", "_");
+  }
+
+  private record RenderedNotice(String fileName, byte[] content) {}
+}
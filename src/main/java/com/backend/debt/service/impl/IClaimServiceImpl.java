@@ -6,21 +6,29 @@ import com.backend.debt.exceptions.HttpResponseStatus;
 import com.backend.debt.mapper.ClaimConfirmMapper;
 import com.backend.debt.mapper.ClaimFillingMapper;
 import com.backend.debt.mapper.ClaimMapper;
+import com.backend.debt.mapper.CreditorMapper;
 import com.backend.debt.mapper.query.LambdaQueryWrapperX;
 import com.backend.debt.model.dto.ClaimDetailDto;
 import com.backend.debt.model.dto.ClaimFillingDto;
 import com.backend.debt.model.dto.ClaimSimpleDto;
 import com.backend.debt.model.dto.ClaimSummaryDto;
 import com.backend.debt.model.dto.CreditorDto;
-import com.backend.debt.model.entity.ClaimConfirmEntity;
+import com.backend.debt.model.entity.ClaimDetailAggregate;
 import com.backend.debt.model.entity.ClaimEntity;
-import com.backend.debt.model.entity.ClaimFillingEntity;
+import com.backend.debt.model.page.KeysetCursor;
 import com.backend.debt.model.page.PageResult;
 import com.backend.debt.model.query.ClaimQuery;
 import com.backend.debt.model.query.ClaimSimplePageQuery;
 import com.backend.debt.service.IClaimCreditorService;
 import com.backend.debt.service.IClaimService;
-import com.backend.debt.util.StringUtils;
+import com.backend.debt.service.IClaimStatisticService;
+import com.backend.debt.service.IClaimSummaryService;
+import com.backend.debt.service.IClaimVoteService;
+import com.backend.debt.service.cache.ClaimReadCache;
+import com.backend.debt.service.cache.EntityIdentityMap;
+import com.backend.debt.util.OptimisticLockUtils;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -28,9 +36,9 @@ import java.util.stream.Collectors;
 import javax.annotation.Resource;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.BeanUtils;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.util.CollectionUtils;
 
 /** 债权申报服务实现类 */
 @Slf4j
@@ -40,7 +48,12 @@ public class IClaimServiceImpl implements IClaimService {
   @Resource private ClaimMapper claimMapper;
   @Resource private ClaimFillingMapper claimFillingMapper;
   @Resource private ClaimConfirmMapper claimConfirmMapper;
+  @Resource private CreditorMapper creditorMapper;
   @Resource private IClaimCreditorService claimCreditorService;
+  @Resource private ClaimReadCache claimReadCache;
+  @Resource private IClaimSummaryService claimSummaryService;
+  @Resource private IClaimStatisticService claimStatisticService;
+  @Resource private IClaimVoteService claimVoteService;
 
   /**
    * 分页查询债权申报简要信息
@@ -50,43 +63,153 @@ public class IClaimServiceImpl implements IClaimService {
    */
   @Override
   public PageResult<ClaimSimpleDto> getSimplePage(ClaimSimplePageQuery query) {
+    // 传入游标时走游标分页
+    if (query.getCursor() != null) {
+      return getSimpleCursorPage(query);
+    }
+
     // 1. 查询符合条件的债权申报数据
     PageResult<ClaimEntity> claimEntityPage =
-        claimMapper.selectPage(
-            query,
-            new LambdaQueryWrapperX<ClaimEntity>()
-                .likeIfPresent(ClaimEntity::getClaimNumber, query.getClaimNumber())
-                .likeIfPresent(ClaimEntity::getRegistrar, query.getRegistrar())
-                .geIfPresent(ClaimEntity::getClaimDate, query.getStartClaimDate())
-                .leIfPresent(ClaimEntity::getClaimDate, query.getEndClaimDate()));
-
-    // 如果没有查询到数据，直接返回空结果
+        claimMapper.selectPage(query, buildSimplePageWrapper(query));
+
+    // 如果没有查询到数据，直接返回空结果（保留总数统计方式决定的 total）
     if (claimEntityPage.getList().isEmpty()) {
-      return PageResult.empty();
+      PageResult<ClaimSimpleDto> emptyResult = PageResult.empty(claimEntityPage.getTotal());
+      emptyResult.setHasMore(false);
+      return emptyResult;
     }
 
-    // 2. 获取所有债权ID
-    List<String> claimIds = claimEntityPage.getList().stream().map(ClaimEntity::getId).toList();
+    // 2-4. 关联债权人并转换为DTO
+    List<ClaimSimpleDto> resultList = toSimpleDtos(claimEntityPage.getList());
 
-    // 3. 批量查询所有债权ID对应的债权人列表
+    // 5. 返回最终分页结果
+    PageResult<ClaimSimpleDto> pageResult =
+        new PageResult<>(resultList, claimEntityPage.getTotal());
+    pageResult.setHasMore(claimEntityPage.getHasMore());
+    return pageResult;
+  }
+
+  /**
+   * 游标分页查询债权申报简要信息
+   *
+   * <p>按 (claim_date, id) 降序排列，使用 seek 条件代替 OFFSET，任意深度的页面代价都与第一页相同，且不执行 count 查询。
+   * 申报日期为空的记录排在最后，单独按 id 降序读取。
+   *
+   * @param query 分页查询参数
+   * @return 分页结果，total 为 null，next_cursor 为下一页游标
+   */
+  private PageResult<ClaimSimpleDto> getSimpleCursorPage(ClaimSimplePageQuery query) {
+    KeysetCursor cursor = KeysetCursor.decode(query.getCursor());
+    int pageSize = query.getPageSize();
+    boolean inNullDateSection = cursor != null && cursor.getSortValue() == null;
+    List<ClaimEntity> claimEntities = new ArrayList<>();
+
+    // 1. 读取申报日期非空的记录段，多取一条用于判断是否还有下一页
+    if (!inNullDateSection) {
+      LambdaQueryWrapperX<ClaimEntity> wrapper = buildSimplePageWrapper(query);
+      wrapper.isNotNull(ClaimEntity::getClaimDate);
+      if (cursor != null) {
+        wrapper.seekBeforeIfPresent(
+            ClaimEntity::getClaimDate, parseCursorDate(cursor), ClaimEntity::getId, cursor.getId());
+      }
+      wrapper
+          .orderByDesc(ClaimEntity::getClaimDate)
+          .orderByDesc(ClaimEntity::getId)
+          .limitN(pageSize + 1);
+      claimEntities.addAll(claimMapper.selectList(wrapper));
+    }
+
+    // 2. 非空段不足一页时，继续读取申报日期为空的记录段（按日期范围过滤时该段必然为空）
+    boolean dateFiltered = query.getStartClaimDate() != null || query.getEndClaimDate() != null;
+    if (claimEntities.size() <= pageSize && !dateFiltered) {
+      LambdaQueryWrapperX<ClaimEntity> wrapper = buildSimplePageWrapper(query);
+      wrapper.isNull(ClaimEntity::getClaimDate);
+      if (inNullDateSection) {
+        wrapper.lt(ClaimEntity::getId, cursor.getId());
+      }
+      wrapper.orderByDesc(ClaimEntity::getId).limitN(pageSize + 1 - claimEntities.size());
+      claimEntities.addAll(claimMapper.selectList(wrapper));
+    }
+
+    // 3. 截取当前页并生成下一页游标
+    PageResult<ClaimSimpleDto> pageResult = new PageResult<>(new ArrayList<>(), null);
+    if (claimEntities.size() > pageSize) {
+      claimEntities = claimEntities.subList(0, pageSize);
+      ClaimEntity last = claimEntities.get(pageSize - 1);
+      String sortValue = last.getClaimDate() == null ? null : last.getClaimDate().toString();
+      pageResult.setNextCursor(new KeysetCursor(sortValue, last.getId()).encode());
+    }
+    pageResult.setHasMore(pageResult.getNextCursor() != null);
+    if (!claimEntities.isEmpty()) {
+      pageResult.setList(toSimpleDtos(claimEntities));
+    }
+    return pageResult;
+  }
+
+  /**
+   * 构建债权申报分页列表的过滤条件
+   *
+   * @param query 分页查询参数
+   * @return 查询条件
+   */
+  private LambdaQueryWrapperX<ClaimEntity> buildSimplePageWrapper(ClaimSimplePageQuery query) {
+    LambdaQueryWrapperX<ClaimEntity> wrapper =
+        new LambdaQueryWrapperX<ClaimEntity>()
+            .searchIfPresent(ClaimEntity::getClaimNumber, query.getClaimNumber())
+            .searchIfPresent(ClaimEntity::getRegistrar, query.getRegistrar())
+            .searchInIfPresent(
+                ClaimEntity::getId, "creditor", "claim_id", "name", query.getCreditorName())
+            .geIfPresent(ClaimEntity::getClaimDate, query.getStartClaimDate())
+            .leIfPresent(ClaimEntity::getClaimDate, query.getEndClaimDate());
+    // 申报总额过滤走汇总表的 total_amount 索引，不再关联申报详情计算
+    wrapper.apply(
+        query.getMinDeclaredTotal() != null,
+        "id IN (SELECT claim_id FROM claim_summary WHERE total_amount >= {0})",
+        query.getMinDeclaredTotal());
+    wrapper.apply(
+        query.getMaxDeclaredTotal() != null,
+        "id IN (SELECT claim_id FROM claim_summary WHERE total_amount <= {0})",
+        query.getMaxDeclaredTotal());
+    return wrapper;
+  }
+
+  /**
+   * 批量关联债权人和申报金额汇总，将ClaimEntity转换为ClaimSimpleDto
+   *
+   * @param claimEntities 债权申报实体列表
+   * @return 债权申报简要信息列表
+   */
+  private List<ClaimSimpleDto> toSimpleDtos(List<ClaimEntity> claimEntities) {
+    // 获取所有债权ID
+    List<String> claimIds = claimEntities.stream().map(ClaimEntity::getId).toList();
+
+    // 批量查询所有债权ID对应的债权人列表
     Map<String, List<CreditorDto>> creditorMap =
         claimCreditorService.getCreditorsByClaimIds(claimIds);
 
-    // 4. 将ClaimEntity转换为ClaimSimpleDto，并关联对应的债权人
-    List<ClaimSimpleDto> resultList =
-        claimEntityPage.getList().stream()
-            .map(
-                claimEntity -> {
-                  ClaimSimpleDto dto = ClaimSimpleDto.of(claimEntity);
-                  // 设置债权人列表 - 从map中获取
-                  dto.setCreditors(
-                      creditorMap.getOrDefault(claimEntity.getId(), new ArrayList<>()));
-                  return dto;
-                })
-            .collect(Collectors.toList());
+    // 批量查询申报金额汇总
+    Map<String, ClaimSummaryDto> summaryMap = claimSummaryService.getSummaries(claimIds);
+
+    // 将ClaimEntity转换为ClaimSimpleDto，并关联对应的债权人
+    return claimEntities.stream()
+        .map(
+            claimEntity -> {
+              ClaimSimpleDto dto = ClaimSimpleDto.of(claimEntity);
+              // 设置债权人列表 - 从map中获取
+              dto.setCreditors(creditorMap.getOrDefault(claimEntity.getId(), new ArrayList<>()));
+              dto.setClaimSummary(summaryMap.get(claimEntity.getId()));
+              return dto;
+            })
+        .collect(Collectors.toList());
+  }
 
-    // 5. 返回最终分页结果
-    return new PageResult<>(resultList, claimEntityPage.getTotal());
+  private LocalDate parseCursorDate(KeysetCursor cursor) {
+    try {
+      return LocalDate.parse(cursor.getSortValue());
+    } catch (DateTimeParseException e) {
+      throw new CustomException(
+          HttpResponseStatus.BAD_REQUEST.code(), "分页游标无效", "分页游标日期解析失败：" + cursor.getSortValue());
+    }
   }
 
   /**
@@ -99,21 +222,14 @@ public class IClaimServiceImpl implements IClaimService {
   @Transactional(rollbackFor = Exception.class)
   public String addClaimItem(ClaimQuery addDto) {
     log.info("添加债权申报信息：{}", addDto);
-    // 先检查是否存在相同的债权申报记录,claimNumber相同为相同的申报记录
-    ClaimEntity existingClaim =
-        claimMapper.selectOne(
-            new LambdaQueryWrapperX<ClaimEntity>()
-                .eq(ClaimEntity::getClaimNumber, addDto.getClaimNumber()));
-    if (existingClaim != null) {
+    // 1. 构建并保存债权申报实体，claimNumber相同为相同的申报记录，由唯一索引在插入时判重
+    ClaimEntity claimEntity = addDto.toClaimEntity();
+    if (claimMapper.insertIfAbsent(claimEntity) == 0) {
       throw new CustomException(
           HttpResponseStatus.BAD_REQUEST.code(),
           "债权申报记录已存在",
           "添加债权申报信息失败，claimNumber已存在：" + addDto.getClaimNumber());
     }
-    // 1. 构建并保存债权申报实体
-    ClaimEntity claimEntity = addDto.toClaimEntity();
-    // 保存债权实体
-    claimMapper.insert(claimEntity);
 
     return claimEntity.getId();
   }
@@ -131,46 +247,7 @@ public class IClaimServiceImpl implements IClaimService {
     this.validateAndGet(claimId);
 
     try {
-      // 2. 查询关联的债权详情记录
-      List<ClaimFillingEntity> fillingEntities =
-          claimFillingMapper.selectList(
-              new LambdaQueryWrapperX<ClaimFillingEntity>()
-                  .eq(ClaimFillingEntity::getClaimId, claimId));
-
-      // 收集债权详情ID列表
-      List<String> fillingIds = new ArrayList<>();
-      if (!CollectionUtils.isEmpty(fillingEntities)) {
-        fillingIds =
-            fillingEntities.stream().map(ClaimFillingEntity::getId).collect(Collectors.toList());
-      }
-
-      // 3. 批量删除关联的债权确认记录
-      if (!CollectionUtils.isEmpty(fillingIds)) {
-        // 查询所有关联的确认记录ID
-        List<ClaimConfirmEntity> confirmEntities =
-            claimConfirmMapper.selectList(
-                new LambdaQueryWrapperX<ClaimConfirmEntity>()
-                    .in(ClaimConfirmEntity::getClaimFillingId, fillingIds));
-
-        if (!CollectionUtils.isEmpty(confirmEntities)) {
-          List<String> confirmIds =
-              confirmEntities.stream().map(ClaimConfirmEntity::getId).collect(Collectors.toList());
-
-          // 批量删除确认记录
-          claimConfirmMapper.deleteBatchIds(confirmIds);
-          log.info("批量删除债权确认记录，数量：{}，关联详情IDs：{}", confirmIds.size(), fillingIds);
-        }
-
-        // 4. 批量删除债权详情记录
-        claimFillingMapper.deleteBatchIds(fillingIds);
-        log.info("批量删除债权详情记录，数量：{}，关联债权ID：{}", fillingIds.size(), claimId);
-      }
-
-      // 5. 删除债权关联的所有债权人记录
-      claimCreditorService.deleteCreditorsByClaimId(claimId);
-
-      // 6. 删除债权主记录
-      claimMapper.deleteById(claimId);
+      this.removeClaims(List.of(claimId));
       log.info("删除债权申报信息成功，ID：{}", claimId);
 
       return true;
@@ -182,18 +259,83 @@ public class IClaimServiceImpl implements IClaimService {
     }
   }
 
+  /**
+   * 批量删除债权申报信息 同时删除相关联的记录，不存在或已删除的债权跳过
+   *
+   * @param claimIds 债权申报ID列表
+   * @return 实际删除的债权数量
+   */
+  @Override
+  @Transactional(rollbackFor = Exception.class)
+  public int deleteClaims(List<String> claimIds) {
+    List<String> distinctIds =
+        claimIds.stream().filter(StrUtil::isNotBlank).distinct().collect(Collectors.toList());
+    log.info("批量删除债权申报信息，数量：{}", distinctIds.size());
+    if (distinctIds.isEmpty()) {
+      return 0;
+    }
+
+    try {
+      List<String> removed = this.removeClaims(distinctIds);
+      log.info("批量删除债权申报信息成功，请求数量：{}，删除数量：{}", distinctIds.size(), removed.size());
+      return removed.size();
+    } catch (Exception e) {
+      String errorMsg = "批量删除债权申报信息异常，数量：" + distinctIds.size();
+      log.error(errorMsg + "，异常信息：{}", e.getMessage(), e);
+      throw new CustomException(
+          HttpResponseStatus.INTERNAL_SERVER_ERROR.code(), "批量删除债权申报记录失败", errorMsg);
+    }
+  }
+
+  /**
+   * 逻辑删除债权及其关联记录
+   *
+   * <p>语句数量与债权数量无关：债权、债权确认、债权申报详情、债权人各一条 UPDATE，金额汇总、统计快照、表决权重各一条 DELETE。
+   * 先锁定未删除的债权再删除，关联记录只按这些ID删除，不存在或已删除的债权不会产生后续操作。需要在事务中调用。
+   *
+   * @param claimIds 债权申报ID，不能为空
+   * @return 实际删除的债权申报ID
+   */
+  private List<String> removeClaims(List<String> claimIds) {
+    List<String> removed = claimMapper.selectLiveIdsForUpdate(claimIds.toArray(new String[0]));
+    if (removed.isEmpty()) {
+      return removed;
+    }
+
+    String[] removedIds = removed.toArray(new String[0]);
+    claimMapper.softDeleteByIds(removedIds);
+    int confirmCount = claimConfirmMapper.softDeleteByClaimIds(removedIds);
+    int fillingCount = claimFillingMapper.softDeleteByClaimIds(removedIds);
+    int creditorCount = creditorMapper.softDeleteByClaimIds(removedIds);
+    claimSummaryService.onClaimsRemoved(removed);
+    claimStatisticService.onClaimsRemoved(removed);
+    claimVoteService.onClaimsRemoved(removed);
+    log.info(
+        "删除债权关联记录，债权数量：{}，确认记录：{}，详情记录：{}，债权人记录：{}",
+        removed.size(),
+        confirmCount,
+        fillingCount,
+        creditorCount);
+
+    removed.forEach(id -> EntityIdentityMap.remove(ClaimEntity.class, id));
+    claimReadCache.evictAll(removed);
+    return removed;
+  }
+
   /**
    * 更新债权申报信息
    *
    * @param claimId 债权申报ID
    * @param updateDto 债权申报更新信息
+   * @param expectedVersion 客户端持有的版本号（If-Match），为空时只以读取到的版本号为条件
    * @return 是否更新成功
    */
   @Override
   @Transactional(rollbackFor = Exception.class)
-  public boolean updateClaimItem(String claimId, ClaimQuery updateDto) {
+  public boolean updateClaimItem(String claimId, ClaimQuery updateDto, Integer expectedVersion) {
     log.info("更新债权申报信息，DTO：{}", updateDto);
     ClaimEntity claimEntity = this.validateAndGet(claimId);
+    OptimisticLockUtils.checkVersion(claimEntity, expectedVersion, "债权申报记录");
     try {
       // 2. 更新债权主记录
       BeanUtils.copyProperties(updateDto, claimEntity, "id", "createTime");
@@ -220,11 +362,23 @@ public class IClaimServiceImpl implements IClaimService {
         claimEntity.setEmail(updateDto.getCreditorContactInfo().getEmail());
       }
 
-      // 更新债权实体
-      claimMapper.updateById(claimEntity);
+      // 以读取时的版本号为条件更新债权实体
+      int rows = claimMapper.updateById(claimEntity);
+      OptimisticLockUtils.checkUpdated(rows, "债权申报记录", claimId);
+      // 债权归类与表决权可能变化
+      claimVoteService.onClaimChanged(claimId);
+      claimReadCache.evict(claimId);
 
       log.info("更新债权申报信息成功，ID：{}", claimId);
       return true;
+    } catch (DuplicateKeyException e) {
+      // 修改后的claimNumber与其他未删除的申报记录冲突
+      throw new CustomException(
+          HttpResponseStatus.BAD_REQUEST.code(),
+          "债权申报记录已存在",
+          "更新债权申报信息失败，claimNumber已存在：" + updateDto.getClaimNumber());
+    } catch (CustomException e) {
+      throw e;
     } catch (Exception e) {
       String errorMsg = "更新债权申报信息异常，ID：" + claimId;
       log.error(errorMsg + "，异常信息：{}", e.getMessage(), e);
@@ -241,51 +395,30 @@ public class IClaimServiceImpl implements IClaimService {
    */
   @Override
   public ClaimDetailDto getClaimDetail(String claimId) {
+    return claimReadCache.getDetail(claimId, this::loadClaimDetail);
+  }
+
+  private ClaimDetailDto loadClaimDetail(String claimId) {
     log.info("获取债权申报详情，ID：{}", claimId);
-    ClaimEntity claimEntity = this.validateAndGet(claimId);
+    assertClaimIdPresent(claimId);
+    // 一次查询债权申报、债权人、申报详情及确认信息
+    ClaimDetailAggregate aggregate = claimMapper.selectDetailAggregate(claimId);
+    if (aggregate == null) {
+      throw claimNotFound(claimId);
+    }
     try {
-      List<CreditorDto> creditors = claimCreditorService.getCreditorsByClaimId(claimId);
-
-      // 查询债权详情记录
-      List<ClaimFillingEntity> fillingEntities =
-          claimFillingMapper.selectList(
-              new LambdaQueryWrapperX<ClaimFillingEntity>()
-                  .eq(ClaimFillingEntity::getClaimId, claimId));
-      // 如果债权申报记录为空
-      if (fillingEntities.isEmpty()) {
-        return ClaimDetailDto.of(claimEntity, creditors, new ArrayList<>(), null);
-      }
-
-      // 收集所有 filling ID
-      List<String> fillingIds = fillingEntities.stream().map(ClaimFillingEntity::getId).toList();
-
-      // 批量查询所有 claim confirmation 实体
-      List<ClaimConfirmEntity> confirmEntities =
-          claimConfirmMapper.selectList(
-              new LambdaQueryWrapperX<ClaimConfirmEntity>()
-                  .in(ClaimConfirmEntity::getClaimFillingId, fillingIds));
-
-      // 创建 fillingId 到 confirmEntity 的映射
-      Map<String, ClaimConfirmEntity> confirmMap =
-          confirmEntities.stream()
-              .collect(
-                  Collectors.toMap(
-                      ClaimConfirmEntity::getClaimFillingId, confirmEntity -> confirmEntity));
+      List<CreditorDto> creditors = CreditorDto.ofList(aggregate.getCreditors());
 
       // 构建 DTOs
-      List<ClaimFillingDto> fillingDtos =
-          fillingEntities.stream()
-              .map(
-                  entity -> {
-                    ClaimConfirmEntity confirmEntity = confirmMap.get(entity.getId());
-                    return ClaimFillingDto.of(entity, confirmEntity);
-                  })
-              .collect(Collectors.toList());
-
-      // 计算申报金额汇总
-      ClaimSummaryDto claimSummary = calculateDeclaredSummary(fillingEntities);
+      List<ClaimFillingDto> fillingDtos = new ArrayList<>();
+      for (ClaimDetailAggregate.Filling filling : aggregate.getFillings()) {
+        fillingDtos.add(ClaimFillingDto.of(filling.getFilling(), filling.getConfirm()));
+      }
+
+      // 申报金额汇总由汇总表维护，直接读取
+      ClaimSummaryDto claimSummary = ClaimSummaryDto.of(aggregate.getSummary());
       log.info("获取债权申报详情成功，ID：{}", claimId);
-      return ClaimDetailDto.of(claimEntity, creditors, fillingDtos, claimSummary);
+      return ClaimDetailDto.of(aggregate.getClaim(), creditors, fillingDtos, claimSummary);
     } catch (CustomException e) {
       throw e; // 自定义异常直接抛出
     } catch (Exception e) {
@@ -298,55 +431,25 @@ public class IClaimServiceImpl implements IClaimService {
 
   @Override
   public ClaimEntity validateAndGet(String claimId) {
-    if (StrUtil.isBlank(claimId)) {
-      throw new CustomException(
-          HttpResponseStatus.BAD_REQUEST.code(), "债权ID不能为空", "获取债权申报详情失败，ID为空");
-    }
+    assertClaimIdPresent(claimId);
 
-    ClaimEntity claimEntity = claimMapper.selectById(claimId);
+    ClaimEntity claimEntity =
+        EntityIdentityMap.getOrLoad(ClaimEntity.class, claimId, claimMapper::selectById);
     if (claimEntity == null) {
-      throw new CustomException(
-          HttpResponseStatus.NOT_FOUND.code(), "债权申报记录不存在", "获取债权申报详情失败，ID不存在：" + claimId);
+      throw claimNotFound(claimId);
     }
     return claimEntity;
   }
 
-  /**
-   * 计算申报金额汇总
-   *
-   * @param fillingEntities 债权填报实体列表
-   */
-  private ClaimSummaryDto calculateDeclaredSummary(List<ClaimFillingEntity> fillingEntities) {
-    if (CollectionUtils.isEmpty(fillingEntities)) {
-      return null;
-    }
-
-    double totalPrincipal = 0;
-    double totalInterest = 0;
-    double totalOther = 0;
-    String claimNature = "";
-
-    for (ClaimFillingEntity entity : fillingEntities) {
-      if (entity.getClaimPrincipal() != null) {
-        totalPrincipal += entity.getClaimPrincipal();
-      }
-      if (entity.getClaimInterest() != null) {
-        totalInterest += entity.getClaimInterest();
-      }
-      if (entity.getClaimOther() != null) {
-        totalOther += entity.getClaimOther();
-      }
-      if (!StrUtil.isBlank(entity.getClaimNature())) {
-        claimNature = StringUtils.stringAdd(claimNature, entity.getClaimNature());
-      }
+  private static void assertClaimIdPresent(String claimId) {
+    if (StrUtil.isBlank(claimId)) {
+      throw new CustomException(
+          HttpResponseStatus.BAD_REQUEST.code(), "债权ID不能为空", "获取债权申报详情失败，ID为空");
     }
+  }
 
-    return ClaimSummaryDto.builder()
-        .totalPrincipal(totalPrincipal)
-        .totalInterest(totalInterest)
-        .totalOther(totalOther)
-        .claimNature(claimNature)
-        .count(fillingEntities.size())
-        .build();
+  private static CustomException claimNotFound(String claimId) {
+    return new CustomException(
+        HttpResponseStatus.NOT_FOUND.code(), "债权申报记录不存在", "获取债权申报详情失败，ID不存在：" + claimId);
   }
 }
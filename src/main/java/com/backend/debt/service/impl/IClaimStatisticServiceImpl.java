@@ -1,25 +1,56 @@
 package com.backend.debt.service.impl;
 
+import cn.hutool.core.collection.CollUtil;
+import cn.hutool.core.util.StrUtil;
 import com.backend.debt.enums.ReviewStatus;
 import com.backend.debt.enums.StatisticStatus;
-import com.backend.debt.model.dto.ClaimConfirmDto;
+import com.backend.debt.mapper.ClaimMapper;
+import com.backend.debt.mapper.ClaimStatisticMapper;
+import com.backend.debt.mapper.query.LambdaQueryWrapperX;
 import com.backend.debt.model.dto.ClaimFillingDto;
 import com.backend.debt.model.dto.confirm.statistic.*;
-import com.backend.debt.service.IClaimFillingService;
+import com.backend.debt.model.entity.ClaimConfirmEntity;
+import com.backend.debt.model.entity.ClaimEntity;
+import com.backend.debt.model.entity.ClaimFillingEntity;
+import com.backend.debt.model.entity.ClaimStatisticEntity;
+import com.backend.debt.model.query.PortfolioStatisticQuery;
 import com.backend.debt.service.IClaimStatisticService;
-import com.backend.debt.util.StringUtils;
+import com.backend.debt.service.IClaimVoteService;
+import com.backend.debt.service.cache.ClaimReadCache;
+import com.backend.debt.service.statistic.ConfirmStatisticAccumulator;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import javax.annotation.Resource;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.util.CollectionUtils;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class IClaimStatisticServiceImpl implements IClaimStatisticService {
 
-  @Resource private IClaimFillingService claimFillingService;
+  @Resource private ClaimMapper claimMapper;
+  @Resource private ClaimStatisticMapper claimStatisticMapper;
+  @Resource private ClaimReadCache claimReadCache;
+  @Resource private IClaimVoteService claimVoteService;
+
+  /** 批量获取统计时每批查询的债权数量 */
+  private static final int BATCH_CHUNK_SIZE = 1000;
+
+  /** 每批校验的债权数量 */
+  private static final int VERIFY_CHUNK_SIZE = 500;
+
+  /** 最近多少秒内增量更新过的快照不参与修复 */
+  @Value("${claim.statistic.verify-grace-seconds:60}")
+  private int verifyGraceSeconds;
 
   /**
    * 计算指定债权ID的确认统计信息。 该方法处理所有债权申报并基于其确认状态生成统计信息。
@@ -29,188 +60,272 @@ public class IClaimStatisticServiceImpl implements IClaimStatisticService {
    */
   @Override
   public ClaimConfirmStatisticDto calculateConfirmedStatistic(String claimId) {
-    List<ClaimFillingDto> claimFillings = claimFillingService.getClaimFillingByClaimId(claimId);
+    return claimReadCache.getStatistic(claimId, this::doCalculateConfirmedStatistic);
+  }
 
-    if (!isAllClaimsConfirmed(claimFillings)) {
+  /** 读取增量维护的统计快照，不逐条读取申报详情和确认信息 */
+  private ClaimConfirmStatisticDto doCalculateConfirmedStatistic(String claimId) {
+    ClaimConfirmStatisticDto statistic = toStatisticDto(claimStatisticMapper.selectById(claimId));
+    if (statistic.getStatisticStatus().contains(StatisticStatus.CONFIRM_NOT_COMPLETE)) {
       log.info("债权没有全部审核确认，不进行统计，ID:{}", claimId);
-      return new ClaimConfirmStatisticDto(
-          List.of(StatisticStatus.CONFIRM_NOT_COMPLETE), null, null, null);
+    }
+    return statistic;
+  }
+
+  /**
+   * 批量获取确认统计
+   *
+   * <p>按 {@value #BATCH_CHUNK_SIZE} 个一批以 ANY(数组) 读取统计快照，查询次数与债权数量无关，不逐个债权查询申报详情和确认信息。
+   */
+  @Override
+  public Map<String, ClaimConfirmStatisticDto> calculateConfirmedStatistics(List<String> claimIds) {
+    long start = System.currentTimeMillis();
+    Map<String, ClaimStatisticEntity> snapshots = new HashMap<>();
+    for (List<String> chunk : CollUtil.split(new LinkedHashSet<>(claimIds), BATCH_CHUNK_SIZE)) {
+      for (ClaimStatisticEntity snapshot :
+          claimStatisticMapper.selectByClaimIds(chunk.toArray(new String[0]))) {
+        snapshots.put(snapshot.getClaimId(), snapshot);
+      }
+    }
+    Map<String, ClaimConfirmStatisticDto> result = new LinkedHashMap<>();
+    for (String claimId : claimIds) {
+      result.computeIfAbsent(claimId, id -> toStatisticDto(snapshots.get(id)));
+    }
+    log.info("批量获取债权统计完成，数量：{}，耗时：{} ms", result.size(), System.currentTimeMillis() - start);
+    return result;
+  }
+
+  /**
+   * 将统计快照转换为确认统计
+   *
+   * <p>结果的空值规则与 {@link #calculateConfirmedStatistic(List)} 一致：某类状态没有记录时对应字段保持为空，
+   * 有记录时金额按0累加、拼接字段至少为空字符串。
+   *
+   * @param snapshot 统计快照，为空表示债权没有申报详情
+   * @return 确认统计
+   */
+  private ClaimConfirmStatisticDto toStatisticDto(ClaimStatisticEntity snapshot) {
+    int fillingCount = zeroIfNull(snapshot == null ? null : snapshot.getFillingCount());
+    if (fillingCount == 0 || zeroIfNull(snapshot.getUnconfirmedCount()) > 0) {
+      return notCompleteStatistic();
     }
 
+    int rejectCount = zeroIfNull(snapshot.getRejectCount());
+    int suspendCount = zeroIfNull(snapshot.getSuspendCount());
+    int allConfirmCount = zeroIfNull(snapshot.getAllConfirmCount());
+    int partConfirmCount = zeroIfNull(snapshot.getPartConfirmCount());
+
     ConfirmedStatisticDto confirmedStatistic = new ConfirmedStatisticDto();
+    if (allConfirmCount + partConfirmCount > 0) {
+      confirmedStatistic.setPrincipal(snapshot.getConfirmedPrincipal());
+      confirmedStatistic.setInterest(snapshot.getConfirmedInterest());
+      confirmedStatistic.setOther(snapshot.getConfirmedOther());
+      confirmedStatistic.setCount(allConfirmCount + partConfirmCount);
+      confirmedStatistic.setCollateralDetails(
+          StrUtil.nullToEmpty(snapshot.getConfirmedCollateralDetails()));
+      confirmedStatistic.setConfirmNature(StrUtil.nullToEmpty(snapshot.getConfirmedNature()));
+    }
+    if (partConfirmCount + rejectCount > 0) {
+      confirmedStatistic.setDeductionAmount(snapshot.getDeductionAmount());
+    }
+
     RejectConfirmStatisticDto rejectConfirmStatistic = new RejectConfirmStatisticDto();
-    SuspendConfirmStatisticDto suspendConfirmStatistic = new SuspendConfirmStatisticDto();
+    if (rejectCount > 0) {
+      rejectConfirmStatistic.setPrincipal(snapshot.getRejectPrincipal());
+      rejectConfirmStatistic.setInterest(snapshot.getRejectInterest());
+      rejectConfirmStatistic.setOther(snapshot.getRejectOther());
+      rejectConfirmStatistic.setCount(rejectCount);
+      rejectConfirmStatistic.setRejectReason(StrUtil.nullToEmpty(snapshot.getRejectReason()));
+    }
 
-    int[] counts =
-        processClaimFillings(
-            claimFillings, confirmedStatistic, rejectConfirmStatistic, suspendConfirmStatistic);
+    SuspendConfirmStatisticDto suspendConfirmStatistic = new SuspendConfirmStatisticDto();
+    if (suspendCount > 0) {
+      suspendConfirmStatistic.setPrincipal(snapshot.getSuspendPrincipal());
+      suspendConfirmStatistic.setInterest(snapshot.getSuspendInterest());
+      suspendConfirmStatistic.setOther(snapshot.getSuspendOther());
+      suspendConfirmStatistic.setCount(suspendCount);
+      suspendConfirmStatistic.setSuspendNature(StrUtil.nullToEmpty(snapshot.getSuspendNature()));
+    }
 
     return determineStatisticResult(
-        claimFillings.size(),
-        counts,
+        fillingCount,
+        new int[] {rejectCount, suspendCount, allConfirmCount, partConfirmCount},
         confirmedStatistic,
         rejectConfirmStatistic,
         suspendConfirmStatistic);
   }
 
-  /**
-   * 检查所有债权是否都已确认。
-   *
-   * @param claimFillings 要检查的债权申报列表
-   * @return 如果所有债权都已确认返回true，否则返回false
-   */
-  private boolean isAllClaimsConfirmed(List<ClaimFillingDto> claimFillings) {
-    if (claimFillings == null || claimFillings.isEmpty()) {
-      return false;
-    }
-    boolean allClaimsConfirmed = true;
-    for (ClaimFillingDto claimFilling : claimFillings) {
-      if (claimFilling.getConfirmedDetail() == null) {
-        allClaimsConfirmed = false;
-        break;
-      }
-      if (claimFilling.getConfirmedDetail().getReviewStatus() != null
-          && claimFilling.getConfirmedDetail().getReviewStatus() == ReviewStatus.NOT_CONFIRMED) {
-        allClaimsConfirmed = false;
-        break;
+  /** 一次遍历累加已加载的申报详情，规则与统计快照一致 */
+  @Override
+  public ClaimConfirmStatisticDto calculateConfirmedStatistic(List<ClaimFillingDto> claimFillings) {
+    ConfirmStatisticAccumulator accumulator = new ConfirmStatisticAccumulator();
+    if (claimFillings != null) {
+      for (ClaimFillingDto claimFilling : claimFillings) {
+        accumulator.add(claimFilling);
       }
     }
-    return allClaimsConfirmed;
+    return toStatisticDto(accumulator.toStatistic());
+  }
+
+  @Override
+  public List<PortfolioStatisticDto> calculatePortfolioStatistic(PortfolioStatisticQuery query) {
+    long start = System.currentTimeMillis();
+    String groupExpression = query.getGroupBy().groupExpression(query.getDateBucket());
+    List<PortfolioStatisticDto> result =
+        claimMapper.selectPortfolioStatistic(groupExpression, query);
+    log.info(
+        "分组统计全部债权完成，维度：{}，分组数：{}，耗时：{} ms",
+        query.getGroupBy(),
+        result.size(),
+        System.currentTimeMillis() - start);
+    return result;
+  }
+
+  @Override
+  public void onFillingChanged(
+      String claimId,
+      ClaimFillingEntity before,
+      ClaimConfirmEntity beforeConfirm,
+      ClaimFillingEntity after,
+      ClaimConfirmEntity afterConfirm) {
+    ClaimStatisticEntity beforeContribution = contributionOf(before, beforeConfirm);
+    ClaimStatisticEntity afterContribution = contributionOf(after, afterConfirm);
+    ClaimStatisticEntity delta = subtract(afterContribution, beforeContribution);
+    claimStatisticMapper.applyDelta(claimId, delta);
+    // 确认金额变化时表决权重随之变化
+    if (!delta.getConfirmedPrincipal().isZero()
+        || !delta.getConfirmedInterest().isZero()
+        || !delta.getConfirmedOther().isZero()) {
+      claimVoteService.onClaimChanged(claimId);
+    }
+    // 文本列需要去重，只有参与拼接的值可能变化时才重新汇总
+    if (!Objects.equals(textKeyOf(before, beforeConfirm), textKeyOf(after, afterConfirm))) {
+      claimStatisticMapper.refreshTexts(claimId);
+    }
+  }
+
+  @Override
+  public void onConfirmsChanged(List<String> claimIds) {
+    if (!CollectionUtils.isEmpty(claimIds)) {
+      claimStatisticMapper.repair(claimIds.toArray(new String[0]), 0);
+      claimVoteService.onClaimsChanged(claimIds);
+    }
+  }
+
+  @Override
+  public void onClaimsRemoved(List<String> claimIds) {
+    if (!CollectionUtils.isEmpty(claimIds)) {
+      claimStatisticMapper.deleteByClaimIds(claimIds.toArray(new String[0]));
+    }
+  }
+
+  @Override
+  public void onClaimsImported(List<String> claimIds) {
+    if (!CollectionUtils.isEmpty(claimIds)) {
+      claimStatisticMapper.repair(claimIds.toArray(new String[0]), 0);
+    }
   }
 
   /**
-   * 处理所有债权申报并更新相应的统计DTO。 返回包含不同确认类型计数的数组： [拒绝计数, 暂缓计数, 全部确认计数, 部分确认计数]
+   * 校验并修复统计快照
    *
-   * @param claimFillings 要处理的债权申报列表
-   * @param confirmedStatistic 确认统计的DTO
-   * @param rejectConfirmStatistic 拒绝确认统计的DTO
-   * @param suspendConfirmStatistic 暂缓确认统计的DTO
-   * @return 不同确认类型的计数数组
+   * <p>按主键顺序分批读取债权ID，每批以一条 INSERT ... SELECT 重新计算，只覆盖与计算结果不一致的快照。
+   * 最近被增量更新过的快照跳过，留到下一轮校验。
    */
-  private int[] processClaimFillings(
-      List<ClaimFillingDto> claimFillings,
-      ConfirmedStatisticDto confirmedStatistic,
-      RejectConfirmStatisticDto rejectConfirmStatistic,
-      SuspendConfirmStatisticDto suspendConfirmStatistic) {
-
-    int rejectCount = 0;
-    int suspendCount = 0;
-    int allConfirmCount = 0;
-    int partConfirmCount = 0;
-
-    for (ClaimFillingDto claimFilling : claimFillings) {
-      ClaimConfirmDto claimConfirm = claimFilling.getConfirmedDetail();
-
-      switch (claimConfirm.getReviewStatus()) {
-        case CONFIRM_ALL:
-          processAllConfirmed(claimFilling, claimConfirm, confirmedStatistic);
-          allConfirmCount++;
-          break;
-        case CONFIRM_PART:
-          processPartConfirmed(claimFilling, claimConfirm, confirmedStatistic);
-          partConfirmCount++;
-          break;
-        case CONFIRM_SUSPEND:
-          processSuspendConfirmed(claimFilling, claimConfirm, suspendConfirmStatistic);
-          suspendCount++;
-          break;
-        case CONFIRM_REJECT:
-          processRejectConfirmed(
-              claimFilling, claimConfirm, confirmedStatistic, rejectConfirmStatistic);
-          rejectCount++;
-          break;
+  @Override
+  public int verifySnapshots() {
+    long start = System.currentTimeMillis();
+    int repaired = 0;
+    String lastId = null;
+    List<String> chunk;
+    do {
+      chunk = selectClaimIdsAfter(lastId);
+      if (!chunk.isEmpty()) {
+        int chunkRepaired =
+            claimStatisticMapper.repair(chunk.toArray(new String[0]), verifyGraceSeconds);
+        if (chunkRepaired > 0) {
+          claimReadCache.evictAll(chunk);
+        }
+        repaired += chunkRepaired;
+        lastId = chunk.get(chunk.size() - 1);
       }
+    } while (chunk.size() == VERIFY_CHUNK_SIZE);
+    int removed = claimStatisticMapper.deleteOrphans();
+    if (repaired > 0 || removed > 0) {
+      log.warn("统计快照与申报详情不一致，已修复：{}，删除已删除债权的快照：{}", repaired, removed);
     }
+    log.info("校验债权统计快照完成，修复数量：{}，耗时：{} ms", repaired, System.currentTimeMillis() - start);
+    return repaired;
+  }
 
-    return new int[] {rejectCount, suspendCount, allConfirmCount, partConfirmCount};
+  private List<String> selectClaimIdsAfter(String lastId) {
+    return claimMapper
+        .selectList(
+            new LambdaQueryWrapperX<ClaimEntity>()
+                .limitN(VERIFY_CHUNK_SIZE)
+                .select(ClaimEntity::getId)
+                .gt(lastId != null, ClaimEntity::getId, lastId)
+                .orderByAsc(ClaimEntity::getId))
+        .stream()
+        .map(ClaimEntity::getId)
+        .toList();
   }
 
-  /** 处理已完全确认的债权。 */
-  private void processAllConfirmed(
-      ClaimFillingDto claimFilling,
-      ClaimConfirmDto claimConfirm,
-      ConfirmedStatisticDto confirmedStatistic) {
-    confirmedStatistic.setPrincipal(
-        addNullSafe(confirmedStatistic.getPrincipal(), claimConfirm.getConfirmedPrincipal()));
-    confirmedStatistic.setInterest(
-        addNullSafe(confirmedStatistic.getInterest(), claimConfirm.getConfirmedInterest()));
-    confirmedStatistic.setOther(
-        addNullSafe(confirmedStatistic.getOther(), claimConfirm.getConfirmedOther()));
-    confirmedStatistic.setCount(incrementNullSafe(confirmedStatistic.getCount()));
-    confirmedStatistic.setCollateralDetails(
-        StringUtils.stringAdd(
-            confirmedStatistic.getCollateralDetails(), claimFilling.getCollateralDetails()));
-    confirmedStatistic.setConfirmNature(
-        StringUtils.stringAdd(
-            confirmedStatistic.getConfirmNature(),
-            claimFilling.getConfirmedDetail().getClaimNature()));
+  /**
+   * 计算单笔申报详情对统计快照的贡献
+   *
+   * @param filling 申报详情，为空表示不存在
+   * @param confirm 申报详情最新的确认信息
+   * @return 笔数与金额贡献
+   */
+  private static ClaimStatisticEntity contributionOf(
+      ClaimFillingEntity filling, ClaimConfirmEntity confirm) {
+    ConfirmStatisticAccumulator accumulator = new ConfirmStatisticAccumulator();
+    if (filling != null) {
+      accumulator.add(filling, confirm);
+    }
+    return accumulator.toStatistic();
   }
 
-  /** 处理部分确认的债权。 */
-  private void processPartConfirmed(
-      ClaimFillingDto claimFilling,
-      ClaimConfirmDto claimConfirm,
-      ConfirmedStatisticDto confirmedStatistic) {
-    confirmedStatistic.setPrincipal(
-        addNullSafe(confirmedStatistic.getPrincipal(), claimConfirm.getConfirmedPrincipal()));
-    confirmedStatistic.setInterest(
-        addNullSafe(confirmedStatistic.getInterest(), claimConfirm.getConfirmedInterest()));
-    confirmedStatistic.setOther(
-        addNullSafe(confirmedStatistic.getOther(), claimConfirm.getConfirmedOther()));
-    confirmedStatistic.setCount(incrementNullSafe(confirmedStatistic.getCount()));
-    Double deduce =
-        subtractNullSafe(
-            claimFilling.getTotal(), claimFilling.getConfirmedDetail().getConfirmedTotal());
-    confirmedStatistic.setConfirmNature(
-        StringUtils.stringAdd(
-            confirmedStatistic.getConfirmNature(),
-            claimFilling.getConfirmedDetail().getClaimNature()));
-    confirmedStatistic.setCollateralDetails(
-        StringUtils.stringAdd(
-            confirmedStatistic.getCollateralDetails(), claimFilling.getCollateralDetails()));
-    confirmedStatistic.setDeductionAmount(
-        addNullSafe(confirmedStatistic.getDeductionAmount(), deduce));
-    confirmedStatistic.setConfirmNature(
-        StringUtils.stringAdd(
-            confirmedStatistic.getConfirmNature(), claimConfirm.getClaimNature()));
+  private static ClaimStatisticEntity subtract(ClaimStatisticEntity a, ClaimStatisticEntity b) {
+    ClaimStatisticEntity delta = new ClaimStatisticEntity();
+    delta.setFillingCount(a.getFillingCount() - b.getFillingCount());
+    delta.setUnconfirmedCount(a.getUnconfirmedCount() - b.getUnconfirmedCount());
+    delta.setAllConfirmCount(a.getAllConfirmCount() - b.getAllConfirmCount());
+    delta.setPartConfirmCount(a.getPartConfirmCount() - b.getPartConfirmCount());
+    delta.setSuspendCount(a.getSuspendCount() - b.getSuspendCount());
+    delta.setRejectCount(a.getRejectCount() - b.getRejectCount());
+    delta.setConfirmedPrincipal(a.getConfirmedPrincipal().minus(b.getConfirmedPrincipal()));
+    delta.setConfirmedInterest(a.getConfirmedInterest().minus(b.getConfirmedInterest()));
+    delta.setConfirmedOther(a.getConfirmedOther().minus(b.getConfirmedOther()));
+    delta.setDeductionAmount(a.getDeductionAmount().minus(b.getDeductionAmount()));
+    delta.setSuspendPrincipal(a.getSuspendPrincipal().minus(b.getSuspendPrincipal()));
+    delta.setSuspendInterest(a.getSuspendInterest().minus(b.getSuspendInterest()));
+    delta.setSuspendOther(a.getSuspendOther().minus(b.getSuspendOther()));
+    delta.setRejectPrincipal(a.getRejectPrincipal().minus(b.getRejectPrincipal()));
+    delta.setRejectInterest(a.getRejectInterest().minus(b.getRejectInterest()));
+    delta.setRejectOther(a.getRejectOther().minus(b.getRejectOther()));
+    return delta;
   }
 
-  /** 处理暂缓确认的债权。 */
-  private void processSuspendConfirmed(
-      ClaimFillingDto claimFilling,
-      ClaimConfirmDto claimConfirm,
-      SuspendConfirmStatisticDto suspendConfirmStatistic) {
-    suspendConfirmStatistic.setPrincipal(
-        addNullSafe(suspendConfirmStatistic.getPrincipal(), claimFilling.getClaimPrincipal()));
-    suspendConfirmStatistic.setInterest(
-        addNullSafe(suspendConfirmStatistic.getInterest(), claimFilling.getClaimInterest()));
-    suspendConfirmStatistic.setOther(
-        addNullSafe(suspendConfirmStatistic.getOther(), claimFilling.getClaimOther()));
-    suspendConfirmStatistic.setCount(incrementNullSafe(suspendConfirmStatistic.getCount()));
-    suspendConfirmStatistic.setSuspendNature(
-        StringUtils.stringAdd(
-            suspendConfirmStatistic.getSuspendNature(), claimConfirm.getClaimNature()));
+  /** 申报详情参与文本列拼接的值，未确认时不参与拼接 */
+  private static List<Object> textKeyOf(ClaimFillingEntity filling, ClaimConfirmEntity confirm) {
+    if (filling == null
+        || confirm == null
+        || confirm.getReviewStatus() == null
+        || confirm.getReviewStatus() == ReviewStatus.NOT_CONFIRMED) {
+      return null;
+    }
+    return Arrays.asList(
+        confirm.getReviewStatus(),
+        filling.getCollateralDetails(),
+        confirm.getClaimNature(),
+        confirm.getReviewReason());
   }
 
-  /** 处理拒绝确认的债权。 */
-  private void processRejectConfirmed(
-      ClaimFillingDto claimFilling,
-      ClaimConfirmDto claimConfirm,
-      ConfirmedStatisticDto confirmedStatistic,
-      RejectConfirmStatisticDto rejectConfirmStatistic) {
-    Double deduce = claimFilling.getTotal();
-    confirmedStatistic.setDeductionAmount(
-        addNullSafe(confirmedStatistic.getDeductionAmount(), deduce));
-    rejectConfirmStatistic.setInterest(
-        addNullSafe(rejectConfirmStatistic.getInterest(), claimFilling.getClaimInterest()));
-    rejectConfirmStatistic.setPrincipal(
-        addNullSafe(rejectConfirmStatistic.getPrincipal(), claimFilling.getClaimPrincipal()));
-    rejectConfirmStatistic.setOther(
-        addNullSafe(rejectConfirmStatistic.getOther(), claimFilling.getClaimOther()));
-    rejectConfirmStatistic.setCount(incrementNullSafe(rejectConfirmStatistic.getCount()));
-    rejectConfirmStatistic.setRejectReason(
-        StringUtils.stringAdd(
-            rejectConfirmStatistic.getRejectReason(), claimConfirm.getReviewReason()));
+  private static ClaimConfirmStatisticDto notCompleteStatistic() {
+    return new ClaimConfirmStatisticDto(
+        List.of(StatisticStatus.CONFIRM_NOT_COMPLETE), null, null, null);
   }
 
   /**
@@ -264,35 +379,7 @@ public class IClaimStatisticServiceImpl implements IClaimStatisticService {
     return dto;
   }
 
-  /**
-   * 空值安全的加法运算，如果任一参数为null，视为0
-   *
-   * @param a 第一个操作数
-   * @param b 第二个操作数
-   * @return 两数之和，任一为null则视为0
-   */
-  private Double addNullSafe(Double a, Double b) {
-    return (a == null ? 0.0 : a) + (b == null ? 0.0 : b);
-  }
-
-  /**
-   * 空值安全的减法运算，如果任一参数为null，视为0
-   *
-   * @param a 被减数
-   * @param b 减数
-   * @return 减法结果，任一为null则视为0
-   */
-  private Double subtractNullSafe(Double a, Double b) {
-    return (a == null ? 0.0 : a) - (b == null ? 0.0 : b);
-  }
-
-  /**
-   * 空值安全的Integer递增运算，如果值为null，视为0再递增
-   *
-   * @param value 要递增的值
-   * @return 递增后的结果，原值为null则返回1
-   */
-  private Integer incrementNullSafe(Integer value) {
-    return (value == null ? 0 : value) + 1;
+  private static int zeroIfNull(Integer value) {
+    return value == null ? 0 : value;
   }
 }
@@ -0,0 +1,176 @@
+package com.backend.debt.service.impl;
+
+import cn.hutool.core.collection.CollUtil;
+import com.backend.debt.config.executor.SummaryRebuildExecutor;
+import com.backend.debt.exceptions.CustomException;
+import com.backend.debt.exceptions.HttpResponseStatus;
+import com.backend.debt.mapper.ClaimMapper;
+import com.backend.debt.mapper.ClaimSummaryMapper;
+import com.backend.debt.mapper.query.LambdaQueryWrapperX;
+import com.backend.debt.model.Money;
+import com.backend.debt.model.dto.ClaimSummaryDto;
+import com.backend.debt.model.entity.ClaimEntity;
+import com.backend.debt.model.entity.ClaimFillingEntity;
+import com.backend.debt.model.entity.ClaimSummaryEntity;
+import com.backend.debt.service.IClaimSummaryService;
+import com.backend.debt.service.cache.ClaimReadCache;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import javax.annotation.Resource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.util.CollectionUtils;
+
+@Slf4j
+@Service
+public class IClaimSummaryServiceImpl implements IClaimSummaryService {
+
+  /** 重建时每批处理的债权数量 */
+  private static final int REBUILD_CHUNK_SIZE = 500;
+
+  @Resource private ClaimSummaryMapper claimSummaryMapper;
+  @Resource private ClaimMapper claimMapper;
+  @Resource private ClaimReadCache claimReadCache;
+  @Resource private SummaryRebuildExecutor summaryRebuildExecutor;
+
+  @Override
+  public ClaimSummaryDto getSummary(String claimId) {
+    return ClaimSummaryDto.of(claimSummaryMapper.selectById(claimId));
+  }
+
+  @Override
+  public Map<String, ClaimSummaryDto> getSummaries(List<String> claimIds) {
+    Map<String, ClaimSummaryDto> result = new HashMap<>();
+    if (CollectionUtils.isEmpty(claimIds)) {
+      return result;
+    }
+    for (ClaimSummaryEntity entity : claimSummaryMapper.selectBatchIds(claimIds)) {
+      ClaimSummaryDto summary = ClaimSummaryDto.of(entity);
+      if (summary != null) {
+        result.put(entity.getClaimId(), summary);
+      }
+    }
+    return result;
+  }
+
+  @Override
+  public void onFillingAdded(ClaimFillingEntity filling) {
+    claimSummaryMapper.applyDelta(
+        filling.getClaimId(),
+        Money.nullToZero(filling.getClaimPrincipal()),
+        Money.nullToZero(filling.getClaimInterest()),
+        Money.nullToZero(filling.getClaimOther()),
+        1);
+    if (filling.getClaimNature() != null && !filling.getClaimNature().isEmpty()) {
+      claimSummaryMapper.refreshNatures(filling.getClaimId());
+    }
+  }
+
+  @Override
+  public void onFillingUpdated(ClaimFillingEntity before, ClaimFillingEntity after) {
+    claimSummaryMapper.applyDelta(
+        after.getClaimId(),
+        Money.nullToZero(after.getClaimPrincipal()).minus(before.getClaimPrincipal()),
+        Money.nullToZero(after.getClaimInterest()).minus(before.getClaimInterest()),
+        Money.nullToZero(after.getClaimOther()).minus(before.getClaimOther()),
+        0);
+    // 债权性质变化时才需要重新去重
+    if (!Objects.equals(before.getClaimNature(), after.getClaimNature())) {
+      claimSummaryMapper.refreshNatures(after.getClaimId());
+    }
+  }
+
+  @Override
+  public void onFillingRemoved(ClaimFillingEntity filling) {
+    claimSummaryMapper.applyDelta(
+        filling.getClaimId(),
+        Money.ZERO.minus(filling.getClaimPrincipal()),
+        Money.ZERO.minus(filling.getClaimInterest()),
+        Money.ZERO.minus(filling.getClaimOther()),
+        -1);
+    claimSummaryMapper.refreshNatures(filling.getClaimId());
+  }
+
+  @Override
+  public void onClaimsRemoved(List<String> claimIds) {
+    if (!CollectionUtils.isEmpty(claimIds)) {
+      claimSummaryMapper.deleteByClaimIds(claimIds.toArray(new String[0]));
+    }
+  }
+
+  @Override
+  public void onClaimsImported(List<String> claimIds) {
+    if (!CollectionUtils.isEmpty(claimIds)) {
+      claimSummaryMapper.rebuild(claimIds.toArray(new String[0]));
+    }
+  }
+
+  /**
+   * 根据申报详情重新计算汇总
+   *
+   * <p>按主键顺序分批读取债权ID，各批在重建线程池中以一条 INSERT ... SELECT 重新计算，互不阻塞。
+   * 重建与并发写入之间不加锁，建议在低峰期执行全量重建。
+   */
+  @Override
+  public int rebuild(List<String> claimIds) {
+    long start = System.currentTimeMillis();
+    try {
+      List<CompletableFuture<Integer>> futures = new ArrayList<>();
+      if (!CollectionUtils.isEmpty(claimIds)) {
+        for (List<String> chunk : CollUtil.split(claimIds, REBUILD_CHUNK_SIZE)) {
+          futures.add(submitChunk(chunk));
+        }
+      } else {
+        String lastId = null;
+        List<String> chunk;
+        do {
+          chunk = selectClaimIdsAfter(lastId);
+          if (!chunk.isEmpty()) {
+            futures.add(submitChunk(chunk));
+            lastId = chunk.get(chunk.size() - 1);
+          }
+        } while (chunk.size() == REBUILD_CHUNK_SIZE);
+      }
+
+      int rebuilt = 0;
+      for (CompletableFuture<Integer> future : futures) {
+        rebuilt += future.join();
+      }
+      if (CollectionUtils.isEmpty(claimIds)) {
+        int removed = claimSummaryMapper.deleteOrphans();
+        log.info("删除已删除债权的汇总记录，数量：{}", removed);
+        claimReadCache.clear();
+      } else {
+        claimReadCache.evictAll(claimIds);
+      }
+      log.info("重建债权申报金额汇总完成，数量：{}，耗时：{} ms", rebuilt, System.currentTimeMillis() - start);
+      return rebuilt;
+    } catch (Exception e) {
+      log.error("重建债权申报金额汇总异常，异常信息：{}", e.getMessage(), e);
+      throw new CustomException(
+          HttpResponseStatus.INTERNAL_SERVER_ERROR.code(), "重建申报金额汇总失败", "重建债权申报金额汇总异常");
+    }
+  }
+
+  private CompletableFuture<Integer> submitChunk(List<String> chunk) {
+    String[] ids = chunk.toArray(new String[0]);
+    return summaryRebuildExecutor.supply(() -> claimSummaryMapper.rebuild(ids));
+  }
+
+  private List<String> selectClaimIdsAfter(String lastId) {
+    return claimMapper
+        .selectList(
+            new LambdaQueryWrapperX<ClaimEntity>()
+                .limitN(REBUILD_CHUNK_SIZE)
+                .select(ClaimEntity::getId)
+                .gt(lastId != null, ClaimEntity::getId, lastId)
+                .orderByAsc(ClaimEntity::getId))
+        .stream()
+        .map(ClaimEntity::getId)
+        .toList();
+  }
+}
@@ -0,0 +1,228 @@
+package com.backend.debt.service.impl;
+
+import com.backend.debt.config.VoteProperties;
+import com.backend.debt.enums.MotionType;
+import com.backend.debt.mapper.ClaimVoteWeightMapper;
+import com.backend.debt.model.Money;
+import com.backend.debt.model.dto.vote.MotionResultDto;
+import com.backend.debt.model.dto.vote.VoteClassTotalDto;
+import com.backend.debt.model.dto.vote.VoteGroupResultDto;
+import com.backend.debt.model.query.MotionVoteQuery;
+import com.backend.debt.service.IClaimVoteService;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import javax.annotation.PostConstruct;
+import javax.annotation.Resource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.util.CollectionUtils;
+
+@Slf4j
+@Service
+public class IClaimVoteServiceImpl implements IClaimVoteService {
+
+  private static final String ALL_CREDITORS = "全体债权人";
+
+  @Resource private ClaimVoteWeightMapper claimVoteWeightMapper;
+  @Resource private VoteProperties voteProperties;
+
+  /** 配置的债权归类与权重系数，启动时转换为数组传给刷新语句 */
+  private String[] factorClasses;
+
+  private BigDecimal[] factors;
+
+  @PostConstruct
+  public void init() {
+    Map<String, BigDecimal> classFactors = voteProperties.getClassFactors();
+    factorClasses = classFactors.keySet().toArray(new String[0]);
+    factors = classFactors.values().toArray(new BigDecimal[0]);
+    log.info("表决权重系数：{}，有财产担保的债权归类：{}", classFactors, voteProperties.getSecuredClasses());
+  }
+
+  @Override
+  public List<VoteClassTotalDto> getClassTotals() {
+    return claimVoteWeightMapper.selectClassTotals();
+  }
+
+  /**
+   * 计算议案是否通过
+   *
+   * <p>每个债权按一票计算人数。全部汇总、出席汇总、同意汇总各一条按归类分组的查询，均只读取表决权重表，与债权数量无关的计算在内存中完成。
+   */
+  @Override
+  public MotionResultDto checkMotion(MotionVoteQuery query) {
+    Set<String> approveIds = distinct(query.getApproveClaimIds());
+    Set<String> attendeeIds = distinct(query.getAttendeeClaimIds());
+    // 同意即视为出席
+    attendeeIds.addAll(approveIds);
+
+    Map<String, VoteClassTotalDto> totals = byClass(claimVoteWeightMapper.selectClassTotals());
+    Map<String, VoteClassTotalDto> attendees = byClass(selectClassTotals(attendeeIds));
+    Map<String, VoteClassTotalDto> approvals = byClass(selectClassTotals(approveIds));
+
+    MotionType motionType = query.getMotionType();
+    Set<String> securedClasses = Set.copyOf(voteProperties.getSecuredClasses());
+    List<VoteGroupResultDto> groups = new ArrayList<>();
+    if (motionType.isGroupByClass()) {
+      for (String claimClass : totals.keySet()) {
+        groups.add(
+            tally(
+                motionType,
+                claimClass.isEmpty() ? "未归类" : claimClass,
+                Set.of(claimClass),
+                Set.of(claimClass),
+                totals,
+                attendees,
+                approvals));
+      }
+    } else {
+      Set<String> unsecuredClasses =
+          totals.keySet().stream()
+              .filter(claimClass -> !securedClasses.contains(claimClass))
+              .collect(Collectors.toSet());
+      // 人数按参与表决的全部债权计算，和解协议中有财产担保的债权人不参与表决
+      Set<String> headcountClasses =
+          motionType.isExcludeSecured() ? unsecuredClasses : totals.keySet();
+      groups.add(
+          tally(
+              motionType,
+              ALL_CREDITORS,
+              headcountClasses,
+              unsecuredClasses,
+              totals,
+              attendees,
+              approvals));
+    }
+
+    MotionResultDto result = new MotionResultDto();
+    result.setMotionType(motionType);
+    result.setGroups(groups);
+    result.setPassed(!groups.isEmpty() && groups.stream().allMatch(VoteGroupResultDto::getPassed));
+    return result;
+  }
+
+  @Override
+  public void onClaimChanged(String claimId) {
+    claimVoteWeightMapper.refresh(new String[] {claimId}, factorClasses, factors);
+  }
+
+  @Override
+  public void onClaimsChanged(List<String> claimIds) {
+    if (!CollectionUtils.isEmpty(claimIds)) {
+      claimVoteWeightMapper.refresh(claimIds.toArray(new String[0]), factorClasses, factors);
+    }
+  }
+
+  @Override
+  public void onClaimsRemoved(List<String> claimIds) {
+    if (!CollectionUtils.isEmpty(claimIds)) {
+      claimVoteWeightMapper.deleteByClaimIds(claimIds.toArray(new String[0]));
+    }
+  }
+
+  @Override
+  public int rebuild() {
+    long start = System.currentTimeMillis();
+    int refreshed = claimVoteWeightMapper.refresh(null, factorClasses, factors);
+    int removed = claimVoteWeightMapper.deleteOrphans();
+    log.info(
+        "重建表决权重完成，变化数量：{}，删除数量：{}，耗时：{} ms",
+        refreshed,
+        removed,
+        System.currentTimeMillis() - start);
+    return refreshed + removed;
+  }
+
+  /**
+   * 统计一个表决组
+   *
+   * @param headcountClasses 计算人数的债权归类
+   * @param amountClasses 计算债权额的债权归类
+   */
+  private static VoteGroupResultDto tally(
+      MotionType motionType,
+      String groupName,
+      Set<String> headcountClasses,
+      Set<String> amountClasses,
+      Map<String, VoteClassTotalDto> totals,
+      Map<String, VoteClassTotalDto> attendees,
+      Map<String, VoteClassTotalDto> approvals) {
+    int totalCount = sumCount(totals, headcountClasses);
+    int attendeeCount = sumCount(attendees, headcountClasses);
+    int approveCount = sumCount(approvals, headcountClasses);
+    long totalWeight = sumWeight(totals, amountClasses);
+    long approveWeight = sumWeight(approvals, amountClasses);
+
+    // 过半数不含本数，比例以上含本数
+    boolean headcountPassed = attendeeCount > 0 && approveCount * 2L > attendeeCount;
+    boolean amountPassed =
+        totalWeight > 0
+            && approveWeight * motionType.getDenominator()
+                >= totalWeight * motionType.getNumerator();
+
+    VoteGroupResultDto group = new VoteGroupResultDto();
+    group.setGroupName(groupName);
+    group.setTotalCount(totalCount);
+    group.setTotalWeight(Money.ofCents(totalWeight));
+    group.setAttendeeCount(attendeeCount);
+    group.setApproveCount(approveCount);
+    group.setApproveWeight(Money.ofCents(approveWeight));
+    group.setHeadcountPassed(headcountPassed);
+    group.setAmountPassed(amountPassed);
+    group.setPassed(headcountPassed && amountPassed);
+    return group;
+  }
+
+  private List<VoteClassTotalDto> selectClassTotals(Set<String> claimIds) {
+    if (claimIds.isEmpty()) {
+      return List.of();
+    }
+    return claimVoteWeightMapper.selectClassTotalsByClaimIds(claimIds.toArray(new String[0]));
+  }
+
+  private static Map<String, VoteClassTotalDto> byClass(List<VoteClassTotalDto> totals) {
+    return totals.stream()
+        .collect(
+            Collectors.toMap(
+                VoteClassTotalDto::getClaimClass,
+                Function.identity(),
+                (a, b) -> a,
+                LinkedHashMap::new));
+  }
+
+  private static int sumCount(Map<String, VoteClassTotalDto> totals, Set<String> classes) {
+    int count = 0;
+    for (String claimClass : classes) {
+      VoteClassTotalDto total = totals.get(claimClass);
+      if (total != null && total.getClaimCount() != null) {
+        count += total.getClaimCount();
+      }
+    }
+    return count;
+  }
+
+  private static long sumWeight(Map<String, VoteClassTotalDto> totals, Set<String> classes) {
+    long weight = 0;
+    for (String claimClass : classes) {
+      VoteClassTotalDto total = totals.get(claimClass);
+      if (total != null) {
+        weight += Money.cents(total.getTotalWeight());
+      }
+    }
+    return weight;
+  }
+
+  private static Set<String> distinct(List<String> claimIds) {
+    if (CollectionUtils.isEmpty(claimIds)) {
+      return new LinkedHashSet<>();
+    }
+    return new LinkedHashSet<>(claimIds);
+  }
+}
@@ -0,0 +1,80 @@
+package com.backend.debt.service.importer;
+
+import java.util.HashMap;
+import java.util.Map;
+import lombok.Getter;
+
+/**
+ * 债权导入文件的列定义
+ *
+ * <p>按表头名称匹配，列的顺序不限，未定义的列忽略。同一债权编号的相邻行属于同一个债权，债权信息取第一行；每行可以同时填写一个债权人和一笔申报详情，
+ * 债权人列或申报详情列全部为空时该行不产生对应记录。
+ */
+@Getter
+public enum ClaimImportColumn {
+  CLAIM_NUMBER("债权编号", Part.CLAIM),
+  CLAIM_DATE("申报日期", Part.CLAIM),
+  REGISTRAR("登记人", Part.CLAIM),
+  CLAIM_TYPES("申报形式", Part.CLAIM),
+  AUDITOR("审核人员", Part.CLAIM),
+  CLAIM_CATEGORY("债权归类", Part.CLAIM),
+  MATERIAL_STATUS("材料提交情况", Part.CLAIM),
+  AGENT_NAME("代理人", Part.CLAIM),
+  AGENT_POSITION("代理人职务", Part.CLAIM),
+  AGENT_PHONE("代理人电话", Part.CLAIM),
+  HAS_VOTING_RIGHT("表决权", Part.CLAIM),
+  RECIPIENT("收件人", Part.CLAIM),
+  CONTACT_PHONE("联系电话", Part.CLAIM),
+  MAILING_ADDRESS("邮寄地址", Part.CLAIM),
+  EMAIL("电子邮箱", Part.CLAIM),
+  CREDITOR_NAME("债权人", Part.CREDITOR),
+  ID_TYPE("证件类型", Part.CREDITOR),
+  ID_NUMBER("证件号码", Part.CREDITOR),
+  CREDITOR_PHONE("债权人电话", Part.CREDITOR),
+  CREDITOR_ADDRESS("债权人地址", Part.CREDITOR),
+  CLAIM_NATURE("申报债权性质", Part.FILLING),
+  COLLATERAL_DETAILS("担保物明细", Part.FILLING),
+  CLAIM_PRINCIPAL("申报本金", Part.FILLING),
+  CLAIM_INTEREST("申报利息", Part.FILLING),
+  CLAIM_OTHER("申报其他", Part.FILLING),
+  ;
+
+  private static final Map<String, ClaimImportColumn> BY_HEADER = new HashMap<>();
+
+  static {
+    for (ClaimImportColumn column : values()) {
+      BY_HEADER.put(column.header, column);
+    }
+  }
+
+  /** 表头 */
+  private final String header;
+
+  /** 所属的记录 */
+  private final Part part;
+
+  ClaimImportColumn(String header, Part part) {
+    this.header = header;
+    this.part = part;
+  }
+
+  /**
+   * 按表头查找列，忽略首尾空白和必填标记 *
+   *
+   * @param header 表头
+   * @return 列定义，未定义的表头返回 null
+   */
+  public static ClaimImportColumn ofHeader(String header) {
+    if (header == null) {
+      return null;
+    }
+    return BY_HEADER.get(header.replace("*", "").trim());
+  }
+
+  /** 列所属的记录 */
+  public enum Part {
+    CLAIM,
+    CREDITOR,
+    FILLING
+  }
+}
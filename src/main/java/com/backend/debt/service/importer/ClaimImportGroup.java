@@ -0,0 +1,51 @@
+package com.backend.debt.service.importer;
+
+import com.backend.debt.model.entity.ClaimEntity;
+import com.backend.debt.model.entity.ClaimFillingEntity;
+import com.backend.debt.model.entity.CreditorEntity;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 一个债权在导入文件中的全部行，以及校验通过后转换出的实体
+ *
+ * <p>债权作为整体导入，任一行有错误时整个债权都不写入。
+ */
+@Getter
+@Setter
+public class ClaimImportGroup {
+
+  private final String claimNumber;
+
+  private final List<ClaimImportRow> rows = new ArrayList<>(1);
+
+  private ClaimEntity claim;
+
+  private List<CreditorEntity> creditors;
+
+  private List<ClaimFillingEntity> fillings;
+
+  public ClaimImportGroup(String claimNumber) {
+    this.claimNumber = claimNumber;
+  }
+
+  public ClaimImportRow getFirstRow() {
+    return rows.get(0);
+  }
+
+  public boolean hasError() {
+    for (ClaimImportRow row : rows) {
+      if (row.hasError()) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /** 债权级别的错误记录在第一行 */
+  public void addError(String error) {
+    getFirstRow().addError(error);
+  }
+}
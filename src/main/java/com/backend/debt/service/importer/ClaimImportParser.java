@@ -0,0 +1,34 @@
+package com.backend.debt.service.importer;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * 导入文件解析器
+ *
+ * <p>边读取边回调，每次只保留当前行，文件大小不影响内存占用。
+ */
+public interface ClaimImportParser {
+
+  /**
+   * 按顺序读取文件中的每一行，包括表头
+   *
+   * @param file 导入文件
+   * @param handler 行回调
+   */
+  void parse(File file, RowHandler handler) throws IOException;
+
+  /** 行回调 */
+  @FunctionalInterface
+  interface RowHandler {
+
+    /**
+     * 读取到一行
+     *
+     * @param rowNumber 行号，从1开始
+     * @param cells 单元格的值，按列顺序排列，缺失的单元格为 null
+     */
+    void onRow(int rowNumber, List<String> cells);
+  }
+}
@@ -0,0 +1,61 @@
+package com.backend.debt.service.importer;
+
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Getter;
+
+/** 导入文件中的一行，单元格按 {@link ClaimImportColumn} 存放，首尾空白已去除，空单元格为 null */
+@Getter
+public class ClaimImportRow {
+
+  /** 行号，与文件中的行号一致，表头为第1行 */
+  private final int rowNumber;
+
+  private final String[] values = new String[ClaimImportColumn.values().length];
+
+  /** 校验错误 */
+  private final List<String> errors = new ArrayList<>(0);
+
+  public ClaimImportRow(int rowNumber) {
+    this.rowNumber = rowNumber;
+  }
+
+  public String get(ClaimImportColumn column) {
+    return values[column.ordinal()];
+  }
+
+  public void set(ClaimImportColumn column, String value) {
+    if (value != null) {
+      value = value.trim();
+    }
+    values[column.ordinal()] = value == null || value.isEmpty() ? null : value;
+  }
+
+  /** 该行是否填写了某一部分的任一列 */
+  public boolean hasPart(ClaimImportColumn.Part part) {
+    for (ClaimImportColumn column : ClaimImportColumn.values()) {
+      if (column.getPart() == part && values[column.ordinal()] != null) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /** 全部单元格为空，读取时跳过 */
+  public boolean isBlank() {
+    for (String value : values) {
+      if (value != null) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  public void addError(String error) {
+    errors.add(error);
+  }
+
+  public boolean hasError() {
+    return !errors.isEmpty();
+  }
+}
@@ -0,0 +1,276 @@
+package com.backend.debt.service.importer;
+
+import com.backend.debt.enums.ClaimType;
+import com.backend.debt.enums.IdTypeEnum;
+import com.backend.debt.model.Money;
+import com.backend.debt.model.entity.ClaimEntity;
+import com.backend.debt.model.entity.ClaimFillingEntity;
+import com.backend.debt.model.entity.CreditorEntity;
+import com.backend.debt.service.importer.ClaimImportColumn.Part;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * 导入债权的格式校验，并把校验通过的行转换为实体
+ *
+ * <p>规则与新增接口一致：收件信息和代理人信息填写时必填项不能为空，金额不能小于0，另外校验证件号码与证件类型是否相符、金额最多两位小数、文本不超过列的长度。
+ * 债权编号是否已存在由导入流程批量查询。无状态，可以在多个线程中共用。
+ */
+public class ClaimImportValidator {
+
+  /** varchar 列的最大长度 */
+  private static final int MAX_TEXT_LENGTH = 255;
+
+  /** numeric(19,2) 的整数部分位数 */
+  private static final int MAX_INTEGER_DIGITS = 17;
+
+  private static final Pattern CLAIM_TYPE_SEPARATOR = Pattern.compile("[,，、/\\s]+");
+
+  private static final List<DateTimeFormatter> DATE_FORMATTERS =
+      List.of(
+          DateTimeFormatter.ISO_LOCAL_DATE,
+          DateTimeFormatter.ofPattern("yyyy-M-d"),
+          DateTimeFormatter.ofPattern("yyyy/M/d"),
+          DateTimeFormatter.ofPattern("yyyy.M.d"),
+          DateTimeFormatter.ofPattern("yyyy年M月d日"),
+          DateTimeFormatter.BASIC_ISO_DATE);
+
+  private static final Set<String> TRUE_VALUES =
+      Set.of("是", "有", "Y", "y", "true", "TRUE", "1");
+
+  private static final Set<String> FALSE_VALUES =
+      Set.of("否", "无", "N", "n", "false", "FALSE", "0");
+
+  /**
+   * 校验一个债权的全部行，错误记录在对应的行上，没有错误时设置转换出的实体
+   *
+   * @param group 债权的全部行
+   */
+  public void validate(ClaimImportGroup group) {
+    for (ClaimImportRow row : group.getRows()) {
+      checkLength(row);
+    }
+    ClaimEntity claim = toClaim(group.getFirstRow());
+
+    List<CreditorEntity> creditors = new ArrayList<>();
+    List<ClaimFillingEntity> fillings = new ArrayList<>();
+    Set<String> idNumbers = new HashSet<>();
+    for (ClaimImportRow row : group.getRows()) {
+      if (row.hasPart(Part.CREDITOR)) {
+        CreditorEntity creditor = toCreditor(row);
+        if (creditor.getIdentificationNumber() != null
+            && !idNumbers.add(creditor.getIdentificationNumber())) {
+          row.addError("同一债权下证件号码重复：" + creditor.getIdentificationNumber());
+        }
+        creditors.add(creditor);
+      }
+      if (row.hasPart(Part.FILLING)) {
+        fillings.add(toFilling(row));
+      }
+    }
+    if (!group.hasError()) {
+      group.setClaim(claim);
+      group.setCreditors(creditors);
+      group.setFillings(fillings);
+    }
+  }
+
+  private static void checkLength(ClaimImportRow row) {
+    for (ClaimImportColumn column : ClaimImportColumn.values()) {
+      // 申报形式和担保物明细为 text 列，不限长度
+      if (column == ClaimImportColumn.CLAIM_TYPES
+          || column == ClaimImportColumn.COLLATERAL_DETAILS) {
+        continue;
+      }
+      String value = row.get(column);
+      if (value != null && value.length() > MAX_TEXT_LENGTH) {
+        row.addError(column.getHeader() + "不能超过" + MAX_TEXT_LENGTH + "个字符");
+      }
+    }
+  }
+
+  private static ClaimEntity toClaim(ClaimImportRow row) {
+    ClaimEntity claim =
+        ClaimEntity.builder()
+            .claimNumber(row.get(ClaimImportColumn.CLAIM_NUMBER))
+            .registrar(row.get(ClaimImportColumn.REGISTRAR))
+            .claimDate(parseDate(row))
+            .claimTypes(parseClaimTypes(row))
+            .auditor(row.get(ClaimImportColumn.AUDITOR))
+            .claimCategory(row.get(ClaimImportColumn.CLAIM_CATEGORY))
+            .materialStatus(row.get(ClaimImportColumn.MATERIAL_STATUS))
+            .agentName(row.get(ClaimImportColumn.AGENT_NAME))
+            .agentPosition(row.get(ClaimImportColumn.AGENT_POSITION))
+            .agentPhone(row.get(ClaimImportColumn.AGENT_PHONE))
+            .hasVotingRight(parseBoolean(row, ClaimImportColumn.HAS_VOTING_RIGHT))
+            .recipient(row.get(ClaimImportColumn.RECIPIENT))
+            .contactPhone(row.get(ClaimImportColumn.CONTACT_PHONE))
+            .mailingAddress(row.get(ClaimImportColumn.MAILING_ADDRESS))
+            .email(row.get(ClaimImportColumn.EMAIL))
+            .build();
+    if (claim.getAgentName() != null
+        || claim.getAgentPosition() != null
+        || claim.getAgentPhone() != null) {
+      requireAll(row, ClaimImportColumn.AGENT_NAME, ClaimImportColumn.AGENT_PHONE);
+    }
+    if (claim.getRecipient() != null
+        || claim.getContactPhone() != null
+        || claim.getMailingAddress() != null
+        || claim.getEmail() != null) {
+      requireAll(
+          row,
+          ClaimImportColumn.RECIPIENT,
+          ClaimImportColumn.CONTACT_PHONE,
+          ClaimImportColumn.MAILING_ADDRESS);
+    }
+    return claim;
+  }
+
+  private static CreditorEntity toCreditor(ClaimImportRow row) {
+    requireAll(row, ClaimImportColumn.CREDITOR_NAME, ClaimImportColumn.ID_NUMBER);
+    IdTypeEnum idType = parseIdType(row);
+    String idNumber = row.get(ClaimImportColumn.ID_NUMBER);
+    if (idType != null && idNumber != null && !idType.isValidNumber(idNumber)) {
+      row.addError("证件号码与证件类型（" + idType.getDisplayName() + "）不符：" + idNumber);
+    }
+    return CreditorEntity.builder()
+        .name(row.get(ClaimImportColumn.CREDITOR_NAME))
+        .idType(idType)
+        .identificationNumber(idNumber)
+        .phone(row.get(ClaimImportColumn.CREDITOR_PHONE))
+        .address(row.get(ClaimImportColumn.CREDITOR_ADDRESS))
+        .build();
+  }
+
+  private static ClaimFillingEntity toFilling(ClaimImportRow row) {
+    return ClaimFillingEntity.builder()
+        .claimNature(row.get(ClaimImportColumn.CLAIM_NATURE))
+        .collateralDetails(row.get(ClaimImportColumn.COLLATERAL_DETAILS))
+        .claimPrincipal(parseAmount(row, ClaimImportColumn.CLAIM_PRINCIPAL))
+        .claimInterest(parseAmount(row, ClaimImportColumn.CLAIM_INTEREST))
+        .claimOther(parseAmount(row, ClaimImportColumn.CLAIM_OTHER))
+        .build();
+  }
+
+  private static void requireAll(ClaimImportRow row, ClaimImportColumn... columns) {
+    for (ClaimImportColumn column : columns) {
+      if (row.get(column) == null) {
+        row.addError(column.getHeader() + "不能为空");
+      }
+    }
+  }
+
+  private static LocalDate parseDate(ClaimImportRow row) {
+    String value = row.get(ClaimImportColumn.CLAIM_DATE);
+    if (value == null) {
+      row.addError("申报日期不能为空");
+      return null;
+    }
+    for (DateTimeFormatter formatter : DATE_FORMATTERS) {
+      try {
+        return LocalDate.parse(value, formatter);
+      } catch (DateTimeParseException ignored) {
+        // 尝试下一种格式
+      }
+    }
+    row.addError("申报日期格式不正确：" + value);
+    return null;
+  }
+
+  /** 申报形式可以填写编码或名称，多个之间用逗号、顿号或空格分隔 */
+  private static List<String> parseClaimTypes(ClaimImportRow row) {
+    List<String> codes = new ArrayList<>();
+    String value = row.get(ClaimImportColumn.CLAIM_TYPES);
+    if (value == null) {
+      return codes;
+    }
+    for (String item : CLAIM_TYPE_SEPARATOR.split(value)) {
+      if (item.isEmpty()) {
+        continue;
+      }
+      ClaimType matched = null;
+      for (ClaimType type : ClaimType.values()) {
+        if (type.getCode().equalsIgnoreCase(item) || type.getDisplayName().equals(item)) {
+          matched = type;
+          break;
+        }
+      }
+      if (matched == null) {
+        row.addError("无效的申报形式：" + item);
+      } else if (!codes.contains(matched.getCode())) {
+        codes.add(matched.getCode());
+      }
+    }
+    return codes;
+  }
+
+  private static Boolean parseBoolean(ClaimImportRow row, ClaimImportColumn column) {
+    String value = row.get(column);
+    if (value == null) {
+      return null;
+    }
+    if (TRUE_VALUES.contains(value)) {
+      return true;
+    }
+    if (FALSE_VALUES.contains(value)) {
+      return false;
+    }
+    row.addError(column.getHeader() + "只能填写是或否：" + value);
+    return null;
+  }
+
+  /** 证件类型可以填写编码、名称或常用简称 */
+  private static IdTypeEnum parseIdType(ClaimImportRow row) {
+    String value = row.get(ClaimImportColumn.ID_TYPE);
+    if (value == null) {
+      row.addError("证件类型不能为空");
+      return null;
+    }
+    for (IdTypeEnum type : IdTypeEnum.values()) {
+      if (type.getCode().equalsIgnoreCase(value) || type.name().equalsIgnoreCase(value)) {
+        return type;
+      }
+    }
+    try {
+      return IdTypeEnum.fromInput(value);
+    } catch (IllegalArgumentException e) {
+      row.addError(e.getMessage());
+      return null;
+    }
+  }
+
+  /** 金额允许千分位逗号，不能小于0，最多两位小数 */
+  private static Money parseAmount(ClaimImportRow row, ClaimImportColumn column) {
+    String value = row.get(column);
+    if (value == null) {
+      return null;
+    }
+    BigDecimal amount;
+    try {
+      amount = new BigDecimal(value.replace(",", "")).stripTrailingZeros();
+    } catch (NumberFormatException e) {
+      row.addError(column.getHeader() + "格式不正确：" + value);
+      return null;
+    }
+    if (amount.signum() < 0) {
+      row.addError(column.getHeader() + "不能小于0");
+      return null;
+    }
+    if (amount.scale() > Money.SCALE) {
+      row.addError(column.getHeader() + "最多保留两位小数：" + value);
+      return null;
+    }
+    if (amount.precision() - amount.scale() > MAX_INTEGER_DIGITS) {
+      row.addError(column.getHeader() + "超出金额范围：" + value);
+      return null;
+    }
+    return Money.of(amount);
+  }
+}
@@ -0,0 +1,98 @@
+package com.backend.debt.service.importer;
+
+import cn.hutool.core.collection.CollUtil;
+import com.backend.debt.mapper.ClaimFillingMapper;
+import com.backend.debt.mapper.ClaimMapper;
+import com.backend.debt.mapper.CreditorMapper;
+import com.backend.debt.model.entity.ClaimEntity;
+import com.backend.debt.model.entity.ClaimFillingEntity;
+import com.backend.debt.model.entity.CreditorEntity;
+import com.backend.debt.service.IClaimStatisticService;
+import com.backend.debt.service.IClaimSummaryService;
+import com.baomidou.mybatisplus.core.toolkit.IdWorker;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import javax.annotation.Resource;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 导入债权的批量写入
+ *
+ * <p>一批债权在一个事务内写入：债权以多行 INSERT 判重插入，债权人和申报详情以 COPY 插入，最后按债权ID一次生成汇总和统计快照。
+ * 新导入的债权没有确认信息，表决权重为0，与新增接口一样不生成表决权重记录。
+ */
+@Component
+public class ClaimImportWriter {
+
+  /** 每条多行 INSERT 的债权数，避免超过 PostgreSQL 单条语句的参数个数上限 */
+  private static final int CLAIM_INSERT_CHUNK_SIZE = 1000;
+
+  @Resource private ClaimMapper claimMapper;
+  @Resource private CreditorMapper creditorMapper;
+  @Resource private ClaimFillingMapper claimFillingMapper;
+  @Resource private IClaimSummaryService claimSummaryService;
+  @Resource private IClaimStatisticService claimStatisticService;
+
+  /**
+   * 写入一批校验通过的债权
+   *
+   * <p>债权编号在校验之后被其他请求占用的债权不写入，错误记录在该债权的第一行。
+   *
+   * @param groups 校验通过的债权
+   * @return 实际写入的债权
+   */
+  @Transactional(rollbackFor = Exception.class)
+  public List<ClaimImportGroup> write(List<ClaimImportGroup> groups) {
+    LocalDateTime now = LocalDateTime.now();
+    for (ClaimImportGroup group : groups) {
+      ClaimEntity claim = group.getClaim();
+      claim.setId(IdWorker.get32UUID());
+      claim.setCreateTime(now);
+      claim.setUpdateTime(now);
+    }
+
+    Set<String> inserted = new HashSet<>();
+    for (List<ClaimImportGroup> chunk : CollUtil.split(groups, CLAIM_INSERT_CHUNK_SIZE)) {
+      List<ClaimEntity> claims = new ArrayList<>(chunk.size());
+      String[] ids = new String[chunk.size()];
+      for (int i = 0; i < chunk.size(); i++) {
+        claims.add(chunk.get(i).getClaim());
+        ids[i] = claims.get(i).getId();
+      }
+      if (claimMapper.insertBatchIfAbsent(claims) == claims.size()) {
+        inserted.addAll(Arrays.asList(ids));
+      } else {
+        // 主键是新生成的，已存在的主键就是本次插入的行
+        inserted.addAll(claimMapper.selectExistingIds(ids));
+      }
+    }
+
+    List<ClaimImportGroup> written = new ArrayList<>(inserted.size());
+    List<String> claimIds = new ArrayList<>(inserted.size());
+    List<CreditorEntity> creditors = new ArrayList<>();
+    List<ClaimFillingEntity> fillings = new ArrayList<>();
+    for (ClaimImportGroup group : groups) {
+      String claimId = group.getClaim().getId();
+      if (!inserted.contains(claimId)) {
+        group.addError("债权编号已存在：" + group.getClaimNumber());
+        continue;
+      }
+      group.getCreditors().forEach(creditor -> creditor.setClaimId(claimId));
+      group.getFillings().forEach(filling -> filling.setClaimId(claimId));
+      creditors.addAll(group.getCreditors());
+      fillings.addAll(group.getFillings());
+      claimIds.add(claimId);
+      written.add(group);
+    }
+    creditorMapper.copyInsert(creditors);
+    claimFillingMapper.copyInsert(fillings);
+    claimSummaryService.onClaimsImported(claimIds);
+    claimStatisticService.onClaimsImported(claimIds);
+    return written;
+  }
+}
@@ -0,0 +1,134 @@
+package com.backend.debt.service.importer;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * CSV 导入文件解析器
+ *
+ * <p>按 RFC 4180 解析，支持双引号包裹的字段、字段内的换行和转义的双引号，行号按记录计算，与表格软件中的行号一致。
+ *
+ * <p>带 UTF-8 BOM 或开头部分是合法 UTF-8 的文件按 UTF-8 读取，否则按 GB18030 读取，兼容 Excel 直接另存的中文 CSV。
+ */
+public class CsvClaimImportParser implements ClaimImportParser {
+
+  private static final int BUFFER_SIZE = 64 * 1024;
+
+  private static final Charset GB18030 = Charset.forName("GB18030");
+
+  @Override
+  public void parse(File file, RowHandler handler) throws IOException {
+    try (InputStream in =
+            new BufferedInputStream(Files.newInputStream(file.toPath()), BUFFER_SIZE);
+        Reader reader =
+            new BufferedReader(new InputStreamReader(in, detectCharset(in)), BUFFER_SIZE)) {
+      List<String> cells = new ArrayList<>();
+      StringBuilder field = new StringBuilder();
+      int rowNumber = 1;
+      boolean quoted = false;
+      boolean fieldStarted = false;
+      int ch;
+      while ((ch = reader.read()) != -1) {
+        if (quoted) {
+          if (ch == '"') {
+            reader.mark(1);
+            if (reader.read() == '"') {
+              field.append('"');
+            } else {
+              quoted = false;
+              reader.reset();
+            }
+          } else {
+            field.append((char) ch);
+          }
+          continue;
+        }
+        switch (ch) {
+          case '"' -> {
+            quoted = true;
+            fieldStarted = true;
+          }
+          case ',' -> {
+            cells.add(field.toString());
+            field.setLength(0);
+            fieldStarted = true;
+          }
+          case '\r' -> {
+            // \r\n 与 \n 相同，单独的 \r 也视为换行
+            reader.mark(1);
+            if (reader.read() != '\n') {
+              reader.reset();
+            }
+            endRow(handler, rowNumber++, cells, field, fieldStarted);
+            fieldStarted = false;
+          }
+          case '\n' -> {
+            endRow(handler, rowNumber++, cells, field, fieldStarted);
+            fieldStarted = false;
+          }
+          default -> {
+            field.append((char) ch);
+            fieldStarted = true;
+          }
+        }
+      }
+      if (fieldStarted || field.length() > 0 || !cells.isEmpty()) {
+        endRow(handler, rowNumber, cells, field, true);
+      }
+    }
+  }
+
+  private static void endRow(
+      RowHandler handler,
+      int rowNumber,
+      List<String> cells,
+      StringBuilder field,
+      boolean fieldStarted) {
+    if (fieldStarted || field.length() > 0) {
+      cells.add(field.toString());
+    }
+    handler.onRow(rowNumber, new ArrayList<>(cells));
+    cells.clear();
+    field.setLength(0);
+  }
+
+  /** 识别文件编码，读取位置停在 BOM 之后 */
+  private static Charset detectCharset(InputStream in) throws IOException {
+    in.mark(BUFFER_SIZE);
+    byte[] head = in.readNBytes(BUFFER_SIZE);
+    in.reset();
+    if (head.length >= 3
+        && (head[0] & 0xFF) == 0xEF
+        && (head[1] & 0xFF) == 0xBB
+        && (head[2] & 0xFF) == 0xBF) {
+      in.skipNBytes(3);
+      return StandardCharsets.UTF_8;
+    }
+    CharsetDecoder decoder =
+        StandardCharsets.UTF_8
+            .newDecoder()
+            .onMalformedInput(CodingErrorAction.REPORT)
+            .onUnmappableCharacter(CodingErrorAction.REPORT);
+    // 末尾可能截断在一个多字节字符中间，不作为输入结束处理
+    boolean endOfInput = head.length < BUFFER_SIZE;
+    boolean valid =
+        !decoder
+            .decode(ByteBuffer.wrap(head), CharBuffer.allocate(head.length), endOfInput)
+            .isError();
+    return valid ? StandardCharsets.UTF_8 : GB18030;
+  }
+}
@@ -0,0 +1,106 @@
+package com.backend.debt.service.importer;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import javax.xml.parsers.ParserConfigurationException;
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.ss.usermodel.DateUtil;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler;
+import org.apache.poi.xssf.usermodel.XSSFComment;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
+
+/**
+ * XLSX 导入文件解析器，只读取第一个工作表
+ *
+ * <p>以只读方式打开文件，工作表 XML 通过 SAX 逐行解析，不构建整个工作簿的对象模型。共享字符串表需要整体加载，
+ * 由表格软件保存的文件中重复的文本只保存一份，通常远小于工作表本身。
+ *
+ * <p>日期单元格输出为 yyyy-MM-dd，数字单元格输出为不带千分位和科学计数法的原始数值，不受单元格显示格式影响。
+ */
+public class XlsxClaimImportParser implements ClaimImportParser {
+
+  @Override
+  public void parse(File file, RowHandler handler) throws IOException {
+    try (OPCPackage pkg = OPCPackage.open(file, PackageAccess.READ)) {
+      XSSFReader reader = new XSSFReader(pkg);
+      ReadOnlySharedStringsTable strings = new ReadOnlySharedStringsTable(pkg, false);
+      Iterator<InputStream> sheets = reader.getSheetsData();
+      if (!sheets.hasNext()) {
+        return;
+      }
+      try (InputStream sheet = sheets.next()) {
+        XMLReader xmlReader = XMLHelper.newXMLReader();
+        xmlReader.setContentHandler(
+            new XSSFSheetXMLHandler(
+                reader.getStylesTable(),
+                strings,
+                new RowCollector(handler),
+                new RawValueFormatter(),
+                false));
+        xmlReader.parse(new InputSource(sheet));
+      }
+    } catch (OpenXML4JException | SAXException | ParserConfigurationException e) {
+      throw new IOException("XLSX文件格式不正确：" + e.getMessage(), e);
+    }
+  }
+
+  /** 把一行的单元格按列号放入列表 */
+  private static class RowCollector implements XSSFSheetXMLHandler.SheetContentsHandler {
+
+    private final RowHandler handler;
+
+    private final List<String> cells = new ArrayList<>();
+
+    RowCollector(RowHandler handler) {
+      this.handler = handler;
+    }
+
+    @Override
+    public void startRow(int rowNum) {
+      cells.clear();
+    }
+
+    @Override
+    public void endRow(int rowNum) {
+      handler.onRow(rowNum + 1, new ArrayList<>(cells));
+    }
+
+    @Override
+    public void cell(String cellReference, String formattedValue, XSSFComment comment) {
+      // 缺少单元格引用时按顺序排列
+      int column =
+          cellReference == null ? cells.size() : new CellReference(cellReference).getCol();
+      while (cells.size() < column) {
+        cells.add(null);
+      }
+      cells.add(formattedValue);
+    }
+  }
+
+  /** 日期输出为 ISO 格式，其他数字输出原始数值 */
+  private static class RawValueFormatter extends DataFormatter {
+
+    @Override
+    public String formatRawCellContents(
+        double value, int formatIndex, String formatString, boolean use1904Windowing) {
+      if (DateUtil.isADateFormat(formatIndex, formatString) && DateUtil.isValidExcelDate(value)) {
+        return DateUtil.getLocalDateTime(value, use1904Windowing).toLocalDate().toString();
+      }
+      return BigDecimal.valueOf(value).stripTrailingZeros().toPlainString();
+    }
+  }
+}
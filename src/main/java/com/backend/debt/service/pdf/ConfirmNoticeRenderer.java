@@ -0,0 +1,175 @@
+package com.backend.debt.service.pdf;
+
+import com.backend.debt.enums.ReviewStatus;
+import com.backend.debt.enums.StatisticStatus;
+import com.backend.debt.model.Money;
+import com.backend.debt.model.dto.ClaimConfirmDto;
+import com.backend.debt.model.dto.ClaimDetailDto;
+import com.backend.debt.model.dto.ClaimFillingDto;
+import com.backend.debt.model.dto.CreditorDto;
+import com.backend.debt.model.dto.confirm.statistic.ClaimConfirmStatisticDto;
+import com.backend.debt.model.dto.confirm.statistic.ConfirmedStatisticDto;
+import com.backend.debt.model.dto.confirm.statistic.RejectConfirmStatisticDto;
+import com.backend.debt.model.dto.confirm.statistic.SuspendConfirmStatisticDto;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import javax.annotation.Resource;
+import org.springframework.stereotype.Component;
+
+/**
+ * 债权审查确认通知书渲染器
+ *
+ * <p>由债权详情和确认统计填充模板 confirm_notice，生成 PDF。需要在 {@link
+ * com.backend.debt.config.executor.PdfRenderExecutor} 的线程中调用。
+ */
+@Component
+public class ConfirmNoticeRenderer {
+
+  private static final String TEMPLATE_NAME = "confirm_notice";
+
+  private static final String DELIMITER = "、";
+
+  private static final DateTimeFormatter DATE_FORMATTER =
+      DateTimeFormatter.ofPattern("yyyy年M月d日");
+
+  @Resource private PdfTemplateRegistry pdfTemplateRegistry;
+  @Resource private PdfFontProvider pdfFontProvider;
+
+  /**
+   * 渲染通知书
+   *
+   * @param detail 债权详情
+   * @param statistic 确认统计
+   * @return PDF 内容
+   */
+  public byte[] render(ClaimDetailDto detail, ClaimConfirmStatisticDto statistic)
+      throws IOException {
+    PdfTemplate template = pdfTemplateRegistry.get(TEMPLATE_NAME);
+    Map<String, String> variables = claimVariables(detail, statistic);
+    try (PdfTextDocument document = new PdfTextDocument(pdfFontProvider)) {
+      document.title(template.render("title", variables));
+      document.paragraphs(template.render("header", variables));
+      List<ClaimFillingDto> fillings =
+          detail.getClaimFillings() == null ? List.of() : detail.getClaimFillings();
+      for (int i = 0; i < fillings.size(); i++) {
+        document.paragraphs(template.render("filling", fillingVariables(i + 1, fillings.get(i))));
+      }
+      document.paragraphs(template.render("footer", variables));
+      document.blankLine();
+      document.rightAligned(template.render("signature", variables));
+      ByteArrayOutputStream out = new ByteArrayOutputStream();
+      document.save(out);
+      return out.toByteArray();
+    }
+  }
+
+  private static Map<String, String> claimVariables(
+      ClaimDetailDto detail, ClaimConfirmStatisticDto statistic) {
+    Map<String, String> variables = new HashMap<>();
+    variables.put("claimNumber", text(detail.getClaimNumber()));
+    variables.put(
+        "claimDate",
+        detail.getClaimDate() == null ? "" : detail.getClaimDate().format(DATE_FORMATTER));
+    variables.put(
+        "recipient",
+        detail.getCreditorContactInfo() == null
+            ? ""
+            : text(detail.getCreditorContactInfo().getRecipient()));
+    variables.put(
+        "creditorNames",
+        detail.getCreditors() == null
+            ? ""
+            : detail.getCreditors().stream()
+                .map(CreditorDto::getName)
+                .filter(Objects::nonNull)
+                .collect(Collectors.joining(DELIMITER)));
+    variables.put("noticeDate", LocalDate.now().format(DATE_FORMATTER));
+
+    ConfirmedStatisticDto confirmed =
+        statistic == null ? null : statistic.getConfirmedStatistic();
+    if (confirmed != null) {
+      variables.put("confirmedCount", count(confirmed.getCount()));
+      variables.put("confirmedTotal", money(confirmed.getTotal()));
+      variables.put("confirmedPrincipal", money(confirmed.getPrincipal()));
+      variables.put("confirmedInterest", money(confirmed.getInterest()));
+      variables.put("confirmedOther", money(confirmed.getOther()));
+      variables.put("confirmNature", text(confirmed.getConfirmNature()));
+      variables.put("deductionAmount", money(confirmed.getDeductionAmount()));
+    }
+    SuspendConfirmStatisticDto suspend =
+        statistic == null ? null : statistic.getSuspendConfirmStatistic();
+    if (suspend != null) {
+      variables.put("suspendCount", count(suspend.getCount()));
+      variables.put("suspendTotal", money(suspend.getTotal()));
+      variables.put("suspendNature", text(suspend.getSuspendNature()));
+    }
+    RejectConfirmStatisticDto reject =
+        statistic == null ? null : statistic.getRejectConfirmStatistic();
+    if (reject != null) {
+      variables.put("rejectCount", count(reject.getCount()));
+      variables.put("rejectTotal", money(reject.getTotal()));
+      variables.put("rejectReason", text(reject.getRejectReason()));
+    }
+    variables.put(
+        "statisticStatus",
+        statistic == null || statistic.getStatisticStatus() == null
+            ? ""
+            : statistic.getStatisticStatus().stream()
+                .map(StatisticStatus::getDisplayName)
+                .collect(Collectors.joining(DELIMITER)));
+    // 没有对应统计时金额与笔数显示为0
+    for (String name :
+        List.of(
+            "confirmedTotal",
+            "confirmedPrincipal",
+            "confirmedInterest",
+            "confirmedOther",
+            "deductionAmount",
+            "suspendTotal",
+            "rejectTotal")) {
+      variables.putIfAbsent(name, money(null));
+    }
+    for (String name : List.of("confirmedCount", "suspendCount", "rejectCount")) {
+      variables.putIfAbsent(name, count(null));
+    }
+    return variables;
+  }
+
+  private static Map<String, String> fillingVariables(int index, ClaimFillingDto filling) {
+    ClaimConfirmDto confirm = filling.getConfirmedDetail();
+    ReviewStatus status =
+        confirm == null || confirm.getReviewStatus() == null
+            ? ReviewStatus.NOT_CONFIRMED
+            : confirm.getReviewStatus();
+    Map<String, String> variables = new HashMap<>();
+    variables.put("index", String.valueOf(index));
+    variables.put("claimNature", text(filling.getClaimNature()));
+    variables.put("claimTotal", money(filling.getTotal()));
+    variables.put("claimPrincipal", money(filling.getClaimPrincipal()));
+    variables.put("claimInterest", money(filling.getClaimInterest()));
+    variables.put("claimOther", money(filling.getClaimOther()));
+    variables.put("reviewStatus", status.getDisplayName());
+    variables.put("confirmedTotal", money(confirm == null ? null : confirm.getConfirmedTotal()));
+    variables.put("reviewReason", confirm == null ? "" : text(confirm.getReviewReason()));
+    return variables;
+  }
+
+  private static String money(Money money) {
+    return Money.nullToZero(money).toString();
+  }
+
+  private static String count(Integer count) {
+    return String.valueOf(count == null ? 0 : count);
+  }
+
+  private static String text(String text) {
+    return text == null ? "" : text;
+  }
+}
@@ -0,0 +1,95 @@
+package com.backend.debt.service.pdf;
+
+import com.backend.debt.exceptions.CustomException;
+import com.backend.debt.exceptions.HttpResponseStatus;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.fontbox.ttf.TTFParser;
+import org.apache.fontbox.ttf.TrueTypeFont;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.font.PDFont;
+import org.apache.pdfbox.pdmodel.font.PDType0Font;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+
+/**
+ * PDF 中文字体
+ *
+ * <p>字体文件优先从配置的路径读取（镜像中安装的宋体），不存在时从 classpath:fonts/SimSun.ttf 读取，只读取一次。解析后的字体不是线程安全的，
+ * 每个线程解析一份并复用，因此只应在渲染线程池中使用。字体以子集方式嵌入，PDF 中只包含用到的字形。
+ */
+@Slf4j
+@Component
+public class PdfFontProvider {
+
+  private static final String CLASSPATH_FONT = "fonts/SimSun.ttf";
+
+  private final String fontPath;
+
+  private final ThreadLocal<TrueTypeFont> threadFont = ThreadLocal.withInitial(this::parseFont);
+
+  private volatile byte[] fontData;
+
+  public PdfFontProvider(
+      @Value("${claim.pdf.font-path:/usr/share/fonts/simsun/SimSun.ttf}") String fontPath) {
+    this.fontPath = fontPath;
+  }
+
+  /**
+   * 在文档中加载字体，保存文档时只嵌入用到的字形
+   *
+   * @param document PDF 文档
+   * @return 文档内的字体
+   */
+  public PDFont load(PDDocument document) throws IOException {
+    return PDType0Font.load(document, threadFont.get(), true);
+  }
+
+  private TrueTypeFont parseFont() {
+    try {
+      return new TTFParser().parse(new ByteArrayInputStream(fontData()));
+    } catch (IOException e) {
+      log.error("解析PDF字体异常，异常信息：{}", e.getMessage(), e);
+      throw new CustomException(
+          HttpResponseStatus.INTERNAL_SERVER_ERROR.code(), "PDF字体不可用", "解析PDF字体异常");
+    }
+  }
+
+  private byte[] fontData() throws IOException {
+    byte[] data = fontData;
+    if (data == null) {
+      synchronized (this) {
+        data = fontData;
+        if (data == null) {
+          data = readFontData();
+          fontData = data;
+        }
+      }
+    }
+    return data;
+  }
+
+  private byte[] readFontData() throws IOException {
+    Path path = Path.of(fontPath);
+    if (Files.isReadable(path)) {
+      log.info("读取PDF字体：{}", path);
+      return Files.readAllBytes(path);
+    }
+    ClassPathResource resource = new ClassPathResource(CLASSPATH_FONT);
+    if (!resource.exists()) {
+      throw new CustomException(
+          HttpResponseStatus.INTERNAL_SERVER_ERROR.code(),
+          "PDF字体不可用",
+          "PDF字体文件不存在：" + fontPath + "，classpath:" + CLASSPATH_FONT);
+    }
+    log.info("读取PDF字体：classpath:{}", CLASSPATH_FONT);
+    try (InputStream in = resource.getInputStream()) {
+      return in.readAllBytes();
+    }
+  }
+}
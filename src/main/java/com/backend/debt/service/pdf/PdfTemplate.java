@@ -0,0 +1,110 @@
+package com.backend.debt.service.pdf;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 编译后的文本模板
+ *
+ * <p>模板按 [名称] 分段，段内每行是一段文本，${变量} 为占位符。编译时把每行拆成字面文本和变量，渲染时只做拼接，不再解析。未提供的变量渲染为空字符串。
+ * 实例不可变，可以被多个线程共享。
+ */
+public final class PdfTemplate {
+
+  private static final String PLACEHOLDER_START = "${";
+  private static final String PLACEHOLDER_END = "}";
+
+  private final Map<String, List<List<Segment>>> sections;
+
+  private PdfTemplate(Map<String, List<List<Segment>>> sections) {
+    this.sections = sections;
+  }
+
+  /**
+   * 编译模板
+   *
+   * @param source 模板内容
+   * @return 编译后的模板
+   */
+  public static PdfTemplate compile(String source) {
+    Map<String, List<List<Segment>>> sections = new LinkedHashMap<>();
+    List<List<Segment>> current = null;
+    for (String line : source.split("\\r?\\n", -1)) {
+      String trimmed = line.trim();
+      if (trimmed.startsWith("[") && trimmed.endsWith("]") && trimmed.length() > 2) {
+        current = new ArrayList<>();
+        sections.put(trimmed.substring(1, trimmed.length() - 1), current);
+        continue;
+      }
+      if (current == null) {
+        // 第一个分段之前的内容忽略
+        continue;
+      }
+      current.add(compileLine(line));
+    }
+    // 去掉每段末尾的空行
+    sections.replaceAll(
+        (name, lines) -> {
+          int end = lines.size();
+          while (end > 0 && lines.get(end - 1).isEmpty()) {
+            end--;
+          }
+          return List.copyOf(lines.subList(0, end));
+        });
+    return new PdfTemplate(Collections.unmodifiableMap(sections));
+  }
+
+  /**
+   * 渲染一个分段
+   *
+   * @param section 分段名称
+   * @param variables 变量值
+   * @return 渲染后的各行，分段不存在时返回空列表
+   */
+  public List<String> render(String section, Map<String, String> variables) {
+    List<List<Segment>> lines = sections.getOrDefault(section, List.of());
+    List<String> result = new ArrayList<>(lines.size());
+    StringBuilder builder = new StringBuilder();
+    for (List<Segment> line : lines) {
+      builder.setLength(0);
+      for (Segment segment : line) {
+        if (segment.variable()) {
+          String value = variables.get(segment.text());
+          if (value != null) {
+            builder.append(value);
+          }
+        } else {
+          builder.append(segment.text());
+        }
+      }
+      result.add(builder.toString());
+    }
+    return result;
+  }
+
+  private static List<Segment> compileLine(String line) {
+    List<Segment> segments = new ArrayList<>();
+    int from = 0;
+    while (from < line.length()) {
+      int start = line.indexOf(PLACEHOLDER_START, from);
+      int end = start < 0 ? -1 : line.indexOf(PLACEHOLDER_END, start + PLACEHOLDER_START.length());
+      if (start < 0 || end < 0) {
+        segments.add(new Segment(line.substring(from), false));
+        break;
+      }
+      if (start > from) {
+        segments.add(new Segment(line.substring(from, start), false));
+      }
+      String name = line.substring(start + PLACEHOLDER_START.length(), end).trim();
+      segments.add(new Segment(name, true));
+      from = end + PLACEHOLDER_END.length();
+    }
+    return List.copyOf(segments);
+  }
+
+  /** 模板片段，variable 为 true 时 text 是变量名 */
+  private record Segment(String text, boolean variable) {}
+}
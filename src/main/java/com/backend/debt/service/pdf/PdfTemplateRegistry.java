@@ -0,0 +1,46 @@
+package com.backend.debt.service.pdf;
+
+import com.backend.debt.exceptions.CustomException;
+import com.backend.debt.exceptions.HttpResponseStatus;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+
+/** PDF 模板注册表，模板从 classpath:templates/pdf/{名称}.tpl 读取，首次使用时编译并缓存 */
+@Slf4j
+@Component
+public class PdfTemplateRegistry {
+
+  private static final String TEMPLATE_LOCATION = "templates/pdf/%s.tpl";
+
+  private final Map<String, PdfTemplate> templates = new ConcurrentHashMap<>();
+
+  /**
+   * 获取编译后的模板
+   *
+   * @param name 模板名称
+   * @return 编译后的模板
+   */
+  public PdfTemplate get(String name) {
+    return templates.computeIfAbsent(name, PdfTemplateRegistry::load);
+  }
+
+  private static PdfTemplate load(String name) {
+    String location = String.format(TEMPLATE_LOCATION, name);
+    try (InputStream in = new ClassPathResource(location).getInputStream()) {
+      PdfTemplate template =
+          PdfTemplate.compile(new String(in.readAllBytes(), StandardCharsets.UTF_8));
+      log.info("编译PDF模板完成：{}", location);
+      return template;
+    } catch (IOException e) {
+      log.error("读取PDF模板异常：{}，异常信息：{}", location, e.getMessage(), e);
+      throw new CustomException(
+          HttpResponseStatus.INTERNAL_SERVER_ERROR.code(), "PDF模板不存在", "读取PDF模板异常：" + location);
+    }
+  }
+}
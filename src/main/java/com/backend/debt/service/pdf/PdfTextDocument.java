@@ -0,0 +1,160 @@
+package com.backend.debt.service.pdf;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.apache.pdfbox.pdmodel.common.PDRectangle;
+import org.apache.pdfbox.pdmodel.font.PDFont;
+
+/**
+ * 纯文本 PDF 文档
+ *
+ * <p>A4 纵向，按字体宽度自动换行，写满一页自动换页。字体中没有的字符以“?”代替。非线程安全，一个文档只在一个线程中构建。
+ */
+public class PdfTextDocument implements Closeable {
+
+  private static final PDRectangle PAGE_SIZE = PDRectangle.A4;
+  private static final float MARGIN = 56;
+  private static final float TITLE_FONT_SIZE = 18;
+  private static final float BODY_FONT_SIZE = 11;
+  private static final float LINE_SPACING = 1.6f;
+  private static final String REPLACEMENT = "?";
+
+  private final PDDocument document;
+  private final PDFont font;
+  private final float contentWidth;
+
+  private PDPageContentStream stream;
+  private float cursorY;
+
+  public PdfTextDocument(PdfFontProvider fontProvider) throws IOException {
+    this.document = new PDDocument();
+    this.font = fontProvider.load(document);
+    this.contentWidth = PAGE_SIZE.getWidth() - MARGIN * 2;
+    newPage();
+  }
+
+  /** 居中的标题，标题后空一行 */
+  public void title(List<String> lines) throws IOException {
+    for (String line : lines) {
+      for (String wrapped : wrap(line, TITLE_FONT_SIZE)) {
+        float width = textWidth(wrapped, TITLE_FONT_SIZE);
+        writeLine(wrapped, TITLE_FONT_SIZE, MARGIN + (contentWidth - width) / 2);
+      }
+    }
+    blankLine();
+  }
+
+  /** 左对齐的正文，超出宽度时换行 */
+  public void paragraphs(List<String> lines) throws IOException {
+    for (String line : lines) {
+      for (String wrapped : wrap(line, BODY_FONT_SIZE)) {
+        writeLine(wrapped, BODY_FONT_SIZE, MARGIN);
+      }
+    }
+  }
+
+  /** 右对齐的正文，用于落款 */
+  public void rightAligned(List<String> lines) throws IOException {
+    for (String line : lines) {
+      for (String wrapped : wrap(line, BODY_FONT_SIZE)) {
+        float width = textWidth(wrapped, BODY_FONT_SIZE);
+        writeLine(wrapped, BODY_FONT_SIZE, MARGIN + contentWidth - width);
+      }
+    }
+  }
+
+  public void blankLine() throws IOException {
+    writeLine("", BODY_FONT_SIZE, MARGIN);
+  }
+
+  /**
+   * 保存文档，字体子集在此时嵌入
+   *
+   * @param out 输出流，不会被关闭
+   */
+  public void save(OutputStream out) throws IOException {
+    stream.close();
+    stream = null;
+    document.save(out);
+  }
+
+  @Override
+  public void close() throws IOException {
+    if (stream != null) {
+      stream.close();
+    }
+    document.close();
+  }
+
+  private void newPage() throws IOException {
+    if (stream != null) {
+      stream.close();
+    }
+    PDPage page = new PDPage(PAGE_SIZE);
+    document.addPage(page);
+    stream = new PDPageContentStream(document, page);
+    cursorY = PAGE_SIZE.getHeight() - MARGIN;
+  }
+
+  private void writeLine(String text, float fontSize, float x) throws IOException {
+    float lineHeight = fontSize * LINE_SPACING;
+    if (cursorY - lineHeight < MARGIN) {
+      newPage();
+    }
+    cursorY -= lineHeight;
+    if (text.isEmpty()) {
+      return;
+    }
+    stream.beginText();
+    stream.setFont(font, fontSize);
+    stream.newLineAtOffset(x, cursorY);
+    stream.showText(text);
+    stream.endText();
+  }
+
+  /** 按宽度拆分一行，同时把字体中没有的字符替换掉 */
+  private List<String> wrap(String line, float fontSize) throws IOException {
+    List<String> lines = new ArrayList<>();
+    StringBuilder current = new StringBuilder();
+    float currentWidth = 0;
+    int index = 0;
+    while (index < line.length()) {
+      int codePoint = line.codePointAt(index);
+      index += Character.charCount(codePoint);
+      String ch = new String(Character.toChars(codePoint));
+      float width = charWidth(ch, fontSize);
+      if (width < 0) {
+        ch = REPLACEMENT;
+        width = charWidth(ch, fontSize);
+      }
+      if (currentWidth + width > contentWidth && current.length() > 0) {
+        lines.add(current.toString());
+        current.setLength(0);
+        currentWidth = 0;
+      }
+      current.append(ch);
+      currentWidth += width;
+    }
+    lines.add(current.toString());
+    return lines;
+  }
+
+  /** 字符宽度，字体中没有该字符时返回 -1 */
+  private float charWidth(String ch, float fontSize) throws IOException {
+    try {
+      return font.getStringWidth(ch) / 1000 * fontSize;
+    } catch (IllegalArgumentException e) {
+      return -1;
+    }
+  }
+
+  private float textWidth(String text, float fontSize) throws IOException {
+    return font.getStringWidth(text) / 1000 * fontSize;
+  }
+}
@@ -0,0 +1,214 @@
+package com.backend.debt.service.statistic;
+
+import com.backend.debt.enums.ReviewStatus;
+import com.backend.debt.model.Money;
+import com.backend.debt.model.dto.ClaimConfirmDto;
+import com.backend.debt.model.dto.ClaimFillingDto;
+import com.backend.debt.model.entity.ClaimConfirmEntity;
+import com.backend.debt.model.entity.ClaimFillingEntity;
+import com.backend.debt.model.entity.ClaimStatisticEntity;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * 债权确认统计累加器
+ *
+ * <p>一次遍历申报详情，按审查状态把金额以分为单位累加到 long 字段，合计没有浮点误差，也不产生装箱对象；性质、原因、担保物明细放入按插入顺序
+ * 去重的集合，只在输出时拼接一次，拼接顺序为各文本首次出现的顺序。申报详情按创建时间、ID 的顺序传入时，与聚合 SQL 的拼接结果一致。累加规则
+ * 与统计快照的聚合 SQL 一致，输出为 {@link ClaimStatisticEntity}。调用 {@link #reset()} 后可以复用于下一个债权，非线程安全。
+ */
+public final class ConfirmStatisticAccumulator {
+
+  private static final String DELIMITER = "、";
+
+  private int fillingCount;
+  private int unconfirmedCount;
+  private int allConfirmCount;
+  private int partConfirmCount;
+  private int suspendCount;
+  private int rejectCount;
+
+  private long confirmedPrincipal;
+  private long confirmedInterest;
+  private long confirmedOther;
+  private long deductionAmount;
+  private long suspendPrincipal;
+  private long suspendInterest;
+  private long suspendOther;
+  private long rejectPrincipal;
+  private long rejectInterest;
+  private long rejectOther;
+
+  private final Set<String> confirmedCollateralDetails = new LinkedHashSet<>();
+  private final Set<String> confirmedNatures = new LinkedHashSet<>();
+  private final Set<String> suspendNatures = new LinkedHashSet<>();
+  private final Set<String> rejectReasons = new LinkedHashSet<>();
+
+  /**
+   * 累加一笔申报详情及其关联的确认信息
+   *
+   * @param filling 申报详情
+   */
+  public void add(ClaimFillingDto filling) {
+    ClaimConfirmDto confirm = filling.getConfirmedDetail();
+    if (confirm == null) {
+      add(null, null, null, null, null, null, null, null, null, null);
+      return;
+    }
+    add(
+        confirm.getReviewStatus(),
+        filling.getClaimPrincipal(),
+        filling.getClaimInterest(),
+        filling.getClaimOther(),
+        confirm.getConfirmedPrincipal(),
+        confirm.getConfirmedInterest(),
+        confirm.getConfirmedOther(),
+        filling.getCollateralDetails(),
+        confirm.getClaimNature(),
+        confirm.getReviewReason());
+  }
+
+  /**
+   * 累加一笔申报详情及其最新的确认信息
+   *
+   * @param filling 申报详情
+   * @param confirm 最新的确认信息，未审核时为空
+   */
+  public void add(ClaimFillingEntity filling, ClaimConfirmEntity confirm) {
+    if (confirm == null) {
+      add(null, null, null, null, null, null, null, null, null, null);
+      return;
+    }
+    add(
+        confirm.getReviewStatus(),
+        filling.getClaimPrincipal(),
+        filling.getClaimInterest(),
+        filling.getClaimOther(),
+        confirm.getConfirmedPrincipal(),
+        confirm.getConfirmedInterest(),
+        confirm.getConfirmedOther(),
+        filling.getCollateralDetails(),
+        confirm.getClaimNature(),
+        confirm.getReviewReason());
+  }
+
+  private void add(
+      ReviewStatus status,
+      Money claimPrincipal,
+      Money claimInterest,
+      Money claimOther,
+      Money confirmedPrincipal,
+      Money confirmedInterest,
+      Money confirmedOther,
+      String collateralDetails,
+      String confirmNature,
+      String reviewReason) {
+    fillingCount++;
+    if (status == null || status == ReviewStatus.NOT_CONFIRMED) {
+      unconfirmedCount++;
+      return;
+    }
+    long principal = Money.cents(claimPrincipal);
+    long interest = Money.cents(claimInterest);
+    long other = Money.cents(claimOther);
+    switch (status) {
+      case CONFIRM_ALL, CONFIRM_PART -> {
+        long confirmedP = Money.cents(confirmedPrincipal);
+        long confirmedI = Money.cents(confirmedInterest);
+        long confirmedO = Money.cents(confirmedOther);
+        if (status == ReviewStatus.CONFIRM_ALL) {
+          allConfirmCount++;
+        } else {
+          partConfirmCount++;
+          deductionAmount +=
+              (principal + interest + other) - (confirmedP + confirmedI + confirmedO);
+        }
+        this.confirmedPrincipal += confirmedP;
+        this.confirmedInterest += confirmedI;
+        this.confirmedOther += confirmedO;
+        addText(confirmedCollateralDetails, collateralDetails);
+        addText(confirmedNatures, confirmNature);
+      }
+      case CONFIRM_SUSPEND -> {
+        suspendCount++;
+        suspendPrincipal += principal;
+        suspendInterest += interest;
+        suspendOther += other;
+        addText(suspendNatures, confirmNature);
+      }
+      case CONFIRM_REJECT -> {
+        rejectCount++;
+        deductionAmount += principal + interest + other;
+        rejectPrincipal += principal;
+        rejectInterest += interest;
+        rejectOther += other;
+        addText(rejectReasons, reviewReason);
+      }
+      default -> {}
+    }
+  }
+
+  /**
+   * 输出累加结果，笔数与金额为0时也有值，没有文本时文本列为空
+   *
+   * @return 统计结果，不含债权ID和更新时间
+   */
+  public ClaimStatisticEntity toStatistic() {
+    ClaimStatisticEntity statistic = new ClaimStatisticEntity();
+    statistic.setFillingCount(fillingCount);
+    statistic.setUnconfirmedCount(unconfirmedCount);
+    statistic.setAllConfirmCount(allConfirmCount);
+    statistic.setPartConfirmCount(partConfirmCount);
+    statistic.setSuspendCount(suspendCount);
+    statistic.setRejectCount(rejectCount);
+    statistic.setConfirmedPrincipal(Money.ofCents(confirmedPrincipal));
+    statistic.setConfirmedInterest(Money.ofCents(confirmedInterest));
+    statistic.setConfirmedOther(Money.ofCents(confirmedOther));
+    statistic.setDeductionAmount(Money.ofCents(deductionAmount));
+    statistic.setSuspendPrincipal(Money.ofCents(suspendPrincipal));
+    statistic.setSuspendInterest(Money.ofCents(suspendInterest));
+    statistic.setSuspendOther(Money.ofCents(suspendOther));
+    statistic.setRejectPrincipal(Money.ofCents(rejectPrincipal));
+    statistic.setRejectInterest(Money.ofCents(rejectInterest));
+    statistic.setRejectOther(Money.ofCents(rejectOther));
+    statistic.setConfirmedCollateralDetails(joinText(confirmedCollateralDetails));
+    statistic.setConfirmedNature(joinText(confirmedNatures));
+    statistic.setSuspendNature(joinText(suspendNatures));
+    statistic.setRejectReason(joinText(rejectReasons));
+    return statistic;
+  }
+
+  /** 清空累加结果，用于下一个债权 */
+  public void reset() {
+    fillingCount = 0;
+    unconfirmedCount = 0;
+    allConfirmCount = 0;
+    partConfirmCount = 0;
+    suspendCount = 0;
+    rejectCount = 0;
+    confirmedPrincipal = 0;
+    confirmedInterest = 0;
+    confirmedOther = 0;
+    deductionAmount = 0;
+    suspendPrincipal = 0;
+    suspendInterest = 0;
+    suspendOther = 0;
+    rejectPrincipal = 0;
+    rejectInterest = 0;
+    rejectOther = 0;
+    confirmedCollateralDetails.clear();
+    confirmedNatures.clear();
+    suspendNatures.clear();
+    rejectReasons.clear();
+  }
+
+  private static void addText(Set<String> texts, String text) {
+    if (text != null && !text.isEmpty()) {
+      texts.add(text);
+    }
+  }
+
+  private static String joinText(Set<String> texts) {
+    return texts.isEmpty() ? null : String.join(DELIMITER, texts);
+  }
+}
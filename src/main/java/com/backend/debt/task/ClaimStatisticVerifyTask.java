@@ -0,0 +1,38 @@
+package com.backend.debt.task;
+
+import com.backend.debt.service.IClaimStatisticService;
+import com.backend.debt.service.IClaimVoteService;
+import javax.annotation.Resource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 债权统计快照校验任务
+ *
+ * <p>统计快照随写入增量维护，绕过服务层直接修改数据库、或增量逻辑变更后都可能与申报详情不一致。该任务定期按申报详情重新计算并修复不一致的快照，
+ * 之后按快照刷新表决权重。
+ */
+@Slf4j
+@Component
+public class ClaimStatisticVerifyTask {
+
+  @Resource private IClaimStatisticService claimStatisticService;
+  @Resource private IClaimVoteService claimVoteService;
+
+  @Scheduled(
+      initialDelayString = "${claim.statistic.verify-interval-ms:3600000}",
+      fixedDelayString = "${claim.statistic.verify-interval-ms:3600000}")
+  public void verify() {
+    try {
+      claimStatisticService.verifySnapshots();
+    } catch (Exception e) {
+      log.error("校验债权统计快照异常，异常信息：{}", e.getMessage(), e);
+    }
+    try {
+      claimVoteService.rebuild();
+    } catch (Exception e) {
+      log.error("刷新表决权重异常，异常信息：{}", e.getMessage(), e);
+    }
+  }
+}
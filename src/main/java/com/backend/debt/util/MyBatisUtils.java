@@ -1,13 +1,14 @@
 package com.backend.debt.util;
 
 import cn.hutool.core.collection.CollectionUtil;
+import com.backend.debt.config.mybatis.CountModePage;
+import com.backend.debt.enums.CountMode;
 import com.backend.debt.model.page.PageParam;
 import com.backend.debt.model.page.SortingField;
 import com.baomidou.mybatisplus.core.metadata.OrderItem;
 import com.baomidou.mybatisplus.core.toolkit.StringPool;
 import com.baomidou.mybatisplus.extension.plugins.MybatisPlusInterceptor;
 import com.baomidou.mybatisplus.extension.plugins.inner.InnerInterceptor;
-import com.baomidou.mybatisplus.extension.plugins.pagination.Page;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
@@ -21,13 +22,17 @@ public class MyBatisUtils {
 
   private static final String MYSQL_ESCAPE_CHARACTER = "`";
 
-  public static <T> Page<T> buildPage(PageParam pageParam) {
+  public static <T> CountModePage<T> buildPage(PageParam pageParam) {
     return buildPage(pageParam, null);
   }
 
-  public static <T> Page<T> buildPage(PageParam pageParam, Collection<SortingField> sortingFields) {
-    // 页码 + 数量
-    Page<T> page = new Page<>(pageParam.getPageNo(), pageParam.getPageSize());
+  public static <T> CountModePage<T> buildPage(
+      PageParam pageParam, Collection<SortingField> sortingFields) {
+    // 页码 + 数量 + 总数统计方式
+    CountMode countMode =
+        pageParam.getCountMode() != null ? pageParam.getCountMode() : CountMode.EXACT;
+    CountModePage<T> page =
+        new CountModePage<>(pageParam.getPageNo(), pageParam.getPageSize(), countMode);
     // 排序字段
     if (!CollectionUtil.isEmpty(sortingFields)) {
       page.addOrder(
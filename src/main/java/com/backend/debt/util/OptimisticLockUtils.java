@@ -0,0 +1,79 @@
+package com.backend.debt.util;
+
+import com.backend.debt.exceptions.CustomException;
+import com.backend.debt.exceptions.HttpResponseStatus;
+import com.backend.debt.model.entity.BaseEntity;
+import org.springframework.util.StringUtils;
+
+/**
+ * 乐观锁工具类
+ *
+ * <p>修改接口通过 If-Match 请求头传入客户端读取时的版本号（即返回结果中的 version），与当前版本号不一致时返回 412；
+ * 读取之后、写入之前被其他请求修改时，条件更新的影响行数为0，返回 409。
+ *
+ * <p>版本号防止的是跨请求的覆盖：客户端基于旧数据提交的修改不会覆盖他人的修改。同一申报详情的详情与确认信息写入仍在事务内先锁定申报详情（
+ * {@code SELECT ... FOR UPDATE}），统计快照与汇总按写入前后的差量更新，需要锁定后读到的就是被覆盖的数据；锁只在单个事务内持有，不跨请求。
+ */
+public class OptimisticLockUtils {
+
+  private static final String WEAK_PREFIX = "W/";
+
+  private static final String ANY = "*";
+
+  private OptimisticLockUtils() {}
+
+  /**
+   * 解析 If-Match 请求头中的版本号，支持 3、"3" 与 W/"3" 三种写法
+   *
+   * @param ifMatch If-Match 请求头
+   * @return 版本号，请求头为空或为 * 时返回 null，表示不校验
+   */
+  public static Integer parseIfMatch(String ifMatch) {
+    if (!StringUtils.hasText(ifMatch) || ANY.equals(ifMatch.trim())) {
+      return null;
+    }
+    String value = ifMatch.trim();
+    if (value.startsWith(WEAK_PREFIX)) {
+      value = value.substring(WEAK_PREFIX.length());
+    }
+    if (value.length() >= 2 && value.startsWith("\"") && value.endsWith("\"")) {
+      value = value.substring(1, value.length() - 1);
+    }
+    try {
+      return Integer.valueOf(value);
+    } catch (NumberFormatException e) {
+      throw new CustomException(
+          HttpResponseStatus.BAD_REQUEST.code(), "If-Match 请求头格式不正确", "无法解析版本号：" + ifMatch);
+    }
+  }
+
+  /**
+   * 校验客户端持有的版本号与读取到的版本号一致
+   *
+   * @param entity 读取到的实体
+   * @param expectedVersion 客户端持有的版本号，为空时不校验
+   * @param name 记录名称，用于错误信息
+   */
+  public static void checkVersion(BaseEntity entity, Integer expectedVersion, String name) {
+    if (expectedVersion != null && !expectedVersion.equals(entity.getVersion())) {
+      throw new CustomException(
+          HttpResponseStatus.PRECONDITION_FAILED.code(),
+          name + "已被修改，请刷新后重试",
+          name + "版本号不一致，当前：" + entity.getVersion() + "，请求：" + expectedVersion);
+    }
+  }
+
+  /**
+   * 校验条件更新的影响行数，为0说明读取之后已被其他请求修改或删除
+   *
+   * @param rows 影响行数
+   * @param name 记录名称，用于错误信息
+   * @param id 记录ID
+   */
+  public static void checkUpdated(int rows, String name, String id) {
+    if (rows == 0) {
+      throw new CustomException(
+          HttpResponseStatus.CONFLICT.code(), name + "已被其他用户修改，请刷新后重试", name + "并发修改冲突，ID：" + id);
+    }
+  }
+}
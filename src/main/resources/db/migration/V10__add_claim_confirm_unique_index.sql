@@ -0,0 +1,7 @@
+-- 未删除的确认信息中每个申报详情只有一条，新增时通过 on conflict 更新已有的确认信息
+create unique index concurrently if not exists uk_claim_confirm_claim_filling_id
+    on claim_confirm (claim_filling_id)
+    where deleted = false;
+
+-- 唯一索引覆盖了原有的普通索引
+drop index concurrently if exists idx_claim_confirm_claim_filling_id;
@@ -0,0 +1,13 @@
+-- 乐观锁版本号：修改时以 version = 读取时的版本号为条件并加一，影响行数为0说明已被其他请求修改
+-- 带常量默认值的新增列只修改表定义，不重写已有数据
+alter table claim
+    add column if not exists version integer default 0 not null;
+
+alter table creditor
+    add column if not exists version integer default 0 not null;
+
+alter table claim_filling
+    add column if not exists version integer default 0 not null;
+
+alter table claim_confirm
+    add column if not exists version integer default 0 not null;
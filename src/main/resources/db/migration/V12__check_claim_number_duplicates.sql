@@ -0,0 +1,35 @@
+-- V5 的债权编号唯一索引在已有重复债权编号时创建失败，并留下无效（INVALID）的索引；
+-- 重试时 if not exists 跳过创建，之后 on conflict (claim_number) 找不到可用的唯一索引。
+-- 重复的债权申报需要人工合并或删除，这里不自动去重，存在时报错并列出，处理后重新执行迁移
+do
+$$
+    declare
+        duplicates text;
+    begin
+        select string_agg(claim_number, ', ' order by claim_number)
+        into duplicates
+        from (select claim_number
+              from claim
+              where deleted = false
+              group by claim_number
+              having count(*) > 1
+              order by claim_number
+              limit 20) d;
+        if duplicates is not null then
+            raise exception '未删除的债权申报中存在重复的债权编号，请处理后重新执行迁移：%', duplicates;
+        end if;
+    end
+$$;
+
+-- 删除创建失败留下的无效索引，由下一个迁移重新创建
+do
+$$
+    begin
+        if exists (select 1
+                   from pg_index
+                   where indexrelid = to_regclass('uk_claim_claim_number')
+                     and not indisvalid) then
+            drop index uk_claim_claim_number;
+        end if;
+    end
+$$;
@@ -0,0 +1,4 @@
+-- 未删除的债权申报中债权编号唯一，V5 已成功创建时跳过，无效的索引已由 V12 删除
+create unique index concurrently if not exists uk_claim_claim_number
+    on claim (claim_number)
+    where deleted = false;
@@ -0,0 +1,4 @@
+-- 债权申报列表游标分页：按 (claim_date, id) 降序 seek 扫描
+create index concurrently if not exists idx_claim_claim_date_id
+    on claim (claim_date desc, id desc)
+    where deleted = false;
@@ -0,0 +1,2 @@
+-- 子串搜索依赖 pg_trgm 的 gin_trgm_ops 操作符类
+create extension if not exists pg_trgm;
@@ -0,0 +1,12 @@
+-- 债权申报列表的债权编号、登记人、债权人名称子串搜索（ILIKE '%x%'）
+create index concurrently if not exists idx_claim_claim_number_trgm
+    on claim using gin (claim_number gin_trgm_ops)
+    where deleted = false;
+
+create index concurrently if not exists idx_claim_registrar_trgm
+    on claim using gin (registrar gin_trgm_ops)
+    where deleted = false;
+
+create index concurrently if not exists idx_creditor_name_trgm
+    on creditor using gin (name gin_trgm_ops)
+    where deleted = false;
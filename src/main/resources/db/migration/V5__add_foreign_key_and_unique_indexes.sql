@@ -0,0 +1,17 @@
+-- 详情、统计、级联删除按外键查询子表
+create index concurrently if not exists idx_creditor_claim_id
+    on creditor (claim_id)
+    where deleted = false;
+
+create index concurrently if not exists idx_claim_filling_claim_id
+    on claim_filling (claim_id)
+    where deleted = false;
+
+create index concurrently if not exists idx_claim_confirm_claim_filling_id
+    on claim_confirm (claim_filling_id)
+    where deleted = false;
+
+-- 未删除的债权申报中债权编号唯一，新增时通过 on conflict 判重
+create unique index concurrently if not exists uk_claim_claim_number
+    on claim (claim_number)
+    where deleted = false;
@@ -0,0 +1,36 @@
+-- 债权申报金额汇总：随申报详情的增删改在同一事务内增量维护，列表与详情直接读取
+create table if not exists claim_summary
+(
+    claim_id        varchar(255)             not null
+        primary key,
+    total_principal numeric(19, 2) default 0 not null,
+    total_interest  numeric(19, 2) default 0 not null,
+    total_other     numeric(19, 2) default 0 not null,
+    total_amount    numeric(19, 2) default 0 not null,
+    filling_count   integer        default 0 not null,
+    claim_natures   text,
+    update_time     timestamp(6)             not null
+);
+
+-- 按申报总金额筛选、排序
+create index if not exists idx_claim_summary_total_amount
+    on claim_summary (total_amount);
+
+-- 回填已有数据
+insert into claim_summary (claim_id, total_principal, total_interest, total_other, total_amount,
+                           filling_count, claim_natures, update_time)
+select f.claim_id,
+       coalesce(sum(f.claim_principal), 0),
+       coalesce(sum(f.claim_interest), 0),
+       coalesce(sum(f.claim_other), 0),
+       coalesce(sum(f.claim_principal), 0) + coalesce(sum(f.claim_interest), 0)
+           + coalesce(sum(f.claim_other), 0),
+       count(*),
+       string_agg(distinct f.claim_nature, '、' order by f.claim_nature)
+       filter (where f.claim_nature <> ''),
+       now()
+from claim_filling f
+         join claim c on c.id = f.claim_id and c.deleted = false
+where f.deleted = false
+group by f.claim_id
+on conflict (claim_id) do nothing;
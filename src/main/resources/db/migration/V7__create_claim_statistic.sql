@@ -0,0 +1,91 @@
+-- 债权确认统计快照：随申报详情与确认信息的增删改在同一事务内增量维护，统计接口直接读取
+create table if not exists claim_statistic
+(
+    claim_id                     varchar(255)             not null
+        primary key,
+    filling_count                integer        default 0 not null,
+    unconfirmed_count            integer        default 0 not null,
+    all_confirm_count            integer        default 0 not null,
+    part_confirm_count           integer        default 0 not null,
+    suspend_count                integer        default 0 not null,
+    reject_count                 integer        default 0 not null,
+    confirmed_principal          numeric(19, 2) default 0 not null,
+    confirmed_interest           numeric(19, 2) default 0 not null,
+    confirmed_other              numeric(19, 2) default 0 not null,
+    confirmed_collateral_details text,
+    confirmed_nature             text,
+    deduction_amount             numeric(19, 2) default 0 not null,
+    suspend_principal            numeric(19, 2) default 0 not null,
+    suspend_interest             numeric(19, 2) default 0 not null,
+    suspend_other                numeric(19, 2) default 0 not null,
+    suspend_nature               text,
+    reject_principal             numeric(19, 2) default 0 not null,
+    reject_interest              numeric(19, 2) default 0 not null,
+    reject_other                 numeric(19, 2) default 0 not null,
+    reject_reason                text,
+    update_time                  timestamp(6)             not null
+);
+
+-- 回填已有数据，每笔申报详情取最新的一条确认信息
+insert into claim_statistic (claim_id, filling_count, unconfirmed_count, all_confirm_count,
+                             part_confirm_count, suspend_count, reject_count,
+                             confirmed_principal, confirmed_interest, confirmed_other,
+                             confirmed_collateral_details, confirmed_nature, deduction_amount,
+                             suspend_principal, suspend_interest, suspend_other, suspend_nature,
+                             reject_principal, reject_interest, reject_other, reject_reason,
+                             update_time)
+select c.id,
+       count(f.id),
+       count(f.id) filter (where cf.review_status is null or cf.review_status = 'NOT_CONFIRMED'),
+       count(f.id) filter (where cf.review_status = 'CONFIRM_ALL'),
+       count(f.id) filter (where cf.review_status = 'CONFIRM_PART'),
+       count(f.id) filter (where cf.review_status = 'CONFIRM_SUSPEND'),
+       count(f.id) filter (where cf.review_status = 'CONFIRM_REJECT'),
+       coalesce(sum(coalesce(cf.confirmed_principal, 0))
+                filter (where cf.review_status in ('CONFIRM_ALL', 'CONFIRM_PART')), 0),
+       coalesce(sum(coalesce(cf.confirmed_interest, 0))
+                filter (where cf.review_status in ('CONFIRM_ALL', 'CONFIRM_PART')), 0),
+       coalesce(sum(coalesce(cf.confirmed_other, 0))
+                filter (where cf.review_status in ('CONFIRM_ALL', 'CONFIRM_PART')), 0),
+       string_agg(distinct f.collateral_details, '、' order by f.collateral_details)
+       filter (where cf.review_status in ('CONFIRM_ALL', 'CONFIRM_PART')
+           and f.collateral_details <> ''),
+       string_agg(distinct cf.claim_nature, '、' order by cf.claim_nature)
+       filter (where cf.review_status in ('CONFIRM_ALL', 'CONFIRM_PART')
+           and cf.claim_nature <> ''),
+       coalesce(sum(coalesce(f.claim_principal, 0) + coalesce(f.claim_interest, 0)
+                    + coalesce(f.claim_other, 0)
+           - case
+                 when cf.review_status = 'CONFIRM_PART'
+                     then coalesce(cf.confirmed_principal, 0) + coalesce(cf.confirmed_interest, 0)
+                     + coalesce(cf.confirmed_other, 0)
+                 else 0 end)
+                filter (where cf.review_status in ('CONFIRM_PART', 'CONFIRM_REJECT')), 0),
+       coalesce(sum(coalesce(f.claim_principal, 0))
+                filter (where cf.review_status = 'CONFIRM_SUSPEND'), 0),
+       coalesce(sum(coalesce(f.claim_interest, 0))
+                filter (where cf.review_status = 'CONFIRM_SUSPEND'), 0),
+       coalesce(sum(coalesce(f.claim_other, 0))
+                filter (where cf.review_status = 'CONFIRM_SUSPEND'), 0),
+       string_agg(distinct cf.claim_nature, '、' order by cf.claim_nature)
+       filter (where cf.review_status = 'CONFIRM_SUSPEND' and cf.claim_nature <> ''),
+       coalesce(sum(coalesce(f.claim_principal, 0))
+                filter (where cf.review_status = 'CONFIRM_REJECT'), 0),
+       coalesce(sum(coalesce(f.claim_interest, 0))
+                filter (where cf.review_status = 'CONFIRM_REJECT'), 0),
+       coalesce(sum(coalesce(f.claim_other, 0))
+                filter (where cf.review_status = 'CONFIRM_REJECT'), 0),
+       string_agg(distinct cf.review_reason, '、' order by cf.review_reason)
+       filter (where cf.review_status = 'CONFIRM_REJECT' and cf.review_reason <> ''),
+       now()
+from claim c
+         left join claim_filling f on f.claim_id = c.id and f.deleted = false
+         left join lateral (select *
+                            from claim_confirm x
+                            where x.claim_filling_id = f.id
+                              and x.deleted = false
+                            order by x.update_time desc
+                            limit 1) cf on true
+where c.deleted = false
+group by c.id
+on conflict (claim_id) do nothing;
@@ -0,0 +1,33 @@
+-- 债权人会议表决权重：每个债权一行，随确认信息与债权申报的修改在同一事务内刷新，表决统计直接读取
+create table if not exists claim_vote_weight
+(
+    claim_id         varchar(255)             not null
+        primary key,
+    claim_class      varchar(255)   default '' not null,
+    has_voting_right boolean        default false not null,
+    confirmed_amount numeric(19, 2) default 0 not null,
+    weight           numeric(19, 2) default 0 not null,
+    voting           boolean        default false not null,
+    update_time      timestamp(6)             not null
+);
+
+-- 表决统计只读取有表决权的行，按债权归类分组求和可以只扫描索引
+create index if not exists idx_claim_vote_weight_voting
+    on claim_vote_weight (claim_class) include (weight)
+    where voting;
+
+-- 回填已有数据，权重系数按1计算，调整系数后调用重建接口刷新
+insert into claim_vote_weight (claim_id, claim_class, has_voting_right, confirmed_amount, weight,
+                               voting, update_time)
+select c.id,
+       coalesce(c.claim_category, ''),
+       coalesce(c.has_voting_right, false),
+       coalesce(s.confirmed_principal + s.confirmed_interest + s.confirmed_other, 0),
+       coalesce(s.confirmed_principal + s.confirmed_interest + s.confirmed_other, 0),
+       coalesce(c.has_voting_right, false)
+           and coalesce(s.confirmed_principal + s.confirmed_interest + s.confirmed_other, 0) > 0,
+       now()
+from claim c
+         left join claim_statistic s on s.claim_id = c.id
+where c.deleted = false
+on conflict (claim_id) do nothing;
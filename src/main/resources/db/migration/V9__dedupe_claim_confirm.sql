@@ -0,0 +1,10 @@
+-- 每个申报详情只保留最新的一条未删除确认信息，与详情、统计中取最新一条的规则一致，其余逻辑删除
+update claim_confirm c
+set deleted     = true,
+    update_time = now()
+where c.deleted = false
+  and exists (select 1
+              from claim_confirm x
+              where x.claim_filling_id = c.claim_filling_id
+                and x.deleted = false
+                and (x.update_time, x.id) > (c.update_time, c.id));
@@ -0,0 +1,16 @@
+[title]
+债权审查确认通知书
+[header]
+${recipient}：
+    你（单位）申报的债权（债权编号：${claimNumber}，申报日期：${claimDate}，债权人：${creditorNames}）经管理人审查，现将审查结果通知如下：
+[filling]
+    ${index}. 申报债权性质：${claimNature}；申报金额 ${claimTotal} 元（本金 ${claimPrincipal} 元，利息 ${claimInterest} 元，其他 ${claimOther} 元）；审查结果：${reviewStatus}；确认金额 ${confirmedTotal} 元。${reviewReason}
+[footer]
+    确认债权 ${confirmedCount} 笔，合计 ${confirmedTotal} 元（本金 ${confirmedPrincipal} 元，利息 ${confirmedInterest} 元，其他 ${confirmedOther} 元），确认债权性质：${confirmNature}，削减金额 ${deductionAmount} 元。
+    暂缓确认 ${suspendCount} 笔，合计 ${suspendTotal} 元，暂缓确认性质：${suspendNature}。
+    不予确认 ${rejectCount} 笔，合计 ${rejectTotal} 元，不予确认原因：${rejectReason}。
+    审查状态：${statisticStatus}。
+    如对上述审查结果有异议，请于收到本通知书之日起十五日内向管理人书面提出。
+[signature]
+管理人
+${noticeDate}
@@ -0,0 +1,90 @@
+package com.backend.debt.config.executor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.backend.debt.exceptions.CustomException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/** 渲染许可在任务完成、失败或排队期间被取消时都会释放 */
+class PdfRenderExecutorTest {
+
+  private final PdfRenderExecutor executor = new PdfRenderExecutor(new SimpleMeterRegistry(), 1);
+
+  @AfterEach
+  void tearDown() {
+    executor.shutdown();
+  }
+
+  @Test
+  void cancelledQueuedRendersReleasePermits() throws Exception {
+    CountDownLatch running = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    AtomicBoolean queuedRan = new AtomicBoolean();
+    CompletableFuture<String> blocking =
+        executor.submit(
+            () -> {
+              running.countDown();
+              release.await();
+              return "done";
+            });
+    assertThat(running.await(10, TimeUnit.SECONDS)).isTrue();
+    // 单个渲染线程正忙，该任务在队列中等待
+    CompletableFuture<String> queued =
+        executor.submit(
+            () -> {
+              queuedRan.set(true);
+              return "queued";
+            });
+    assertThat(permits().availablePermits()).isZero();
+
+    queued.cancel(true);
+    release.countDown();
+
+    assertThat(PdfRenderExecutor.join(blocking)).isEqualTo("done");
+    awaitAllPermits();
+    assertThat(queuedRan).isFalse();
+  }
+
+  @Test
+  void failedRendersReleasePermits() throws Exception {
+    CompletableFuture<byte[]> runtimeFailure =
+        executor.submit(
+            () -> {
+              throw new IllegalStateException("render failed");
+            });
+    CompletableFuture<byte[]> checkedFailure =
+        executor.submit(
+            () -> {
+              throw new IOException("font missing");
+            });
+
+    assertThatThrownBy(() -> PdfRenderExecutor.join(runtimeFailure))
+        .isInstanceOf(IllegalStateException.class);
+    assertThatThrownBy(() -> PdfRenderExecutor.join(checkedFailure))
+        .isInstanceOf(CustomException.class);
+    awaitAllPermits();
+  }
+
+  /** 许可在任务完成之后释放，稍作等待 */
+  private void awaitAllPermits() throws InterruptedException {
+    long deadline = System.currentTimeMillis() + 10_000;
+    while (permits().availablePermits() < 2 && System.currentTimeMillis() < deadline) {
+      Thread.sleep(10);
+    }
+    assertThat(permits().availablePermits()).isEqualTo(2);
+  }
+
+  private Semaphore permits() {
+    return (Semaphore) ReflectionTestUtils.getField(executor, "permits");
+  }
+}
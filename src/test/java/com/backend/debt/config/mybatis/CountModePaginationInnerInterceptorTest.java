@@ -0,0 +1,65 @@
+package com.backend.debt.config.mybatis;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.backend.debt.enums.CountMode;
+import com.baomidou.mybatisplus.core.MybatisConfiguration;
+import java.sql.SQLException;
+import java.util.List;
+import org.apache.ibatis.builder.StaticSqlSource;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.SqlCommandType;
+import org.apache.ibatis.session.RowBounds;
+import org.junit.jupiter.api.Test;
+
+/** 估算总数失败退化为精确统计时，按每页条数判断当前页是否超出范围 */
+class CountModePaginationInnerInterceptorTest {
+
+  private static final String SQL = "SELECT id FROM claim";
+
+  @Test
+  void estimatedFallbackKeepsLastPage() throws SQLException {
+    // 共 10 条、每页 2 条时第 5 页是最后一页；按多取一条后的 size 计算只有 4 页
+    CountModePage<Object> page = new CountModePage<>(5, 2, CountMode.ESTIMATED);
+
+    assertThat(willDoQuery(page, 10L)).isTrue();
+    assertThat(page.getTotal()).isEqualTo(10L);
+    assertThat(page.getPages()).isEqualTo(5L);
+  }
+
+  @Test
+  void estimatedFallbackSkipsPageOutOfRange() throws SQLException {
+    CountModePage<Object> page = new CountModePage<>(6, 2, CountMode.ESTIMATED);
+
+    assertThat(willDoQuery(page, 10L)).isFalse();
+  }
+
+  /** EXPLAIN 获取连接失败，COUNT 查询返回 {@code total} */
+  private static boolean willDoQuery(CountModePage<Object> page, long total) throws SQLException {
+    MybatisConfiguration configuration = new MybatisConfiguration();
+    MappedStatement ms =
+        new MappedStatement.Builder(
+                configuration,
+                "claim.selectPage",
+                new StaticSqlSource(configuration, SQL),
+                SqlCommandType.SELECT)
+            .build();
+    Executor executor = mock(Executor.class);
+    when(executor.getTransaction()).thenThrow(new IllegalStateException("no connection"));
+    when(executor.query(any(), any(), any(), any(), any(), any())).thenReturn(List.of(total));
+
+    return new CountModePaginationInnerInterceptor(16, 60_000L)
+        .willDoQuery(
+            executor,
+            ms,
+            page,
+            RowBounds.DEFAULT,
+            Executor.NO_RESULT_HANDLER,
+            new BoundSql(configuration, SQL, List.of(), page));
+  }
+}
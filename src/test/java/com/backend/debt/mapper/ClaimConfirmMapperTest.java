@@ -0,0 +1,114 @@
+package com.backend.debt.mapper;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import com.backend.debt.enums.ReviewStatus;
+import com.backend.debt.model.Money;
+import com.backend.debt.model.entity.ClaimConfirmEntity;
+import com.backend.debt.support.ClaimFixtures;
+import com.backend.debt.support.PostgresIntegrationTest;
+import com.baomidou.mybatisplus.core.toolkit.IdWorker;
+import java.time.LocalDateTime;
+import java.util.List;
+import javax.annotation.Resource;
+import org.junit.jupiter.api.Test;
+
+/** 确认信息的 INSERT ... ON CONFLICT 写入：每个申报详情一条，已有的按版本号条件更新 */
+class ClaimConfirmMapperTest extends PostgresIntegrationTest {
+
+  @Resource private ClaimFixtures claimFixtures;
+  @Resource private ClaimConfirmMapper claimConfirmMapper;
+
+  @Test
+  void upsertInsertsThenUpdatesOnMatchingVersion() {
+    String filling = claimFixtures.insertFilling();
+    ClaimConfirmEntity first = confirm(filling, 1_000);
+
+    assertThat(claimConfirmMapper.upsert(first)).isEqualTo(1);
+    ClaimConfirmEntity inserted = claimConfirmMapper.selectLatestByClaimFillingId(filling);
+    assertThat(inserted.getId()).isEqualTo(first.getId());
+    assertThat(inserted.getVersion()).isZero();
+
+    // 新的ID写入同一申报详情时更新已有的一条
+    ClaimConfirmEntity second = confirm(filling, 2_000);
+    assertThat(claimConfirmMapper.upsert(second)).isEqualTo(1);
+    ClaimConfirmEntity updated = claimConfirmMapper.selectLatestByClaimFillingId(filling);
+    assertThat(updated.getId()).isEqualTo(first.getId());
+    assertThat(updated.getVersion()).isEqualTo(1);
+    assertThat(updated.getConfirmedPrincipal()).isEqualTo(Money.ofCents(2_000));
+    assertThat(claimConfirmMapper.selectCount(ClaimConfirmEntity::getClaimFillingId, filling))
+        .isEqualTo(1);
+  }
+
+  @Test
+  void upsertSkipsStaleVersion() {
+    String filling = claimFixtures.insertFilling();
+    claimConfirmMapper.upsert(confirm(filling, 1_000));
+    claimConfirmMapper.upsert(confirm(filling, 2_000));
+
+    // 读取时的版本号为0，已被更新为1
+    assertThat(claimConfirmMapper.upsert(confirm(filling, 3_000))).isZero();
+
+    ClaimConfirmEntity row = claimConfirmMapper.selectLatestByClaimFillingId(filling);
+    assertThat(row.getVersion()).isEqualTo(1);
+    assertThat(row.getConfirmedPrincipal()).isEqualTo(Money.ofCents(2_000));
+  }
+
+  @Test
+  void upsertBatchCountsOnlyWrittenRows() {
+    String fresh = claimFixtures.insertFilling();
+    String current = claimFixtures.insertFilling();
+    String stale = claimFixtures.insertFilling();
+    claimConfirmMapper.upsert(confirm(current, 1_000));
+    claimConfirmMapper.upsert(confirm(stale, 1_000));
+    claimConfirmMapper.upsert(confirm(stale, 1_000));
+
+    // 三条的版本号都为0，stale 已被更新为1
+    int rows =
+        claimConfirmMapper.upsertBatch(
+            List.of(confirm(fresh, 2_000), confirm(current, 2_000), confirm(stale, 2_000)));
+
+    assertThat(rows).isEqualTo(2);
+    assertThat(
+            claimConfirmMapper.selectLatestByClaimFillingIds(new String[] {fresh, current, stale}))
+        .extracting(ClaimConfirmEntity::getClaimFillingId, ClaimConfirmEntity::getVersion)
+        .containsExactlyInAnyOrder(tuple(fresh, 0), tuple(current, 1), tuple(stale, 1));
+    assertThat(claimConfirmMapper.selectLatestByClaimFillingId(stale).getConfirmedPrincipal())
+        .isEqualTo(Money.ofCents(1_000));
+  }
+
+  @Test
+  void updateByIdWithStaleVersionMatchesNoRow() {
+    String filling = claimFixtures.insertFilling();
+    ClaimConfirmEntity confirm = confirm(filling, 1_000);
+    claimConfirmMapper.upsert(confirm);
+    ClaimConfirmEntity first = claimConfirmMapper.selectById(confirm.getId());
+    ClaimConfirmEntity second = claimConfirmMapper.selectById(confirm.getId());
+
+    assertThat(claimConfirmMapper.updateById(first.setConfirmedPrincipal(Money.ofCents(2_000))))
+        .isEqualTo(1);
+    // 以读取时的版本号0为条件，已被更新为1
+    assertThat(claimConfirmMapper.updateById(second.setConfirmedPrincipal(Money.ofCents(3_000))))
+        .isZero();
+
+    ClaimConfirmEntity row = claimConfirmMapper.selectById(confirm.getId());
+    assertThat(row.getVersion()).isEqualTo(1);
+    assertThat(row.getConfirmedPrincipal()).isEqualTo(Money.ofCents(2_000));
+  }
+
+  /** upsertBatch 不经过自动填充，主键、时间与版本号在这里设置 */
+  private static ClaimConfirmEntity confirm(String claimFillingId, long principalCents) {
+    LocalDateTime now = LocalDateTime.now();
+    ClaimConfirmEntity confirm =
+        new ClaimConfirmEntity()
+            .setClaimFillingId(claimFillingId)
+            .setReviewStatus(ReviewStatus.CONFIRM_PART)
+            .setConfirmedPrincipal(Money.ofCents(principalCents));
+    confirm.setId(IdWorker.get32UUID());
+    confirm.setCreateTime(now);
+    confirm.setUpdateTime(now);
+    confirm.setVersion(0);
+    return confirm;
+  }
+}
@@ -0,0 +1,88 @@
+package com.backend.debt.mapper.copy;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.backend.debt.enums.CountMode;
+import com.backend.debt.mapper.ClaimFillingMapper;
+import com.backend.debt.model.Money;
+import com.backend.debt.model.entity.ClaimFillingEntity;
+import com.backend.debt.model.page.PageParam;
+import com.backend.debt.support.ClaimFixtures;
+import com.backend.debt.support.PostgresIntegrationTest;
+import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import javax.annotation.Resource;
+import org.junit.jupiter.api.Test;
+
+/** COPY 写入的值与实体一致，写入后分页总数缓存失效 */
+class PgCopyInserterTest extends PostgresIntegrationTest {
+
+  /** CSV 和 COPY 文本格式中有特殊含义的字符 */
+  private static final String[] TEXTS = {
+    "制表\t符", "反斜杠\\N 与 \\\\", "换行\n第二行\r\n第三行\r", "引号\"与,逗号", "\\.", "", null,
+  };
+
+  private static final Money[] AMOUNTS = {
+    Money.ofCents(1), Money.ofCents(123_456_789_012_345L), Money.ZERO, null, Money.ofCents(-5),
+  };
+
+  @Resource private ClaimFixtures claimFixtures;
+  @Resource private ClaimFillingMapper claimFillingMapper;
+
+  @Test
+  void copiedRowsRoundTrip() {
+    String claimId = claimFixtures.insertClaim();
+    List<ClaimFillingEntity> fillings = new ArrayList<>();
+    for (int i = 0; i < TEXTS.length; i++) {
+      fillings.add(
+          ClaimFillingEntity.builder()
+              .claimId(claimId)
+              .claimNature(TEXTS[i])
+              .collateralDetails(TEXTS[(i + 1) % TEXTS.length])
+              .claimPrincipal(AMOUNTS[i % AMOUNTS.length])
+              .claimInterest(AMOUNTS[(i + 1) % AMOUNTS.length])
+              .claimOther(AMOUNTS[(i + 2) % AMOUNTS.length])
+              .build());
+    }
+
+    assertThat(claimFillingMapper.copyInsert(fillings)).isEqualTo(fillings.size());
+
+    Map<String, ClaimFillingEntity> stored =
+        claimFillingMapper.selectList(ClaimFillingEntity::getClaimId, claimId).stream()
+            .collect(Collectors.toMap(ClaimFillingEntity::getId, Function.identity()));
+    assertThat(stored).hasSize(fillings.size());
+    for (ClaimFillingEntity filling : fillings) {
+      assertThat(filling.getId()).isNotNull();
+      ClaimFillingEntity row = stored.get(filling.getId());
+      assertThat(row.getClaimNature()).isEqualTo(filling.getClaimNature());
+      assertThat(row.getCollateralDetails()).isEqualTo(filling.getCollateralDetails());
+      assertThat(row.getClaimPrincipal()).isEqualTo(filling.getClaimPrincipal());
+      assertThat(row.getClaimInterest()).isEqualTo(filling.getClaimInterest());
+      assertThat(row.getClaimOther()).isEqualTo(filling.getClaimOther());
+      assertThat(row.getCreateTime()).isNotNull();
+      assertThat(row.getVersion()).isZero();
+      assertThat(row.getDeleted()).isFalse();
+    }
+  }
+
+  @Test
+  void copyInvalidatesCachedCount() {
+    String claimId = claimFixtures.insertClaim();
+    LambdaQueryWrapper<ClaimFillingEntity> query =
+        new LambdaQueryWrapper<ClaimFillingEntity>().eq(ClaimFillingEntity::getClaimId, claimId);
+    PageParam page = new PageParam(1, 10);
+    claimFillingMapper.copyInsert(List.of(ClaimFixtures.filling(claimId)));
+    assertThat(claimFillingMapper.selectPage(page, CountMode.CACHED, query).getTotal())
+        .isEqualTo(1);
+
+    claimFillingMapper.copyInsert(
+        List.of(ClaimFixtures.filling(claimId), ClaimFixtures.filling(claimId)));
+
+    assertThat(claimFillingMapper.selectPage(page, CountMode.CACHED, query).getTotal())
+        .isEqualTo(3);
+  }
+}
@@ -0,0 +1,55 @@
+package com.backend.debt.migration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.backend.debt.support.FlywayMigrationTest;
+import java.sql.SQLException;
+import org.junit.jupiter.api.Test;
+
+/**
+ * V9 去重与 V10 唯一索引：已有重复确认信息的库迁移后，每个申报详情只保留最新的一条未删除确认信息
+ *
+ * <p>在独立的 {@value #MIGRATION_SCHEMA} 模式中先迁移到 V8，写入重复数据后再迁移到最新版本。
+ */
+class ClaimConfirmDedupeMigrationTest extends FlywayMigrationTest {
+
+  @Test
+  void keepsLatestLiveConfirmPerFilling() throws SQLException {
+    flyway("8").migrate();
+    execute(
+        "INSERT INTO claim (id, claim_number, create_time, update_time)"
+            + " VALUES ('c', 'IT-MIGRATION', now(), now())",
+        "INSERT INTO claim_filling (id, claim_id, create_time, update_time)"
+            + " VALUES ('f1', 'c', now(), now()), ('f2', 'c', now(), now()),"
+            + " ('f3', 'c', now(), now())",
+        // f1：更新时间不同，最新的一条已删除
+        confirm("a1", "f1", "2024-01-01", false),
+        confirm("a2", "f1", "2024-01-03", false),
+        confirm("a3", "f1", "2024-01-02", false),
+        confirm("a4", "f1", "2024-01-04", true),
+        // f2：更新时间相同时按ID取较大的一条
+        confirm("b1", "f2", "2024-01-01", false),
+        confirm("b2", "f2", "2024-01-01", false),
+        confirm("c1", "f3", "2024-01-01", false));
+
+    flyway(null).migrate();
+
+    assertThat(query("SELECT id FROM claim_confirm WHERE deleted = false ORDER BY id"))
+        .containsExactly("a2", "b2", "c1");
+    assertThat(query("SELECT id FROM claim_confirm WHERE deleted = true ORDER BY id"))
+        .containsExactly("a1", "a3", "a4", "b1");
+    // 唯一索引已建立，同一申报详情不能再新增未删除的确认信息
+    assertThatThrownBy(() -> execute(confirm("c2", "f3", "2024-01-05", false)))
+        .isInstanceOf(SQLException.class)
+        .hasMessageContaining("uk_claim_confirm_claim_filling_id");
+  }
+
+  private static String confirm(String id, String fillingId, String updateDate, boolean deleted) {
+    return String.format(
+        "INSERT INTO claim_confirm"
+            + " (id, claim_filling_id, review_status, create_time, update_time, deleted)"
+            + " VALUES ('%s', '%s', 'CONFIRM_ALL', '%3$s', '%3$s', %4$s)",
+        id, fillingId, updateDate, deleted);
+  }
+}
@@ -0,0 +1,68 @@
+package com.backend.debt.migration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.backend.debt.support.FlywayMigrationTest;
+import java.sql.SQLException;
+import org.flywaydb.core.api.FlywayException;
+import org.junit.jupiter.api.Test;
+
+/**
+ * V12 重复债权编号检查与 V13 重建唯一索引：存在重复债权编号时迁移报错，V5 创建失败留下的无效索引被重建
+ *
+ * <p>在独立的 {@value #MIGRATION_SCHEMA} 模式中先迁移到 V4，写入重复数据后再继续迁移。
+ */
+class ClaimNumberUniqueIndexMigrationTest extends FlywayMigrationTest {
+
+  @Test
+  void rebuildsIndexLeftInvalidByFailedMigration() throws SQLException {
+    flyway("4").migrate();
+    execute(claim("a", "IT-DUP"), claim("b", "IT-DUP"), claim("c", "IT-OTHER"));
+    // V5 创建唯一索引失败，留下无效的索引
+    assertThatThrownBy(() -> flyway(null).migrate()).isInstanceOf(FlywayException.class);
+    assertThat(query(indexValidity())).containsExactly("f");
+
+    // 处理重复数据后重新执行迁移，V5 因 if not exists 跳过，由 V12、V13 重建
+    execute("UPDATE claim SET deleted = true WHERE id = 'b'");
+    flyway(null).repair();
+    flyway(null).migrate();
+
+    assertThat(query(indexValidity())).containsExactly("t");
+    assertThatThrownBy(() -> execute(claim("d", "IT-OTHER")))
+        .isInstanceOf(SQLException.class)
+        .hasMessageContaining("uk_claim_claim_number");
+  }
+
+  @Test
+  void failsOnLiveDuplicateClaimNumbers() throws SQLException {
+    flyway("11").migrate();
+    execute(
+        "DROP INDEX uk_claim_claim_number",
+        claim("a", "IT-DUP"),
+        claim("b", "IT-DUP"),
+        claim("c", "IT-DELETED"),
+        claim("d", "IT-DELETED"),
+        "UPDATE claim SET deleted = true WHERE id = 'd'");
+
+    assertThatThrownBy(() -> flyway(null).migrate())
+        .isInstanceOf(FlywayException.class)
+        .hasMessageContaining("存在重复的债权编号")
+        .hasMessageContaining("IT-DUP")
+        .hasMessageNotContaining("IT-DELETED");
+  }
+
+  private static String indexValidity() {
+    return "SELECT indisvalid FROM pg_index"
+        + " WHERE indexrelid = to_regclass('"
+        + MIGRATION_SCHEMA
+        + ".uk_claim_claim_number')";
+  }
+
+  private static String claim(String id, String claimNumber) {
+    return String.format(
+        "INSERT INTO claim (id, claim_number, create_time, update_time)"
+            + " VALUES ('%s', '%s', now(), now())",
+        id, claimNumber);
+  }
+}
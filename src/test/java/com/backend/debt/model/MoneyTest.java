@@ -0,0 +1,76 @@
+package com.backend.debt.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.InvalidFormatException;
+import java.math.BigDecimal;
+import org.junit.jupiter.api.Test;
+
+class MoneyTest {
+
+  private final ObjectMapper mapper = new ObjectMapper();
+
+  @Test
+  void ofRoundsHalfUpToCents() {
+    assertThat(Money.of(new BigDecimal("1.005")).getCents()).isEqualTo(101);
+    assertThat(Money.of(new BigDecimal("1.004")).getCents()).isEqualTo(100);
+    assertThat(Money.of(new BigDecimal("-1.005")).getCents()).isEqualTo(-101);
+    assertThat(Money.of(new BigDecimal("12"))).isEqualTo(Money.ofCents(1200));
+    assertThat(Money.of((BigDecimal) null)).isNull();
+  }
+
+  @Test
+  void ofDoubleUsesDecimalLiteral() {
+    // 0.1 + 0.2 的二进制结果为 0.30000000000000004
+    assertThat(Money.of(0.1 + 0.2)).isEqualTo(Money.ofCents(30));
+    assertThat(Money.of(2.675)).isEqualTo(Money.ofCents(268));
+  }
+
+  @Test
+  void arithmeticIsExactInCents() {
+    Money total = Money.ZERO;
+    for (int i = 0; i < 10; i++) {
+      total = total.plus(Money.of(0.1));
+    }
+    assertThat(total).isEqualTo(Money.ofCents(100));
+    assertThat(Money.ofCents(500).minus(Money.ofCents(750))).isEqualTo(Money.ofCents(-250));
+    assertThat(Money.ofCents(500).minus(null)).isEqualTo(Money.ofCents(500));
+    assertThat(Money.ofCents(-1).negate()).isEqualTo(Money.ofCents(1));
+  }
+
+  @Test
+  void sumTreatsNullAsZero() {
+    assertThat(Money.sum(Money.ofCents(100), null, Money.ofCents(23)))
+        .isEqualTo(Money.ofCents(123));
+    assertThat(Money.sum()).isSameAs(Money.ZERO);
+    assertThat(Money.cents(null)).isZero();
+    assertThat(Money.nullToZero(null)).isSameAs(Money.ZERO);
+  }
+
+  @Test
+  void overflowThrows() {
+    Money max = Money.ofCents(Long.MAX_VALUE);
+    assertThatThrownBy(() -> max.plus(Money.ofCents(1))).isInstanceOf(ArithmeticException.class);
+    assertThatThrownBy(() -> Money.sum(max, max)).isInstanceOf(ArithmeticException.class);
+  }
+
+  @Test
+  void toStringKeepsTwoDecimals() {
+    assertThat(Money.ofCents(5)).hasToString("0.05");
+    assertThat(Money.ofCents(-12_345)).hasToString("-123.45");
+    assertThat(Money.ZERO).hasToString("0.00");
+  }
+
+  @Test
+  void jsonRoundTrip() throws Exception {
+    assertThat(mapper.writeValueAsString(Money.ofCents(1050))).isEqualTo("10.50");
+    assertThat(mapper.readValue("10.505", Money.class)).isEqualTo(Money.ofCents(1051));
+    assertThat(mapper.readValue("7", Money.class)).isEqualTo(Money.ofCents(700));
+    assertThat(mapper.readValue("\" 3.2 \"", Money.class)).isEqualTo(Money.ofCents(320));
+    assertThat(mapper.readValue("\"\"", Money.class)).isNull();
+    assertThatThrownBy(() -> mapper.readValue("\"abc\"", Money.class))
+        .isInstanceOf(InvalidFormatException.class);
+  }
+}
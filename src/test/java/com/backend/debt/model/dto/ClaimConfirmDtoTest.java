@@ -0,0 +1,86 @@
+package com.backend.debt.model.dto;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.backend.debt.enums.ReviewStatus;
+import com.backend.debt.model.Money;
+import com.backend.debt.model.entity.ClaimConfirmEntity;
+import com.backend.debt.model.entity.ClaimFillingEntity;
+import org.junit.jupiter.api.Test;
+
+class ClaimConfirmDtoTest {
+
+  /** 申报合计 1000.30 */
+  private static ClaimFillingEntity filling() {
+    return new ClaimFillingEntity()
+        .setId("f1")
+        .setClaimPrincipal(Money.ofCents(90_000))
+        .setClaimInterest(Money.ofCents(10_010))
+        .setClaimOther(Money.ofCents(20));
+  }
+
+  private static ClaimConfirmEntity confirm(ReviewStatus status) {
+    ClaimConfirmEntity entity =
+        new ClaimConfirmEntity().setId("c1").setClaimFillingId("f1").setReviewStatus(status);
+    entity.setVersion(3);
+    return entity;
+  }
+
+  @Test
+  void partConfirmDeductsConfirmedTotalFromClaimTotal() {
+    ClaimConfirmEntity entity =
+        confirm(ReviewStatus.CONFIRM_PART)
+            .setConfirmedPrincipal(Money.ofCents(60_000))
+            .setConfirmedInterest(Money.ofCents(5_005))
+            .setClaimNature("普通债权");
+
+    ClaimConfirmDto dto = ClaimConfirmDto.of(entity, filling());
+
+    assertThat(dto.getDeductionAmount()).isEqualTo(Money.ofCents(35_025));
+    assertThat(dto.getConfirmedTotal()).isEqualTo(Money.ofCents(65_005));
+    assertThat(dto.getClaimNature()).isEqualTo("普通债权");
+    assertThat(dto.getVersion()).isEqualTo(3);
+  }
+
+  @Test
+  void rejectDeductsWholeClaimTotal() {
+    ClaimConfirmDto dto = ClaimConfirmDto.of(confirm(ReviewStatus.CONFIRM_REJECT), filling());
+
+    assertThat(dto.getDeductionAmount()).isEqualTo(Money.ofCents(100_030));
+  }
+
+  @Test
+  void deductionKeepsCentsExact() {
+    ClaimFillingEntity filling =
+        new ClaimFillingEntity()
+            .setClaimPrincipal(Money.of(0.1))
+            .setClaimInterest(Money.of(0.2))
+            .setClaimOther(null);
+    ClaimConfirmEntity entity =
+        confirm(ReviewStatus.CONFIRM_PART).setConfirmedPrincipal(Money.of(0.3));
+
+    assertThat(ClaimConfirmDto.of(entity, filling).getDeductionAmount()).isEqualTo(Money.ZERO);
+  }
+
+  @Test
+  void otherStatusesHaveNoDeduction() {
+    for (ReviewStatus status :
+        new ReviewStatus[] {
+          ReviewStatus.NOT_CONFIRMED, ReviewStatus.CONFIRM_ALL, ReviewStatus.CONFIRM_SUSPEND
+        }) {
+      ClaimConfirmEntity entity = confirm(status).setConfirmedPrincipal(Money.ofCents(1_000));
+
+      assertThat(ClaimConfirmDto.of(entity, filling()).getDeductionAmount())
+          .as(status.name())
+          .isEqualTo(Money.ZERO);
+    }
+  }
+
+  @Test
+  void missingConfirmOrFilling() {
+    assertThat(ClaimConfirmDto.of(null, filling()))
+        .usingRecursiveComparison()
+        .isEqualTo(ClaimConfirmDto.defaultEmpty());
+    assertThat(ClaimConfirmDto.of(confirm(ReviewStatus.CONFIRM_ALL), null)).isNull();
+  }
+}
@@ -0,0 +1,109 @@
+package com.backend.debt.service.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.backend.debt.enums.ClaimType;
+import com.backend.debt.enums.ReviewStatus;
+import com.backend.debt.enums.StatisticStatus;
+import com.backend.debt.model.Money;
+import com.backend.debt.model.dto.AgentDto;
+import com.backend.debt.model.dto.ClaimConfirmDto;
+import com.backend.debt.model.dto.ClaimDetailDto;
+import com.backend.debt.model.dto.ClaimFillingDto;
+import com.backend.debt.model.dto.CreditorDto;
+import com.backend.debt.model.dto.confirm.statistic.ClaimConfirmStatisticDto;
+import com.backend.debt.model.dto.confirm.statistic.SuspendConfirmStatisticDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ClaimReadCacheTest {
+
+  private ClaimReadCache cache;
+
+  @BeforeEach
+  void setUp() {
+    cache = new ClaimReadCache(new SimpleMeterRegistry(), 100, 300);
+  }
+
+  @Test
+  void detailCallersGetIndependentCopies() {
+    AtomicInteger loads = new AtomicInteger();
+    ClaimDetailDto first = cache.getDetail("c1", id -> newDetail(id, loads));
+
+    first.setClaimNumber("changed");
+    first.getClaimTypes().clear();
+    first.getCreditors().get(0).setName("changed");
+    first.getAgent().setName("changed");
+    first.getClaimFillings().get(0).setClaimNature("changed");
+    first.getClaimFillings().get(0).getConfirmedDetail().setReviewStatus(ReviewStatus.CONFIRM_ALL);
+
+    ClaimDetailDto second = cache.getDetail("c1", id -> newDetail(id, loads));
+    assertThat(loads).hasValue(1);
+    assertThat(second).isNotSameAs(first);
+    assertThat(second.getClaimNumber()).isEqualTo("N-1");
+    assertThat(second.getClaimTypes()).containsExactly(ClaimType.MAIL);
+    assertThat(second.getCreditors().get(0).getName()).isEqualTo("债权人");
+    assertThat(second.getAgent().getName()).isEqualTo("代理人");
+    assertThat(second.getClaimFillings().get(0).getClaimNature()).isEqualTo("普通债权");
+    assertThat(second.getClaimFillings().get(0).getConfirmedDetail().getReviewStatus())
+        .isEqualTo(ReviewStatus.NOT_CONFIRMED);
+  }
+
+  @Test
+  void statisticCallersGetIndependentCopies() {
+    ClaimConfirmStatisticDto first = cache.getStatistic("c1", id -> newStatistic());
+
+    first.getStatisticStatus().clear();
+    first.getSuspendConfirmStatistic().setCount(99);
+    first.getSuspendConfirmStatistic().getReviewStatus().clear();
+
+    ClaimConfirmStatisticDto second = cache.getStatistic("c1", id -> newStatistic());
+    assertThat(second.getStatisticStatus()).containsExactly(StatisticStatus.CONFIRM_SUSPEND);
+    assertThat(second.getSuspendConfirmStatistic().getCount()).isEqualTo(1);
+    assertThat(second.getSuspendConfirmStatistic().getReviewStatus())
+        .containsExactly(ReviewStatus.CONFIRM_SUSPEND);
+  }
+
+  @Test
+  void evictReloads() {
+    AtomicInteger loads = new AtomicInteger();
+    cache.getDetail("c1", id -> newDetail(id, loads));
+    cache.evict("c1");
+    cache.getDetail("c1", id -> newDetail(id, loads));
+    assertThat(loads).hasValue(2);
+  }
+
+  private static ClaimDetailDto newDetail(String claimId, AtomicInteger loads) {
+    loads.incrementAndGet();
+    ClaimFillingDto filling = new ClaimFillingDto();
+    filling.setId("f1");
+    filling.setClaimNature("普通债权");
+    filling.setClaimPrincipal(Money.ofCents(10000));
+    filling.setConfirmedDetail(ClaimConfirmDto.defaultEmpty());
+    return ClaimDetailDto.builder()
+        .id(claimId)
+        .claimNumber("N-1")
+        .claimTypes(new ArrayList<>(List.of(ClaimType.MAIL)))
+        .creditors(new ArrayList<>(List.of(CreditorDto.builder().name("债权人").build())))
+        .agent(AgentDto.builder().name("代理人").build())
+        .claimFillings(new ArrayList<>(List.of(filling)))
+        .build();
+  }
+
+  private static ClaimConfirmStatisticDto newStatistic() {
+    SuspendConfirmStatisticDto suspend =
+        new SuspendConfirmStatisticDto(
+            new ArrayList<>(List.of(ReviewStatus.CONFIRM_SUSPEND)),
+            Money.ZERO,
+            Money.ZERO,
+            Money.ZERO,
+            1,
+            "");
+    return new ClaimConfirmStatisticDto(
+        new ArrayList<>(List.of(StatisticStatus.CONFIRM_SUSPEND)), null, null, suspend);
+  }
+}
@@ -0,0 +1,51 @@
+package com.backend.debt.service.export;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.backend.debt.model.Money;
+import com.backend.debt.model.entity.ClaimLedgerRow;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+
+/** CSV 台账：以公式起始字符开头的文本加单引号前缀，金额原样写出 */
+class CsvClaimLedgerWriterTest {
+
+  @Test
+  void escapesFormulaTextButNotAmounts() throws IOException {
+    ClaimLedgerRow row = new ClaimLedgerRow();
+    row.setClaimNumber("=HYPERLINK(\"http://example.com\")");
+    row.setRegistrar("+1");
+    row.setAuditor("-2");
+    row.setClaimCategory("@SUM(A1)");
+    row.setCreditorNames("\t张三");
+    row.setCreditorIdentificationNumbers("\r1");
+    row.setClaimNature("普通债权");
+    row.setFillingId("f");
+    row.setClaimPrincipal(Money.ofCents(-12_345));
+
+    String[] fields = write(row).split(",", -1);
+
+    assertThat(fields[ClaimLedgerColumn.CLAIM_NUMBER.ordinal()])
+        .isEqualTo("\"'=HYPERLINK(\"\"http://example.com\"\")\"");
+    assertThat(fields[ClaimLedgerColumn.REGISTRAR.ordinal()]).isEqualTo("'+1");
+    assertThat(fields[ClaimLedgerColumn.AUDITOR.ordinal()]).isEqualTo("'-2");
+    assertThat(fields[ClaimLedgerColumn.CLAIM_CATEGORY.ordinal()]).isEqualTo("'@SUM(A1)");
+    assertThat(fields[ClaimLedgerColumn.CREDITOR_NAMES.ordinal()]).isEqualTo("'\t张三");
+    assertThat(fields[ClaimLedgerColumn.CREDITOR_IDENTIFICATION_NUMBERS.ordinal()])
+        .isEqualTo("\"'\r1\"");
+    assertThat(fields[ClaimLedgerColumn.CLAIM_NATURE.ordinal()]).isEqualTo("普通债权");
+    assertThat(fields[ClaimLedgerColumn.CLAIM_PRINCIPAL.ordinal()]).isEqualTo("-123.45");
+  }
+
+  /** 写出单行，返回去掉表头后的数据行 */
+  private static String write(ClaimLedgerRow row) throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    CsvClaimLedgerWriter writer = new CsvClaimLedgerWriter(out);
+    writer.write(row);
+    writer.finish();
+    String csv = out.toString(StandardCharsets.UTF_8);
+    return csv.substring(csv.indexOf("\r\n") + 2, csv.length() - 2);
+  }
+}
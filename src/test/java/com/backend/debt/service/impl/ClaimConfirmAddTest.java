@@ -0,0 +1,93 @@
+package com.backend.debt.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.backend.debt.enums.ReviewStatus;
+import com.backend.debt.exceptions.CustomException;
+import com.backend.debt.exceptions.HttpResponseStatus;
+import com.backend.debt.mapper.ClaimConfirmMapper;
+import com.backend.debt.model.Money;
+import com.backend.debt.model.dto.ClaimConfirmDto;
+import com.backend.debt.model.entity.ClaimConfirmEntity;
+import com.backend.debt.model.query.ClaimConfirmQuery;
+import com.backend.debt.service.IClaimConfirmService;
+import com.backend.debt.support.ClaimFixtures;
+import com.backend.debt.support.PostgresIntegrationTest;
+import javax.annotation.Resource;
+import org.junit.jupiter.api.Test;
+
+/** 添加确认信息：没有时新增，已有时合并非空字段更新该条 */
+class ClaimConfirmAddTest extends PostgresIntegrationTest {
+
+  @Resource private IClaimConfirmService claimConfirmService;
+  @Resource private ClaimFixtures claimFixtures;
+  @Resource private ClaimConfirmMapper claimConfirmMapper;
+
+  @Test
+  void addsConfirmWhenAbsent() {
+    String filling = claimFixtures.insertFilling();
+
+    ClaimConfirmDto dto = claimConfirmService.addClaimConfirm(filling, query(4_000, "初审"));
+
+    ClaimConfirmEntity row = claimConfirmMapper.selectLatestByClaimFillingId(filling);
+    assertThat(dto.getId()).isEqualTo(row.getId());
+    assertThat(dto.getVersion()).isZero();
+    assertThat(row.getConfirmedPrincipal()).isEqualTo(Money.ofCents(4_000));
+    assertThat(row.getReviewReason()).isEqualTo("初审");
+  }
+
+  @Test
+  void mergesNonNullFieldsIntoExistingConfirm() {
+    String filling = claimFixtures.insertFilling();
+    ClaimConfirmDto first = claimConfirmService.addClaimConfirm(filling, query(4_000, "初审"));
+
+    ClaimConfirmDto second = claimConfirmService.addClaimConfirm(filling, query(6_000, null));
+
+    assertThat(second.getId()).isEqualTo(first.getId());
+    assertThat(second.getVersion()).isEqualTo(1);
+    assertThat(second.getReviewReason()).isEqualTo("初审");
+    ClaimConfirmEntity row = claimConfirmMapper.selectLatestByClaimFillingId(filling);
+    assertThat(row.getConfirmedPrincipal()).isEqualTo(Money.ofCents(6_000));
+    // 未提交的审查理由保持不变
+    assertThat(row.getReviewReason()).isEqualTo("初审");
+    assertThat(claimConfirmMapper.selectCount(ClaimConfirmEntity::getClaimFillingId, filling))
+        .isEqualTo(1);
+  }
+
+  @Test
+  void validatesMergedConfirmOnStatusSwitch() {
+    String filling = claimFixtures.insertFilling();
+    claimConfirmService.addClaimConfirm(filling, query(4_000, "初审"));
+
+    // 改为拒绝确认而未提交金额，合并后仍保留原有的确认本金
+    ClaimConfirmQuery reject = new ClaimConfirmQuery();
+    reject.setReviewStatus(ReviewStatus.CONFIRM_REJECT);
+    assertThatThrownBy(() -> claimConfirmService.addClaimConfirm(filling, reject))
+        .isInstanceOfSatisfying(
+            CustomException.class,
+            e -> {
+              assertThat(e.getCode()).isEqualTo(HttpResponseStatus.BAD_REQUEST.code());
+              assertThat(e.getMessage()).isEqualTo("拒绝确认时，债权确认金额必须为0或为NULL");
+            });
+    ClaimConfirmEntity unchanged = claimConfirmMapper.selectLatestByClaimFillingId(filling);
+    assertThat(unchanged.getReviewStatus()).isEqualTo(ReviewStatus.CONFIRM_PART);
+    assertThat(unchanged.getVersion()).isZero();
+
+    reject.setConfirmedPrincipal(Money.ZERO);
+    ClaimConfirmDto rejected = claimConfirmService.addClaimConfirm(filling, reject);
+
+    assertThat(rejected.getReviewStatus()).isEqualTo(ReviewStatus.CONFIRM_REJECT);
+    assertThat(rejected.getConfirmedPrincipal()).isEqualTo(Money.ZERO);
+    assertThat(claimConfirmMapper.selectLatestByClaimFillingId(filling).getConfirmedPrincipal())
+        .isEqualTo(Money.ZERO);
+  }
+
+  private static ClaimConfirmQuery query(long principalCents, String reviewReason) {
+    ClaimConfirmQuery query = new ClaimConfirmQuery();
+    query.setReviewStatus(ReviewStatus.CONFIRM_PART);
+    query.setConfirmedPrincipal(Money.ofCents(principalCents));
+    query.setReviewReason(reviewReason);
+    return query;
+  }
+}
@@ -0,0 +1,180 @@
+package com.backend.debt.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import com.backend.debt.enums.ReviewStatus;
+import com.backend.debt.mapper.ClaimConfirmMapper;
+import com.backend.debt.mapper.ClaimFillingMapper;
+import com.backend.debt.mapper.ClaimMapper;
+import com.backend.debt.model.Money;
+import com.backend.debt.model.dto.ClaimConfirmDto;
+import com.backend.debt.model.dto.confirm.ClaimConfirmBatchErrorDto;
+import com.backend.debt.model.dto.confirm.ClaimConfirmBatchResultDto;
+import com.backend.debt.model.entity.ClaimConfirmEntity;
+import com.backend.debt.model.query.ClaimConfirmBatchQuery;
+import com.backend.debt.service.IClaimConfirmService;
+import com.backend.debt.support.ClaimFixtures;
+import com.backend.debt.support.PostgresIntegrationTest;
+import java.util.List;
+import java.util.UUID;
+import javax.annotation.Resource;
+import org.junit.jupiter.api.Test;
+
+/** 批量审查确认：逐条校验，未通过的记为该条的错误，其余照常写入 */
+class ClaimConfirmBatchTest extends PostgresIntegrationTest {
+
+  private static final String STALE_ERROR = "债权确认记录已被其他用户修改，请刷新后重试";
+
+  @Resource private IClaimConfirmService claimConfirmService;
+  @Resource private ClaimFixtures claimFixtures;
+  @Resource private ClaimMapper claimMapper;
+  @Resource private ClaimFillingMapper claimFillingMapper;
+  @Resource private ClaimConfirmMapper claimConfirmMapper;
+
+  @Test
+  void perItemErrorsDoNotBlockValidItems() {
+    String claimId = claimFixtures.insertClaim();
+    String added = claimFixtures.insertFilling(claimId);
+    String invalid = claimFixtures.insertFilling(claimId);
+    String stale = claimFixtures.insertFilling(claimId);
+    String updated = claimFixtures.insertFilling(claimId);
+    String deletedClaimFilling = claimFixtures.insertFilling();
+    ClaimConfirmEntity staleConfirm = insertConfirm(stale);
+    ClaimConfirmEntity updatedConfirm = insertConfirm(updated);
+    claimMapper.deleteById(claimFillingMapper.selectById(deletedClaimFilling).getClaimId());
+
+    ClaimConfirmBatchResultDto result =
+        claimConfirmService.saveClaimConfirms(
+            List.of(
+                item(added, ReviewStatus.CONFIRM_PART, 6_000, null),
+                item(added, ReviewStatus.CONFIRM_PART, 5_000, null),
+                item("missing-" + UUID.randomUUID(), ReviewStatus.CONFIRM_PART, 1, null),
+                item(invalid, ReviewStatus.CONFIRM_PART, 10_001, null),
+                item(stale, ReviewStatus.CONFIRM_PART, 1, staleConfirm.getVersion() + 1),
+                item(updated, ReviewStatus.CONFIRM_PART, 7_000, updatedConfirm.getVersion()),
+                item(deletedClaimFilling, ReviewStatus.CONFIRM_PART, 1, null)));
+
+    assertThat(result.getTotal()).isEqualTo(7);
+    assertThat(result.getAdded()).isEqualTo(1);
+    assertThat(result.getUpdated()).isEqualTo(1);
+    assertThat(result.getErrors())
+        .extracting(ClaimConfirmBatchErrorDto::getIndex, ClaimConfirmBatchErrorDto::getMessage)
+        .containsExactly(
+            tuple(1, "同一债权详情重复提交"),
+            tuple(2, "债权详情记录不存在"),
+            tuple(3, "债权确认金额超过申报金额"),
+            tuple(4, STALE_ERROR),
+            tuple(6, "债权详情记录不存在"));
+    assertThat(result.getConfirms())
+        .extracting(ClaimConfirmDto::getClaimFillingId, ClaimConfirmDto::getConfirmedPrincipal)
+        .containsExactly(tuple(added, Money.ofCents(6_000)), tuple(updated, Money.ofCents(7_000)));
+
+    // 同一申报详情以第一条为准
+    assertThat(latestConfirm(added).getConfirmedPrincipal()).isEqualTo(Money.ofCents(6_000));
+    assertThat(latestConfirm(invalid)).isNull();
+    assertThat(latestConfirm(deletedClaimFilling)).isNull();
+    // 版本号不一致的确认信息未被修改
+    ClaimConfirmEntity staleRow = latestConfirm(stale);
+    assertThat(staleRow.getVersion()).isEqualTo(staleConfirm.getVersion());
+    assertThat(staleRow.getReviewStatus()).isEqualTo(ReviewStatus.CONFIRM_ALL);
+    // 已有确认信息合并更新，版本号加一，未提交的字段保持不变
+    ClaimConfirmEntity updatedRow = latestConfirm(updated);
+    assertThat(updatedRow.getId()).isEqualTo(updatedConfirm.getId());
+    assertThat(updatedRow.getVersion()).isEqualTo(updatedConfirm.getVersion() + 1);
+    assertThat(updatedRow.getConfirmedPrincipal()).isEqualTo(Money.ofCents(7_000));
+    assertThat(updatedRow.getReviewReason()).isEqualTo("初审");
+  }
+
+  @Test
+  void itemWithoutVersionUpdatesExistingConfirm() {
+    String filling = claimFixtures.insertFilling();
+    ClaimConfirmEntity confirm = insertConfirm(filling);
+
+    ClaimConfirmBatchResultDto result =
+        claimConfirmService.saveClaimConfirms(
+            List.of(item(filling, ReviewStatus.CONFIRM_REJECT, 0, null)));
+
+    assertThat(result.getErrors()).isEmpty();
+    assertThat(result.getAdded()).isZero();
+    assertThat(result.getUpdated()).isEqualTo(1);
+    assertThat(result.getConfirms())
+        .singleElement()
+        .satisfies(
+            dto -> {
+              assertThat(dto.getId()).isEqualTo(confirm.getId());
+              assertThat(dto.getVersion()).isEqualTo(confirm.getVersion() + 1);
+            });
+    assertThat(latestConfirm(filling).getReviewStatus()).isEqualTo(ReviewStatus.CONFIRM_REJECT);
+  }
+
+  @Test
+  void allItemsFailingWritesNothing() {
+    String filling = claimFixtures.insertFilling();
+
+    ClaimConfirmBatchResultDto result =
+        claimConfirmService.saveClaimConfirms(
+            List.of(item(filling, ReviewStatus.CONFIRM_ALL, 1, null)));
+
+    assertThat(result.getAdded()).isZero();
+    assertThat(result.getUpdated()).isZero();
+    assertThat(result.getConfirms()).isEmpty();
+    assertThat(result.getErrors())
+        .extracting(ClaimConfirmBatchErrorDto::getMessage)
+        .containsExactly("确认状态为全部确认，债权确认本金金额不匹配");
+    assertThat(latestConfirm(filling)).isNull();
+  }
+
+  @Test
+  void statusSwitchValidatesMergedConfirm() {
+    String claimId = claimFixtures.insertClaim();
+    String omitted = claimFixtures.insertFilling(claimId);
+    String zeroed = claimFixtures.insertFilling(claimId);
+    insertConfirm(omitted);
+    insertConfirm(zeroed);
+    // 未提交金额时合并后保留原有的确认本金，不能改为拒绝确认
+    ClaimConfirmBatchQuery.Item reject = new ClaimConfirmBatchQuery.Item();
+    reject.setClaimFillingId(omitted);
+    reject.setReviewStatus(ReviewStatus.CONFIRM_REJECT);
+
+    ClaimConfirmBatchResultDto result =
+        claimConfirmService.saveClaimConfirms(
+            List.of(reject, item(zeroed, ReviewStatus.CONFIRM_SUSPEND, 0, null)));
+
+    assertThat(result.getErrors())
+        .extracting(ClaimConfirmBatchErrorDto::getIndex, ClaimConfirmBatchErrorDto::getMessage)
+        .containsExactly(tuple(0, "拒绝确认时，债权确认金额必须为0或为NULL"));
+    assertThat(result.getUpdated()).isEqualTo(1);
+    ClaimConfirmEntity omittedRow = latestConfirm(omitted);
+    assertThat(omittedRow.getReviewStatus()).isEqualTo(ReviewStatus.CONFIRM_ALL);
+    assertThat(omittedRow.getConfirmedPrincipal()).isEqualTo(Money.ofCents(10_000));
+    ClaimConfirmEntity zeroedRow = latestConfirm(zeroed);
+    assertThat(zeroedRow.getReviewStatus()).isEqualTo(ReviewStatus.CONFIRM_SUSPEND);
+    assertThat(zeroedRow.getConfirmedPrincipal()).isEqualTo(Money.ZERO);
+  }
+
+  private ClaimConfirmEntity insertConfirm(String claimFillingId) {
+    ClaimConfirmEntity confirm =
+        new ClaimConfirmEntity()
+            .setClaimFillingId(claimFillingId)
+            .setReviewStatus(ReviewStatus.CONFIRM_ALL)
+            .setConfirmedPrincipal(Money.ofCents(10_000))
+            .setReviewReason("初审");
+    claimConfirmMapper.insert(confirm);
+    return claimConfirmMapper.selectById(confirm.getId());
+  }
+
+  private ClaimConfirmEntity latestConfirm(String claimFillingId) {
+    return claimConfirmMapper.selectLatestByClaimFillingId(claimFillingId);
+  }
+
+  private static ClaimConfirmBatchQuery.Item item(
+      String claimFillingId, ReviewStatus reviewStatus, long principalCents, Integer version) {
+    ClaimConfirmBatchQuery.Item item = new ClaimConfirmBatchQuery.Item();
+    item.setClaimFillingId(claimFillingId);
+    item.setReviewStatus(reviewStatus);
+    item.setConfirmedPrincipal(Money.ofCents(principalCents));
+    item.setVersion(version);
+    return item;
+  }
+}
@@ -0,0 +1,67 @@
+package com.backend.debt.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.backend.debt.enums.ReviewStatus;
+import com.backend.debt.mapper.ClaimConfirmMapper;
+import com.backend.debt.mapper.ClaimFillingMapper;
+import com.backend.debt.mapper.ClaimMapper;
+import com.backend.debt.mapper.CreditorMapper;
+import com.backend.debt.model.entity.ClaimConfirmEntity;
+import com.backend.debt.model.entity.ClaimFillingEntity;
+import com.backend.debt.model.entity.CreditorEntity;
+import com.backend.debt.service.IClaimService;
+import com.backend.debt.support.ClaimFixtures;
+import com.backend.debt.support.PostgresIntegrationTest;
+import java.util.List;
+import java.util.UUID;
+import javax.annotation.Resource;
+import org.junit.jupiter.api.Test;
+
+/** 批量删除债权：先锁定未删除的债权，再按锁定的ID删除债权及其关联记录 */
+class ClaimDeleteTest extends PostgresIntegrationTest {
+
+  @Resource private IClaimService claimService;
+  @Resource private ClaimMapper claimMapper;
+  @Resource private CreditorMapper creditorMapper;
+  @Resource private ClaimFillingMapper claimFillingMapper;
+  @Resource private ClaimConfirmMapper claimConfirmMapper;
+  @Resource private ClaimFixtures claimFixtures;
+
+  @Test
+  void deletesLiveClaimsWithRelatedRecords() {
+    String first = insertClaimWithRelations();
+    String second = insertClaimWithRelations();
+    String kept = insertClaimWithRelations();
+
+    int removed =
+        claimService.deleteClaims(List.of(first, second, first, "missing-" + UUID.randomUUID()));
+
+    assertThat(removed).isEqualTo(2);
+    for (String claimId : List.of(first, second)) {
+      assertThat(claimMapper.selectById(claimId)).isNull();
+      assertThat(creditorMapper.selectCount(CreditorEntity::getClaimId, claimId)).isZero();
+      assertThat(claimFillingMapper.selectCount(ClaimFillingEntity::getClaimId, claimId)).isZero();
+    }
+    assertThat(claimMapper.selectById(kept)).isNotNull();
+    assertThat(claimFillingMapper.selectCount(ClaimFillingEntity::getClaimId, kept)).isEqualTo(1);
+
+    // 已删除的债权跳过
+    assertThat(claimService.deleteClaims(List.of(first, second))).isZero();
+  }
+
+  private String insertClaimWithRelations() {
+    String claimId = claimFixtures.insertClaim();
+    creditorMapper.insert(
+        CreditorEntity.builder()
+            .claimId(claimId)
+            .name("债权人")
+            .identificationNumber(UUID.randomUUID().toString())
+            .build());
+    claimConfirmMapper.insert(
+        new ClaimConfirmEntity()
+            .setClaimFillingId(claimFixtures.insertFilling(claimId))
+            .setReviewStatus(ReviewStatus.CONFIRM_ALL));
+    return claimId;
+  }
+}
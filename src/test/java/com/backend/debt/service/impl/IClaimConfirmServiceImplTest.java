@@ -0,0 +1,116 @@
+package com.backend.debt.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.backend.debt.enums.ReviewStatus;
+import com.backend.debt.exceptions.CustomException;
+import com.backend.debt.exceptions.HttpResponseStatus;
+import com.backend.debt.mapper.ClaimConfirmMapper;
+import com.backend.debt.model.Money;
+import com.backend.debt.model.entity.ClaimConfirmEntity;
+import com.backend.debt.model.entity.ClaimFillingEntity;
+import com.backend.debt.model.query.ClaimConfirmQuery;
+import com.backend.debt.service.IClaimFillingService;
+import com.backend.debt.service.IClaimService;
+import com.backend.debt.service.IClaimStatisticService;
+import com.backend.debt.service.cache.ClaimReadCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/** 确认信息的并发写入冲突：条件更新或写入的影响行数为0时返回 409，不更新统计快照与缓存 */
+class IClaimConfirmServiceImplTest {
+
+  private static final String CONFIRM_ID = "confirm-1";
+
+  private static final String FILLING_ID = "filling-1";
+
+  private ClaimConfirmMapper claimConfirmMapper;
+  private IClaimStatisticService claimStatisticService;
+  private ClaimReadCache claimReadCache;
+  private IClaimConfirmServiceImpl service;
+
+  @BeforeEach
+  void setUp() {
+    claimConfirmMapper = mock(ClaimConfirmMapper.class);
+    IClaimFillingService claimFillingService = mock(IClaimFillingService.class);
+    claimStatisticService = mock(IClaimStatisticService.class);
+    claimReadCache = mock(ClaimReadCache.class);
+    ClaimFillingEntity filling =
+        ClaimFillingEntity.builder()
+            .claimId("claim-1")
+            .claimPrincipal(Money.ofCents(10_000))
+            .build();
+    filling.setId(FILLING_ID);
+    when(claimFillingService.lockAndGet(FILLING_ID)).thenReturn(filling);
+    when(claimFillingService.validateAndGet(FILLING_ID)).thenReturn(filling);
+    // 每次读取返回新的实例，与数据库读取一致
+    when(claimConfirmMapper.selectById(CONFIRM_ID)).thenAnswer(invocation -> storedConfirm());
+
+    service = new IClaimConfirmServiceImpl();
+    ReflectionTestUtils.setField(service, "claimConfirmMapper", claimConfirmMapper);
+    ReflectionTestUtils.setField(service, "claimFillingService", claimFillingService);
+    ReflectionTestUtils.setField(service, "claimService", mock(IClaimService.class));
+    ReflectionTestUtils.setField(service, "claimStatisticService", claimStatisticService);
+    ReflectionTestUtils.setField(service, "claimReadCache", claimReadCache);
+  }
+
+  @Test
+  void updateMatchingNoRowConflicts() {
+    when(claimConfirmMapper.updateById(any(ClaimConfirmEntity.class))).thenReturn(0);
+
+    assertThatThrownBy(() -> service.updateClaimConfirm(CONFIRM_ID, query(), 2))
+        .isInstanceOfSatisfying(
+            CustomException.class,
+            e -> assertThat(e.getCode()).isEqualTo(HttpResponseStatus.CONFLICT.code()));
+    verifyNoInteractions(claimStatisticService, claimReadCache);
+  }
+
+  @Test
+  void updateWithStaleIfMatchFailsBeforeWriting() {
+    assertThatThrownBy(() -> service.updateClaimConfirm(CONFIRM_ID, query(), 1))
+        .isInstanceOfSatisfying(
+            CustomException.class,
+            e -> assertThat(e.getCode()).isEqualTo(HttpResponseStatus.PRECONDITION_FAILED.code()));
+    verify(claimConfirmMapper, never()).updateById(any(ClaimConfirmEntity.class));
+  }
+
+  @Test
+  void addSkippedByUpsertConflicts() {
+    when(claimConfirmMapper.upsert(any())).thenReturn(0);
+
+    assertThatThrownBy(() -> service.addClaimConfirm(FILLING_ID, query()))
+        .isInstanceOfSatisfying(
+            CustomException.class,
+            e -> assertThat(e.getCode()).isEqualTo(HttpResponseStatus.CONFLICT.code()));
+    // 只有写入前的读取，未写入时不再重新读取
+    verify(claimConfirmMapper, times(1)).selectLatestByClaimFillingId(FILLING_ID);
+    verifyNoInteractions(claimStatisticService, claimReadCache);
+  }
+
+  private static ClaimConfirmEntity storedConfirm() {
+    ClaimConfirmEntity confirm =
+        new ClaimConfirmEntity()
+            .setClaimFillingId(FILLING_ID)
+            .setReviewStatus(ReviewStatus.CONFIRM_ALL)
+            .setConfirmedPrincipal(Money.ofCents(10_000));
+    confirm.setId(CONFIRM_ID);
+    confirm.setVersion(2);
+    return confirm;
+  }
+
+  private static ClaimConfirmQuery query() {
+    ClaimConfirmQuery query = new ClaimConfirmQuery();
+    query.setReviewStatus(ReviewStatus.CONFIRM_PART);
+    query.setConfirmedPrincipal(Money.ofCents(5_000));
+    return query;
+  }
+}
@@ -0,0 +1,302 @@
+package com.backend.debt.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.backend.debt.config.executor.ClaimImportExecutor;
+import com.backend.debt.mapper.ClaimMapper;
+import com.backend.debt.model.dto.importer.ClaimImportErrorDto;
+import com.backend.debt.model.dto.importer.ClaimImportResultDto;
+import com.backend.debt.service.importer.ClaimImportGroup;
+import com.backend.debt.service.importer.ClaimImportWriter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * 导入流水线的测试
+ *
+ * <p>使用真实的执行器和解析器，写入和判重查询以 mock 代替，只校验流水线本身：有界队列的背压、行级错误的汇总和写入阶段异常时的中止。
+ */
+class IClaimImportServiceImplTest {
+
+  private static final String HEADER = "债权编号,申报日期,申报本金\n";
+
+  private static final int QUEUE_CAPACITY = 4;
+
+  private static final int BATCH_SIZE = 2;
+
+  private ClaimImportExecutor executor;
+  private ClaimImportWriter writer;
+  private ClaimMapper claimMapper;
+  private IClaimImportServiceImpl service;
+
+  /** 经过判重查询的债权编号个数，即已完成校验的债权数 */
+  private final AtomicInteger validated = new AtomicInteger();
+
+  @BeforeEach
+  void setUp() {
+    // 单个校验线程，债权按文件顺序到达写入阶段
+    executor = new ClaimImportExecutor(new SimpleMeterRegistry(), 1);
+    writer = mock(ClaimImportWriter.class);
+    claimMapper = mock(ClaimMapper.class);
+    when(claimMapper.selectExistingClaimNumbers(any()))
+        .thenAnswer(
+            invocation -> {
+              String[] claimNumbers = invocation.getArgument(0);
+              validated.addAndGet(claimNumbers.length);
+              return List.of();
+            });
+    when(writer.write(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+    service = new IClaimImportServiceImpl();
+    ReflectionTestUtils.setField(service, "claimImportExecutor", executor);
+    ReflectionTestUtils.setField(service, "claimImportWriter", writer);
+    ReflectionTestUtils.setField(service, "claimMapper", claimMapper);
+    ReflectionTestUtils.setField(service, "queueCapacity", QUEUE_CAPACITY);
+    ReflectionTestUtils.setField(service, "batchSize", BATCH_SIZE);
+    ReflectionTestUtils.setField(service, "maxErrors", 100);
+  }
+
+  @AfterEach
+  void tearDown() {
+    executor.shutdown();
+  }
+
+  @Test
+  void importsAllClaimsInBatches() {
+    List<Integer> batchSizes = new ArrayList<>();
+    doAnswer(
+            invocation -> {
+              List<ClaimImportGroup> batch = invocation.getArgument(0);
+              batchSizes.add(batch.size());
+              return batch;
+            })
+        .when(writer)
+        .write(any());
+
+    ClaimImportResultDto result = service.importClaims(csv(claims(101)));
+
+    assertThat(result.getCompleted()).isTrue();
+    assertThat(result.getTotalRows()).isEqualTo(101);
+    assertThat(result.getTotalClaims()).isEqualTo(101);
+    assertThat(result.getImportedClaims()).isEqualTo(101);
+    assertThat(result.getImportedFillings()).isEqualTo(101);
+    assertThat(result.getFailedClaims()).isZero();
+    assertThat(result.getErrors()).isEmpty();
+    assertThat(batchSizes).allMatch(size -> size <= BATCH_SIZE);
+    assertThat(batchSizes.stream().mapToInt(Integer::intValue).sum()).isEqualTo(101);
+  }
+
+  @Test
+  void rowErrorsAreReportedPerRow() {
+    doAnswer(
+            invocation ->
+                Arrays.stream((String[]) invocation.getArgument(0)).filter("E"::equals).toList())
+        .when(claimMapper)
+        .selectExistingClaimNumbers(any());
+    // 债权编号 F 在校验之后被其他请求占用
+    doAnswer(
+            invocation -> {
+              List<ClaimImportGroup> batch = invocation.getArgument(0);
+              List<ClaimImportGroup> written = new ArrayList<>();
+              for (ClaimImportGroup group : batch) {
+                if ("F".equals(group.getClaimNumber())) {
+                  group.addError("债权编号已存在：F");
+                } else {
+                  written.add(group);
+                }
+              }
+              return written;
+            })
+        .when(writer)
+        .write(any());
+
+    String content =
+        String.join(
+            "\n",
+            ",2024-01-01,1",
+            "A,2024-13-01,1",
+            "B,2024-01-01,-1",
+            "C,2024-01-01,1",
+            "D,2024-01-01,1",
+            "C,2024-01-01,1",
+            "E,2024-01-01,1",
+            "F,2024-01-01,1",
+            "G,2024-01-01,1",
+            "G,2024-01-01,abc");
+    ClaimImportResultDto result = service.importClaims(csv(content));
+
+    assertThat(result.getCompleted()).isTrue();
+    assertThat(result.getTotalRows()).isEqualTo(10);
+    assertThat(result.getTotalClaims()).isEqualTo(9);
+    assertThat(result.getImportedClaims()).isEqualTo(2);
+    assertThat(result.getFailedClaims()).isEqualTo(7);
+    assertThat(result.getErrorRows()).isEqualTo(7);
+    assertThat(result.getErrorsTruncated()).isFalse();
+    assertThat(result.getErrors())
+        .extracting(ClaimImportErrorDto::getRowNumber, ClaimImportErrorDto::getClaimNumber)
+        .containsExactlyInAnyOrder(
+            tuple(2, null),
+            tuple(3, "A"),
+            tuple(4, "B"),
+            tuple(7, "C"),
+            tuple(8, "E"),
+            tuple(9, "F"),
+            tuple(11, "G"));
+    assertThat(result.getErrors())
+        .filteredOn(error -> error.getRowNumber() == 11)
+        .extracting(ClaimImportErrorDto::getMessage)
+        .containsExactly("申报本金格式不正确：abc");
+  }
+
+  @Test
+  void errorReportIsTruncated() {
+    ReflectionTestUtils.setField(service, "maxErrors", 3);
+    StringBuilder content = new StringBuilder();
+    for (int i = 0; i < 10; i++) {
+      content.append("N").append(i).append(",bad-date,1\n");
+    }
+
+    ClaimImportResultDto result = service.importClaims(csv(content.toString()));
+
+    assertThat(result.getErrorRows()).isEqualTo(10);
+    assertThat(result.getErrors()).hasSize(3);
+    assertThat(result.getErrorsTruncated()).isTrue();
+  }
+
+  @Test
+  void missingRequiredColumnFailsParse() {
+    ClaimImportResultDto result =
+        service.importClaims(
+            new MockMultipartFile(
+                "file",
+                "claims.csv",
+                "text/csv",
+                "债权编号,申报本金\nA,1\n".getBytes(StandardCharsets.UTF_8)));
+
+    assertThat(result.getCompleted()).isFalse();
+    assertThat(result.getImportedClaims()).isZero();
+    assertThat(result.getErrors())
+        .singleElement()
+        .satisfies(
+            error -> {
+              assertThat(error.getRowNumber()).isNull();
+              assertThat(error.getMessage()).contains("申报日期");
+            });
+  }
+
+  @Test
+  void queuesBoundClaimsAheadOfTheWriter() throws Exception {
+    CountDownLatch writing = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    doAnswer(
+            invocation -> {
+              writing.countDown();
+              release.await();
+              return invocation.getArgument(0);
+            })
+        .when(writer)
+        .write(any());
+
+    CompletableFuture<ClaimImportResultDto> future =
+        CompletableFuture.supplyAsync(() -> service.importClaims(csv(claims(1000))));
+    assertThat(writing.await(10, TimeUnit.SECONDS)).isTrue();
+    // 写入阻塞时，已校验的债权只有写入中的一批、写入队列中的债权和校验线程手中的一批（取出一个再取空解析队列）
+    Thread.sleep(300);
+    assertThat(validated.get())
+        .isLessThanOrEqualTo(BATCH_SIZE + QUEUE_CAPACITY + (1 + QUEUE_CAPACITY));
+
+    release.countDown();
+    ClaimImportResultDto result = future.get(30, TimeUnit.SECONDS);
+    assertThat(result.getImportedClaims()).isEqualTo(1000);
+    assertThat(validated).hasValue(1000);
+  }
+
+  @Test
+  void writerFailureAbortsUpstreamStages() throws Exception {
+    doAnswer(
+            invocation -> {
+              throw new WriterCrash();
+            })
+        .when(writer)
+        .write(any());
+
+    assertThatThrownBy(() -> service.importClaims(csv(claims(1000))))
+        .isInstanceOf(WriterCrash.class);
+    // 中止时正在校验的一批可能刚刚完成，之后不再有新的校验
+    Thread.sleep(300);
+    int validatedAfterAbort = validated.get();
+    Thread.sleep(300);
+    assertThat(validated.get()).isEqualTo(validatedAfterAbort).isLessThan(1000);
+
+    // 导入锁已释放，上游线程已退出，下一次导入可以正常执行
+    doAnswer(invocation -> invocation.getArgument(0)).when(writer).write(any());
+    ClaimImportResultDto result =
+        assertTimeoutPreemptively(
+            Duration.ofSeconds(10), () -> service.importClaims(csv(claims(10))));
+    assertThat(result.getImportedClaims()).isEqualTo(10);
+  }
+
+  @Test
+  void concurrentImportIsRejected() throws Exception {
+    CountDownLatch locked = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    // 导入锁可重入，由另一个线程持有
+    Thread holder =
+        new Thread(
+            () -> {
+              executor.tryLock();
+              locked.countDown();
+              try {
+                release.await();
+              } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+              } finally {
+                executor.unlock();
+              }
+            });
+    holder.start();
+    try {
+      assertThat(locked.await(10, TimeUnit.SECONDS)).isTrue();
+      assertThatThrownBy(() -> service.importClaims(csv(claims(1)))).hasMessage("已有导入正在执行，请稍后重试");
+    } finally {
+      release.countDown();
+      holder.join();
+    }
+  }
+
+  private static String claims(int count) {
+    StringBuilder content = new StringBuilder();
+    for (int i = 0; i < count; i++) {
+      content.append(String.format("N%05d,2024-01-01,%d%n", i, i + 1));
+    }
+    return content.toString();
+  }
+
+  private static MockMultipartFile csv(String rows) {
+    return new MockMultipartFile(
+        "file", "claims.csv", "text/csv", (HEADER + rows).getBytes(StandardCharsets.UTF_8));
+  }
+
+  /** 写入阶段的非预期错误，不会被写入阶段按批捕获 */
+  private static class WriterCrash extends Error {}
+}
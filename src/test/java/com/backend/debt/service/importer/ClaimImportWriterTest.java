@@ -0,0 +1,79 @@
+package com.backend.debt.service.importer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.backend.debt.mapper.ClaimFillingMapper;
+import com.backend.debt.mapper.ClaimMapper;
+import com.backend.debt.model.Money;
+import com.backend.debt.model.entity.ClaimEntity;
+import com.backend.debt.model.entity.ClaimFillingEntity;
+import com.backend.debt.support.PostgresIntegrationTest;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import javax.annotation.Resource;
+import org.junit.jupiter.api.Test;
+
+/** 导入债权的批量写入：多行 INSERT 判重后，只写入实际插入的债权的申报详情 */
+class ClaimImportWriterTest extends PostgresIntegrationTest {
+
+  @Resource private ClaimImportWriter claimImportWriter;
+  @Resource private ClaimMapper claimMapper;
+  @Resource private ClaimFillingMapper claimFillingMapper;
+
+  @Test
+  void writesAllClaimsWithoutConflict() {
+    List<ClaimImportGroup> groups = List.of(group(newClaimNumber()), group(newClaimNumber()));
+
+    List<ClaimImportGroup> written = claimImportWriter.write(groups);
+
+    assertThat(written).containsExactlyElementsOf(groups);
+    for (ClaimImportGroup group : groups) {
+      assertThat(group.hasError()).isFalse();
+      assertFillingCount(group, 1);
+    }
+  }
+
+  @Test
+  void claimNumberTakenAfterValidationIsReported() {
+    String taken = newClaimNumber();
+    claimMapper.insert(ClaimEntity.builder().claimNumber(taken).build());
+    ClaimImportGroup conflict = group(taken);
+    ClaimImportGroup fresh = group(newClaimNumber());
+
+    List<ClaimImportGroup> written = claimImportWriter.write(List.of(conflict, fresh));
+
+    assertThat(written).containsExactly(fresh);
+    assertThat(conflict.getFirstRow().getErrors()).containsExactly("债权编号已存在：" + taken);
+    assertThat(claimMapper.selectById(conflict.getClaim().getId())).isNull();
+    assertFillingCount(fresh, 1);
+  }
+
+  private void assertFillingCount(ClaimImportGroup group, long expected) {
+    assertThat(
+            claimFillingMapper.selectCount(
+                ClaimFillingEntity::getClaimId, group.getClaim().getId()))
+        .isEqualTo(expected);
+  }
+
+  private static ClaimImportGroup group(String claimNumber) {
+    ClaimImportGroup group = new ClaimImportGroup(claimNumber);
+    group.getRows().add(new ClaimImportRow(2));
+    group.setClaim(
+        ClaimEntity.builder().claimNumber(claimNumber).claimDate(LocalDate.now()).build());
+    group.setCreditors(new ArrayList<>());
+    group.setFillings(
+        new ArrayList<>(
+            List.of(
+                ClaimFillingEntity.builder()
+                    .claimNature("普通债权")
+                    .claimPrincipal(Money.ofCents(10_000))
+                    .build())));
+    return group;
+  }
+
+  private static String newClaimNumber() {
+    return "IT-" + UUID.randomUUID();
+  }
+}
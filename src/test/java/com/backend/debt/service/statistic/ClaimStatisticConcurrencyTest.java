@@ -0,0 +1,138 @@
+package com.backend.debt.service.statistic;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.backend.debt.enums.ReviewStatus;
+import com.backend.debt.exceptions.CustomException;
+import com.backend.debt.mapper.ClaimFillingMapper;
+import com.backend.debt.mapper.ClaimMapper;
+import com.backend.debt.mapper.ClaimStatisticMapper;
+import com.backend.debt.model.Money;
+import com.backend.debt.model.dto.ClaimConfirmDto;
+import com.backend.debt.model.entity.ClaimEntity;
+import com.backend.debt.model.entity.ClaimFillingEntity;
+import com.backend.debt.model.query.ClaimConfirmQuery;
+import com.backend.debt.model.query.ClaimFillingQuery;
+import com.backend.debt.service.IClaimConfirmService;
+import com.backend.debt.service.IClaimFillingService;
+import com.backend.debt.support.PostgresIntegrationTest;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import javax.annotation.Resource;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 并发修改同一申报详情及其确认信息后，增量维护的统计快照与重新计算的结果一致
+ *
+ * <p>申报详情与确认信息的写入都先锁定申报详情，修改前的数据在锁定后读取，增量不会重复或遗漏。
+ */
+class ClaimStatisticConcurrencyTest extends PostgresIntegrationTest {
+
+  private static final int ROUNDS = 30;
+
+  private static final ReviewStatus[] CONFIRM_STATUSES = {
+    ReviewStatus.CONFIRM_PART, ReviewStatus.CONFIRM_SUSPEND, ReviewStatus.CONFIRM_REJECT
+  };
+
+  @Resource private ClaimMapper claimMapper;
+  @Resource private ClaimFillingMapper claimFillingMapper;
+  @Resource private ClaimStatisticMapper claimStatisticMapper;
+  @Resource private IClaimFillingService claimFillingService;
+  @Resource private IClaimConfirmService claimConfirmService;
+
+  @Test
+  void concurrentFillingAndConfirmEditsKeepSnapshotConsistent() throws Exception {
+    ClaimEntity claim =
+        new ClaimEntity()
+            .setClaimNumber("IT-" + UUID.randomUUID())
+            .setRecipient("收件人")
+            .setContactPhone("13800000000");
+    claimMapper.insert(claim);
+    String claimId = claim.getId();
+    ClaimFillingEntity filling =
+        new ClaimFillingEntity()
+            .setClaimId(claimId)
+            .setClaimNature("普通债权")
+            .setClaimPrincipal(Money.ofCents(100_000L));
+    claimFillingMapper.insert(filling);
+    claimStatisticMapper.repair(new String[] {claimId}, 0);
+    ClaimConfirmDto confirm = claimConfirmService.addClaimConfirm(filling.getId(), confirm(0));
+
+    ExecutorService executor = Executors.newFixedThreadPool(3);
+    CountDownLatch start = new CountDownLatch(1);
+    try {
+      List<CompletableFuture<Void>> futures = new ArrayList<>();
+      futures.add(
+          repeat(
+              executor,
+              start,
+              round -> {
+                ClaimFillingQuery query = new ClaimFillingQuery();
+                query.setClaimPrincipal(Money.ofCents(50_000L + round * 1_000L));
+                query.setClaimNature(round % 2 == 0 ? "普通债权" : "职工债权");
+                claimFillingService.updateClaimFilling(filling.getId(), query, null);
+              }));
+      futures.add(
+          repeat(
+              executor,
+              start,
+              round ->
+                  claimConfirmService.updateClaimConfirm(confirm.getId(), confirm(round), null)));
+      futures.add(
+          repeat(
+              executor,
+              start,
+              round -> claimConfirmService.addClaimConfirm(filling.getId(), confirm(round + 1))));
+      start.countDown();
+      CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).get();
+    } finally {
+      executor.shutdownNow();
+    }
+
+    // 快照已经与申报详情和确认信息一致时，重新计算不修改任何记录
+    assertThat(claimStatisticMapper.repair(new String[] {claimId}, 0)).isZero();
+  }
+
+  /** 部分确认的金额不超过任何一轮的申报本金 */
+  private static ClaimConfirmQuery confirm(int round) {
+    ReviewStatus status = CONFIRM_STATUSES[round % CONFIRM_STATUSES.length];
+    ClaimConfirmQuery query = new ClaimConfirmQuery();
+    query.setReviewStatus(status);
+    query.setConfirmedPrincipal(
+        status == ReviewStatus.CONFIRM_PART ? Money.ofCents(10_000L + round) : null);
+    query.setClaimNature(round % 2 == 0 ? "普通债权" : "有财产担保债权");
+    query.setReviewReason(status == ReviewStatus.CONFIRM_REJECT ? "证据不足" : null);
+    return query;
+  }
+
+  private static CompletableFuture<Void> repeat(
+      ExecutorService executor, CountDownLatch start, RoundAction action) {
+    return CompletableFuture.runAsync(
+        () -> {
+          try {
+            start.await();
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+          }
+          for (int round = 0; round < ROUNDS; round++) {
+            try {
+              action.run(round);
+            } catch (CustomException e) {
+              // 乐观锁冲突等业务错误不影响快照一致性
+            }
+          }
+        },
+        executor);
+  }
+
+  @FunctionalInterface
+  private interface RoundAction {
+    void run(int round);
+  }
+}
@@ -0,0 +1,196 @@
+package com.backend.debt.service.statistic;
+
+import com.backend.debt.enums.ReviewStatus;
+import com.backend.debt.model.Money;
+import com.backend.debt.model.dto.ClaimConfirmDto;
+import com.backend.debt.model.dto.ClaimFillingDto;
+import com.backend.debt.model.entity.ClaimStatisticEntity;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * 债权确认统计累加器的基准测试
+ *
+ * <p>对比 {@link ConfirmStatisticAccumulator} 与原有实现（Double 装箱累加、每笔重新拆分拼接文本）统计一个债权的耗时。
+ * 不属于单元测试，surefire 不会执行，在测试类路径上运行 {@link #main(String[])}：
+ *
+ * <pre>
+ * mvn -B test-compile exec:java -Dexec.classpathScope=test \
+ *   -Dexec.mainClass=com.backend.debt.service.statistic.ConfirmStatisticAccumulatorBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConfirmStatisticAccumulatorBenchmark {
+
+  private static final String DELIMITER = "、";
+
+  private static final ReviewStatus[] STATUSES = ReviewStatus.values();
+
+  private static final String[] NATURES = {"普通债权", "职工债权", "税款债权", "有财产担保债权", ""};
+
+  private static final String[] COLLATERALS = {"房产", "车辆", "股权", null};
+
+  private static final String[] REASONS = {"证据不足", "超过诉讼时效", "重复申报", null};
+
+  /** 一个债权的申报详情笔数 */
+  @Param({"10", "1000", "100000"})
+  public int fillingCount;
+
+  private List<ClaimFillingDto> fillings;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    Random random = new Random(42);
+    fillings = new ArrayList<>(fillingCount);
+    for (int i = 0; i < fillingCount; i++) {
+      ClaimFillingDto filling = new ClaimFillingDto();
+      filling.setClaimPrincipal(Money.ofCents(100_000L + random.nextInt(1_000_000)));
+      filling.setClaimInterest(Money.ofCents(random.nextInt(50_000)));
+      filling.setClaimOther(random.nextBoolean() ? null : Money.ofCents(random.nextInt(10_000)));
+      filling.setCollateralDetails(COLLATERALS[random.nextInt(COLLATERALS.length)]);
+      ClaimConfirmDto confirm = ClaimConfirmDto.defaultEmpty();
+      confirm.setReviewStatus(STATUSES[random.nextInt(STATUSES.length)]);
+      confirm.setConfirmedPrincipal(Money.ofCents(random.nextInt(100_000)));
+      confirm.setConfirmedInterest(Money.ofCents(random.nextInt(10_000)));
+      confirm.setClaimNature(NATURES[random.nextInt(NATURES.length)]);
+      confirm.setReviewReason(REASONS[random.nextInt(REASONS.length)]);
+      filling.setConfirmedDetail(confirm);
+      fillings.add(filling);
+    }
+  }
+
+  @Benchmark
+  public ClaimStatisticEntity accumulator() {
+    ConfirmStatisticAccumulator accumulator = new ConfirmStatisticAccumulator();
+    for (ClaimFillingDto filling : fillings) {
+      accumulator.add(filling);
+    }
+    return accumulator.toStatistic();
+  }
+
+  @Benchmark
+  public LegacyStatistic legacy() {
+    LegacyStatistic statistic = new LegacyStatistic();
+    for (ClaimFillingDto filling : fillings) {
+      statistic.add(filling);
+    }
+    return statistic;
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(
+            new OptionsBuilder()
+                .include(ConfirmStatisticAccumulatorBenchmark.class.getSimpleName())
+                .build())
+        .run();
+  }
+
+  /** 原有实现：金额以装箱的 Double 逐笔相加，文本每笔都拆分、查重后重新拼接 */
+  public static class LegacyStatistic {
+
+    private Double confirmedPrincipal;
+    private Double confirmedInterest;
+    private Double confirmedOther;
+    private Double deductionAmount;
+    private Double suspendPrincipal;
+    private Double suspendInterest;
+    private Double suspendOther;
+    private Double rejectPrincipal;
+    private Double rejectInterest;
+    private Double rejectOther;
+    private Integer count;
+    private String collateralDetails;
+    private String confirmNature;
+    private String suspendNature;
+    private String rejectReason;
+
+    void add(ClaimFillingDto filling) {
+      ClaimConfirmDto confirm = filling.getConfirmedDetail();
+      Double principal = toDouble(filling.getClaimPrincipal());
+      Double interest = toDouble(filling.getClaimInterest());
+      Double other = toDouble(filling.getClaimOther());
+      count = count == null ? 1 : count + 1;
+      switch (confirm.getReviewStatus()) {
+        case CONFIRM_ALL, CONFIRM_PART -> {
+          Double confirmedP = toDouble(confirm.getConfirmedPrincipal());
+          Double confirmedI = toDouble(confirm.getConfirmedInterest());
+          Double confirmedO = toDouble(confirm.getConfirmedOther());
+          confirmedPrincipal = addNullSafe(confirmedPrincipal, confirmedP);
+          confirmedInterest = addNullSafe(confirmedInterest, confirmedI);
+          confirmedOther = addNullSafe(confirmedOther, confirmedO);
+          if (confirm.getReviewStatus() == ReviewStatus.CONFIRM_PART) {
+            Double total = addNullSafe(addNullSafe(principal, interest), other);
+            Double confirmedTotal = addNullSafe(addNullSafe(confirmedP, confirmedI), confirmedO);
+            deductionAmount = addNullSafe(deductionAmount, total - confirmedTotal);
+          }
+          collateralDetails = stringAdd(collateralDetails, filling.getCollateralDetails());
+          confirmNature = stringAdd(confirmNature, confirm.getClaimNature());
+        }
+        case CONFIRM_SUSPEND -> {
+          suspendPrincipal = addNullSafe(suspendPrincipal, principal);
+          suspendInterest = addNullSafe(suspendInterest, interest);
+          suspendOther = addNullSafe(suspendOther, other);
+          suspendNature = stringAdd(suspendNature, confirm.getClaimNature());
+        }
+        case CONFIRM_REJECT -> {
+          deductionAmount =
+              addNullSafe(deductionAmount, addNullSafe(addNullSafe(principal, interest), other));
+          rejectPrincipal = addNullSafe(rejectPrincipal, principal);
+          rejectInterest = addNullSafe(rejectInterest, interest);
+          rejectOther = addNullSafe(rejectOther, other);
+          rejectReason = stringAdd(rejectReason, confirm.getReviewReason());
+        }
+        default -> {}
+      }
+    }
+
+    private static Double toDouble(Money money) {
+      return money == null ? null : money.doubleValue();
+    }
+
+    private static Double addNullSafe(Double a, Double b) {
+      if (a == null) {
+        return b;
+      }
+      return b == null ? a : a + b;
+    }
+
+    private static String stringAdd(String source, String toAdd) {
+      if (source == null) {
+        source = "";
+      }
+      if (toAdd == null || toAdd.isEmpty()) {
+        return source;
+      }
+      List<String> list = new ArrayList<>(Arrays.asList(source.split(DELIMITER)));
+      list.removeIf(String::isEmpty);
+      if (!list.contains(toAdd)) {
+        list.add(toAdd);
+      }
+      return String.join(DELIMITER, list);
+    }
+  }
+}
@@ -0,0 +1,193 @@
+package com.backend.debt.service.statistic;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.backend.debt.enums.ReviewStatus;
+import com.backend.debt.mapper.ClaimConfirmMapper;
+import com.backend.debt.mapper.ClaimFillingMapper;
+import com.backend.debt.mapper.ClaimMapper;
+import com.backend.debt.mapper.ClaimStatisticMapper;
+import com.backend.debt.model.Money;
+import com.backend.debt.model.dto.confirm.statistic.ClaimConfirmStatisticDto;
+import com.backend.debt.model.entity.ClaimConfirmEntity;
+import com.backend.debt.model.entity.ClaimEntity;
+import com.backend.debt.model.entity.ClaimFillingEntity;
+import com.backend.debt.service.IClaimFillingService;
+import com.backend.debt.service.IClaimStatisticService;
+import com.backend.debt.support.ClaimFixtures;
+import com.backend.debt.support.PostgresIntegrationTest;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+import javax.annotation.Resource;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+/**
+ * 统计快照的聚合 SQL 与内存累加的一致性
+ *
+ * <p>每个用例写入一个债权及其申报详情、确认信息，分别以 {@link ClaimStatisticMapper#repair(String[], int)} 和
+ * {@link IClaimStatisticService#calculateConfirmedStatistic(List)} 计算统计，两者应完全一致，包括拼接文本的顺序。
+ */
+class ConfirmStatisticParityTest extends PostgresIntegrationTest {
+
+  /** 未审核（没有确认信息）以 null 表示 */
+  private static final List<ReviewStatus> STATUSES =
+      Arrays.asList(
+          null,
+          ReviewStatus.NOT_CONFIRMED,
+          ReviewStatus.CONFIRM_ALL,
+          ReviewStatus.CONFIRM_PART,
+          ReviewStatus.CONFIRM_SUSPEND,
+          ReviewStatus.CONFIRM_REJECT);
+
+  private static final String[] NATURES = {"普通债权", "", null, "职工债权", "普通债权", "税款债权"};
+  private static final String[] COLLATERALS = {"房产", null, "", "车辆", "房产"};
+  private static final String[] REASONS = {"证据不足", "", "超过诉讼时效", null, "证据不足"};
+
+  @Resource private ClaimMapper claimMapper;
+  @Resource private ClaimFillingMapper claimFillingMapper;
+  @Resource private ClaimConfirmMapper claimConfirmMapper;
+  @Resource private ClaimStatisticMapper claimStatisticMapper;
+  @Resource private IClaimFillingService claimFillingService;
+  @Resource private IClaimStatisticService claimStatisticService;
+
+  /** 1 到 3 笔申报详情的全部审查状态组合 */
+  static Stream<List<ReviewStatus>> statusMixes() {
+    List<List<ReviewStatus>> mixes = new ArrayList<>();
+    for (int size = 1; size <= 3; size++) {
+      collectMixes(new ArrayList<>(), 0, size, mixes);
+    }
+    return mixes.stream();
+  }
+
+  private static void collectMixes(
+      List<ReviewStatus> prefix, int from, int size, List<List<ReviewStatus>> mixes) {
+    if (prefix.size() == size) {
+      mixes.add(new ArrayList<>(prefix));
+      return;
+    }
+    for (int i = from; i < STATUSES.size(); i++) {
+      prefix.add(STATUSES.get(i));
+      collectMixes(prefix, i, size, mixes);
+      prefix.remove(prefix.size() - 1);
+    }
+  }
+
+  @ParameterizedTest
+  @MethodSource("statusMixes")
+  void sqlAggregateMatchesInMemory(List<ReviewStatus> statuses) {
+    String claimId = insertClaim();
+    int seed = Math.abs(statuses.hashCode());
+    for (int i = 0; i < statuses.size(); i++) {
+      insertFilling(claimId, statuses.get(i), seed + i);
+    }
+
+    assertParity(claimId);
+  }
+
+  @Test
+  void allAmountsNull() {
+    String claimId = insertClaim();
+    for (ReviewStatus status : STATUSES) {
+      ClaimFillingEntity filling = new ClaimFillingEntity().setClaimId(claimId);
+      claimFillingMapper.insert(filling);
+      if (status != null) {
+        claimConfirmMapper.insert(
+            new ClaimConfirmEntity().setClaimFillingId(filling.getId()).setReviewStatus(status));
+      }
+    }
+
+    assertParity(claimId);
+  }
+
+  @Test
+  void claimWithoutFillings() {
+    assertParity(insertClaim());
+  }
+
+  @Test
+  void deletedFillingsAreIgnored() {
+    String claimId = insertClaim();
+    insertFilling(claimId, ReviewStatus.CONFIRM_ALL, 0);
+    String deletedId = insertFilling(claimId, ReviewStatus.CONFIRM_REJECT, 1);
+    claimFillingMapper.deleteById(deletedId);
+
+    assertParity(claimId);
+  }
+
+  @Test
+  void textsAreJoinedInFirstAppearanceOrder() {
+    String claimId = insertClaim();
+    // 按首次出现的顺序拼接，与大小写、全角标点、增补平面字符在排序规则下的顺序无关
+    String[] natures = {"b", "职工债权", "B", "\uD840\uDC00", "！", "a", "B"};
+    for (String nature : natures) {
+      ClaimFillingEntity filling = new ClaimFillingEntity().setClaimId(claimId);
+      claimFillingMapper.insert(filling);
+      claimConfirmMapper.insert(
+          new ClaimConfirmEntity()
+              .setClaimFillingId(filling.getId())
+              .setReviewStatus(ReviewStatus.CONFIRM_ALL)
+              .setClaimNature(nature));
+    }
+
+    assertParity(claimId);
+    assertThat(
+            claimStatisticService
+                .calculateConfirmedStatistic(claimId)
+                .getConfirmedStatistic()
+                .getConfirmNature())
+        .isEqualTo("b、职工债权、B、\uD840\uDC00、！、a");
+  }
+
+  private void assertParity(String claimId) {
+    claimStatisticMapper.repair(new String[] {claimId}, 0);
+    ClaimConfirmStatisticDto fromSql = claimStatisticService.calculateConfirmedStatistic(claimId);
+    ClaimConfirmStatisticDto inMemory =
+        claimStatisticService.calculateConfirmedStatistic(
+            claimFillingService.getClaimFillingByClaimId(claimId));
+
+    assertThat(fromSql).usingRecursiveComparison().isEqualTo(inMemory);
+  }
+
+  private String insertClaim() {
+    ClaimEntity claim = ClaimFixtures.claim().setRecipient("收件人").setContactPhone("13800000000");
+    claimMapper.insert(claim);
+    return claim.getId();
+  }
+
+  /**
+   * 写入一笔申报详情及其确认信息，金额和文本按 seed 轮换，覆盖空值、空字符串和重复值
+   *
+   * @return 申报详情ID
+   */
+  private String insertFilling(String claimId, ReviewStatus status, int seed) {
+    ClaimFillingEntity filling =
+        new ClaimFillingEntity()
+            .setClaimId(claimId)
+            .setClaimNature(pick(NATURES, seed))
+            .setCollateralDetails(pick(COLLATERALS, seed))
+            .setClaimPrincipal(seed % 3 == 0 ? null : Money.ofCents(100_000L + seed * 101L))
+            .setClaimInterest(seed % 4 == 1 ? null : Money.ofCents(2_500L + seed))
+            .setClaimOther(seed % 2 == 0 ? null : Money.ofCents(seed * 7L));
+    claimFillingMapper.insert(filling);
+    if (status != null) {
+      claimConfirmMapper.insert(
+          new ClaimConfirmEntity()
+              .setClaimFillingId(filling.getId())
+              .setReviewStatus(status)
+              .setConfirmedPrincipal(seed % 5 == 0 ? null : Money.ofCents(90_000L + seed))
+              .setConfirmedInterest(seed % 3 == 2 ? null : Money.ofCents(1_000L + seed))
+              .setConfirmedOther(seed % 2 == 1 ? null : Money.ofCents(seed))
+              .setClaimNature(pick(NATURES, seed + 1))
+              .setReviewReason(pick(REASONS, seed)));
+    }
+    return filling.getId();
+  }
+
+  private static String pick(String[] values, int seed) {
+    return values[seed % values.length];
+  }
+}
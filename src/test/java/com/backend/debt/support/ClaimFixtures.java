@@ -0,0 +1,70 @@
+package com.backend.debt.support;
+
+import com.backend.debt.mapper.ClaimFillingMapper;
+import com.backend.debt.mapper.ClaimMapper;
+import com.backend.debt.model.Money;
+import com.backend.debt.model.entity.ClaimEntity;
+import com.backend.debt.model.entity.ClaimFillingEntity;
+import java.util.UUID;
+import javax.annotation.Resource;
+import org.springframework.stereotype.Component;
+
+/**
+ * 集成测试的债权与申报详情数据
+ *
+ * <p>债权编号随机生成，各测试写入的数据互不冲突；申报详情为申报本金 100.00 元的普通债权。
+ */
+@Component
+public class ClaimFixtures {
+
+  /** 申报详情的申报本金 */
+  public static final Money CLAIM_PRINCIPAL = Money.ofCents(10_000);
+
+  @Resource private ClaimMapper claimMapper;
+  @Resource private ClaimFillingMapper claimFillingMapper;
+
+  /** 未写入的债权，债权编号随机生成 */
+  public static ClaimEntity claim() {
+    return ClaimEntity.builder().claimNumber("IT-" + UUID.randomUUID()).build();
+  }
+
+  /** 未写入的申报详情 */
+  public static ClaimFillingEntity filling(String claimId) {
+    return ClaimFillingEntity.builder()
+        .claimId(claimId)
+        .claimNature("普通债权")
+        .claimPrincipal(CLAIM_PRINCIPAL)
+        .build();
+  }
+
+  /**
+   * 写入一笔债权
+   *
+   * @return 债权ID
+   */
+  public String insertClaim() {
+    ClaimEntity claim = claim();
+    claimMapper.insert(claim);
+    return claim.getId();
+  }
+
+  /**
+   * 写入债权下的一笔申报详情
+   *
+   * @return 申报详情ID
+   */
+  public String insertFilling(String claimId) {
+    ClaimFillingEntity filling = filling(claimId);
+    claimFillingMapper.insert(filling);
+    return filling.getId();
+  }
+
+  /**
+   * 写入一笔债权及其下的一笔申报详情
+   *
+   * @return 申报详情ID
+   */
+  public String insertFilling() {
+    return insertFilling(insertClaim());
+  }
+}
@@ -0,0 +1,95 @@
+package com.backend.debt.support;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.configuration.FluentConfiguration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+
+/**
+ * 数据库迁移测试基类
+ *
+ * <p>每个测试在独立的 {@value #MIGRATION_SCHEMA} 模式中按需迁移到指定版本，写入迁移前的数据后再继续迁移，测试结束后删除该模式。
+ */
+public abstract class FlywayMigrationTest extends PostgresIntegrationTest {
+
+  /** 迁移测试使用的模式 */
+  protected static final String MIGRATION_SCHEMA = "claim_it_migration";
+
+  @BeforeEach
+  void recreateMigrationSchema() throws SQLException {
+    execute(
+        "DROP SCHEMA IF EXISTS " + MIGRATION_SCHEMA + " CASCADE",
+        "CREATE SCHEMA " + MIGRATION_SCHEMA);
+  }
+
+  @AfterEach
+  void dropMigrationSchema() throws SQLException {
+    execute("DROP SCHEMA IF EXISTS " + MIGRATION_SCHEMA + " CASCADE");
+  }
+
+  /**
+   * 迁移测试模式的 Flyway
+   *
+   * @param target 目标版本，为空时迁移到最新版本
+   */
+  protected static Flyway flyway(String target) {
+    Database database = database();
+    FluentConfiguration configuration =
+        Flyway.configure()
+            .dataSource(schemaUrl(), database.username(), database.password())
+            .schemas(MIGRATION_SCHEMA)
+            .locations("classpath:db/migration");
+    if (target != null) {
+      configuration.target(target);
+    }
+    return configuration.load();
+  }
+
+  /** 在迁移测试模式中依次执行 SQL */
+  protected static void execute(String... sqls) throws SQLException {
+    try (Connection connection = connect();
+        Statement statement = connection.createStatement()) {
+      for (String sql : sqls) {
+        statement.execute(sql);
+      }
+    }
+  }
+
+  /** 在迁移测试模式中查询第一列 */
+  protected static List<String> query(String sql) throws SQLException {
+    List<String> values = new ArrayList<>();
+    try (Connection connection = connect();
+        Statement statement = connection.createStatement();
+        ResultSet resultSet = statement.executeQuery(sql)) {
+      while (resultSet.next()) {
+        values.add(resultSet.getString(1));
+      }
+    }
+    return values;
+  }
+
+  private static Connection connect() throws SQLException {
+    Database database = database();
+    return DriverManager.getConnection(schemaUrl(), database.username(), database.password());
+  }
+
+  /**
+   * 以迁移测试模式为默认模式的地址
+   *
+   * <p>pg_trgm 已由测试上下文的迁移安装在测试模式（或 public）中，V3 跳过安装，V4 需要能找到其操作符类。
+   */
+  private static String schemaUrl() {
+    String url = database().url();
+    return url
+        + (url.contains("?") ? "&" : "?")
+        + "currentSchema="
+        + String.join(",", MIGRATION_SCHEMA, SCHEMA, "public");
+  }
+}
@@ -0,0 +1,114 @@
+package com.backend.debt.support;
+
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import org.junit.jupiter.api.BeforeAll;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.DockerClientFactory;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+/**
+ * PostgreSQL 集成测试基类
+ *
+ * <p>设置了环境变量 TEST_DATABASE_URL（以及 TEST_DATABASE_USERNAME、TEST_DATABASE_PASSWORD）时连接该数据库，
+ * 否则通过 Testcontainers 启动 PostgreSQL 容器，两者都不可用时跳过测试。
+ *
+ * <p>测试在独立的 {@value #SCHEMA} 模式中执行，每次运行先删除并重建该模式，再由 Flyway 执行全部迁移，不要指向有业务数据的模式。
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+public abstract class PostgresIntegrationTest {
+
+  /** 测试使用的模式 */
+  protected static final String SCHEMA = "claim_it";
+
+  private static final String POSTGRES_IMAGE = "postgres:15-alpine";
+
+  private static final Database DATABASE = Database.resolve();
+
+  @BeforeAll
+  static void requireDatabase() {
+    assumeTrue(DATABASE != null, "未设置 TEST_DATABASE_URL 且 Docker 不可用，跳过数据库集成测试");
+  }
+
+  @DynamicPropertySource
+  static void databaseProperties(DynamicPropertyRegistry registry) {
+    if (DATABASE == null) {
+      return;
+    }
+    registry.add("spring.datasource.url", DATABASE::schemaUrl);
+    registry.add("spring.datasource.username", DATABASE::username);
+    registry.add("spring.datasource.password", DATABASE::password);
+    registry.add("spring.flyway.enabled", () -> "true");
+    registry.add("spring.flyway.schemas", () -> SCHEMA);
+    // 后台校验任务不在测试期间执行
+    registry.add("claim.statistic.verify-interval-ms", () -> "86400000");
+  }
+
+  /** 测试数据库的连接信息 */
+  protected static Database database() {
+    return DATABASE;
+  }
+
+  /**
+   * 测试数据库的连接信息
+   *
+   * @param url 数据库地址，不含模式
+   * @param username 用户名
+   * @param password 密码
+   */
+  protected record Database(String url, String username, String password) {
+
+    /** 以测试模式为默认模式的地址，扩展（如 pg_trgm）已安装在 public 时也能找到 */
+    public String schemaUrl() {
+      return url + (url.contains("?") ? "&" : "?") + "currentSchema=" + SCHEMA + ",public";
+    }
+
+    /** 打开一个以测试模式为默认模式的连接，调用方负责关闭 */
+    public Connection connect() throws SQLException {
+      return DriverManager.getConnection(schemaUrl(), username, password);
+    }
+
+    private static Database resolve() {
+      Database database;
+      String url = System.getenv("TEST_DATABASE_URL");
+      if (url != null && !url.isBlank()) {
+        database =
+            new Database(
+                url,
+                envOrDefault("TEST_DATABASE_USERNAME", "postgres"),
+                envOrDefault("TEST_DATABASE_PASSWORD", ""));
+      } else if (DockerClientFactory.instance().isDockerAvailable()) {
+        PostgreSQLContainer<?> container = new PostgreSQLContainer<>(POSTGRES_IMAGE);
+        // 容器随测试 JVM 退出由 Testcontainers 清理
+        container.start();
+        database =
+            new Database(container.getJdbcUrl(), container.getUsername(), container.getPassword());
+      } else {
+        return null;
+      }
+      database.recreateSchema();
+      return database;
+    }
+
+    private void recreateSchema() {
+      try (Connection connection = DriverManager.getConnection(url, username, password);
+          Statement statement = connection.createStatement()) {
+        statement.execute("DROP SCHEMA IF EXISTS " + SCHEMA + " CASCADE");
+        statement.execute("CREATE SCHEMA " + SCHEMA);
+      } catch (SQLException e) {
+        throw new IllegalStateException("重建测试模式失败：" + url, e);
+      }
+    }
+
+    private static String envOrDefault(String name, String defaultValue) {
+      String value = System.getenv(name);
+      return value == null ? defaultValue : value;
+    }
+  }
+}
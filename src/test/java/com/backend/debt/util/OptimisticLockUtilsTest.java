@@ -0,0 +1,65 @@
+package com.backend.debt.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.backend.debt.exceptions.CustomException;
+import com.backend.debt.exceptions.HttpResponseStatus;
+import com.backend.debt.model.entity.ClaimConfirmEntity;
+import org.junit.jupiter.api.Test;
+
+class OptimisticLockUtilsTest {
+
+  @Test
+  void parseIfMatchAcceptsPlainQuotedAndWeakVersions() {
+    assertThat(OptimisticLockUtils.parseIfMatch("3")).isEqualTo(3);
+    assertThat(OptimisticLockUtils.parseIfMatch("\"3\"")).isEqualTo(3);
+    assertThat(OptimisticLockUtils.parseIfMatch("W/\"3\"")).isEqualTo(3);
+    assertThat(OptimisticLockUtils.parseIfMatch(" 12 ")).isEqualTo(12);
+  }
+
+  @Test
+  void parseIfMatchSkipsCheckForAnyOrMissingHeader() {
+    assertThat(OptimisticLockUtils.parseIfMatch("*")).isNull();
+    assertThat(OptimisticLockUtils.parseIfMatch(" * ")).isNull();
+    assertThat(OptimisticLockUtils.parseIfMatch(null)).isNull();
+    assertThat(OptimisticLockUtils.parseIfMatch("")).isNull();
+  }
+
+  @Test
+  void parseIfMatchRejectsGarbage() {
+    for (String ifMatch : new String[] {"abc", "\"", "W/", "\"3", "3.0", "\"3\", \"4\""}) {
+      assertThatThrownBy(() -> OptimisticLockUtils.parseIfMatch(ifMatch))
+          .as(ifMatch)
+          .isInstanceOfSatisfying(
+              CustomException.class,
+              e -> assertThat(e.getCode()).isEqualTo(HttpResponseStatus.BAD_REQUEST.code()));
+    }
+  }
+
+  @Test
+  void checkVersionFailsPreconditionOnMismatch() {
+    ClaimConfirmEntity entity = new ClaimConfirmEntity();
+    entity.setVersion(3);
+
+    assertThatCode(() -> OptimisticLockUtils.checkVersion(entity, 3, "债权确认记录"))
+        .doesNotThrowAnyException();
+    assertThatCode(() -> OptimisticLockUtils.checkVersion(entity, null, "债权确认记录"))
+        .doesNotThrowAnyException();
+    assertThatThrownBy(() -> OptimisticLockUtils.checkVersion(entity, 2, "债权确认记录"))
+        .isInstanceOfSatisfying(
+            CustomException.class,
+            e -> assertThat(e.getCode()).isEqualTo(HttpResponseStatus.PRECONDITION_FAILED.code()));
+  }
+
+  @Test
+  void checkUpdatedConflictsWhenNoRowMatched() {
+    assertThatCode(() -> OptimisticLockUtils.checkUpdated(1, "债权确认记录", "id"))
+        .doesNotThrowAnyException();
+    assertThatThrownBy(() -> OptimisticLockUtils.checkUpdated(0, "债权确认记录", "id"))
+        .isInstanceOfSatisfying(
+            CustomException.class,
+            e -> assertThat(e.getCode()).isEqualTo(HttpResponseStatus.CONFLICT.code()));
+  }
+}